@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.notification;
+
+/**
+ * Snapshot of the dispatching statistics of a subscriber registered with
+ * {@link EventService#subscribeAsync(EventSubscriber, int, BackPressurePolicy)}.
+ *
+ * <p>Dispatch latency is the time between publishing of an event and the moment
+ * the subscriber has finished processing it.
+ */
+public class AsyncDispatchStatistics {
+    private final int  queueCapacity;
+    private final int  queueDepth;
+    private final int  maxQueueDepth;
+    private final long published;
+    private final long delivered;
+    private final long dropped;
+    private final long coalesced;
+    private final long totalLatencyNanos;
+    private final long maxLatencyNanos;
+
+    AsyncDispatchStatistics(int queueCapacity,
+                            int queueDepth,
+                            int maxQueueDepth,
+                            long published,
+                            long delivered,
+                            long dropped,
+                            long coalesced,
+                            long totalLatencyNanos,
+                            long maxLatencyNanos) {
+        this.queueCapacity = queueCapacity;
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+        this.published = published;
+        this.delivered = delivered;
+        this.dropped = dropped;
+        this.coalesced = coalesced;
+        this.totalLatencyNanos = totalLatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+    }
+
+    /** Returns maximum number of events which may wait in the subscriber's queue. */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /** Returns number of events waiting in the subscriber's queue at the moment of the snapshot. */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /** Returns the highest number of events ever observed in the subscriber's queue. */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /** Returns number of events published to the subscriber. */
+    public long getPublished() {
+        return published;
+    }
+
+    /** Returns number of events processed by the subscriber. */
+    public long getDelivered() {
+        return delivered;
+    }
+
+    /** Returns number of events discarded because the queue was full. */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /** Returns number of events merged into an equal pending event. */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    /** Returns average dispatch latency in nanoseconds or 0 if nothing has been delivered yet. */
+    public long getAverageLatencyNanos() {
+        return delivered == 0 ? 0 : totalLatencyNanos / delivered;
+    }
+
+    /** Returns maximum dispatch latency in nanoseconds. */
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncDispatchStatistics{" +
+               "queueCapacity=" + queueCapacity +
+               ", queueDepth=" + queueDepth +
+               ", maxQueueDepth=" + maxQueueDepth +
+               ", published=" + published +
+               ", delivered=" + delivered +
+               ", dropped=" + dropped +
+               ", coalesced=" + coalesced +
+               ", averageLatencyNanos=" + getAverageLatencyNanos() +
+               ", maxLatencyNanos=" + maxLatencyNanos +
+               '}';
+    }
+}
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Wraps subscriber registered with {@link EventService#subscribeAsync(EventSubscriber, int, BackPressurePolicy)}.
+ *
+ * <p>Published events are put into a bounded queue and the publisher returns immediately (unless the queue is full
+ * and policy is {@link BackPressurePolicy#BLOCK}). The queue is drained by at most one task at a time, so the wrapped
+ * subscriber receives events in the order they were published and is never called concurrently. Pending events of
+ * {@link BackPressurePolicy#COALESCE} subscriber are also indexed by event, so events must implement {@code hashCode}
+ * consistently with {@code equals}.
+ */
+class AsyncSubscriber implements EventSubscriber<Object> {
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncSubscriber.class);
+
+    /** Number of events delivered by one drain task before the pool thread is given back. */
+    private static final int DRAIN_BATCH = 256;
+
+    private final EventSubscriber<Object> delegate;
+    private final Class<?>                eventType;
+    private final int                     capacity;
+    private final BackPressurePolicy      policy;
+    private final Executor                executor;
+
+    private final ReentrantLock        lock;
+    private final Condition            notFull;
+    private final ArrayDeque<Pending>  queue;
+    private final Map<Object, Pending> coalescing;
+    private final Runnable             drainTask;
+
+    // guarded by lock
+    private boolean scheduled;
+    private boolean closed;
+    private int     maxDepth;
+    private long    published;
+    private long    dropped;
+    private long    coalesced;
+    private long    delivered;
+    private long    totalLatencyNanos;
+    private long    maxLatencyNanos;
+
+    @SuppressWarnings("unchecked")
+    AsyncSubscriber(EventSubscriber<?> delegate,
+                    Class<?> eventType,
+                    int capacity,
+                    BackPressurePolicy policy,
+                    Executor executor) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be greater than 0, but was " + capacity);
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Null back-pressure policy.");
+        }
+        this.delegate = (EventSubscriber<Object>)delegate;
+        this.eventType = eventType;
+        this.capacity = capacity;
+        this.policy = policy;
+        this.executor = executor;
+        this.lock = new ReentrantLock();
+        this.notFull = lock.newCondition();
+        this.queue = new ArrayDeque<>(Math.min(capacity, 64));
+        this.coalescing = policy == BackPressurePolicy.COALESCE ? new HashMap<>() : null;
+        this.drainTask = this::drain;
+    }
+
+    EventSubscriber<?> getDelegate() {
+        return delegate;
+    }
+
+    Class<?> getEventType() {
+        return eventType;
+    }
+
+    @Override
+    public void onEvent(Object event) {
+        final Pending pending = new Pending(event, System.nanoTime());
+        boolean schedule = false;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            published++;
+            if (coalescing != null && coalescing.containsKey(event)) {
+                coalesced++;
+                return;
+            }
+            while (queue.size() >= capacity) {
+                if (policy == BackPressurePolicy.BLOCK) {
+                    notFull.await();
+                    if (closed) {
+                        return;
+                    }
+                } else {
+                    forget(queue.poll());
+                    dropped++;
+                }
+            }
+            queue.add(pending);
+            if (coalescing != null) {
+                coalescing.put(event, pending);
+            }
+            maxDepth = Math.max(maxDepth, queue.size());
+            if (!scheduled) {
+                scheduled = schedule = true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped++;
+            LOG.warn("Interrupted while waiting for free space in event queue of {}, event {} is discarded", delegate, event);
+        } finally {
+            lock.unlock();
+        }
+        if (schedule) {
+            schedule();
+        }
+    }
+
+    /** Discards all pending events and wakes up blocked publishers, subsequent events are ignored. */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            queue.clear();
+            if (coalescing != null) {
+                coalescing.clear();
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    AsyncDispatchStatistics getStatistics() {
+        lock.lock();
+        try {
+            return new AsyncDispatchStatistics(capacity,
+                                               queue.size(),
+                                               maxDepth,
+                                               published,
+                                               delivered,
+                                               dropped,
+                                               coalesced,
+                                               totalLatencyNanos,
+                                               maxLatencyNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Must be called under lock when event is taken from the queue. */
+    private void forget(Pending pending) {
+        if (coalescing != null) {
+            coalescing.remove(pending.event);
+        }
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(drainTask);
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Unable to dispatch events to {}, event service is stopped", delegate);
+            close();
+            lock.lock();
+            try {
+                scheduled = false;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                final Pending next;
+                lock.lock();
+                try {
+                    next = queue.poll();
+                    if (next == null) {
+                        return;
+                    }
+                    forget(next);
+                    notFull.signal();
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    LOG.debug("Dispatch event {} for {}", next.event, delegate);
+                    delegate.onEvent(next.event);
+                } catch (RuntimeException e) {
+                    LOG.error(e.getMessage(), e);
+                }
+                final long latency = System.nanoTime() - next.publishedNanos;
+                lock.lock();
+                try {
+                    delivered++;
+                    totalLatencyNanos += latency;
+                    maxLatencyNanos = Math.max(maxLatencyNanos, latency);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } finally {
+            // also reached when subscriber throws an error, otherwise the queue would never be drained again;
+            // after a full batch other subscribers get a chance and the queue is scheduled again
+            final boolean reschedule;
+            lock.lock();
+            try {
+                reschedule = scheduled = !queue.isEmpty();
+            } finally {
+                lock.unlock();
+            }
+            if (reschedule) {
+                schedule();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncSubscriber{delegate=" + delegate + ", eventType=" + eventType + ", policy=" + policy + '}';
+    }
+
+    private static class Pending {
+        final Object event;
+        final long   publishedNanos;
+
+        Pending(Object event, long publishedNanos) {
+            this.event = event;
+            this.publishedNanos = publishedNanos;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.notification;
+
+/**
+ * Defines what {@link EventService} does when the queue of an asynchronous subscriber is full.
+ *
+ * @see EventService#subscribeAsync(EventSubscriber, int, BackPressurePolicy)
+ */
+public enum BackPressurePolicy {
+    /**
+     * Publisher waits until the subscriber takes an event from its queue.
+     * Nothing is lost but a slow subscriber slows down the publisher again.
+     */
+    BLOCK,
+
+    /** The oldest pending event is discarded to make room for the new one. */
+    DROP_OLDEST,
+
+    /**
+     * A published event that is equal to an event which is still pending is merged into it,
+     * the subscriber is notified only once. When the queue is full and there is nothing to merge
+     * with, the oldest pending event is discarded as with {@link #DROP_OLDEST}.
+     */
+    COALESCE
+}
@@ -13,20 +13,26 @@ package org.eclipse.che.api.core.notification;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Singleton;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Dispatchers events to listeners. Usage example:
@@ -40,6 +46,10 @@ import java.util.concurrent.CopyOnWriteArraySet;
  *     });
  *     bus.publish(new MyEvent());
  * </pre>
+ * By default subscribers are notified in the thread of publisher. Subscriber which may be slow (e.g. sends events
+ * over network or writes them to disk) should be registered with one of {@code subscribeAsync} methods, then
+ * publisher only puts event into the subscriber's bounded queue and the subscriber is notified in a separate thread,
+ * in the order events were published.
  *
  * @author andrew00x
  */
@@ -53,10 +63,14 @@ public class EventService {
 
     private final LoadingCache<Class<?>, Set<Class<?>>>[]       typeCache;
     private final ConcurrentMap<Class<?>, Set<EventSubscriber>> subscribersByEventType;
+    private final ConcurrentMap<EventSubscriber, AsyncSubscriber> asyncSubscribers;
+
+    private volatile ExecutorService asyncExecutor;
 
     @SuppressWarnings("unchecked")
     public EventService() {
         subscribersByEventType = new ConcurrentHashMap<>();
+        asyncSubscribers = new ConcurrentHashMap<>();
         typeCache = new LoadingCache[CACHE_NUM];
         for (int i = 0; i < CACHE_NUM; i++) {
             typeCache[i] = CacheBuilder.newBuilder().concurrencyLevel(SEG_SIZE).build(
@@ -134,6 +148,106 @@ public class EventService {
         doSubscribe(subscriber, eventType);
     }
 
+    /**
+     * Subscribe event listener which is notified asynchronously. The event to subscribe to is inferred by checking
+     * the generic type arguments of the given subscriber.
+     *
+     * <p>Published events are put into the subscriber's own queue which holds at most {@code queueCapacity} events,
+     * and delivered from a separate thread one by one, in the order they were published. What happens when the queue
+     * is full is defined by {@code policy}. Note that subscriber registered with {@link BackPressurePolicy#BLOCK}
+     * must not publish events it is subscribed to, otherwise it may wait for itself.
+     *
+     * @param subscriber
+     *         event subscriber
+     * @param queueCapacity
+     *         maximum number of events waiting for delivery to the subscriber
+     * @param policy
+     *         what to do when the subscriber's queue is full
+     * @throws IllegalArgumentException
+     *         if {@code queueCapacity} is less than 1 or {@code policy} is null
+     * @see #getAsyncStatistics()
+     */
+    public void subscribeAsync(EventSubscriber<?> subscriber, int queueCapacity, BackPressurePolicy policy) {
+        doSubscribeAsync(subscriber, getEventType(subscriber), queueCapacity, policy);
+    }
+
+    /**
+     * Subscribe to an event, the given subscriber is notified asynchronously.
+     *
+     * @param subscriber
+     *         the subscriber to call when an event is published
+     * @param eventType
+     *         the event to subscribe to
+     * @param queueCapacity
+     *         maximum number of events waiting for delivery to the subscriber
+     * @param policy
+     *         what to do when the subscriber's queue is full
+     * @throws IllegalArgumentException
+     *         if {@code queueCapacity} is less than 1 or {@code policy} is null
+     * @see #subscribeAsync(EventSubscriber, int, BackPressurePolicy)
+     */
+    public <T> void subscribeAsync(EventSubscriber<? extends T> subscriber,
+                                   Class<T> eventType,
+                                   int queueCapacity,
+                                   BackPressurePolicy policy) {
+        doSubscribeAsync(subscriber, eventType, queueCapacity, policy);
+    }
+
+    /**
+     * Returns dispatching statistics of all subscribers registered with {@code subscribeAsync} methods,
+     * the key of the map is the subscriber.
+     */
+    public Map<EventSubscriber<?>, AsyncDispatchStatistics> getAsyncStatistics() {
+        final ImmutableMap.Builder<EventSubscriber<?>, AsyncDispatchStatistics> builder = ImmutableMap.builder();
+        for (Map.Entry<EventSubscriber, AsyncSubscriber> entry : asyncSubscribers.entrySet()) {
+            builder.put(entry.getKey(), entry.getValue().getStatistics());
+        }
+        return builder.build();
+    }
+
+    /** Stops delivery of events to asynchronous subscribers, pending events are discarded. */
+    @PreDestroy
+    public void stop() {
+        for (AsyncSubscriber asyncSubscriber : asyncSubscribers.values()) {
+            asyncSubscriber.close();
+        }
+        final ExecutorService executor = asyncExecutor;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void doSubscribeAsync(EventSubscriber<?> subscriber,
+                                  Class<?> eventType,
+                                  int queueCapacity,
+                                  BackPressurePolicy policy) {
+        final AsyncSubscriber asyncSubscriber = new AsyncSubscriber(subscriber,
+                                                                    eventType,
+                                                                    queueCapacity,
+                                                                    policy,
+                                                                    getAsyncExecutor());
+        final AsyncSubscriber existing = asyncSubscribers.putIfAbsent(subscriber, asyncSubscriber);
+        if (existing == null) {
+            doSubscribe(asyncSubscriber, eventType);
+        }
+    }
+
+    private ExecutorService getAsyncExecutor() {
+        ExecutorService executor = asyncExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = asyncExecutor;
+                if (executor == null) {
+                    asyncExecutor = executor = Executors.newCachedThreadPool(
+                            new ThreadFactoryBuilder().setNameFormat("EventService-async-%d")
+                                                      .setDaemon(true)
+                                                      .build());
+                }
+            }
+        }
+        return executor;
+    }
+
     private void doSubscribe(EventSubscriber<?> subscriber, Class<?> eventType) {
         Set<EventSubscriber> entries = subscribersByEventType.get(eventType);
         if (entries == null) {
@@ -153,7 +267,16 @@ public class EventService {
      *         event subscriber
      */
     public void unsubscribe(EventSubscriber<?> subscriber) {
-        final Class<?> eventType = getEventType(subscriber);
+        final AsyncSubscriber asyncSubscriber = asyncSubscribers.remove(subscriber);
+        if (asyncSubscriber != null) {
+            asyncSubscriber.close();
+            doUnsubscribe(asyncSubscriber, asyncSubscriber.getEventType());
+        } else {
+            doUnsubscribe(subscriber, getEventType(subscriber));
+        }
+    }
+
+    private void doUnsubscribe(EventSubscriber<?> subscriber, Class<?> eventType) {
         final Set<EventSubscriber> entries = subscribersByEventType.get(eventType);
         if (entries != null && !entries.isEmpty()) {
             boolean changed = entries.remove(subscriber);
@@ -10,22 +10,69 @@
  *******************************************************************************/
 package org.eclipse.che.api.core.util;
 
+import org.slf4j.Logger;
+
 import java.io.File;
+import java.io.Flushable;
 import java.io.IOException;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.slf4j.LoggerFactory.getLogger;
 
 /**
+ * Line consumer that writes lines to the file.
+ * <p/>
+ * By default file is flushed after each line. Consumer that is created with flush threshold keeps written lines in memory
+ * until at least threshold characters are collected, and flushes them periodically and on close too, so no lines are lost
+ * while noisy output doesn't cause system call per line.
+ *
  * @author andrew00x
  */
-public class FileLineConsumer implements LineConsumer {
-    private final File   file;
-    private final Writer writer;
+public class FileLineConsumer implements LineConsumer, Flushable {
+    private static final Logger LOG = getLogger(FileLineConsumer.class);
+
+    private final File               file;
+    private final Writer             writer;
+    private final int                flushThreshold;
+    private final ScheduledFuture<?> flushTask;
+
+    private int unflushedChars;
 
     public FileLineConsumer(File file) throws IOException {
         this.file = file;
-        writer = Files.newBufferedWriter(file.toPath(), Charset.defaultCharset());
+        this.writer = Files.newBufferedWriter(file.toPath(), Charset.defaultCharset());
+        this.flushThreshold = 1;
+        this.flushTask = null;
+    }
+
+    /**
+     * Creates consumer that flushes the file in batches.
+     *
+     * @param file
+     *         file to write lines to
+     * @param flushThreshold
+     *         number of written characters that causes flushing of the file
+     * @param executor
+     *         executor that flushes written lines, each consumer schedules single periodic task
+     * @param flushPeriodMillis
+     *         period in milliseconds of flushing written lines
+     */
+    public FileLineConsumer(File file,
+                            int flushThreshold,
+                            ScheduledExecutorService executor,
+                            long flushPeriodMillis) throws IOException {
+        this.file = file;
+        this.writer = Files.newBufferedWriter(file.toPath(), Charset.defaultCharset());
+        this.flushThreshold = flushThreshold;
+        this.flushTask = executor.scheduleWithFixedDelay(this::flushQuietly,
+                                                         flushPeriodMillis,
+                                                         flushPeriodMillis,
+                                                         TimeUnit.MILLISECONDS);
     }
 
     public File getFile() {
@@ -33,16 +80,41 @@ public class FileLineConsumer implements LineConsumer {
     }
 
     @Override
-    public void writeLine(String line) throws IOException {
+    public synchronized void writeLine(String line) throws IOException {
         if (line != null) {
             writer.write(line);
+            unflushedChars += line.length();
         }
         writer.write('\n');
-        writer.flush();
+        unflushedChars++;
+        if (unflushedChars >= flushThreshold) {
+            flush();
+        }
     }
 
+    /** Flushes lines written since the last flush. */
     @Override
-    public void close() throws IOException {
+    public synchronized void flush() throws IOException {
+        if (unflushedChars > 0) {
+            writer.flush();
+            unflushedChars = 0;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            LOG.error(String.format("An error occurred while flushing file %s", file), e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
+        unflushedChars = 0;
         writer.close();
     }
 }
@@ -67,6 +67,14 @@ public class RateExceedDetector {
         return exceed;
     }
 
+    /**
+     * Check is max allowed rate exceeded if method {@link #updateAndCheckRate()} is called now. Unlike {@link #updateAndCheckRate()}
+     * this method doesn't update rate, so it may be used to decide whether operation should be performed or postponed.
+     */
+    public boolean isRateExceeded() {
+        return (TimeUnit.NANOSECONDS.toMicros(System.nanoTime()) - threshold) < 0;
+    }
+
     private void countRate(long nowTimeMicros) {
         if (lastMicros + reportTimeMicros < nowTimeMicros) {
             rate = count / rateTime;
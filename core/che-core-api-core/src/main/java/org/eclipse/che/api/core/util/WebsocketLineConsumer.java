@@ -15,28 +15,212 @@ import org.everrest.websockets.WSConnectionContext;
 import org.everrest.websockets.message.ChannelBroadcastMessage;
 import org.slf4j.Logger;
 
+import java.io.Flushable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Line consumer that send messages to specified websocket channel
+ * <p/>
+ * By default each line is sent immediately as separate message which body is JSON string. Consumer that is created with max
+ * allowed rate of messages collects lines and sends them periodically, or when method {@link #flush()} is called, as single
+ * message. The thread that writes lines isn't blocked by sending of messages then, collected lines are taken under the lock
+ * and sent outside of it. Body of such message is JSON object
+ * <pre>
+ * {"lines":["first line","third line"],"numbers":[1,3]}
+ * </pre>
+ * where numbers are numbers of lines among all lines written to the consumer counting from 1, so they match lines of the log
+ * file if the same lines are written to it. Client may use them to fetch lines that it doesn't keep from the log.
+ * <p/>
+ * If rate of messages is exceeded lines are kept until the next flush, and if there are too many kept lines then new lines are
+ * skipped and line about number of skipped lines with number 0 is sent after kept lines. Line that ends with carriage return
+ * is always sent as separate message, since client replaces such line with the next one, and is skipped at all if it is
+ * followed by another line before flush.
  *
  * @author Alexander Garagatyi
  */
-public class WebsocketLineConsumer implements LineConsumer {
+public class WebsocketLineConsumer implements LineConsumer, Flushable {
     private static final Logger LOG = getLogger(WebsocketLineConsumer.class);
-    private final String channel;
+
+    /** Max number of lines in single message. */
+    static final int MAX_LINES_PER_MESSAGE = 1000;
+    /** Max number of lines kept while rate of messages is exceeded. */
+    static final int MAX_PENDING_LINES     = 10 * MAX_LINES_PER_MESSAGE;
+
+    private final String             channel;
+    private final RateExceedDetector rateDetector;
+    private final ScheduledFuture<?> flushTask;
+    /** Keeps order of messages sent by different threads, never acquired while holding the lock of consumer. */
+    private final Object             sendLock;
+
+    private List<String> pending;
+    private List<Long>   pendingNumbers;
+    private long         lineNumber;
+
+    private long sentMessages;
+    private long sentLines;
+    private long throttledFlushes;
+    private long skippedLines;
+    private long droppedLines;
 
     public WebsocketLineConsumer(String channel) {
         this.channel = channel;
+        this.rateDetector = null;
+        this.pending = null;
+        this.pendingNumbers = null;
+        this.flushTask = null;
+        this.sendLock = null;
+    }
+
+    /**
+     * Creates consumer that sends lines in batches.
+     *
+     * @param channel
+     *         websocket channel
+     * @param maxMessagesPerSecond
+     *         max allowed rate of messages sent to the channel
+     * @param executor
+     *         executor that flushes collected lines, each consumer schedules single periodic task
+     * @param flushPeriodMillis
+     *         period in milliseconds of flushing collected lines
+     */
+    public WebsocketLineConsumer(String channel,
+                                 double maxMessagesPerSecond,
+                                 ScheduledExecutorService executor,
+                                 long flushPeriodMillis) {
+        this.channel = channel;
+        this.rateDetector = new RateExceedDetector(maxMessagesPerSecond);
+        this.pending = new ArrayList<>();
+        this.pendingNumbers = new ArrayList<>();
+        this.sendLock = new Object();
+        this.flushTask = executor.scheduleWithFixedDelay(this::sendIfAllowed, flushPeriodMillis, flushPeriodMillis, TimeUnit.MILLISECONDS);
     }
 
     @Override
     public void writeLine(String line) throws IOException {
+        if (rateDetector == null) {
+            synchronized (this) {
+                lineNumber++;
+                sentMessages++;
+                sentLines++;
+            }
+            send(JsonUtils.getJsonString(line));
+            return;
+        }
+        addPending(line);
+    }
+
+    private synchronized void addPending(String line) {
+        lineNumber++;
+        if (!pending.isEmpty() && isCarriageReturnLine(pending.get(pending.size() - 1))) {
+            // Client replaces such line with the next one anyway.
+            pending.remove(pending.size() - 1);
+            pendingNumbers.remove(pendingNumbers.size() - 1);
+        }
+        if (pending.size() >= MAX_PENDING_LINES) {
+            skippedLines++;
+            droppedLines++;
+            return;
+        }
+        pending.add(line);
+        pendingNumbers.add(lineNumber);
+    }
+
+    /** Sends collected lines unless max allowed rate of messages is exceeded. */
+    @Override
+    public void flush() throws IOException {
+        sendIfAllowed();
+    }
+
+    private void sendIfAllowed() {
+        if (rateDetector == null) {
+            return;
+        }
+        synchronized (sendLock) {
+            final Batch batch;
+            synchronized (this) {
+                if (pending.isEmpty() && skippedLines == 0) {
+                    return;
+                }
+                if (rateDetector.isRateExceeded()) {
+                    throttledFlushes++;
+                    return;
+                }
+                rateDetector.updateAndCheckRate();
+                batch = takePending();
+            }
+            sendBatch(batch);
+        }
+    }
+
+    /** Takes collected lines, must be called while holding the lock of consumer. */
+    private Batch takePending() {
+        final Batch batch = new Batch(pending, pendingNumbers, skippedLines);
+        pending = new ArrayList<>();
+        pendingNumbers = new ArrayList<>();
+        skippedLines = 0;
+        return batch;
+    }
+
+    /** Sends taken lines, must be called while holding {@link #sendLock} but not the lock of consumer. */
+    private void sendBatch(Batch batch) {
+        int messages = 0;
+        int from = 0;
+        while (from < batch.lines.size()) {
+            int to = Math.min(batch.lines.size(), from + MAX_LINES_PER_MESSAGE);
+            if (to - from > 1 && isCarriageReturnLine(batch.lines.get(to - 1))) {
+                to--;
+            }
+            send(toJson(batch.lines.subList(from, to), batch.numbers.subList(from, to)));
+            messages++;
+            from = to;
+        }
+        if (batch.skippedLines > 0) {
+            send(toJson(Collections.singletonList(String.format("[%d lines skipped]", batch.skippedLines)),
+                        Collections.singletonList(0L)));
+            messages++;
+        }
+        synchronized (this) {
+            sentMessages += messages;
+            sentLines += batch.lines.size();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (rateDetector == null) {
+            return;
+        }
+        flushTask.cancel(false);
+        synchronized (sendLock) {
+            final Batch batch;
+            synchronized (this) {
+                batch = takePending();
+            }
+            sendBatch(batch);
+        }
+        final Statistics statistics = getStatistics();
+        if (statistics.getDroppedLines() > 0) {
+            LOG.warn("Output to websocket channel {} was not sent completely, {}", channel, statistics);
+        }
+    }
+
+    /** Gets statistics of messages sent by this consumer. */
+    public synchronized Statistics getStatistics() {
+        return new Statistics(sentMessages, sentLines, throttledFlushes, droppedLines);
+    }
+
+    private void send(String body) {
         final ChannelBroadcastMessage bm = new ChannelBroadcastMessage();
         bm.setChannel(channel);
-        bm.setBody(JsonUtils.getJsonString(line));
+        bm.setBody(body);
         try {
             WSConnectionContext.sendMessage(bm);
         } catch (Exception e) {
@@ -44,7 +228,83 @@ public class WebsocketLineConsumer implements LineConsumer {
         }
     }
 
-    @Override
-    public void close() throws IOException {
+    private static String toJson(List<String> lines, List<Long> numbers) {
+        final StringBuilder json = new StringBuilder().append("{\"lines\":[");
+        for (int i = 0; i < lines.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(JsonUtils.getJsonString(lines.get(i)));
+        }
+        json.append("],\"numbers\":[");
+        for (int i = 0; i < numbers.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(numbers.get(i));
+        }
+        return json.append("]}").toString();
+    }
+
+    private static boolean isCarriageReturnLine(String line) {
+        return line != null && line.endsWith("\r");
+    }
+
+    /** Lines taken from the consumer to be sent. */
+    private static class Batch {
+        final List<String> lines;
+        final List<Long>   numbers;
+        final long         skippedLines;
+
+        Batch(List<String> lines, List<Long> numbers, long skippedLines) {
+            this.lines = lines;
+            this.numbers = numbers;
+            this.skippedLines = skippedLines;
+        }
+    }
+
+    /** Statistics of messages sent by {@link WebsocketLineConsumer}. */
+    public static class Statistics {
+        private final long sentMessages;
+        private final long sentLines;
+        private final long throttledFlushes;
+        private final long droppedLines;
+
+        Statistics(long sentMessages, long sentLines, long throttledFlushes, long droppedLines) {
+            this.sentMessages = sentMessages;
+            this.sentLines = sentLines;
+            this.throttledFlushes = throttledFlushes;
+            this.droppedLines = droppedLines;
+        }
+
+        /** Number of messages sent to the channel. */
+        public long getSentMessages() {
+            return sentMessages;
+        }
+
+        /** Number of lines sent to the channel. */
+        public long getSentLines() {
+            return sentLines;
+        }
+
+        /** Number of flushes postponed because max allowed rate of messages was exceeded. */
+        public long getThrottledFlushes() {
+            return throttledFlushes;
+        }
+
+        /** Number of lines that were not sent to the channel. */
+        public long getDroppedLines() {
+            return droppedLines;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{" +
+                   "sentMessages=" + sentMessages +
+                   ", sentLines=" + sentLines +
+                   ", throttledFlushes=" + throttledFlushes +
+                   ", droppedLines=" + droppedLines +
+                   '}';
+        }
     }
 }
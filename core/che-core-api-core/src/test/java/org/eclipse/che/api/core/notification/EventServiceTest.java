@@ -11,12 +11,17 @@
 package org.eclipse.che.api.core.notification;
 
 import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author andrew00x
@@ -29,6 +34,11 @@ public class EventServiceTest {
         bus = new EventService();
     }
 
+    @AfterMethod
+    public void tearDown() {
+        bus.stop();
+    }
+
     @Test
     public void testSimpleEvent() {
         final List<Object> events = new ArrayList<>();
@@ -157,4 +167,178 @@ public class EventServiceTest {
         bus.publish(new Event());
         Assert.assertEquals(events.size(), 0);
     }
+
+    @Test
+    public void testAsyncSubscriberReceivesEventsInPublishOrder() throws Exception {
+        final BlockingListener listener = new BlockingListener(5);
+        bus.subscribeAsync(listener, 16, BackPressurePolicy.BLOCK);
+
+        for (int i = 0; i < 5; i++) {
+            bus.publish("event" + i);
+        }
+        listener.release();
+
+        Assert.assertTrue(listener.delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(listener.events, Arrays.asList("event0", "event1", "event2", "event3", "event4"));
+    }
+
+    @Test
+    public void testAsyncSubscriberDoesNotBlockPublisher() throws Exception {
+        final BlockingListener listener = new BlockingListener(1);
+        bus.subscribeAsync(listener, 16, BackPressurePolicy.BLOCK);
+
+        bus.publish("hello");
+
+        Assert.assertTrue(listener.events.isEmpty());
+        listener.release();
+        Assert.assertTrue(listener.delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(listener.events, Arrays.asList("hello"));
+    }
+
+    @Test
+    public void testDropOldestPolicyDiscardsOldestPendingEvents() throws Exception {
+        final BlockingListener listener = new BlockingListener(3);
+        bus.subscribeAsync(listener, 2, BackPressurePolicy.DROP_OLDEST);
+
+        bus.publish("event0");
+        // wait until the first event is taken from the queue, so the queue is empty
+        Assert.assertTrue(listener.started.await(5, TimeUnit.SECONDS));
+        bus.publish("event1");
+        bus.publish("event2");
+        bus.publish("event3");
+        listener.release();
+
+        Assert.assertTrue(listener.delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(listener.events, Arrays.asList("event0", "event2", "event3"));
+        final AsyncDispatchStatistics statistics = bus.getAsyncStatistics().get(listener);
+        Assert.assertEquals(statistics.getPublished(), 4);
+        Assert.assertEquals(statistics.getDropped(), 1);
+        Assert.assertEquals(statistics.getMaxQueueDepth(), 2);
+        Assert.assertEquals(statistics.getQueueCapacity(), 2);
+    }
+
+    @Test
+    public void testCoalescePolicyMergesEqualPendingEvents() throws Exception {
+        final BlockingListener listener = new BlockingListener(3);
+        bus.subscribeAsync(listener, 8, BackPressurePolicy.COALESCE);
+
+        bus.publish("event0");
+        Assert.assertTrue(listener.started.await(5, TimeUnit.SECONDS));
+        bus.publish("event1");
+        bus.publish("event2");
+        bus.publish("event1");
+        bus.publish("event2");
+        listener.release();
+
+        Assert.assertTrue(listener.delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(listener.events, Arrays.asList("event0", "event1", "event2"));
+        Assert.assertEquals(bus.getAsyncStatistics().get(listener).getCoalesced(), 2);
+    }
+
+    @Test
+    public void testCoalescePolicyDoesNotMergeWithDroppedEvents() throws Exception {
+        final BlockingListener listener = new BlockingListener(3);
+        bus.subscribeAsync(listener, 2, BackPressurePolicy.COALESCE);
+
+        bus.publish("event0");
+        Assert.assertTrue(listener.started.await(5, TimeUnit.SECONDS));
+        bus.publish("event1");
+        bus.publish("event2");
+        bus.publish("event3");
+        // event1 was dropped, so it is queued again instead of being merged
+        bus.publish("event1");
+        listener.release();
+
+        Assert.assertTrue(listener.delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(listener.events, Arrays.asList("event0", "event3", "event1"));
+        final AsyncDispatchStatistics statistics = bus.getAsyncStatistics().get(listener);
+        Assert.assertEquals(statistics.getDropped(), 2);
+        Assert.assertEquals(statistics.getCoalesced(), 0);
+    }
+
+    @Test
+    public void testAsyncSubscriberReceivesEventsAfterItThrowsError() throws Exception {
+        final CountDownLatch delivered = new CountDownLatch(1);
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final EventSubscriber<String> listener = new EventSubscriber<String>() {
+            @Override
+            public void onEvent(String event) {
+                if ("error".equals(event)) {
+                    throw new AssertionError("subscriber failure");
+                }
+                events.add(event);
+                delivered.countDown();
+            }
+        };
+        bus.subscribeAsync(listener, 16, BackPressurePolicy.BLOCK);
+
+        bus.publish("error");
+        bus.publish("event0");
+
+        Assert.assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(events, Arrays.asList("event0"));
+    }
+
+    @Test
+    public void testBlockPolicyWaitsForFreeSpaceInQueue() throws Exception {
+        final BlockingListener listener = new BlockingListener(3);
+        bus.subscribeAsync(listener, 1, BackPressurePolicy.BLOCK);
+
+        bus.publish("event0");
+        Assert.assertTrue(listener.started.await(5, TimeUnit.SECONDS));
+        bus.publish("event1");
+        final Thread publisher = new Thread(() -> bus.publish("event2"));
+        publisher.start();
+        publisher.join(200);
+        Assert.assertTrue(publisher.isAlive());
+
+        listener.release();
+        publisher.join(5000);
+        Assert.assertFalse(publisher.isAlive());
+        Assert.assertTrue(listener.delivered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(listener.events, Arrays.asList("event0", "event1", "event2"));
+        Assert.assertEquals(bus.getAsyncStatistics().get(listener).getDropped(), 0);
+    }
+
+    @Test
+    public void testUnsubscribeAsyncSubscriber() throws Exception {
+        final BlockingListener listener = new BlockingListener(1);
+        bus.subscribeAsync(listener, 16, BackPressurePolicy.BLOCK);
+        listener.release();
+        bus.publish("event0");
+        Assert.assertTrue(listener.delivered.await(5, TimeUnit.SECONDS));
+
+        bus.unsubscribe(listener);
+        bus.publish("event1");
+
+        Assert.assertTrue(bus.getAsyncStatistics().isEmpty());
+        Assert.assertEquals(listener.events, Arrays.asList("event0"));
+    }
+
+    static class BlockingListener implements EventSubscriber<String> {
+        final List<String>   events  = new CopyOnWriteArrayList<>();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch gate    = new CountDownLatch(1);
+        final CountDownLatch delivered;
+
+        BlockingListener(int expectedEvents) {
+            delivered = new CountDownLatch(expectedEvents);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        @Override
+        public void onEvent(String event) {
+            started.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+            delivered.countDown();
+        }
+    }
 }
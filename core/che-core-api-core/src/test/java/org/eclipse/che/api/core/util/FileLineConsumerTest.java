@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.core.util;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link FileLineConsumer}.
+ */
+public class FileLineConsumerTest {
+    private ScheduledExecutorService executor;
+    private File                     file;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        file = File.createTempFile("FileLineConsumerTest", ".log");
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Test
+    public void shouldFlushEachLineByDefault() throws Exception {
+        FileLineConsumer consumer = new FileLineConsumer(file);
+
+        consumer.writeLine("first");
+        consumer.writeLine("second");
+
+        assertEquals(readLines(), asList("first", "second"));
+        consumer.close();
+    }
+
+    @Test
+    public void shouldNotFlushLinesUntilThresholdIsReached() throws Exception {
+        FileLineConsumer consumer = new FileLineConsumer(file, 10, executor, 60_000);
+
+        consumer.writeLine("first");
+        assertEquals(file.length(), 0);
+
+        consumer.writeLine("second");
+        assertEquals(readLines(), asList("first", "second"));
+        consumer.close();
+    }
+
+    @Test
+    public void shouldFlushLinesPeriodically() throws Exception {
+        FileLineConsumer consumer = new FileLineConsumer(file, 1024, executor, 50);
+
+        consumer.writeLine("line");
+
+        for (int i = 0; i < 100 && file.length() == 0; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(readLines(), asList("line"));
+        consumer.close();
+    }
+
+    @Test
+    public void shouldNotLoseLinesWhenClosed() throws Exception {
+        FileLineConsumer consumer = new FileLineConsumer(file, 64 * 1024, executor, 60_000);
+
+        for (int i = 0; i < 100_000; i++) {
+            consumer.writeLine("line " + i);
+        }
+        consumer.close();
+
+        List<String> lines = readLines();
+        assertEquals(lines.size(), 100_000);
+        assertEquals(lines.get(99_999), "line 99999");
+    }
+
+    @Test
+    public void shouldWriteNullLineAsEmptyLine() throws Exception {
+        FileLineConsumer consumer = new FileLineConsumer(file, 1024, executor, 60_000);
+
+        consumer.writeLine(null);
+        consumer.writeLine("line");
+        consumer.close();
+
+        assertEquals(readLines(), asList("", "line"));
+        assertTrue(file.length() > 0);
+    }
+
+    private List<String> readLines() throws Exception {
+        return Files.readAllLines(file.toPath(), Charset.defaultCharset());
+    }
+}
@@ -42,4 +42,16 @@ public class RateExceedDetectorTest {
         Thread.sleep(500);
         Assert.assertFalse(rd.updateAndCheckRate());
     }
+
+    @Test
+    public void testCheckRateWithoutUpdate() throws Exception {
+        RateExceedDetector rd = new RateExceedDetector(2); // 2 per second
+        Assert.assertFalse(rd.updateAndCheckRate());
+        Assert.assertTrue(rd.isRateExceeded());
+        Thread.sleep(300);
+        Assert.assertTrue(rd.isRateExceeded());
+        Thread.sleep(300);
+        Assert.assertFalse(rd.isRateExceeded());
+        Assert.assertFalse(rd.updateAndCheckRate());
+    }
 }
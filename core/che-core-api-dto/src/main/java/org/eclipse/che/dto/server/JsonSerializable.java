@@ -13,9 +13,11 @@
 // limitations under the License.
 package org.eclipse.che.dto.server;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonWriter;
 
 /** An entity that may serialize itself to JSON. */
 public interface JsonSerializable extends Serializable {
@@ -25,4 +27,12 @@ public interface JsonSerializable extends Serializable {
 
     /** Serializes DTO to JSON object. */
     JsonElement toJsonElement();
+
+    /**
+     * Serializes DTO to JSON format straight into the given writer, without building an intermediate {@link JsonElement} tree.
+     * Generated DTO implementations override this method, the default implementation is kept for hand-written ones.
+     */
+    default void writeTo(JsonWriter writer) throws IOException {
+        DtoFactory.writeJsonElement(toJsonElement(), writer);
+    }
 }
\ No newline at end of file
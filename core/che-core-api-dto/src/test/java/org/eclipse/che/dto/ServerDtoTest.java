@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.dto;
 
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -29,6 +30,8 @@ import org.eclipse.che.dto.server.DtoFactory;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -325,6 +328,52 @@ public class ServerDtoTest {
         assertEquals(complicatedDto.getArrayOfArrayOfEnum().get(0).get(2), ComplicatedDto.SimpleEnum.THREE);
     }
 
+    @Test
+    public void testStreamingSerializerWritesTheSameJsonAsJsonElementSerializer() throws Exception {
+        SimpleDto simpleDto = dtoFactory.createDto(SimpleDto.class).withName("Something").withId(1);
+        Map<String, SimpleDto> mapDtos = new HashMap<>(2);
+        mapDtos.put("dto", simpleDto);
+        mapDtos.put("null", null);
+        ComplicatedDto complicatedDto = dtoFactory.createDto(ComplicatedDto.class)
+                                                  .withStrings(asList("Something 1", null, "<\"quoted\">"))
+                                                  .withMap(mapDtos)
+                                                  .withSimpleDtos(asList(simpleDto, null))
+                                                  .withArrayOfArrayOfEnum(asList(asList(ComplicatedDto.SimpleEnum.ONE, null)));
+        DtoWithAny dtoWithAny = dtoFactory.createDto(DtoWithAny.class).withStuff(createTestValueForAny())
+                                          .withObjects(createListTestValueForAny());
+
+        for (Object dto : asList(complicatedDto, dtoWithAny)) {
+            StringWriter writer = new StringWriter();
+            dtoFactory.toJson(dto, writer);
+
+            assertEquals(writer.toString(), new GsonBuilder().disableHtmlEscaping().create().toJson(dtoFactory.toJsonElement(dto)));
+            assertEquals(writer.toString(), dtoFactory.toJson(dto));
+        }
+    }
+
+    @Test
+    public void testStreamingDeserializer() throws Exception {
+        SimpleDto simpleDto = dtoFactory.createDto(SimpleDto.class).withName("Something").withId(1).withDefault("default");
+        Map<String, SimpleDto> mapDtos = new HashMap<>(1);
+        mapDtos.put("dto", simpleDto);
+        ComplicatedDto dto = dtoFactory.createDto(ComplicatedDto.class)
+                                       .withStrings(asList("Something 1", "Something 2"))
+                                       .withSimpleEnum(ComplicatedDto.SimpleEnum.TWO)
+                                       .withMap(mapDtos)
+                                       .withSimpleDtos(asList(simpleDto, simpleDto))
+                                       .withArrayOfArrayOfEnum(asList(asList(ComplicatedDto.SimpleEnum.ONE, ComplicatedDto.SimpleEnum.THREE)));
+        JsonObject json = dtoFactory.toJsonElement(dto).getAsJsonObject();
+        // unknown fields must be skipped
+        json.add("unknown", new JsonParser().parse("{\"a\":[1,2,{\"b\":null}]}"));
+
+        ComplicatedDto fromReader = dtoFactory.createDtoFromJson(new StringReader(json.toString()), ComplicatedDto.class);
+
+        assertEquals(fromReader, dto);
+        assertEquals(fromReader, dtoFactory.createDtoFromJson(json.toString(), ComplicatedDto.class));
+        assertEquals(dtoFactory.createListDtoFromJson(new StringReader("[" + simpleDto + "," + simpleDto + "]"), SimpleDto.class),
+                     asList(simpleDto, simpleDto));
+    }
+
     private void checkSimpleDto(SimpleDto dto, String expectedName, int expectedId, String expectedDefault) {
         assertEquals(dto.getName(), expectedName);
         assertEquals(dto.getId(), expectedId);
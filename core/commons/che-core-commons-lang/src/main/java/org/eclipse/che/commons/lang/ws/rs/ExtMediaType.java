@@ -34,4 +34,12 @@ public interface ExtMediaType {
      * A {@link MediaType} constant representing "{@value #APPLICATION_X_TAR}" media type.
      */
     MediaType APPLICATION_X_TAR_TYPE = new MediaType("application", "x-tar");
+    /**
+     * A {@code String} constant representing "{@value #APPLICATION_X_NDJSON}" media type, stream of JSON objects separated by new line.
+     */
+    String APPLICATION_X_NDJSON = "application/x-ndjson";
+    /**
+     * A {@link MediaType} constant representing "{@value #APPLICATION_X_NDJSON}" media type.
+     */
+    MediaType APPLICATION_X_NDJSON_TYPE = new MediaType("application", "x-ndjson");
 }
@@ -356,6 +356,10 @@ export class CreateProjectCtrl {
       if (this.createProjectSvc.getCurrentProgressStep() < 2) {
         this.createProjectSvc.setCurrentProgressStep(2);
       }
+      // output may be sent as a batch of lines
+      if (message && angular.isArray(message.lines)) {
+        message = message.lines.join('\n');
+      }
       let agentStep = 2;
       if (this.getCreationSteps()[agentStep].logs.length > 0) {
         this.getCreationSteps()[agentStep].logs = this.getCreationSteps()[agentStep].logs + '\n' + message;
@@ -398,6 +402,10 @@ export class CreateProjectCtrl {
     if (outputChannel) {
       this.listeningChannels.push(outputChannel);
       bus.subscribe(outputChannel, (message) => {
+        // output may be sent as a batch of lines
+        if (message && angular.isArray(message.lines)) {
+          message = message.lines.join('\n');
+        }
         if (this.getCreationSteps()[this.getCurrentProgressStep()].logs.length > 0) {
           this.getCreationSteps()[this.getCurrentProgressStep()].logs = this.getCreationSteps()[this.getCurrentProgressStep()].logs + '\n' + message;
         } else {
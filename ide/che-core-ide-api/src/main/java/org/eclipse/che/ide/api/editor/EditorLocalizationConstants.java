@@ -37,6 +37,12 @@ public interface EditorLocalizationConstants extends Messages {
     @DefaultMessage("Failed to update content of file(s)")
     String failedToUpdateContentOfFiles();
 
+    @DefaultMessage("{0} has been modified outside of the editor")
+    String fileModifiedExternally(String name);
+
+    @DefaultMessage("The editor has unsaved changes, saving them will overwrite the modification.")
+    String fileModifiedExternallyDescription();
+
     @DefaultMessage("Tabs")
     String tabsPropertiesSection();
 
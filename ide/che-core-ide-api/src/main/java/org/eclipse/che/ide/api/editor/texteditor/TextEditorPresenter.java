@@ -93,6 +93,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import static org.eclipse.che.ide.api.notification.StatusNotification.DisplayMode.FLOAT_MODE;
 import static org.eclipse.che.ide.api.notification.StatusNotification.DisplayMode.NOT_EMERGE_MODE;
 import static org.eclipse.che.ide.api.notification.StatusNotification.Status.FAIL;
 import static org.eclipse.che.ide.api.resources.ResourceDelta.ADDED;
@@ -155,6 +156,8 @@ public class TextEditorPresenter<T extends EditorWidget> extends AbstractEditorP
     private List<String>             fileTypes;
     private TextPosition             cursorPosition;
     private HandlerRegistration      resourceChangeHandler;
+    /** Content of the file as it was loaded or saved by this editor. */
+    private String                   fileContent;
 
     @AssistedInject
     public TextEditorPresenter(final CodeAssistantFactory codeAssistantFactory,
@@ -218,6 +221,7 @@ public class TextEditorPresenter<T extends EditorWidget> extends AbstractEditorP
         EditorInitCallback<T> dualCallback = new EditorInitCallback<T>(moduleReady, loaderFactory, constant) {
             @Override
             public void onReady(final String content) {
+                fileContent = content;
                 createEditor(content);
             }
 
@@ -391,6 +395,26 @@ public class TextEditorPresenter<T extends EditorWidget> extends AbstractEditorP
 
             @Override
             public void onDocumentReceived(final String content) {
+                // file is modified by this editor itself, keeps undo history and content typed after the save
+                if (content.equals(fileContent)) {
+                    return;
+                }
+                fileContent = content;
+
+                // content typed by user mustn't be overwritten by the external modification, but the user must know
+                // that saving of the editor will overwrite it
+                if (isDirty()) {
+                    notificationManager.notify(constant.fileModifiedExternally(input.getFile().getName()),
+                                               constant.fileModifiedExternallyDescription(),
+                                               FAIL,
+                                               FLOAT_MODE);
+                    return;
+                }
+
+                if (content.equals(editorWidget.getValue())) {
+                    return;
+                }
+
                 editorWidget.setValue(content, new ContentInitializedHandler() {
                     @Override
                     public void onContentInitialized() {
@@ -576,6 +600,9 @@ public class TextEditorPresenter<T extends EditorWidget> extends AbstractEditorP
 
     @Override
     public void doSave(final AsyncCallback<EditorInput> callback) {
+        // update of the file may be received before the save is completed
+        final String previousFileContent = fileContent;
+        fileContent = document.getContents();
 
         this.documentStorage.saveDocument(getEditorInput(), this.document, false, new AsyncCallback<EditorInput>() {
             @Override
@@ -590,6 +617,7 @@ public class TextEditorPresenter<T extends EditorWidget> extends AbstractEditorP
 
             @Override
             public void onFailure(Throwable caught) {
+                fileContent = previousFileContent;
                 notificationManager.notify(constant.failedToUpdateContentOfFiles(), caught.getMessage(), FAIL, NOT_EMERGE_MODE);
                 if (callback != null) {
                     callback.onFailure(caught);
@@ -10,36 +10,76 @@
  *******************************************************************************/
 package org.eclipse.che.ide.api.machine;
 
+import com.google.gwt.json.client.JSONArray;
+import com.google.gwt.json.client.JSONObject;
 import com.google.gwt.json.client.JSONParser;
-import com.google.gwt.json.client.JSONString;
+import com.google.gwt.json.client.JSONValue;
 
 import org.eclipse.che.ide.websocket.Message;
 import org.eclipse.che.ide.websocket.rest.Unmarshallable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * Unmarshaller for websocket messages from machine.
+ * Unmarshaller for websocket messages from machine. Message contains either single line of output or batch of lines
+ * with their numbers in the output, in the last case payload contains all lines separated by new line character.
  *
  * @author Artem Zatsarynnyi
  */
 public class CommandOutputMessageUnmarshaller implements Unmarshallable<String> {
 
-    private final String machineName;
-    private       String payload;
+    private final String        machineName;
+    private final List<Integer> lineNumbers;
+    private       String        payload;
 
     public CommandOutputMessageUnmarshaller(String machineName) {
         this.machineName = machineName;
+        this.lineNumbers = new ArrayList<>();
     }
 
     @Override
     public void unmarshal(Message message) {
-        final JSONString jsonString = JSONParser.parseStrict(message.getBody()).isString();
-        payload = jsonString.stringValue();
+        lineNumbers.clear();
+        final JSONValue json = JSONParser.parseStrict(message.getBody());
+        final JSONObject batch = json.isObject();
+        if (batch == null) {
+            payload = unmarshalLine(json);
+            return;
+        }
+        final JSONArray lines = batch.get("lines").isArray();
+        final JSONArray numbers = batch.get("numbers").isArray();
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lines.size(); i++) {
+            if (i > 0) {
+                text.append('\n');
+            }
+            text.append(unmarshalLine(lines.get(i)));
+            lineNumbers.add((int)numbers.get(i).isNumber().doubleValue());
+        }
+        payload = text.toString();
+    }
+
+    /**
+     * Returns numbers of lines of the last unmarshalled message in the process logs, lines are counted from 1 and number is 0
+     * for lines that are not written to the logs. Returns empty list if message doesn't contain numbers of lines.
+     */
+    public List<Integer> getLineNumbers() {
+        return lineNumbers;
+    }
+
+    private String unmarshalLine(JSONValue json) {
+        return formatLine(json.isString().stringValue());
+    }
 
-        if (payload.startsWith("[STDOUT]")) {
-            payload = payload.substring(9);
-        } else if (payload.startsWith("[STDERR]")) {
-            payload = payload.replace("[STDERR]", "[" + machineName + "]");
+    /** Formats line of output as it is sent from machine or written to the process logs. */
+    public String formatLine(String line) {
+        if (line.startsWith("[STDOUT]")) {
+            line = line.substring(9);
+        } else if (line.startsWith("[STDERR]")) {
+            line = line.replace("[STDERR]", "[" + machineName + "]");
         }
+        return line;
     }
 
     @Override
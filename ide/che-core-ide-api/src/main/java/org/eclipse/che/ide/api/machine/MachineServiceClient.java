@@ -89,6 +89,21 @@ public interface MachineServiceClient {
      */
     Promise<Void> stopProcess(@NotNull String machineId, int processId);
 
+    /**
+     * Get lines of process logs.
+     *
+     * @param machineId
+     *         ID of the machine where process is running
+     * @param processId
+     *         ID of the process
+     * @param startFrom
+     *         line number to start reading from, lines are counted from 1
+     * @param limit
+     *         limitation on lines
+     * @return a promise that will provide lines of logs separated by new line character, or rejects with an error
+     */
+    Promise<String> getProcessLogs(@NotNull String machineId, int processId, int startFrom, int limit);
+
     /**
      * Get file content.
      *
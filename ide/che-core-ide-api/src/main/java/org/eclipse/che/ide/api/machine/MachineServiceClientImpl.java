@@ -101,6 +101,14 @@ public class MachineServiceClientImpl implements MachineServiceClient {
                                   .send();
     }
 
+    @Override
+    public Promise<String> getProcessLogs(@NotNull final String machineId, final int processId, final int startFrom,
+                                          final int limit) {
+        String url = baseHttpUrl + "/" + machineId + "/process/" + processId + "/logs?startFrom=" + startFrom + "&limit=" + limit;
+        return asyncRequestFactory.createGetRequest(url)
+                                  .send(new StringUnmarshaller());
+    }
+
     @Override
     public Promise<String> getFileContent(@NotNull final String machineId, final @NotNull String path, final int startFrom,
                                           final int limit) {
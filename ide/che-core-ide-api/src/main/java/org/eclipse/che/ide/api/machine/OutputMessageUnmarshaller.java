@@ -10,14 +10,17 @@
  *******************************************************************************/
 package org.eclipse.che.ide.api.machine;
 
+import com.google.gwt.json.client.JSONArray;
+import com.google.gwt.json.client.JSONObject;
 import com.google.gwt.json.client.JSONParser;
-import com.google.gwt.json.client.JSONString;
+import com.google.gwt.json.client.JSONValue;
 
 import org.eclipse.che.ide.websocket.Message;
 import org.eclipse.che.ide.websocket.rest.Unmarshallable;
 
 /**
- * Unmarshaller for websocket messages from machine.
+ * Unmarshaller for websocket messages from machine. Message contains either single line of output or batch of lines,
+ * in the last case payload contains all lines separated by new line character.
  *
  * @author Artem Zatsarynnyi
  */
@@ -26,12 +29,30 @@ public class OutputMessageUnmarshaller implements Unmarshallable<String> {
 
     @Override
     public void unmarshal(Message message) {
-        final JSONString jsonString = JSONParser.parseStrict(message.getBody()).isString();
-        payload = jsonString.stringValue();
+        final JSONValue json = JSONParser.parseStrict(message.getBody());
+        final JSONObject batch = json.isObject();
+        if (batch == null) {
+            payload = unmarshalLine(json);
+            return;
+        }
+        final JSONArray lines = batch.get("lines").isArray();
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lines.size(); i++) {
+            if (i > 0) {
+                text.append('\n');
+            }
+            text.append(unmarshalLine(lines.get(i)));
+        }
+        payload = text.toString();
+    }
+
+    private String unmarshalLine(JSONValue json) {
+        final String line = json.isString().stringValue();
 
-        if (payload.startsWith("[STDOUT]") || payload.startsWith("[STDERR]")) {
-            payload = payload.substring(9);
+        if (line.startsWith("[STDOUT]") || line.startsWith("[STDERR]")) {
+            return line.substring(9);
         }
+        return line;
     }
 
     @Override
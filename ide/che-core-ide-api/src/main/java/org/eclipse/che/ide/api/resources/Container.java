@@ -402,6 +402,9 @@ public interface Container extends Resource {
      * Synchronizes the given {@code deltas} with already cached resources.
      * Method is useful for third-party components which performs changes with resources outside of client side resource management.
      * <p/>
+     * Deltas are applied sequentially in the given order. Resources which are located in containers that weren't loaded yet are
+     * skipped, they will be fetched when container is loaded.
+     * <p/>
      * Method should be called on the workspace root {@link AppContext#getWorkspaceRoot()}.
      *
      * @param deltas
@@ -128,6 +128,7 @@ public class ProjectExplorerViewImpl extends BaseView<ProjectExplorerView.Action
         tree.setPresentationRenderer(new ProjectExplorerRenderer(tree.getTreeStyles()));
         tree.ensureDebugId(PROJECT_TREE_WIDGET_ID);
         tree.setAutoSelect(true);
+        tree.setVirtualized(true);
         tree.getNodeLoader().setUseCaching(false);
 
         setContentWidget(tree);
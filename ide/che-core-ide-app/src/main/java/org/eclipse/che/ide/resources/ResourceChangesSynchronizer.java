@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.resources;
+
+import com.google.common.annotations.Beta;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.web.bindery.event.shared.EventBus;
+
+import org.eclipse.che.api.project.shared.dto.event.ResourceChangesEventDto;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
+import org.eclipse.che.api.promises.client.Operation;
+import org.eclipse.che.api.promises.client.OperationException;
+import org.eclipse.che.api.promises.client.PromiseError;
+import org.eclipse.che.ide.api.app.AppContext;
+import org.eclipse.che.ide.api.machine.events.WsAgentStateEvent;
+import org.eclipse.che.ide.api.machine.events.WsAgentStateHandler;
+import org.eclipse.che.ide.api.resources.ExternalResourceDelta;
+import org.eclipse.che.ide.api.resources.Resource;
+import org.eclipse.che.ide.api.resources.ResourceDelta;
+import org.eclipse.che.ide.resource.Path;
+import org.eclipse.che.ide.rest.DtoUnmarshallerFactory;
+import org.eclipse.che.ide.util.loging.Log;
+import org.eclipse.che.ide.websocket.MessageBus;
+import org.eclipse.che.ide.websocket.MessageBusProvider;
+import org.eclipse.che.ide.websocket.WebSocketException;
+import org.eclipse.che.ide.websocket.rest.SubscriptionHandler;
+
+import java.util.List;
+
+import static org.eclipse.che.api.project.shared.dto.event.ResourceChangesEventDto.RESOURCE_CHANGES_CHANNEL;
+import static org.eclipse.che.ide.api.resources.ResourceDelta.ADDED;
+import static org.eclipse.che.ide.api.resources.ResourceDelta.REMOVED;
+import static org.eclipse.che.ide.api.resources.ResourceDelta.UPDATED;
+
+/**
+ * Applies change sets of workspace resources that are pushed by workspace agent to already loaded resources.
+ * <p/>
+ * Change sets are numbered sequentially. When change set is lost, e.g. because of web socket reconnection,
+ * or it can't be applied, incremental update isn't possible any more, so the whole workspace root is synchronized instead.
+ *
+ * @since 4.6.0
+ */
+@Beta
+@Singleton
+public class ResourceChangesSynchronizer implements WsAgentStateHandler {
+
+    private static final long NO_SEQUENCE_NUMBER = -1;
+
+    private final AppContext                                    appContext;
+    private final MessageBusProvider                            messageBusProvider;
+    private final SubscriptionHandler<ResourceChangesEventDto> changesHandler;
+
+    private MessageBus messageBus;
+    private long       lastSequenceNumber;
+    private boolean    synchronizing;
+
+    @Inject
+    public ResourceChangesSynchronizer(EventBus eventBus,
+                                       AppContext appContext,
+                                       MessageBusProvider messageBusProvider,
+                                       DtoUnmarshallerFactory dtoUnmarshallerFactory) {
+        this.appContext = appContext;
+        this.messageBusProvider = messageBusProvider;
+        this.lastSequenceNumber = NO_SEQUENCE_NUMBER;
+        this.changesHandler = new SubscriptionHandler<ResourceChangesEventDto>(
+                dtoUnmarshallerFactory.newWSUnmarshaller(ResourceChangesEventDto.class)) {
+            @Override
+            protected void onMessageReceived(ResourceChangesEventDto changes) {
+                onChangesReceived(changes);
+            }
+
+            @Override
+            protected void onErrorReceived(Throwable exception) {
+                Log.error(ResourceChangesSynchronizer.class, exception);
+            }
+        };
+
+        eventBus.addHandler(WsAgentStateEvent.TYPE, this);
+    }
+
+    @Override
+    public void onWsAgentStarted(WsAgentStateEvent event) {
+        lastSequenceNumber = NO_SEQUENCE_NUMBER;
+        messageBus = messageBusProvider.getMachineMessageBus();
+
+        try {
+            messageBus.subscribe(RESOURCE_CHANGES_CHANNEL, changesHandler);
+        } catch (WebSocketException e) {
+            Log.error(ResourceChangesSynchronizer.class, e);
+        }
+    }
+
+    @Override
+    public void onWsAgentStopped(WsAgentStateEvent event) {
+        try {
+            if (messageBus != null && messageBus.isHandlerSubscribed(changesHandler, RESOURCE_CHANGES_CHANNEL)) {
+                messageBus.unsubscribe(RESOURCE_CHANGES_CHANNEL, changesHandler);
+            }
+        } catch (WebSocketException e) {
+            Log.error(ResourceChangesSynchronizer.class, e);
+        }
+
+        messageBus = null;
+        lastSequenceNumber = NO_SEQUENCE_NUMBER;
+    }
+
+    private void onChangesReceived(ResourceChangesEventDto changes) {
+        if (appContext.getDevMachine() == null) {
+            return;
+        }
+
+        final boolean lost = lastSequenceNumber != NO_SEQUENCE_NUMBER && changes.getSequenceNumber() != lastSequenceNumber + 1;
+        lastSequenceNumber = changes.getSequenceNumber();
+
+        if (lost) {
+            synchronizeWorkspaceRoot();
+        } else {
+            appContext.getWorkspaceRoot().synchronize(toDeltas(changes.getChanges())).catchError(new Operation<PromiseError>() {
+                @Override
+                public void apply(PromiseError error) throws OperationException {
+                    // loaded resources may be inconsistent after partially applied change set
+                    Log.error(ResourceChangesSynchronizer.class, error.getCause());
+                    synchronizeWorkspaceRoot();
+                }
+            });
+        }
+    }
+
+    /** Reloads all loaded resources, only one reload is performed at the same time. */
+    private void synchronizeWorkspaceRoot() {
+        if (synchronizing) {
+            return;
+        }
+
+        synchronizing = true;
+
+        appContext.getWorkspaceRoot().synchronize().then(new Operation<Resource[]>() {
+            @Override
+            public void apply(Resource[] ignored) throws OperationException {
+                synchronizing = false;
+            }
+        }).catchError(new Operation<PromiseError>() {
+            @Override
+            public void apply(PromiseError error) throws OperationException {
+                synchronizing = false;
+                Log.error(ResourceChangesSynchronizer.class, error.getCause());
+            }
+        });
+    }
+
+    private ResourceDelta[] toDeltas(List<VfsWatchEvent> changes) {
+        final ResourceDelta[] deltas = new ResourceDelta[changes.size()];
+
+        for (int i = 0; i < deltas.length; i++) {
+            final VfsWatchEvent change = changes.get(i);
+            final Path path = Path.valueOf(change.getPath());
+
+            switch (change.getType()) {
+                case CREATED:
+                    deltas[i] = new ExternalResourceDelta(path, ADDED);
+                    break;
+                case DELETED:
+                    deltas[i] = new ExternalResourceDelta(path, REMOVED);
+                    break;
+                default:
+                    deltas[i] = new ExternalResourceDelta(path, UPDATED);
+            }
+        }
+
+        return deltas;
+    }
+}
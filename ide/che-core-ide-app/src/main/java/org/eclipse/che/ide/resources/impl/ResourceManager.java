@@ -920,7 +920,7 @@ public final class ResourceManager {
             if (delta.getKind() == ADDED) {
                 if (delta.getFlags() == (MOVED_FROM | MOVED_TO)) {
 
-                    promise.thenPromise(new Function<Void, Promise<Void>>() {
+                    promise = promise.thenPromise(new Function<Void, Promise<Void>>() {
                         @Override
                         public Promise<Void> apply(Void ignored) throws FunctionException {
                             return onExternalDeltaMoved(delta);
@@ -929,7 +929,7 @@ public final class ResourceManager {
 
                 } else {
 
-                    promise.thenPromise(new Function<Void, Promise<Void>>() {
+                    promise = promise.thenPromise(new Function<Void, Promise<Void>>() {
                         @Override
                         public Promise<Void> apply(Void ignored) throws FunctionException {
                             return onExternalDeltaAdded(delta);
@@ -939,7 +939,7 @@ public final class ResourceManager {
                 }
             } else if (delta.getKind() == REMOVED) {
 
-                promise.thenPromise(new Function<Void, Promise<Void>>() {
+                promise = promise.thenPromise(new Function<Void, Promise<Void>>() {
                     @Override
                     public Promise<Void> apply(Void ignored) throws FunctionException {
                         return onExternalDeltaRemoved(delta);
@@ -948,7 +948,7 @@ public final class ResourceManager {
 
             } else if (delta.getKind() == UPDATED) {
 
-                promise.thenPromise(new Function<Void, Promise<Void>>() {
+                promise = promise.thenPromise(new Function<Void, Promise<Void>>() {
                     @Override
                     public Promise<Void> apply(Void ignored) throws FunctionException {
                         return onExternalDeltaUpdated(delta);
@@ -999,38 +999,75 @@ public final class ResourceManager {
         });
     }
 
+    /**
+     * Applies addition of resource which isn't known yet. Only the added resource is fetched and only when its parent
+     * is loaded, resources inside containers which weren't loaded yet will be fetched when container is expanded.
+     * Top level resources are always loaded, project configurations are refreshed before such resource is fetched
+     * as it may be a new project.
+     */
     private Promise<Void> onExternalDeltaAdded(final ResourceDelta delta) {
-        return findResource(delta.getToPath(), true).then(new Function<Optional<Resource>, Void>() {
-            @Override
-            public Void apply(final Optional<Resource> resource) throws FunctionException {
-                if (resource.isPresent()) {
-                    Resource intercepted = resource.get();
+        final Path location = delta.getToPath();
 
-                    if (!store.getResource(intercepted.getLocation()).isPresent()) {
-                        store.register(intercepted);
-                    }
+        if (store.getResource(location).isPresent()) {
+            return promises.resolve(null);
+        }
 
-                    eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(intercepted, ADDED | DERIVED)));
-                }
+        final boolean topLevel = location.segmentCount() == 1;
 
-                return null;
+        if (!topLevel) {
+            final Optional<Resource> parent = store.getResource(location.parent());
+
+            if (!parent.isPresent() || !(parent.get() instanceof Container)) {
+                return promises.resolve(null);
             }
-        });
-    }
+        }
 
-    private Promise<Void> onExternalDeltaUpdated(final ResourceDelta delta) {
-        return findResource(delta.getToPath(), true).then(new Function<Optional<Resource>, Void>() {
+        final Promise<Void> configsPromise;
+        if (topLevel) {
+            configsPromise = ps.getProjects().then(new Function<List<ProjectConfigDto>, Void>() {
+                @Override
+                public Void apply(List<ProjectConfigDto> updatedConfiguration) throws FunctionException {
+                    cachedConfigs = updatedConfiguration.toArray(new ProjectConfigDto[updatedConfiguration.size()]);
+
+                    return null;
+                }
+            });
+        } else {
+            configsPromise = promises.resolve(null);
+        }
+
+        return configsPromise.thenPromise(new Function<Void, Promise<ItemReference>>() {
             @Override
-            public Void apply(Optional<Resource> resource) throws FunctionException {
+            public Promise<ItemReference> apply(Void ignored) throws FunctionException {
+                return ps.getItem(location);
+            }
+        }).then(new Function<ItemReference, Void>() {
+            @Override
+            public Void apply(ItemReference reference) throws FunctionException {
+                //resource may be loaded while the item was requested
+                if (store.getResource(location).isPresent()) {
+                    return null;
+                }
 
-                if (resource.isPresent()) {
-                    Resource intercepted = resource.get();
+                final Resource resource = newResourceFrom(reference);
+
+                if (resource.getResourceType() == PROJECT) {
+                    final Optional<ProjectConfigDto> config = findProjectConfigDto(location);
 
-                    if (!store.getResource(intercepted.getLocation()).isPresent()) {
-                        store.register(intercepted);
+                    if (config.isPresent()) {
+                        final Optional<ProblemProjectMarker> marker = getProblemMarker(config.get());
+
+                        if (marker.isPresent()) {
+                            resource.addMarker(marker.get());
+                        }
                     }
+                }
+
+                store.register(resource);
 
-                    eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(intercepted, UPDATED | DERIVED)));
+                final Optional<Resource> registered = store.getResource(location);
+                if (registered.isPresent()) {
+                    eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(registered.get(), ADDED | DERIVED)));
                 }
 
                 return null;
@@ -1038,19 +1075,25 @@ public final class ResourceManager {
         });
     }
 
+    private Promise<Void> onExternalDeltaUpdated(final ResourceDelta delta) {
+        final Optional<Resource> resource = store.getResource(delta.getToPath());
+
+        if (resource.isPresent()) {
+            eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource.get(), UPDATED | DERIVED)));
+        }
+
+        return promises.resolve(null);
+    }
+
     private Promise<Void> onExternalDeltaRemoved(final ResourceDelta delta) {
-        return findResource(delta.getFromPath(), true).then(new Function<Optional<Resource>, Void>() {
-            @Override
-            public Void apply(Optional<Resource> resource) throws FunctionException {
+        final Optional<Resource> resource = store.getResource(delta.getFromPath());
 
-                if (resource.isPresent()) {
-                    store.dispose(resource.get().getLocation(), true);
-                    eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource.get(), REMOVED | DERIVED)));
-                }
+        if (resource.isPresent()) {
+            store.dispose(resource.get().getLocation(), true);
+            eventBus.fireEvent(new ResourceChangedEvent(new ResourceDeltaImpl(resource.get(), REMOVED | DERIVED)));
+        }
 
-                return null;
-            }
-        });
+        return promises.resolve(null);
     }
 
     protected Promise<Resource[]> search(final Container container, String fileMask, String contentMask) {
@@ -21,17 +21,18 @@ import org.eclipse.che.ide.resource.Path;
 /**
  * The resource store is responsible for caching resources on the client.
  * <p/>
- * At this moment there is only one implementation of storage which handles cached resources in memory.
- * So browser page refreshing will reset storage.
+ * Storage handles cached resources in memory, so browser page refreshing will reset storage. By default resources are
+ * kept in the tree of path segments, see {@link TrieResourceStore}.
  * <p/>
  * Note, that this interface is not intended to be implemented by third party components.
  *
  * @author Vlad Zhukovskiy
+ * @see TrieResourceStore
  * @see InMemoryResourceStore
  * @since 4.4.0
  */
 @Beta
-@ImplementedBy(InMemoryResourceStore.class)
+@ImplementedBy(TrieResourceStore.class)
 interface ResourceStore {
     /**
      * Register the given {@code resource} with parent path in storage.
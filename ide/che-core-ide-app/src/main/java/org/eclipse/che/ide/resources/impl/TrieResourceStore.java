@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.resources.impl;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Optional;
+import com.google.inject.Inject;
+
+import org.eclipse.che.ide.api.resources.Resource;
+import org.eclipse.che.ide.api.resources.ResourceInterceptor;
+import org.eclipse.che.ide.resource.Path;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.google.common.base.Optional.absent;
+import static com.google.common.base.Optional.of;
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Implementation of {@link ResourceStore} which keeps resources in memory in the tree of nodes, one node per path segment.
+ * <p/>
+ * Each node holds the registered children resources sorted by name and the child nodes, so registering, disposing and
+ * looking up the resource takes logarithmic time per path segment instead of linear time of the size of the parent
+ * container, and fetching of all descendants visits only the given subtree.
+ *
+ * @see ResourceStore
+ * @since 4.6.0
+ */
+@Beta
+class TrieResourceStore implements ResourceStore {
+
+    private static final Resource[] EMPTY_RESOURCES = new Resource[0];
+
+    private final Set<ResourceInterceptor> resourceInterceptors;
+
+    private Node root;
+
+    @Inject
+    public TrieResourceStore(Set<ResourceInterceptor> resourceInterceptors) {
+        this.resourceInterceptors = resourceInterceptors;
+
+        root = new Node();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean register(Resource resource) {
+        checkArgument(resource != null, "Null resource occurred");
+
+        final Node parent = getNode(resource.getLocation().parent(), true);
+
+        if (parent.resources == null) {
+            parent.resources = new TreeMap<>();
+        }
+
+        final Resource previous = parent.resources.put(resource.getName(), resource);
+        parent.snapshot = null;
+
+        intercept(resource);
+
+        return previous == null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void dispose(Path path, boolean withChildren) {
+        checkArgument(path != null, "Null path occurred");
+
+        if (path.isRoot()) {
+            clear();
+            return;
+        }
+
+        final Node parent = getNode(path.parent(), false);
+
+        if (parent == null) {
+            return;
+        }
+
+        if (parent.resources != null && parent.resources.remove(path.lastSegment()) != null) {
+            parent.snapshot = null;
+        }
+
+        if (withChildren) {
+            if (parent.nodes != null) {
+                parent.nodes.remove(path.lastSegment());
+            }
+        } else {
+            final Node node = parent.nodes == null ? null : parent.nodes.get(path.lastSegment());
+
+            if (node != null) {
+                node.resources = null;
+                node.snapshot = null;
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Resource> getResource(Path path) {
+        checkArgument(path != null, "Null path occurred");
+
+        if (path.isRoot()) {
+            return absent();
+        }
+
+        final Node parent = getNode(path.parent(), false);
+
+        if (parent == null || parent.resources == null) {
+            return absent();
+        }
+
+        final Resource resource = parent.resources.get(path.lastSegment());
+
+        return resource == null ? Optional.<Resource>absent() : of(resource);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Resource[]> get(Path parent) {
+        checkArgument(parent != null, "Null path occurred");
+
+        final Node node = getNode(parent, false);
+
+        if (node == null || node.resources == null) {
+            return absent();
+        }
+
+        if (node.snapshot == null) {
+            node.snapshot = node.resources.values().toArray(new Resource[node.resources.size()]);
+        }
+
+        return of(node.snapshot);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Optional<Resource[]> getAll(Path parent) {
+        checkArgument(parent != null, "Null path occurred");
+
+        final Node node = getNode(parent, false);
+
+        if (node == null || node.resources == null) {
+            return absent();
+        }
+
+        final List<Resource> all = new ArrayList<>();
+
+        collect(node, all);
+
+        if (all.isEmpty()) {
+            return of(EMPTY_RESOURCES);
+        }
+
+        return of(all.toArray(new Resource[all.size()]));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        root = new Node();
+    }
+
+    /**
+     * Returns the node bound to the given {@code path}. Missed nodes are created if {@code create} is {@code true},
+     * otherwise {@code null} is returned if there is no node for the given path.
+     */
+    private Node getNode(Path path, boolean create) {
+        Node node = root;
+
+        for (int i = 0; i < path.segmentCount(); i++) {
+            final String segment = path.segment(i);
+
+            Node child = node.nodes == null ? null : node.nodes.get(segment);
+
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+
+                if (node.nodes == null) {
+                    node.nodes = new HashMap<>();
+                }
+
+                child = new Node();
+                node.nodes.put(segment, child);
+            }
+
+            node = child;
+        }
+
+        return node;
+    }
+
+    private void collect(Node node, List<Resource> all) {
+        if (node.resources != null) {
+            all.addAll(node.resources.values());
+        }
+
+        if (node.nodes != null) {
+            for (Node child : node.nodes.values()) {
+                collect(child, all);
+            }
+        }
+    }
+
+    private <R extends Resource> void intercept(R resource) {
+        checkArgument(resource != null, "Null resource occurred");
+
+        resource.deleteAllMarkers();
+
+        for (ResourceInterceptor interceptor : resourceInterceptors) {
+            interceptor.intercept(resource);
+        }
+    }
+
+    /** Node of the resource tree bound to the single path segment. */
+    private static class Node {
+        /** Registered children resources sorted by name, {@code null} if children weren't registered. */
+        TreeMap<String, Resource> resources;
+        /** Child nodes by path segment. */
+        Map<String, Node>         nodes;
+        /** Cached array of registered children resources. */
+        Resource[]                snapshot;
+    }
+}
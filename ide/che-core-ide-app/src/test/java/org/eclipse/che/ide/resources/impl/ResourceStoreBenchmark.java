@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.resources.impl;
+
+import com.google.common.base.Optional;
+
+import org.eclipse.che.api.promises.client.Promise;
+import org.eclipse.che.ide.api.resources.Container;
+import org.eclipse.che.ide.api.resources.Project;
+import org.eclipse.che.ide.api.resources.Resource;
+import org.eclipse.che.ide.api.resources.ResourceInterceptor;
+import org.eclipse.che.ide.api.resources.marker.Marker;
+import org.eclipse.che.ide.resource.Path;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Microbenchmark that compares load and lookup times of {@link TrieResourceStore} and {@link InMemoryResourceStore}
+ * for 100k resources.
+ * <p/>
+ * Benchmark uses only classes emulated by GWT, so the same measurement may be performed in the browser. It isn't run
+ * by default during the build, use {@code mvn test -Dtest=ResourceStoreBenchmark} to run it.
+ */
+public class ResourceStoreBenchmark {
+
+    private static final int PROJECTS = 10;
+    private static final int FOLDERS  = 10;
+    private static final int FILES    = 1000;
+
+    @Test
+    public void compareStores() throws Exception {
+        final Resource[] resources = createResources();
+
+        final long[] inMemory = measure(new InMemoryResourceStore(Collections.<ResourceInterceptor>emptySet()), resources);
+        final long[] trie = measure(new TrieResourceStore(Collections.<ResourceInterceptor>emptySet()), resources);
+
+        System.out.println("Resources: " + resources.length);
+        System.out.println("InMemoryResourceStore: " + format(inMemory));
+        System.out.println("TrieResourceStore:     " + format(trie));
+    }
+
+    /** Returns load, lookup and get all times in milliseconds. */
+    private static long[] measure(ResourceStore store, Resource[] resources) {
+        final long loadStart = System.currentTimeMillis();
+        for (Resource resource : resources) {
+            store.register(resource);
+        }
+        final long lookupStart = System.currentTimeMillis();
+        for (Resource resource : resources) {
+            assertSame(resource, store.getResource(resource.getLocation()).get());
+        }
+        final long getAllStart = System.currentTimeMillis();
+        final Optional<Resource[]> all = store.getAll(Path.ROOT);
+        final long end = System.currentTimeMillis();
+
+        assertEquals(resources.length, all.get().length);
+
+        return new long[]{lookupStart - loadStart, getAllStart - lookupStart, end - getAllStart};
+    }
+
+    private static String format(long[] times) {
+        return "load " + times[0] + " ms, lookup " + times[1] + " ms, get all " + times[2] + " ms";
+    }
+
+    private static Resource[] createResources() {
+        final Resource[] resources = new Resource[PROJECTS * (1 + FOLDERS * (1 + FILES))];
+        int i = 0;
+        for (int p = 0; p < PROJECTS; p++) {
+            final Path project = Path.valueOf("/project" + p);
+            resources[i++] = new BenchmarkResource(project);
+            for (int f = 0; f < FOLDERS; f++) {
+                final Path folder = project.append("folder" + f);
+                resources[i++] = new BenchmarkResource(folder);
+                for (int n = 0; n < FILES; n++) {
+                    resources[i++] = new BenchmarkResource(folder.append("File" + n + ".java"));
+                }
+            }
+        }
+        return resources;
+    }
+
+    /** Lightweight resource, that only knows its location. */
+    private static class BenchmarkResource implements Resource {
+        private final Path location;
+
+        BenchmarkResource(Path location) {
+            this.location = location;
+        }
+
+        @Override
+        public boolean isFile() {
+            return false;
+        }
+
+        @Override
+        public boolean isFolder() {
+            return false;
+        }
+
+        @Override
+        public boolean isProject() {
+            return false;
+        }
+
+        @Override
+        public Promise<Resource> copy(Path destination) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Promise<Resource> copy(Path destination, boolean force) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Promise<Resource> move(Path destination) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Promise<Resource> move(Path destination, boolean force) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Promise<Void> delete() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Path getLocation() {
+            return location;
+        }
+
+        @Override
+        public String getName() {
+            return location.lastSegment();
+        }
+
+        @Override
+        public Optional<Container> getParent() {
+            return Optional.absent();
+        }
+
+        @Override
+        public Optional<Project> getRelatedProject() {
+            return Optional.absent();
+        }
+
+        @Override
+        public int getResourceType() {
+            return 0;
+        }
+
+        @Override
+        public String getURL() {
+            return null;
+        }
+
+        @Override
+        public Optional<Marker> getMarker(String type) {
+            return Optional.absent();
+        }
+
+        @Override
+        public Marker[] getMarkers() {
+            return new Marker[0];
+        }
+
+        @Override
+        public void addMarker(Marker marker) {
+        }
+
+        @Override
+        public boolean deleteMarker(String type) {
+            return false;
+        }
+
+        @Override
+        public boolean deleteAllMarkers() {
+            return false;
+        }
+
+        @Override
+        public Optional<Resource> getParentWithMarker(String type) {
+            return Optional.absent();
+        }
+
+        @Override
+        public int compareTo(Resource o) {
+            return location.toString().compareTo(o.getLocation().toString());
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.resources.impl;
+
+import com.google.common.base.Optional;
+
+import org.eclipse.che.ide.api.resources.Resource;
+import org.eclipse.che.ide.api.resources.ResourceInterceptor;
+import org.eclipse.che.ide.resource.Path;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link TrieResourceStore}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class TrieResourceStoreTest {
+
+    @Mock
+    private ResourceInterceptor interceptor;
+
+    private TrieResourceStore store;
+
+    @Before
+    public void setUp() throws Exception {
+        store = new TrieResourceStore(singleton(interceptor));
+    }
+
+    @Test
+    public void shouldKeepChildrenSortedByName() throws Exception {
+        final Resource b = resource("/project/b");
+        final Resource a = resource("/project/a");
+
+        assertTrue(store.register(b));
+        assertTrue(store.register(a));
+
+        assertArrayEquals(new Resource[]{a, b}, store.get(Path.valueOf("/project")).get());
+    }
+
+    @Test
+    public void shouldReplaceRegisteredResource() throws Exception {
+        final Resource oldResource = resource("/project/a");
+        final Resource newResource = resource("/project/a");
+
+        assertTrue(store.register(oldResource));
+        assertFalse(store.register(newResource));
+
+        assertSame(newResource, store.getResource(Path.valueOf("/project/a")).get());
+        assertArrayEquals(new Resource[]{newResource}, store.get(Path.valueOf("/project")).get());
+        verify(interceptor).intercept(oldResource);
+        verify(interceptor).intercept(newResource);
+    }
+
+    @Test
+    public void shouldFindResourceByPath() throws Exception {
+        final Resource project = resource("/project");
+        final Resource file = resource("/project/src/file");
+        store.register(project);
+        store.register(file);
+
+        assertSame(project, store.getResource(Path.valueOf("/project")).get());
+        assertSame(file, store.getResource(Path.valueOf("/project/src/file")).get());
+        assertFalse(store.getResource(Path.valueOf("/project/src")).isPresent());
+        assertFalse(store.getResource(Path.valueOf("/project/src/unknown")).isPresent());
+        assertFalse(store.get(Path.valueOf("/unknown")).isPresent());
+    }
+
+    @Test
+    public void shouldDisposeResourceWithChildren() throws Exception {
+        final Resource project = resource("/project");
+        final Resource folder = resource("/project/folder");
+        store.register(project);
+        store.register(folder);
+        store.register(resource("/project/folder/file"));
+        store.register(resource("/project/folder/nested/file"));
+
+        store.dispose(Path.valueOf("/project/folder"), true);
+
+        assertFalse(store.getResource(Path.valueOf("/project/folder")).isPresent());
+        assertFalse(store.get(Path.valueOf("/project/folder")).isPresent());
+        assertFalse(store.get(Path.valueOf("/project/folder/nested")).isPresent());
+        assertEquals(0, store.get(Path.valueOf("/project")).get().length);
+        assertArrayEquals(new Resource[]{project}, store.getAll(Path.ROOT).get());
+    }
+
+    @Test
+    public void shouldReturnAllDescendants() throws Exception {
+        final Resource project = resource("/project");
+        final Resource folder = resource("/project/folder");
+        final Resource file = resource("/project/folder/file");
+        final Resource other = resource("/other");
+        final Resource otherFile = resource("/other/file");
+        store.register(project);
+        store.register(folder);
+        store.register(file);
+        store.register(other);
+        store.register(otherFile);
+
+        final Optional<Resource[]> all = store.getAll(Path.valueOf("/project"));
+
+        assertTrue(all.isPresent());
+        final Set<Resource> expected = new HashSet<>(Arrays.asList(folder, file));
+        assertEquals(expected, new HashSet<>(Arrays.asList(all.get())));
+    }
+
+    @Test
+    public void shouldClearStoreWhenRootIsDisposed() throws Exception {
+        store.register(resource("/project"));
+        store.register(resource("/project/file"));
+
+        store.dispose(Path.ROOT, true);
+
+        assertFalse(store.get(Path.ROOT).isPresent());
+        assertFalse(store.getResource(Path.valueOf("/project/file")).isPresent());
+    }
+
+    private Resource resource(String path) {
+        final Path location = Path.valueOf(path);
+        final Resource resource = mock(Resource.class);
+        when(resource.getLocation()).thenReturn(location);
+        when(resource.getName()).thenReturn(location.lastSegment());
+        return resource;
+    }
+}
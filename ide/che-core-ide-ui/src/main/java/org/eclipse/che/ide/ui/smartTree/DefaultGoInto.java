@@ -78,7 +78,10 @@ public class DefaultGoInto implements GoInto {
 
         Element rootContainer = tree.getContainer(null);
         rootContainer.setInnerHTML("");
-        rootContainer.appendChild(tree.getNodeDescriptor(node).getRootContainer());
+        Element nodeContainer = tree.getNodeDescriptor(node).getRootContainer();
+        if (nodeContainer != null) { //row may be not rendered in virtualized tree, it is rendered on update
+            rootContainer.appendChild(nodeContainer);
+        }
 
         //if go into node is collapsed - then we need to expand it
         if (!tree.getNodeDescriptor(node).isExpanded()) {
@@ -111,7 +114,9 @@ public class DefaultGoInto implements GoInto {
         //restore root nodes
         for (Node rootNode : rootNodes) {
             NodeDescriptor descriptor = tree.getNodeDescriptor(rootNode);
-            rootContainer.appendChild(descriptor.getRootContainer());
+            if (descriptor.getRootContainer() != null) {
+                rootContainer.appendChild(descriptor.getRootContainer());
+            }
         }
 
         //then re-add our go into node
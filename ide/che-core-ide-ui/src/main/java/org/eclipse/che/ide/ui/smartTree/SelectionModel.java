@@ -487,20 +487,21 @@ public class SelectionModel implements HasSelectionHandlers<Node>, HasBeforeSele
                     if (isShift && lastSelectedNode != null) {
                         List<Node> selectedItems = new ArrayList<>();
 
+                        // positions are taken from the model, rows may be not rendered in virtualized tree
+                        List<Node> visibleNodes = tree.getAllChildNodes(tree.getRootNodes(), true);
+
                         // from last selected or firstly selected
-                        NodeDescriptor lastSelTreeNode = tree.getNodeDescriptor(lastSelectedNode);
-                        Element lastSelTreeEl = tree.getView().getRootContainer(lastSelTreeNode);
+                        int lastSelIndex = visibleNodes.indexOf(lastSelectedNode);
 
                         // to selected or secondly selected
-                        NodeDescriptor selTreeNode = tree.getNodeDescriptor(sel);
-                        Element selTreeNodeEl = tree.getView().getRootContainer(selTreeNode);
+                        int selIndex = visibleNodes.indexOf(sel);
 
                         // holding shift down, selecting the same item again, selecting itself
                         if (sel == lastSelectedNode) {
                             tree.focus();
                             doSelect(Collections.singletonList(sel), false, false);
 
-                        } else if (lastSelTreeEl != null && selTreeNodeEl != null) {
+                        } else if (lastSelIndex >= 0 && selIndex >= 0) {
                             // add the last selected, as its not added during the walk
                             selectedItems.add(lastSelectedNode);
 
@@ -508,7 +509,7 @@ public class SelectionModel implements HasSelectionHandlers<Node>, HasBeforeSele
                             final Node previouslyLastSelected = lastSelectedNode;
 
                             // This deals with flipping directions
-                            if (lastSelTreeEl.getAbsoluteTop() < selTreeNodeEl.getAbsoluteTop()) {
+                            if (lastSelIndex < selIndex) {
                                 // down selection
                                 Node next = next();
                                 while (next != null) {
@@ -67,10 +67,12 @@ import org.eclipse.che.ide.ui.status.StatusText;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.unmodifiableList;
@@ -169,6 +171,11 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
     private static final String NULL_NODE_MSG         = "Node should not be a null";
     private static final String NULL_NODE_STORAGE_MSG = "Node should not be a null";
 
+    /**
+     * Number of rows which are rendered above and below the viewport of virtualized tree.
+     */
+    private static final int VIRTUAL_ROWS_BUFFER = 10;
+
     /**
      * Flag that instruct tree widget always expand non-leaf nodes.
      */
@@ -275,6 +282,28 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
 
     private boolean focused = false;
 
+    /**
+     * Render only rows which are in the viewport.
+     */
+    private boolean virtualized = false;
+
+    /**
+     * Flat list of expanded nodes, used by virtualized tree. Calculated lazily, {@code null} means that list is outdated.
+     */
+    private List<Node> visibleNodes;
+
+    /**
+     * Rows of virtualized tree which are currently in the DOM, in the order of their appearance, by DOM id of the node.
+     */
+    private Map<String, Element> renderedRows;
+
+    /**
+     * Height of row of virtualized tree, it is measured when the first row is rendered. Until then height calculated by
+     * {@link TreeView} is used.
+     */
+    private int     rowHeight;
+    private boolean rowHeightMeasured;
+
     @UiConstructor
     public Tree(NodeStorage nodeStorage, NodeLoader nodeLoader) {
         this(nodeStorage, nodeLoader, GWT.<TreeStyles>create(TreeStyles.class));
@@ -288,6 +317,7 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         this.treeStyles = treeStyles;
         this.treeStyles.styles().ensureInjected();
         this.nodesByDom = new HashMap<>();
+        this.renderedRows = new LinkedHashMap<>();
         this.focusImpl = FocusImpl.getFocusImplForPanel();
         this.storeHandlers = new GroupingHandlerRegistration();
 
@@ -568,6 +598,33 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         this.autoSelect = autoSelect;
     }
 
+    /**
+     * Instruct tree to render only rows which are in the viewport.
+     * In this mode nodes are rendered as a flat list of rows. Rows are rendered while scrolling and removed from the DOM when
+     * they leave the viewport, so tree with thousands of expanded nodes keeps only a few dozens of rendered rows. Expanded,
+     * loaded and selected state is kept in {@link NodeStorage} and {@link SelectionModel}, so it is restored when row is
+     * rendered again. Rows are assumed to have height, provided by {@link TreeView}.
+     * <p>
+     * Mode should be configured before tree is attached.
+     *
+     * @param virtualized true if only visible rows should be rendered
+     */
+    public void setVirtualized(boolean virtualized) {
+        checkState(!isOrWasAttached(), "Virtualized mode should be configured before tree is attached");
+
+        this.virtualized = virtualized;
+    }
+
+    /**
+     * Returns true if tree renders only rows which are in the viewport.
+     *
+     * @return true if tree is virtualized, otherwise false
+     * @see #setVirtualized(boolean)
+     */
+    public boolean isVirtualized() {
+        return virtualized;
+    }
+
     /**
      * Returns list of current root nodes.
      * Before return method check if tree is in "Go Into" mode, if it is, then method will return only one node that is in "Go Into" mode.
@@ -654,12 +711,16 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         if (descriptor == null) {
             return;
         }
+        if (virtualized) {
+            scrollRowIntoView(node);
+            return;
+        }
         Element container = descriptor.getNodeContainerElement();
         if (container == null) {
             return;
         }
         container.scrollIntoView();
-        focusEl.getStyle().setLeft((nodeStorage.getDepth(node) - 1) * 16, Style.Unit.PX);
+        focusEl.getStyle().setLeft(getIndentLevel(node) * 16, Style.Unit.PX);
         focusEl.getStyle().setTop(container.getOffsetTop(), Style.Unit.PX);
     }
 
@@ -765,6 +826,8 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
             }
 
             nodesByDom.clear();
+            renderedRows.clear();
+            visibleNodes = null;
             if (isAttached()) {
                 moveFocus(getContainer(null));
             }
@@ -850,6 +913,9 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
 
         NodeDescriptor nodeDescriptor = getNodeDescriptor(node);
         if (view.getRootContainer(nodeDescriptor) == null) {
+            if (virtualized && node instanceof HasPresentation) {
+                ((HasPresentation) node).getPresentation(true); //row will be rendered with updated presentation
+            }
             return;
         }
 
@@ -858,7 +924,7 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         }
 
         ((HasPresentation) node).getPresentation(true); //update presentation
-        Element el = getPresentationRenderer().render(node, nodeDescriptor.getDomId(), getJoint(node), nodeStorage.getDepth(node) - 1);
+        Element el = getPresentationRenderer().render(node, nodeDescriptor.getDomId(), getJoint(node), getIndentLevel(node));
         view.onElementChanged(nodeDescriptor, el);
     }
 
@@ -1014,10 +1080,20 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
     }
 
     protected void update() {
+        visibleNodes = null;
+        scheduleUpdate();
+    }
+
+    private void scheduleUpdate() {
         if (updateTask == null) {
             updateTask = new DelayedTask() {
                 @Override
                 public void onExecute() {
+                    if (virtualized) {
+                        renderVisibleRows();
+                        return;
+                    }
+
                     int count = getVisibleRowCount();
                     if (count > 0) {
                         List<Node> rootItems = getRootNodes();
@@ -1053,6 +1129,11 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
             return rootContainer;
         }
 
+        if (virtualized) {
+            //virtualized tree renders all rows into the root container
+            return null;
+        }
+
         NodeDescriptor nodeDescriptor = getNodeDescriptor(node);
         if (nodeDescriptor != null) {
             return view.getDescendantsContainer(nodeDescriptor);
@@ -1128,14 +1209,12 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
 
             if (isExpanded(parent)) {
                 setExpanded(parent, false, true);
-                Element container = getContainer(parent);
-                container.setInnerHTML("");
+                clearContainer(parent);
                 nodeDescriptor.setChildrenRendered(false);
                 setExpanded(parent, true, nodeDescriptor.isExpandDeep());
             } else {
                 if (nodeDescriptor.isChildrenRendered()) {
-                    Element container = getContainer(parent);
-                    container.setInnerHTML("");
+                    clearContainer(parent);
                     nodeDescriptor.setChildrenRendered(false);
                 }
                 setExpanded(parent, true, nodeDescriptor.isExpandDeep());
@@ -1200,15 +1279,17 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
             return;
         }
 
-        Element container = getContainer(parent);
+        if (!virtualized) {
+            Element container = getContainer(parent);
 
-        if (container == null) {
-            return;
-        }
+            if (container == null) {
+                return;
+            }
 
-        for (Node child : children) {
-            Element element = renderNode(child, depth);
-            container.appendChild(element);
+            for (Node child : children) {
+                Element element = renderNode(child, depth);
+                container.appendChild(element);
+            }
         }
 
         for (Node child : children) {
@@ -1238,6 +1319,7 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
     private void onCollapse(Node node, NodeDescriptor nodeDescriptor, boolean deep) {
         if (nodeDescriptor.isExpanded() && fireCancellableEvent(new BeforeCollapseNodeEvent(node))) {
             nodeDescriptor.setExpanded(false);
+            visibleNodes = null;
             view.collapse(nodeDescriptor);
 
             fireEvent(new CollapseNodeEvent(node));
@@ -1284,6 +1366,10 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
             NodeDescriptor nodeDescriptor = nodeStorage.getNodeMap().remove(getUniqueId(node));
             if (nodeDescriptor != null) {
                 nodesByDom.remove(nodeDescriptor.getDomId());
+                Element row = renderedRows.remove(nodeDescriptor.getDomId());
+                if (row != null) {
+                    row.removeFromParent();
+                }
                 nodeDescriptor.clearElements();
                 nodeStorage.getNodeMap().remove(nodeStorage.getKeyProvider().getKey(node));
             }
@@ -1333,7 +1419,7 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
     }
 
     private int getVisibleRowCount() {
-        int rh = view.getCalculatedRowHeight();
+        int rh = getRowHeight();
         int visibleHeight = getElement().getOffsetHeight();
         return (int) ((visibleHeight < 1) ? 0 : Math.ceil(visibleHeight / rh));
     }
@@ -1356,7 +1442,7 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
 
     private int[] getVisibleRows(List<Node> visible, int count) {
         int sc = getElement().getScrollTop();
-        int start = (int) (sc == 0 ? 0 : Math.floor(sc / view.getCalculatedRowHeight()) - 1);
+        int start = (int) (sc == 0 ? 0 : Math.floor(sc / getRowHeight()) - 1);
         int first = Math.max(start, 0);
         int last = Math.min(start + count + 2, visible.size() - 1);
         return new int[]{first, last};
@@ -1376,7 +1462,9 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
             final Element container = getContainer(parent);
             final int index = event.getIndex();
 
-            if (parent == null) {
+            if (virtualized) {
+                onAddRows(parent, event.getNodes());
+            } else if (parent == null) {
                 for (Node child : event.getNodes()) {
                     if (index == 0) {
                         container.insertFirst(renderNode(child, 0));
@@ -1459,6 +1547,10 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
                 }
                 moveFocus(nodeDescriptor.getRootContainer());
             }
+
+            if (virtualized) {
+                update();
+            }
         }
 
         if (getRootNodes().isEmpty()) {
@@ -1510,7 +1602,7 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
     }
 
     private void onScroll(Event event) {
-        update();
+        scheduleUpdate();
         constrainFocusElement();
     }
 
@@ -1563,6 +1655,10 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
     private void onAfterFirstAttach() {
         rootContainer = getRootContainer();
 
+        if (virtualized) {
+            rootContainer = getElement().appendChild(Document.get().createDivElement());
+        }
+
         getElement().getStyle().setVisibility(Style.Visibility.VISIBLE);
 
         renderChildren(null);
@@ -1571,6 +1667,170 @@ public class Tree extends FocusWidget implements HasBeforeExpandNodeHandlers,
         sinkEvents(Event.ONSCROLL | Event.ONCLICK | Event.ONDBLCLICK | Event.MOUSEEVENTS | Event.KEYEVENTS);
     }
 
+    private void clearContainer(Node parent) {
+        Element container = getContainer(parent);
+        if (container != null) {
+            container.setInnerHTML("");
+        }
+    }
+
+    private int getIndentLevel(Node node) {
+        if (goInto.isActive()) {
+            return nodeStorage.getDepth(node) - nodeStorage.getDepth(goInto.getLastUsed());
+        }
+
+        return nodeStorage.getDepth(node) - 1;
+    }
+
+    private void onAddRows(Node parent, List<Node> nodes) {
+        if (parent != null) {
+            NodeDescriptor descriptor = getNodeDescriptor(parent);
+            if (descriptor == null || !descriptor.isChildrenRendered()) {
+                redraw(parent);
+            } else if (!descriptor.isExpanded() && nodeStorage.getChildCount(parent) == 1) {
+                setExpanded(parent, true);
+            }
+        }
+
+        visibleNodes = null;
+        scrollIntoView(nodes.get(nodes.size() - 1));
+    }
+
+    private List<Node> getVisibleNodes() {
+        if (visibleNodes == null) {
+            visibleNodes = getAllChildNodes(getRootNodes(), true);
+        }
+
+        return visibleNodes;
+    }
+
+    private void scrollRowIntoView(Node node) {
+        int index = getVisibleNodes().indexOf(node);
+        if (index < 0 || !isAttached()) {
+            return;
+        }
+
+        int rowHeight = getRowHeight();
+        int top = index * rowHeight;
+
+        Element element = getElement();
+        if (top < element.getScrollTop()) {
+            element.setScrollTop(top);
+        } else if (top + rowHeight > element.getScrollTop() + element.getClientHeight()) {
+            element.setScrollTop(top + rowHeight - element.getClientHeight());
+        }
+
+        //render rows immediately, callers usually work with the row of the node after scrolling
+        renderVisibleRows();
+
+        focusEl.getStyle().setLeft(getIndentLevel(node) * 16, Style.Unit.PX);
+        //row height could be measured during rendering
+        focusEl.getStyle().setTop(index * getRowHeight(), Style.Unit.PX);
+    }
+
+    /**
+     * Renders rows of virtualized tree which are in the viewport plus a buffer above and below it. Rows which stay in the
+     * viewport are reused as is, rows which left it are removed from the DOM and elements of their descriptors are released.
+     * Space of not rendered rows is reserved with paddings of the root container, so scroll bar reflects the whole tree.
+     */
+    private void renderVisibleRows() {
+        if (rootContainer == null) {
+            return;
+        }
+
+        final List<Node> visible = getVisibleNodes();
+        final int rowHeight = getRowHeight();
+        final int firstInViewport = getElement().getScrollTop() / rowHeight;
+        final int first = Math.max(firstInViewport - VIRTUAL_ROWS_BUFFER, 0);
+        final int last = Math.min(firstInViewport + getVisibleRowCount() + VIRTUAL_ROWS_BUFFER, visible.size() - 1);
+
+        final Map<String, Element> rows = new LinkedHashMap<>();
+        for (int i = first; i <= last; i++) {
+            NodeDescriptor descriptor = getNodeDescriptor(visible.get(i));
+            if (descriptor == null) {
+                continue;
+            }
+
+            if (isNullOrEmpty(descriptor.getDomId())) {
+                descriptor.setDomId(Document.get().createUniqueId());
+            }
+
+            //row which was removed from the container outside, e.g. by "Go Into" mode, is rendered again
+            Element row = renderedRows.remove(descriptor.getDomId());
+            if (row == null || row.getParentElement() != rootContainer) {
+                row = renderRow(descriptor);
+            }
+            rows.put(descriptor.getDomId(), row);
+        }
+
+        //remaining rows left the viewport
+        for (Map.Entry<String, Element> entry : renderedRows.entrySet()) {
+            entry.getValue().removeFromParent();
+
+            NodeDescriptor descriptor = nodesByDom.get(entry.getKey());
+            if (descriptor != null) {
+                descriptor.clearElements();
+            }
+        }
+
+        renderedRows = rows;
+
+        //place rows in order, moving only rows which are not on their place yet
+        Element cursor = rootContainer.getFirstChildElement();
+        for (Element row : rows.values()) {
+            if (row == cursor) {
+                cursor = cursor.getNextSiblingElement();
+            } else {
+                rootContainer.insertBefore(row, cursor);
+            }
+        }
+
+        while (cursor != null) {
+            Element next = cursor.getNextSiblingElement();
+            cursor.removeFromParent();
+            cursor = next;
+        }
+
+        rootContainer.getStyle().setPaddingTop(first * rowHeight, Style.Unit.PX);
+        rootContainer.getStyle().setPaddingBottom(Math.max(visible.size() - 1 - last, 0) * rowHeight, Style.Unit.PX);
+
+        if (!rowHeightMeasured && !rows.isEmpty()) {
+            final int height = rows.values().iterator().next().getOffsetHeight();
+            if (height > 0) {
+                rowHeightMeasured = true;
+                if (height != rowHeight) {
+                    this.rowHeight = height;
+                    //rendered range and paddings depend on the row height
+                    renderVisibleRows();
+                }
+            }
+        }
+    }
+
+    private int getRowHeight() {
+        return rowHeightMeasured ? rowHeight : view.getCalculatedRowHeight();
+    }
+
+    private Element renderRow(NodeDescriptor descriptor) {
+        Node node = descriptor.getNode();
+
+        descriptor.clearElements();
+        nodesByDom.put(descriptor.getDomId(), descriptor);
+
+        Element row = getPresentationRenderer().render(node, descriptor.getDomId(), getJoint(node), getIndentLevel(node));
+        descriptor.setRootContainerElement(row);
+
+        Element nodeContainer = row.getFirstChildElement();
+        if (selectionModel.isSelected(node)) {
+            nodeContainer.addClassName(treeStyles.styles().selected());
+        }
+        if (descriptor.isLoading()) {
+            nodeContainer.addClassName(treeStyles.styles().loading());
+        }
+
+        return row;
+    }
+
     private native Element getNearestParentElement(Element target, String selector) /*-{
         function findAncestor(el, cls) {
             while ((el = el.parentElement) && !el.classList.contains(cls));
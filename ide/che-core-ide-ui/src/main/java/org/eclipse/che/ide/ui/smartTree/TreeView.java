@@ -41,12 +41,18 @@ public class TreeView {
     }
 
     public void collapse(NodeDescriptor node) {
-        getDescendantsContainer(node).getStyle().setDisplay(Style.Display.NONE);
+        Element descendantsContainer = getDescendantsContainer(node);
+        if (descendantsContainer != null) {
+            descendantsContainer.getStyle().setDisplay(Style.Display.NONE);
+        }
         onJointChange(node, tree.getJoint(node.getNode()));
     }
 
     public void expand(NodeDescriptor node) {
-        getDescendantsContainer(node).getStyle().setDisplay(Style.Display.BLOCK);
+        Element descendantsContainer = getDescendantsContainer(node);
+        if (descendantsContainer != null) {
+            descendantsContainer.getStyle().setDisplay(Style.Display.BLOCK);
+        }
         onJointChange(node, tree.getJoint(node.getNode()));
     }
 
@@ -65,6 +71,9 @@ public class TreeView {
 
     public Element getDescendantsContainer(NodeDescriptor node) {
         if (node.getDescendantsContainerElement() == null) {
+            if (getRootContainer(node) == null) {
+                return null;
+            }
             Element element = getRootContainer(node).getChildNodes().getItem(1).cast();
             node.setDescendantsContainerElement(element);
         }
@@ -78,7 +87,8 @@ public class TreeView {
      *
      * @param node
      *         the tree node to find an element for
-     * @return the element that the node represents, or null if not yet rendered
+     * @return the element that the node represents, or null if not yet rendered or if row of the node is out of the
+     * viewport of virtualized tree
      */
     public Element getRootContainer(NodeDescriptor node) {
         if (node.getRootContainer() == null) {
@@ -98,11 +108,14 @@ public class TreeView {
         if (node.getNodeContainerElement() == null) {
             node.setNodeContainerElement(getRootContainer(node) != null ? getRootContainer(node).getFirstChildElement() : null);
         }
-        return node.getNodeContainerElement().cast();
+        return node.getNodeContainerElement();
     }
 
     public Element getJointContainer(NodeDescriptor node) {
         if (node.getJointContainerElement() == null) {
+            if (getNodeContainer(node) == null) {
+                return null;
+            }
             Element element = getNodeContainer(node).getChildNodes().getItem(0).cast();
             node.setJointContainerElement(element);
         }
@@ -111,6 +124,9 @@ public class TreeView {
 
     public Element getIconContainer(NodeDescriptor node) {
         if (node.getIconContainerElement() == null) {
+            if (getNodeContainer(node) == null) {
+                return null;
+            }
             Element element = getNodeContainer(node).getChildNodes().getItem(1).cast();
             node.setIconContainerElement(element);
         }
@@ -119,6 +135,9 @@ public class TreeView {
 
     public Element getUserElementContainer(NodeDescriptor node) {
         if (node.getUserElement() == null) {
+            if (getNodeContainer(node) == null) {
+                return null;
+            }
             Element element = getNodeContainer(node).getChildNodes().getItem(2).cast();
             node.setUserElement(element);
         }
@@ -127,6 +146,9 @@ public class TreeView {
 
     public Element getPresentableTextContainer(NodeDescriptor node) {
         if (node.getPresentableTextContainer() == null) {
+            if (getNodeContainer(node) == null) {
+                return null;
+            }
             Element element = getNodeContainer(node).getChildNodes().getItem(3).cast();
             node.setPresentableTextContainer(element);
         }
@@ -135,6 +157,9 @@ public class TreeView {
 
     public Element getInfoTextContainer(NodeDescriptor node) {
         if (node.getPresentableTextContainer() == null) {
+            if (getNodeContainer(node) == null) {
+                return null;
+            }
             Element element = getNodeContainer(node).getChildNodes().getItem(4).cast();
             node.setInfoTextContainer(element);
         }
@@ -174,11 +199,18 @@ public class TreeView {
 
     public void onDepthUpdated(NodeDescriptor node, int newDepth) {
         Element nodeElement = getNodeContainer(node);
+        if (nodeElement == null) {
+            return;
+        }
 
         nodeElement.getStyle().setPaddingLeft(newDepth * getIndenting(node), Style.Unit.PX);
     }
 
     public void onElementChanged(NodeDescriptor node, Element element) {
+        if (getRootContainer(node) == null) {
+            return;
+        }
+
         Element el = getRootContainer(node).getFirstChildElement();
 
         if (el == null) {
@@ -214,6 +246,10 @@ public class TreeView {
         }
 
         Element rootContainer = getNodeContainer(node);
+        if (rootContainer == null) {
+            return;
+        }
+
         if (loading) {
             rootContainer.addClassName(tree.getTreeStyles().styles().loading());
         } else {
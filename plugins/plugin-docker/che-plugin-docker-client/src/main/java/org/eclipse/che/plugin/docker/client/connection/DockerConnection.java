@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.docker.client.connection;
 
+import com.google.common.base.Strings;
 import com.google.common.io.ByteStreams;
 
 import org.eclipse.che.commons.lang.Pair;
@@ -18,6 +19,8 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -103,6 +106,35 @@ public abstract class DockerConnection implements Closeable {
 
     public abstract void close();
 
+    /** Writes HTTP request line and headers for connections that work with raw socket streams. */
+    static void writeHttpHeaders(OutputStream output,
+                                 String method,
+                                 String path,
+                                 String query,
+                                 List<Pair<String, ?>> headers,
+                                 String host) throws IOException {
+        final Writer writer = new OutputStreamWriter(output);
+        writer.write(method);
+        writer.write(' ');
+        writer.write(path);
+        if (!Strings.isNullOrEmpty(query)) {
+            writer.write("?");
+            writer.write(query);
+        }
+        writer.write(" HTTP/1.1\r\n");
+        for (Pair<String, ?> header : headers) {
+            writer.write(header.first);
+            writer.write(": ");
+            writer.write(String.valueOf(header.second));
+            writer.write("\r\n");
+        }
+        // Host header is mandatory in HTTP 1.1
+        writer.write("Host: ");
+        writer.write(host);
+        writer.write("\r\n\r\n");
+        writer.flush();
+    }
+
     static abstract class Entity<T> {
         final T entity;
 
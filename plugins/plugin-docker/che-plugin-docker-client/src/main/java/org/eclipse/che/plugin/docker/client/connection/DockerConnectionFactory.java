@@ -16,7 +16,10 @@ import org.eclipse.che.plugin.docker.client.DockerCertificates;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.DockerConnectorConfiguration;
 
+import javax.annotation.PreDestroy;
 import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.net.ssl.SSLSocketFactory;
 import java.net.URI;
 
 /**
@@ -24,11 +27,17 @@ import java.net.URI;
  *
  * <p>Detects connection implementation by checking docker daemon URI.
  *
+ * <p>By default connections send requests over keep-alive sockets from {@link DockerConnectionPool}, so bursts of short docker API
+ * calls don't pay for connecting on each call. Pooling may be disabled by setting {@value #POOL_MAX_PER_ROUTE_PROPERTY} to 0.
+ *
  * @author Alexander Garagatyi
  */
+@Singleton
 public class DockerConnectionFactory {
     public static final String CONNECTION_TIMEOUT_MS_PROPERTY      = "docker.connection.tcp.connection_timeout_ms";
     public static final String CONNECTION_READ_TIMEOUT_MS_PROPERTY = "docker.connection.tcp.read_timeout_ms";
+    public static final String POOL_MAX_PER_ROUTE_PROPERTY         = "docker.connection.pool.max_per_route";
+    public static final String POOL_IDLE_TIMEOUT_MS_PROPERTY       = "docker.connection.pool.idle_timeout_ms";
 
     @Inject(optional = true)
     @Named(CONNECTION_TIMEOUT_MS_PROPERTY)
@@ -38,18 +47,86 @@ public class DockerConnectionFactory {
     @Named(CONNECTION_READ_TIMEOUT_MS_PROPERTY)
     private int connectionReadTimeoutMs = 60000;
 
+    @Inject(optional = true)
+    @Named(POOL_MAX_PER_ROUTE_PROPERTY)
+    private int poolMaxPerRoute = 10;
+
+    @Inject(optional = true)
+    @Named(POOL_IDLE_TIMEOUT_MS_PROPERTY)
+    private long poolIdleTimeoutMs = 30000;
+
     private final DockerCertificates dockerCertificates;
 
+    private DockerConnectionPool pool;
+
     @Inject
     public DockerConnectionFactory(DockerConnectorConfiguration connectorConfiguration) {
         this.dockerCertificates = connectorConfiguration.getDockerCertificates();
     }
 
     public DockerConnection openConnection(URI dockerDaemonUri) {
+        final DockerConnectionPool pool = getPool();
         if (DockerConnectorConfiguration.isUnixSocketUri(dockerDaemonUri)) {
-            return new UnixSocketConnection(dockerDaemonUri.getPath());
+            if (pool == null) {
+                return new UnixSocketConnection(dockerDaemonUri.getPath());
+            }
+            final String socketPath = dockerDaemonUri.getPath();
+            final String route = "unix://" + socketPath;
+            return new PooledDockerConnection(pool, route, "", () -> UnixPooledSocket.connect(route, socketPath));
+        } else {
+            if (pool == null) {
+                return new TcpConnection(dockerDaemonUri, dockerCertificates, connectionTimeoutMs, connectionReadTimeoutMs);
+            }
+            return openTcpConnection(pool, dockerDaemonUri);
+        }
+    }
+
+    /** Returns statistics of connection pool or {@code null} if pooling is disabled. */
+    public DockerConnectionPool.Statistics getPoolStatistics() {
+        final DockerConnectionPool pool = getPool();
+        return pool == null ? null : pool.getStatistics();
+    }
+
+    @PreDestroy
+    public void stop() {
+        final DockerConnectionPool pool = getPool();
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private DockerConnection openTcpConnection(DockerConnectionPool pool, URI dockerDaemonUri) {
+        final String scheme = dockerDaemonUri.getScheme();
+        final SSLSocketFactory sslSocketFactory;
+        if ("https".equals(scheme)) {
+            if (dockerCertificates == null) {
+                throw new IllegalArgumentException("Certificates are required for https connection.");
+            }
+            sslSocketFactory = dockerCertificates.getSslContext().getSocketFactory();
+        } else if ("http".equals(scheme)) {
+            sslSocketFactory = null;
         } else {
-            return new TcpConnection(dockerDaemonUri, dockerCertificates, connectionTimeoutMs, connectionReadTimeoutMs);
+            throw new IllegalArgumentException(String.format("Invalid URL '%s', only http and https protocols are supported.",
+                                                             dockerDaemonUri));
+        }
+        final String host = dockerDaemonUri.getHost();
+        final int port = dockerDaemonUri.getPort() != -1 ? dockerDaemonUri.getPort() : ("https".equals(scheme) ? 443 : 80);
+        final String route = scheme + "://" + host + ':' + port;
+        // Host header is the same as HttpURLConnection sends
+        final String hostHeader = dockerDaemonUri.getPort() != -1 ? host + ':' + port : host;
+        return new PooledDockerConnection(pool, route, hostHeader, () -> TcpPooledSocket.connect(route,
+                                                                                                  host,
+                                                                                                  port,
+                                                                                                  sslSocketFactory,
+                                                                                                  connectionTimeoutMs,
+                                                                                                  connectionReadTimeoutMs));
+    }
+
+    private synchronized DockerConnectionPool getPool() {
+        // created lazily because configuration is injected into fields
+        if (pool == null && poolMaxPerRoute > 0) {
+            pool = new DockerConnectionPool(poolMaxPerRoute, poolIdleTimeoutMs);
         }
+        return pool;
     }
 }
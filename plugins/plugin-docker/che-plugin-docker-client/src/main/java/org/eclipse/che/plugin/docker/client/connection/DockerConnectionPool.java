@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of keep-alive connections to docker API.
+ *
+ * <p>Sockets are grouped by route, e.g. docker daemon address. Pool never blocks or limits number of sockets which are in use at the
+ * same time, because some of docker API calls (events, logs, attach) hold connection for a long time. Instead it limits number of
+ * idle sockets which are kept per route, sockets released over this limit are closed. Idle sockets are evicted after timeout.
+ */
+public class DockerConnectionPool {
+    /** Opens new socket for a route when there is no idle one. */
+    interface SocketOpener {
+        PooledSocket open() throws IOException;
+    }
+
+    private final int  maxPerRoute;
+    private final long idleTimeoutMs;
+
+    private final Map<String, Deque<PooledSocket>> idle = new HashMap<>();
+
+    private final AtomicLong created  = new AtomicLong();
+    private final AtomicLong reused   = new AtomicLong();
+    private final AtomicLong released = new AtomicLong();
+    private final AtomicLong closed   = new AtomicLong();
+    private final AtomicLong evicted  = new AtomicLong();
+
+    /**
+     * @param maxPerRoute
+     *         max number of idle sockets which are kept per route
+     * @param idleTimeoutMs
+     *         time after which idle socket is closed
+     */
+    public DockerConnectionPool(int maxPerRoute, long idleTimeoutMs) {
+        if (maxPerRoute <= 0) {
+            throw new IllegalArgumentException("Max number of connections per route must be positive");
+        }
+        this.maxPerRoute = maxPerRoute;
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    /** Returns idle socket for the specified route or opens new one if there is no idle socket that may be reused. */
+    PooledSocket acquire(String route, SocketOpener opener) throws IOException {
+        PooledSocket socket;
+        while ((socket = pollIdle(route)) != null) {
+            // check out of lock, check of TCP socket may take a while
+            if (socket.isStale()) {
+                socket.close();
+                evicted.incrementAndGet();
+            } else {
+                reused.incrementAndGet();
+                return socket;
+            }
+        }
+        socket = opener.open();
+        created.incrementAndGet();
+        return socket;
+    }
+
+    /**
+     * Returns socket to the pool.
+     *
+     * @param socket
+     *         socket acquired with {@link #acquire(String, SocketOpener)}
+     * @param reusable
+     *         {@code true} if last response was read completely and socket may be used for the next request, otherwise socket is closed
+     */
+    void release(PooledSocket socket, boolean reusable) {
+        final long now = System.currentTimeMillis();
+        if (reusable && !socket.isClosed()) {
+            synchronized (this) {
+                evictExpired(now);
+                Deque<PooledSocket> sockets = idle.get(socket.getRoute());
+                if (sockets == null) {
+                    idle.put(socket.getRoute(), sockets = new ArrayDeque<>());
+                }
+                if (sockets.size() < maxPerRoute) {
+                    socket.setLastUsed(now);
+                    sockets.push(socket);
+                    released.incrementAndGet();
+                    return;
+                }
+            }
+        }
+        socket.close();
+        closed.incrementAndGet();
+    }
+
+    /** Closes all idle sockets. */
+    public void close() {
+        synchronized (this) {
+            for (Deque<PooledSocket> sockets : idle.values()) {
+                for (PooledSocket socket : sockets) {
+                    socket.close();
+                }
+            }
+            idle.clear();
+        }
+    }
+
+    /** Returns snapshot of the pool statistics. */
+    public Statistics getStatistics() {
+        int idleCount = 0;
+        synchronized (this) {
+            for (Deque<PooledSocket> sockets : idle.values()) {
+                idleCount += sockets.size();
+            }
+        }
+        return new Statistics(created.get(), reused.get(), released.get(), closed.get(), evicted.get(), idleCount);
+    }
+
+    private synchronized PooledSocket pollIdle(String route) {
+        evictExpired(System.currentTimeMillis());
+        final Deque<PooledSocket> sockets = idle.get(route);
+        // the most recently used socket is the most likely alive
+        return sockets == null ? null : sockets.poll();
+    }
+
+    private void evictExpired(long now) {
+        for (Iterator<Deque<PooledSocket>> it = idle.values().iterator(); it.hasNext(); ) {
+            final Deque<PooledSocket> sockets = it.next();
+            // the least recently used sockets are at the tail
+            PooledSocket socket;
+            while ((socket = sockets.peekLast()) != null && now - socket.getLastUsed() > idleTimeoutMs) {
+                sockets.pollLast().close();
+                evicted.incrementAndGet();
+            }
+            if (sockets.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+    /** Statistics of {@link DockerConnectionPool}. */
+    public static final class Statistics {
+        private final long created;
+        private final long reused;
+        private final long released;
+        private final long closed;
+        private final long evicted;
+        private final int  idle;
+
+        Statistics(long created, long reused, long released, long closed, long evicted, int idle) {
+            this.created = created;
+            this.reused = reused;
+            this.released = released;
+            this.closed = closed;
+            this.evicted = evicted;
+            this.idle = idle;
+        }
+
+        /** Returns number of opened sockets. */
+        public long getCreated() {
+            return created;
+        }
+
+        /** Returns number of requests that were sent over already opened sockets. */
+        public long getReused() {
+            return reused;
+        }
+
+        /** Returns number of sockets that were returned to the pool after request. */
+        public long getReleased() {
+            return released;
+        }
+
+        /** Returns number of sockets that were closed after request because they couldn't be reused or pool was full. */
+        public long getClosed() {
+            return closed;
+        }
+
+        /** Returns number of idle sockets that were closed because of timeout or because docker closed them. */
+        public long getEvicted() {
+            return evicted;
+        }
+
+        /** Returns number of idle sockets in the pool. */
+        public int getIdle() {
+            return idle;
+        }
+
+        @Override
+        public String toString() {
+            return "DockerConnectionPool.Statistics{" +
+                   "created=" + created +
+                   ", reused=" + reused +
+                   ", released=" + released +
+                   ", closed=" + closed +
+                   ", evicted=" + evicted +
+                   ", idle=" + idle +
+                   '}';
+        }
+    }
+}
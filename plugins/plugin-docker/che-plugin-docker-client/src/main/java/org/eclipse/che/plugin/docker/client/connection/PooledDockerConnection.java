@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import org.eclipse.che.commons.lang.Pair;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Connection to docker API which sends requests over keep-alive sockets from {@link DockerConnectionPool}.
+ *
+ * <p>Socket is returned to the pool on {@link #close()} if response body is read completely (or its small rest may be skipped),
+ * otherwise socket is closed. Requests of hijacked streams of attach or exec are always sent with {@code Connection: close} and their
+ * sockets are never reused.
+ */
+public class PooledDockerConnection extends DockerConnection {
+    /** Max number of bytes of unread response body that may be skipped to reuse socket. */
+    private static final int MAX_SKIP_BYTES = 64 * 1024;
+
+    private final DockerConnectionPool              pool;
+    private final String                            route;
+    private final String                            host;
+    private final DockerConnectionPool.SocketOpener opener;
+
+    private PooledSocket             socket;
+    private UnixSocketDockerResponse response;
+    private boolean                  reusable;
+
+    PooledDockerConnection(DockerConnectionPool pool, String route, String host, DockerConnectionPool.SocketOpener opener) {
+        this.pool = pool;
+        this.route = route;
+        this.host = host;
+        this.opener = opener;
+    }
+
+    @Override
+    protected synchronized DockerResponse request(String method,
+                                                  String path,
+                                                  String query,
+                                                  List<Pair<String, ?>> headers,
+                                                  Entity<?> entity) throws IOException {
+        if (socket != null) {
+            throw new IllegalStateException("Request is already sent");
+        }
+        socket = pool.acquire(route, opener);
+        // end of request body without length is defined by end of stream, so socket may not be reused,
+        // hijacked stream must always be requested with "Connection: close", see docker issue #12845
+        reusable = !isHijacking(path) && (entity == null || hasHeader(headers, "Content-Length"));
+        if (!reusable) {
+            headers = new ArrayList<>(headers);
+            headers.add(Pair.of("Connection", "close"));
+        }
+        final OutputStream output = socket.getOutputStream();
+        writeHttpHeaders(output, method, path, query, headers, host);
+        if (entity != null) {
+            entity.writeTo(output);
+        }
+        output.flush();
+        return response = new UnixSocketDockerResponse(socket.getInputStream());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (socket == null) {
+            return;
+        }
+        boolean reuse = false;
+        if (reusable && response != null) {
+            try {
+                reuse = response.skipRemaining(MAX_SKIP_BYTES);
+            } catch (IOException ignored) {
+            }
+        }
+        pool.release(socket, reuse);
+        socket = null;
+        response = null;
+    }
+
+    /** Checks whether docker hijacks connection of request to {@code path} for raw stream of attach or exec start. */
+    private static boolean isHijacking(String path) {
+        return path.endsWith("/attach") || (path.contains("/exec/") && path.endsWith("/start"));
+    }
+
+    private static boolean hasHeader(List<Pair<String, ?>> headers, String name) {
+        for (Pair<String, ?> header : headers) {
+            if (name.equalsIgnoreCase(header.first)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Connected socket to docker API which may be kept alive and reused by {@link DockerConnectionPool} for many HTTP requests.
+ *
+ * <p>Input and output streams are buffered once for whole life of socket, so bytes read ahead from one response are not lost for the
+ * next one.
+ */
+abstract class PooledSocket {
+    private final String       route;
+    private final InputStream  input;
+    private final OutputStream output;
+
+    private volatile boolean closed;
+    private          long    lastUsed;
+
+    PooledSocket(String route, InputStream input, OutputStream output) {
+        this.route = route;
+        this.input = new BufferedInputStream(input);
+        this.output = new BufferedOutputStream(output);
+        this.lastUsed = System.currentTimeMillis();
+    }
+
+    String getRoute() {
+        return route;
+    }
+
+    InputStream getInputStream() {
+        return input;
+    }
+
+    OutputStream getOutputStream() {
+        return output;
+    }
+
+    long getLastUsed() {
+        return lastUsed;
+    }
+
+    void setLastUsed(long lastUsed) {
+        this.lastUsed = lastUsed;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Checks whether idle socket may still be used for the next request.
+     * Socket is stale when it is closed by docker or when it has unexpected data that isn't part of any response.
+     */
+    boolean isStale() {
+        if (closed) {
+            return true;
+        }
+        try {
+            return input.available() > 0 || isClosedByPeer();
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /** Closes socket, may be called many times. */
+    void close() {
+        if (!closed) {
+            closed = true;
+            doClose();
+        }
+    }
+
+    /** Checks without blocking whether socket is closed by docker. */
+    protected abstract boolean isClosedByPeer() throws IOException;
+
+    protected abstract void doClose();
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+
+/**
+ * TCP socket connected to docker daemon which may be reused for many requests.
+ */
+class TcpPooledSocket extends PooledSocket {
+    private final Socket socket;
+    private final int    readTimeout;
+
+    /**
+     * Opens connection to docker daemon.
+     *
+     * @param sslSocketFactory
+     *         factory for wrapping of plain socket for https connections or {@code null} for http connections
+     */
+    static TcpPooledSocket connect(String route,
+                                   String host,
+                                   int port,
+                                   SSLSocketFactory sslSocketFactory,
+                                   int connectionTimeoutMs,
+                                   int readTimeoutMs) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(host, port), connectionTimeoutMs);
+            socket.setSoTimeout(readTimeoutMs);
+            socket.setTcpNoDelay(true);
+            if (sslSocketFactory != null) {
+                final SSLSocket sslSocket = (SSLSocket)sslSocketFactory.createSocket(socket, host, port, true);
+                // verify host name in the same way as HttpsURLConnection does
+                final SSLParameters sslParameters = sslSocket.getSSLParameters();
+                sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
+                sslSocket.setSSLParameters(sslParameters);
+                sslSocket.startHandshake();
+                socket = sslSocket;
+            }
+            return new TcpPooledSocket(route, socket, readTimeoutMs);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    private TcpPooledSocket(String route, Socket socket, int readTimeout) throws IOException {
+        super(route, socket.getInputStream(), socket.getOutputStream());
+        this.socket = socket;
+        this.readTimeout = readTimeout;
+    }
+
+    @Override
+    protected boolean isClosedByPeer() throws IOException {
+        if (socket.isClosed() || socket.isInputShutdown()) {
+            return true;
+        }
+        final InputStream input = getInputStream();
+        socket.setSoTimeout(1);
+        try {
+            // any byte or end of stream means that socket may not be reused
+            input.read();
+            return true;
+        } catch (SocketTimeoutException e) {
+            return false;
+        } finally {
+            socket.setSoTimeout(readTimeout);
+        }
+    }
+
+    @Override
+    protected void doClose() {
+        try {
+            socket.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import com.sun.jna.Native;
+
+import org.eclipse.che.plugin.docker.client.CLibrary;
+
+import java.io.IOException;
+import java.net.ConnectException;
+
+import static org.eclipse.che.plugin.docker.client.CLibrary.AF_UNIX;
+import static org.eclipse.che.plugin.docker.client.CLibrary.EAGAIN;
+import static org.eclipse.che.plugin.docker.client.CLibrary.MSG_DONTWAIT;
+import static org.eclipse.che.plugin.docker.client.CLibrary.MSG_PEEK;
+import static org.eclipse.che.plugin.docker.client.CLibrary.SOCK_STREAM;
+import static org.eclipse.che.plugin.docker.client.CLibrary.SockAddrUn;
+import static org.eclipse.che.plugin.docker.client.CLibraryFactory.getCLibrary;
+
+/**
+ * Unix socket connected to docker daemon which may be reused for many requests.
+ */
+class UnixPooledSocket extends PooledSocket {
+    private final int fd;
+
+    static UnixPooledSocket connect(String route, String dockerSocketPath) throws IOException {
+        final CLibrary cLib = getCLibrary();
+        int fd = cLib.socket(AF_UNIX, SOCK_STREAM, 0);
+        if (fd == -1) {
+            throw new ConnectException(String.format("Unable connect to unix socket: '%s'", dockerSocketPath));
+        }
+        final SockAddrUn sockAddr = new SockAddrUn(dockerSocketPath);
+        int c = cLib.connect(fd, sockAddr, sockAddr.size());
+        if (c == -1) {
+            cLib.close(fd);
+            throw new ConnectException(String.format("Unable connect to unix socket: '%s'", dockerSocketPath));
+        }
+        return new UnixPooledSocket(route, fd);
+    }
+
+    private UnixPooledSocket(String route, int fd) {
+        super(route, new UnixSocketInputStream(fd), new UnixSocketOutputStream(fd));
+        this.fd = fd;
+    }
+
+    @Override
+    protected boolean isClosedByPeer() {
+        // peek single byte without blocking, recv returns 0 when other side closed connection
+        int n = getCLibrary().recv(fd, new byte[1], 1, MSG_PEEK | MSG_DONTWAIT);
+        return n >= 0 || Native.getLastError() != EAGAIN;
+    }
+
+    @Override
+    protected void doClose() {
+        getCLibrary().close(fd);
+    }
+}
@@ -10,8 +10,6 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.docker.client.connection;
 
-import com.google.common.base.Strings;
-
 import org.eclipse.che.commons.lang.Pair;
 import org.eclipse.che.plugin.docker.client.CLibrary;
 
@@ -20,8 +18,6 @@ import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.net.ConnectException;
 import java.util.List;
 
@@ -48,7 +44,7 @@ public class UnixSocketConnection extends DockerConnection {
             throws IOException {
         fd = connect();
         final OutputStream output = new BufferedOutputStream(openOutputStream(fd));
-        writeHttpHeaders(output, method, path, query, headers);
+        writeHttpHeaders(output, method, path, query, headers, "");
         if (entity != null) {
             entity.writeTo(output);
         }
@@ -77,28 +73,6 @@ public class UnixSocketConnection extends DockerConnection {
         return fd;
     }
 
-    private void writeHttpHeaders(OutputStream output, String method, String path, String query, List<Pair<String, ?>> headers)
-            throws IOException {
-        final Writer writer = new OutputStreamWriter(output);
-        writer.write(method);
-        writer.write(' ');
-        writer.write(path);
-        if (!Strings.isNullOrEmpty(query)) {
-            writer.write("?");
-            writer.write(query);
-        }
-        writer.write(" HTTP/1.1\r\n");
-        for (Pair<String, ?> header : headers) {
-            writer.write(header.first);
-            writer.write(": ");
-            writer.write(String.valueOf(header.second));
-            writer.write("\r\n");
-        }
-        // Host header is mandatory in HTTP 1.1
-        writer.write("Host: \r\n\r\n");
-        writer.flush();
-    }
-
     private InputStream openInputStream(int fd) {
         return new UnixSocketInputStream(fd);
     }
@@ -16,6 +16,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
+ * Response of docker API that is read from raw socket stream.
+ *
 * @author andrew00x
 */
 public class UnixSocketDockerResponse implements DockerResponse {
@@ -144,7 +146,9 @@ public class UnixSocketDockerResponse implements DockerResponse {
         }
         this.headersFields = headerFields.toArray(new String[headerFields.size()]);
         final int contentLength = getContentLength();
-        if (contentLength == 0) {
+        final int statusCode = getStatus();
+        // responses with these statuses never have body, see https://tools.ietf.org/html/rfc7230#section-3.3.3
+        if (contentLength == 0 || statusCode == 204 || statusCode == 304) {
             return data = EMPTY;
         }
         if (contentLength > 0) {
@@ -152,4 +156,52 @@ public class UnixSocketDockerResponse implements DockerResponse {
         }
         return data = "chunked".equals(getHeader("Transfer-Encoding")) ? new ChunkedInputStream(rawData) : rawData;
     }
+
+    /**
+     * Skips the rest of response body if it is small enough and checks whether socket that this response is read from may be used
+     * for the next request. It is possible only if response is HTTP/1.1 response with known body length, docker doesn't close
+     * connection and the whole body is read.
+     *
+     * @param maxBytes
+     *         max number of bytes that may be skipped, chunked body is skipped only as long as its data is already received
+     * @return {@code true} if socket is positioned at the beginning of the next response, {@code false} otherwise
+     */
+    synchronized boolean skipRemaining(int maxBytes) throws IOException {
+        if (headersFields == null
+            || !headersFields[0].startsWith("HTTP/1.1")
+            || "close".equalsIgnoreCase(getHeader("Connection"))) {
+            return false;
+        }
+        if (data == EMPTY) {
+            return true;
+        }
+        final byte[] buf = new byte[Math.min(maxBytes, 8192)];
+        if (data instanceof LimitedInputStream) {
+            final LimitedInputStream limited = (LimitedInputStream)data;
+            if (limited.remaining() > maxBytes) {
+                return false;
+            }
+            while (limited.remaining() > 0) {
+                if (limited.read(buf) == -1) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (data instanceof ChunkedInputStream) {
+            final ChunkedInputStream chunked = (ChunkedInputStream)data;
+            int skipped = 0;
+            // do not block on chunked stream, it may be endless, e.g. docker events
+            while (!chunked.isEof() && skipped < maxBytes && rawData.available() > 0) {
+                final int n = chunked.read(buf);
+                if (n == -1) {
+                    break;
+                }
+                skipped += n;
+            }
+            return chunked.isEof();
+        }
+        // body is read until the end of stream
+        return false;
+    }
 }
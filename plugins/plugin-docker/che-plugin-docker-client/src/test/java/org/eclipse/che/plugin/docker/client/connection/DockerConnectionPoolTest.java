@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link DockerConnectionPool}.
+ */
+public class DockerConnectionPoolTest {
+    private static final String ROUTE = "unix:///var/run/docker.sock";
+
+    @Test
+    public void shouldReuseReleasedSocket() throws Exception {
+        DockerConnectionPool pool = new DockerConnectionPool(2, 60000);
+
+        PooledSocket socket = pool.acquire(ROUTE, () -> new TestSocket(ROUTE));
+        pool.release(socket, true);
+        PooledSocket reused = pool.acquire(ROUTE, () -> new TestSocket(ROUTE));
+
+        assertSame(reused, socket);
+        assertFalse(socket.isClosed());
+        DockerConnectionPool.Statistics statistics = pool.getStatistics();
+        assertEquals(statistics.getCreated(), 1);
+        assertEquals(statistics.getReused(), 1);
+        assertEquals(statistics.getReleased(), 1);
+        assertEquals(statistics.getIdle(), 0);
+    }
+
+    @Test
+    public void shouldCloseSocketWhichMayNotBeReused() throws Exception {
+        DockerConnectionPool pool = new DockerConnectionPool(2, 60000);
+
+        PooledSocket socket = pool.acquire(ROUTE, () -> new TestSocket(ROUTE));
+        pool.release(socket, false);
+
+        assertTrue(socket.isClosed());
+        assertNotSame(pool.acquire(ROUTE, () -> new TestSocket(ROUTE)), socket);
+        assertEquals(pool.getStatistics().getClosed(), 1);
+    }
+
+    @Test
+    public void shouldNotKeepMoreIdleSocketsThanMaxPerRoute() throws Exception {
+        DockerConnectionPool pool = new DockerConnectionPool(1, 60000);
+
+        PooledSocket first = pool.acquire(ROUTE, () -> new TestSocket(ROUTE));
+        PooledSocket second = pool.acquire(ROUTE, () -> new TestSocket(ROUTE));
+        PooledSocket otherRoute = pool.acquire("tcp://host:2375", () -> new TestSocket("tcp://host:2375"));
+        pool.release(first, true);
+        pool.release(second, true);
+        pool.release(otherRoute, true);
+
+        assertFalse(first.isClosed());
+        assertTrue(second.isClosed());
+        assertFalse(otherRoute.isClosed());
+        assertEquals(pool.getStatistics().getIdle(), 2);
+    }
+
+    @Test
+    public void shouldEvictExpiredAndStaleSockets() throws Exception {
+        DockerConnectionPool pool = new DockerConnectionPool(2, 60000);
+        TestSocket expired = new TestSocket(ROUTE);
+        TestSocket stale = new TestSocket(ROUTE);
+        pool.release(expired, true);
+        pool.release(stale, true);
+        expired.setLastUsed(System.currentTimeMillis() - 120000);
+        stale.closedByPeer = true;
+
+        PooledSocket socket = pool.acquire(ROUTE, () -> new TestSocket(ROUTE));
+
+        assertNotSame(socket, expired);
+        assertNotSame(socket, stale);
+        assertTrue(expired.isClosed());
+        assertTrue(stale.isClosed());
+        assertEquals(pool.getStatistics().getEvicted(), 2);
+    }
+
+    @Test
+    public void shouldCloseIdleSocketsOnClose() throws Exception {
+        DockerConnectionPool pool = new DockerConnectionPool(2, 60000);
+        PooledSocket socket = pool.acquire(ROUTE, () -> new TestSocket(ROUTE));
+        pool.release(socket, true);
+
+        pool.close();
+
+        assertTrue(socket.isClosed());
+        assertEquals(pool.getStatistics().getIdle(), 0);
+    }
+
+    private static class TestSocket extends PooledSocket {
+        boolean closedByPeer;
+
+        TestSocket(String route) {
+            super(route, new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream());
+        }
+
+        @Override
+        protected boolean isClosedByPeer() {
+            return closedByPeer;
+        }
+
+        @Override
+        protected void doClose() {
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.docker.client.connection;
+
+import com.google.common.io.ByteStreams;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests reusing of keep-alive connections of {@link PooledDockerConnection} against simple HTTP server.
+ */
+public class PooledDockerConnectionTest {
+    private static final String ROUTE = "http://localhost";
+
+    private final Map<String, String> responses      = new ConcurrentHashMap<>();
+    private final AtomicInteger       accepted       = new AtomicInteger();
+    private final AtomicInteger       closeRequested = new AtomicInteger();
+
+    private ServerSocket         serverSocket;
+    private DockerConnectionPool pool;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        serverSocket = new ServerSocket(0);
+        pool = new DockerConnectionPool(5, 60000);
+        final Thread server = new Thread(() -> {
+            while (!serverSocket.isClosed()) {
+                try {
+                    final Socket socket = serverSocket.accept();
+                    accepted.incrementAndGet();
+                    final Thread handler = new Thread(() -> serve(socket));
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (IOException ignored) {
+                }
+            }
+        });
+        server.setDaemon(true);
+        server.start();
+
+        responses.put("/length", "HTTP/1.1 200 OK\r\nContent-Length: 5\r\n\r\nhello");
+        responses.put("/chunked", "HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n5\r\nhello\r\n6\r\n world\r\n0\r\n\r\n");
+        responses.put("/no-content", "HTTP/1.1 204 No Content\r\n\r\n");
+        responses.put("/exec/exec-id/start", "HTTP/1.1 200 OK\r\nContent-Length: 5\r\n\r\nhello");
+        responses.put("/close", "HTTP/1.1 200 OK\r\nContent-Length: 5\r\nConnection: close\r\n\r\nhello");
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        pool.close();
+        serverSocket.close();
+    }
+
+    @Test
+    public void shouldReuseSocketWhenResponseIsReadCompletely() throws Exception {
+        assertEquals(get("/length", true), "hello");
+        assertEquals(get("/chunked", true), "hello world");
+        assertEquals(get("/no-content", true), "");
+        assertEquals(get("/length", true), "hello");
+
+        assertEquals(accepted.get(), 1);
+        assertEquals(pool.getStatistics().getReused(), 3);
+    }
+
+    @Test
+    public void shouldSkipRestOfResponseBeforeReuse() throws Exception {
+        assertEquals(get("/length", false), "");
+        assertEquals(get("/chunked", false), "");
+        assertEquals(get("/length", true), "hello");
+
+        assertEquals(accepted.get(), 1);
+    }
+
+    @Test
+    public void shouldNotReuseSocketWhenDockerClosesConnection() throws Exception {
+        assertEquals(get("/close", true), "hello");
+        assertEquals(get("/length", true), "hello");
+
+        assertEquals(accepted.get(), 2);
+        assertEquals(pool.getStatistics().getClosed(), 1);
+    }
+
+    @Test
+    public void shouldNotReuseSocketWhenRequestBodyLengthIsUnknown() throws Exception {
+        try (DockerConnection connection = openConnection().method("POST").path("/length").entity("body".getBytes())) {
+            connection.request().getStatus();
+        }
+        assertEquals(get("/length", true), "hello");
+
+        assertEquals(accepted.get(), 2);
+    }
+
+    @Test
+    public void shouldCloseSocketOfHijackingRequest() throws Exception {
+        assertEquals(get("/exec/exec-id/start", true), "hello");
+        assertEquals(get("/length", true), "hello");
+
+        assertEquals(accepted.get(), 2);
+        assertEquals(closeRequested.get(), 1);
+    }
+
+    private String get(String path, boolean readBody) throws IOException {
+        try (DockerConnection connection = openConnection().method("GET").path(path)) {
+            final DockerResponse response = connection.request();
+            assertEquals(response.getStatus() / 100, 2);
+            if (!readBody) {
+                return "";
+            }
+            return new String(ByteStreams.toByteArray(response.getInputStream()), StandardCharsets.UTF_8);
+        }
+    }
+
+    private DockerConnection openConnection() {
+        final int port = serverSocket.getLocalPort();
+        return new PooledDockerConnection(pool, ROUTE, "localhost:" + port,
+                                          () -> TcpPooledSocket.connect(ROUTE, "localhost", port, null, 1000, 5000));
+    }
+
+    private void serve(Socket socket) {
+        try (Socket s = socket) {
+            final InputStream input = s.getInputStream();
+            final OutputStream output = s.getOutputStream();
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            String requestLine;
+            while ((requestLine = reader.readLine()) != null) {
+                boolean close = false;
+                String header;
+                while ((header = reader.readLine()) != null && !header.isEmpty()) {
+                    close |= header.equalsIgnoreCase("Connection: close");
+                }
+                if (close) {
+                    closeRequested.incrementAndGet();
+                }
+                final String response = responses.get(requestLine.split(" ")[1]);
+                output.write(response.getBytes(StandardCharsets.UTF_8));
+                output.flush();
+                if (close || response.contains("Connection: close")) {
+                    return;
+                }
+            }
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -51,8 +51,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 import static org.eclipse.che.plugin.docker.machine.DockerInstanceProvider.MACHINE_SNAPSHOT_PREFIX;
@@ -73,21 +72,8 @@ public class DockerInstance extends AbstractInstance {
      */
     public static final String LATEST_TAG = "latest";
 
-    private static final AtomicInteger pidSequence           = new AtomicInteger(1);
-    private static final String        PID_FILE_TEMPLATE     = "/tmp/docker-exec-%s.pid";
-    private static final Pattern       PID_FILE_PATH_PATTERN = Pattern.compile(String.format(PID_FILE_TEMPLATE, "([0-9]+)"));
-    /**
-     * Produces output in form:
-     * <pre>
-     * /some/path/pid_file_template-1.pid
-     * /some/path/pid_file_template-3.pid
-     * /some/path/pid_file_template-14.pid
-     * </pre>
-     * Where each line is full path to pid file of <b>process that is running<b/>
-     */
-    private static final String GET_ALIVE_PROCESSES_COMMAND =
-            format("for pidFile in $(find %s -print 2>/dev/null); do kill -0 \"$(cat ${pidFile})\" 2>/dev/null && echo \"${pidFile}\"; done",
-                   format(PID_FILE_TEMPLATE, "*"));
+    private static final AtomicInteger pidSequence       = new AtomicInteger(1);
+    private static final String        PID_FILE_TEMPLATE = "/tmp/docker-exec-%s.pid";
 
     private final DockerMachineFactory                        dockerMachineFactory;
     private final String                                      container;
@@ -101,6 +87,9 @@ public class DockerInstance extends AbstractInstance {
     private final DockerInstanceProcessesCleaner              processesCleaner;
     private final ConcurrentHashMap<Integer, InstanceProcess> machineProcesses;
     private final boolean                                     snapshotUseRegistry;
+    private final AtomicLong                                  execs;
+    private final AtomicLong                                  execInspections;
+    private final AtomicLong                                  execDieEvents;
 
     private MachineRuntimeInfoImpl machineRuntime;
 
@@ -129,8 +118,12 @@ public class DockerInstance extends AbstractInstance {
         this.dockerInstanceStopDetector = dockerInstanceStopDetector;
         this.processesCleaner = processesCleaner;
         this.machineProcesses = new ConcurrentHashMap<>();
-        processesCleaner.trackProcesses(this);
+        this.execs = new AtomicLong();
+        this.execInspections = new AtomicLong();
+        this.execDieEvents = new AtomicLong();
         this.snapshotUseRegistry = snapshotUseRegistry;
+        processesCleaner.trackProcesses(this);
+        dockerInstanceStopDetector.startProcessesDetection(container, this);
     }
 
     @Override
@@ -163,39 +156,29 @@ public class DockerInstance extends AbstractInstance {
                 machineProcess.checkAlive();
                 return machineProcess;
             } catch (NotFoundException e) {
-                machineProcesses.remove(pid);
+                removeProcess(pid);
                 throw e;
             }
         }
         throw new NotFoundException(format("Process with pid %s not found", pid));
     }
 
+    /**
+     * Returns processes that are alive. State of processes is tracked in memory and by exec exit events,
+     * see {@link DockerProcess}, so no execs are created in container to get processes.
+     */
     @Override
     public List<InstanceProcess> getProcesses() throws MachineException {
-        List<InstanceProcess> processes = new LinkedList<>();
-        try {
-            final Exec exec = docker.createExec(CreateExecParams.create(container,
-                                                                        new String[] {"/bin/bash",
-                                                                                      "-c",
-                                                                                      GET_ALIVE_PROCESSES_COMMAND})
-                                                                .withDetach(false));
-            docker.startExec(StartExecParams.create(exec.getId()), logMessage -> {
-                final String pidFilePath = logMessage.getContent().trim();
-                final Matcher matcher = PID_FILE_PATH_PATTERN.matcher(pidFilePath);
-                if (matcher.matches()) {
-                    final int virtualPid = Integer.parseInt(matcher.group(1));
-                    final InstanceProcess dockerProcess = machineProcesses.get(virtualPid);
-                    if (dockerProcess != null) {
-                        processes.add(dockerProcess);
-                    } else {
-                        LOG.warn("Machine process {} exists in container but missing in processes map", virtualPid);
-                    }
-                }
-            });
-            return processes;
-        } catch (IOException e) {
-            throw new MachineException(e);
+        final List<InstanceProcess> processes = new LinkedList<>();
+        for (InstanceProcess process : machineProcesses.values()) {
+            try {
+                process.checkAlive();
+                processes.add(process);
+            } catch (NotFoundException ignored) {
+                // process is not started yet or is finished
+            }
         }
+        return processes;
     }
 
     @Override
@@ -273,7 +256,9 @@ public class DockerInstance extends AbstractInstance {
         } catch (IOException ignored) {
         }
 
-        machineProcesses.clear();
+        for (Integer pid : machineProcesses.keySet()) {
+            removeProcess(pid);
+        }
         processesCleaner.untrackProcesses(getId());
         dockerInstanceStopDetector.stopDetection(container);
         try {
@@ -336,6 +321,7 @@ public class DockerInstance extends AbstractInstance {
         ListLineConsumer lines = new ListLineConsumer();
         try {
             Exec exec = docker.createExec(CreateExecParams.create(container, command).withDetach(false));
+            execs.incrementAndGet();
             docker.startExec(StartExecParams.create(exec.getId()), new LogMessagePrinter(lines, LogMessage::getContent));
         } catch (IOException e) {
             throw new MachineException(format("Error occurs while initializing command %s in docker container %s: %s",
@@ -382,7 +368,43 @@ public class DockerInstance extends AbstractInstance {
      * <p>Used by {@link DockerInstanceProcessesCleaner}
      */
     void removeProcess(int pid) {
-        machineProcesses.remove(pid);
+        final InstanceProcess removed = machineProcesses.remove(pid);
+        if (removed instanceof DockerProcess) {
+            // keep execs of removed processes in statistics
+            execs.addAndGet(((DockerProcess)removed).getExecs());
+            execInspections.addAndGet(((DockerProcess)removed).getExecInspections());
+        }
+    }
+
+    /**
+     * Marks process that is run by exec with specified id as finished.
+     *
+     * <p>Used by {@link DockerInstanceStopDetector}
+     */
+    void onExecDie(String execId) {
+        execDieEvents.incrementAndGet();
+        for (InstanceProcess process : machineProcesses.values()) {
+            if (process instanceof DockerProcess && execId.equals(((DockerProcess)process).getExecId())) {
+                ((DockerProcess)process).onExecDie();
+                return;
+            }
+        }
+    }
+
+    /** Gets statistics of execs created for this instance. */
+    public Statistics getStatistics() {
+        long processExecs = 0;
+        long processExecInspections = 0;
+        for (InstanceProcess process : machineProcesses.values()) {
+            if (process instanceof DockerProcess) {
+                processExecs += ((DockerProcess)process).getExecs();
+                processExecInspections += ((DockerProcess)process).getExecInspections();
+            }
+        }
+        return new Statistics(machineProcesses.size(),
+                              execs.get() + processExecs,
+                              execInspections.get() + processExecInspections,
+                              execDieEvents.get());
     }
 
     /**
@@ -391,4 +413,49 @@ public class DockerInstance extends AbstractInstance {
     String getContainer() {
         return container;
     }
+
+    /** Statistics of execs created for instance. */
+    public static class Statistics {
+        private final int  processes;
+        private final long execs;
+        private final long execInspections;
+        private final long execDieEvents;
+
+        Statistics(int processes, long execs, long execInspections, long execDieEvents) {
+            this.processes = processes;
+            this.execs = execs;
+            this.execInspections = execInspections;
+            this.execDieEvents = execDieEvents;
+        }
+
+        /** Number of processes that are tracked by instance. */
+        public int getProcesses() {
+            return processes;
+        }
+
+        /** Number of execs that were created in container to start, kill processes or to read files. */
+        public long getExecs() {
+            return execs;
+        }
+
+        /** Number of exec inspections that were done to check whether detached processes are alive. */
+        public long getExecInspections() {
+            return execInspections;
+        }
+
+        /** Number of exec exit events that were received for container. */
+        public long getExecDieEvents() {
+            return execDieEvents;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{" +
+                   "processes=" + processes +
+                   ", execs=" + execs +
+                   ", execInspections=" + execInspections +
+                   ", execDieEvents=" + execDieEvents +
+                   '}';
+        }
+    }
 }
@@ -18,6 +18,7 @@ import org.eclipse.che.api.core.notification.EventService;
 import org.eclipse.che.api.machine.server.event.InstanceStateEvent;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.MessageProcessor;
+import org.eclipse.che.plugin.docker.client.json.Actor;
 import org.eclipse.che.plugin.docker.client.json.Event;
 import org.eclipse.che.plugin.docker.client.json.Filters;
 import org.eclipse.che.plugin.docker.client.params.GetEventsParams;
@@ -33,9 +34,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Track docker containers events to detect containers stop or failure.
+ * Also detects exits of execs which run processes of {@link DockerInstance}.
  *
  * @author Alexander Garagatyi
  */
@@ -43,10 +46,14 @@ import java.util.concurrent.TimeUnit;
 public class DockerInstanceStopDetector {
     private static final Logger LOG = LoggerFactory.getLogger(DockerInstanceStopDetector.class);
 
-    private final EventService          eventService;
-    private final DockerConnector       dockerConnector;
-    private final ExecutorService       executorService;
-    private final Map<String, String>   instances;
+    /** Returned by {@link #getExecEventsConnection()} when exits of execs can't be detected by events. */
+    static final long NO_EXEC_EVENTS_CONNECTION = 0;
+
+    private final EventService                eventService;
+    private final DockerConnector             dockerConnector;
+    private final ExecutorService             executorService;
+    private final Map<String, String>         instances;
+    private final Map<String, DockerInstance> processesInstances;
     /*
        Helps differentiate container main process OOM from other processes OOM
        Algorithm:
@@ -59,18 +66,22 @@ public class DockerInstanceStopDetector {
        That's why cache expires in X seconds.
        X was set as 10 empirically.
     */
-    private final Cache<String, String> containersOomTimestamps;
+    private final Cache<String, String>       containersOomTimestamps;
+    private final AtomicLong                  eventsConnections;
 
-    private long lastProcessedEventDate = 0;
+    private long             lastProcessedEventDate = 0;
+    private volatile boolean execDieEventsReceived;
 
     @Inject
     public DockerInstanceStopDetector(EventService eventService, DockerConnector dockerConnector) {
         this.eventService = eventService;
         this.dockerConnector = dockerConnector;
         this.instances = new ConcurrentHashMap<>();
+        this.processesInstances = new ConcurrentHashMap<>();
         this.containersOomTimestamps = CacheBuilder.newBuilder()
                                                    .expireAfterWrite(10, TimeUnit.SECONDS)
                                                    .build();
+        this.eventsConnections = new AtomicLong(NO_EXEC_EVENTS_CONNECTION);
         this.executorService = Executors.newSingleThreadExecutor(
                 new ThreadFactoryBuilder().setNameFormat("DockerInstanceStopDetector-%d")
                                           .setDaemon(true)
@@ -97,6 +108,30 @@ public class DockerInstanceStopDetector {
      */
     public void stopDetection(String containerId) {
         instances.remove(containerId);
+        processesInstances.remove(containerId);
+    }
+
+    /**
+     * Start detection of exits of execs in container, instance is notified about each exit with {@link DockerInstance#onExecDie(String)}.
+     * Detection is stopped with {@link #stopDetection(String)}.
+     *
+     * @param containerId
+     *         id of a container to start detection for
+     * @param instance
+     *         instance which container is specified
+     */
+    void startProcessesDetection(String containerId, DockerInstance instance) {
+        processesInstances.put(containerId, instance);
+    }
+
+    /**
+     * Returns identifier of the current connection to the docker events stream, or {@link #NO_EXEC_EVENTS_CONNECTION}
+     * if docker daemon hasn't emitted any exec exit event yet, e.g. daemon of version that doesn't emit such events.
+     * Identifier is changed on each reconnection to the events stream, as events that happen while stream is
+     * reconnected may be lost, so exit of exec is reliably detected by events only while identifier is the same.
+     */
+    long getExecEventsConnection() {
+        return execDieEventsReceived ? eventsConnections.get() : NO_EXEC_EVENTS_CONNECTION;
     }
 
     @PostConstruct
@@ -104,10 +139,11 @@ public class DockerInstanceStopDetector {
         executorService.execute(() -> {
             //noinspection InfiniteLoopStatement
             while (true) {
+                eventsConnections.incrementAndGet();
                 try {
                     dockerConnector.getEvents(GetEventsParams.create()
                                                              .withSinceSecond(lastProcessedEventDate)
-                                                             .withFilters(new Filters().withFilter("event", "die", "oom")),
+                                                             .withFilters(new Filters().withFilter("event", "die", "oom", "exec_die")),
                                               new EventsProcessor());
                 } catch (IOException e) {
                     // usually connection timeout
@@ -146,6 +182,17 @@ public class DockerInstanceStopDetector {
                         lastProcessedEventDate = message.getTime();
                     }
                     break;
+                case "exec_die":
+                    execDieEventsReceived = true;
+                    final DockerInstance instance = processesInstances.get(message.getId());
+                    final Actor actor = message.getActor();
+                    if (instance != null && actor != null && actor.getAttributes() != null) {
+                        final String execId = actor.getAttributes().get("execID");
+                        if (execId != null) {
+                            instance.onExecDie(execId);
+                        }
+                    }
+                    break;
                 default:
                     // we don't care about other event types
             }
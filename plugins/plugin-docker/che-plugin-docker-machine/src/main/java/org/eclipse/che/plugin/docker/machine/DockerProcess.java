@@ -16,7 +16,6 @@ import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.model.machine.Command;
 import org.eclipse.che.api.core.util.LineConsumer;
-import org.eclipse.che.api.core.util.ListLineConsumer;
 import org.eclipse.che.api.core.util.ValueHolder;
 import org.eclipse.che.api.machine.server.exception.MachineException;
 import org.eclipse.che.api.machine.server.spi.InstanceProcess;
@@ -26,6 +25,7 @@ import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.Exec;
 import org.eclipse.che.plugin.docker.client.LogMessage;
 import org.eclipse.che.plugin.docker.client.MessageProcessor;
+import org.eclipse.che.plugin.docker.client.json.ExecInfo;
 import org.eclipse.che.plugin.docker.client.params.CreateExecParams;
 import org.eclipse.che.plugin.docker.client.params.StartExecParams;
 
@@ -33,25 +33,39 @@ import javax.inject.Inject;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 
 /**
  * Docker implementation of {@link InstanceProcess}
+ * <p/>
+ * State of process is tracked without creating additional execs in container: process which output is read is alive until
+ * its exec output ends, detached process is alive until {@link DockerInstance} is notified about exit of its exec.
+ * Exec is inspected only when its exit can't be detected by events, i.e. docker daemon doesn't emit exec exit events
+ * or connection to the events stream was reestablished since the process state was checked last time.
  *
  * @author andrew00x
  * @author Alexander Garagatyi
  */
 public class DockerProcess extends AbstractMachineProcess implements InstanceProcess {
-    private final DockerConnector     docker;
-    private final String              container;
-    private final String              pidFilePath;
-    private final String              commandLine;
+    private final DockerConnector            docker;
+    private final DockerInstanceStopDetector dockerInstanceStopDetector;
+    private final String                     container;
+    private final String                     pidFilePath;
+    private final String                     commandLine;
+    private final AtomicLong                 execs;
+    private final AtomicLong                 execInspections;
 
     private volatile boolean started;
+    private volatile boolean attached;
+    private volatile boolean finished;
+    private volatile String  execId;
+    private volatile long    eventsConnection;
 
     @Inject
     public DockerProcess(DockerConnector docker,
+                         DockerInstanceStopDetector dockerInstanceStopDetector,
                          @Assisted Command command,
                          @Assisted("container") String container,
                          @Nullable @Assisted("outputChannel") String outputChannel,
@@ -59,10 +73,13 @@ public class DockerProcess extends AbstractMachineProcess implements InstancePro
                          @Assisted int pid) {
         super(command, pid, outputChannel);
         this.docker = docker;
+        this.dockerInstanceStopDetector = dockerInstanceStopDetector;
         this.container = container;
         this.commandLine = command.getCommandLine();
         this.pidFilePath = pidFilePath;
         this.started = false;
+        this.execs = new AtomicLong();
+        this.execInspections = new AtomicLong();
     }
 
     @Override
@@ -96,16 +113,25 @@ public class DockerProcess extends AbstractMachineProcess implements InstancePro
         // 'echo' saves shell pid in file, then run command
         final String shellCommand = trap + "; echo $$>" + pidFilePath + "; " + commandLine;
         final String[] command = {"/bin/bash", "-c", shellCommand};
+        // exit of exec created after this point is detected by events if stream isn't reconnected
+        eventsConnection = dockerInstanceStopDetector.getExecEventsConnection();
         Exec exec;
         try {
             exec = docker.createExec(CreateExecParams.create(container, command).withDetach(output == null));
+            execs.incrementAndGet();
         } catch (IOException e) {
             throw new MachineException(format("Error occurs while initializing command %s in docker container %s: %s",
                                               Arrays.toString(command), container, e.getMessage()), e);
         }
+        execId = exec.getId();
+        attached = output != null;
         started = true;
         try {
             docker.startExec(StartExecParams.create(exec.getId()), output == null ? null : new LogMessagePrinter(output));
+            // output ends when exec exits
+            if (output != null) {
+                finished = true;
+            }
         } catch (IOException e) {
             if (output != null && e instanceof SocketTimeoutException) {
                 throw new MachineException(getErrorMessage());
@@ -113,32 +139,39 @@ public class DockerProcess extends AbstractMachineProcess implements InstancePro
                 throw new MachineException(format("Error occurs while executing command %s: %s",
                                                   Arrays.toString(exec.getCommand()), e.getMessage()), e);
             }
+        } finally {
+            attached = false;
         }
     }
 
     @Override
     public void checkAlive() throws MachineException, NotFoundException {
-        // Read pid from file and run 'kill -0 [pid]' command.
-        final String isAliveCmd = format("[ -r %1$s ] && kill -0 $(cat %1$s) || echo 'Unable read PID file'", pidFilePath);
-        final ListLineConsumer output = new ListLineConsumer();
-        final String[] command = {"/bin/bash", "-c", isAliveCmd};
-        Exec exec;
-        try {
-            exec = docker.createExec(CreateExecParams.create(container, command).withDetach(false));
-        } catch (IOException e) {
-            throw new MachineException(format("Error occurs while initializing command %s in docker container %s: %s",
-                                              Arrays.toString(command), container, e.getMessage()), e);
+        if (!started || finished) {
+            throw new NotFoundException(format("Process with pid %s not found", getPid()));
+        }
+        if (attached) {
+            return;
+        }
+        final long connection = dockerInstanceStopDetector.getExecEventsConnection();
+        if (connection != DockerInstanceStopDetector.NO_EXEC_EVENTS_CONNECTION && connection == eventsConnection) {
+            // process would be marked as finished on exit event of its exec
+            return;
         }
+        // Exec runs the shell that runs command, so exec is running while process is alive
+        final ExecInfo execInfo;
         try {
-            docker.startExec(StartExecParams.create(exec.getId()), new LogMessagePrinter(output));
+            execInfo = docker.getExecInfo(execId);
+            execInspections.incrementAndGet();
         } catch (IOException e) {
-            throw new MachineException(format("Error occurs while executing command %s in docker container %s: %s",
-                                              Arrays.toString(exec.getCommand()), container, e.getMessage()), e);
+            throw new MachineException(format("Error occurs while inspecting exec %s in docker container %s: %s",
+                                              execId, container, e.getMessage()), e);
         }
-        // 'kill -0 [pid]' is silent if process is running or print "No such process" message otherwise
-        if (!output.getText().isEmpty()) {
+        if (!execInfo.isRunning()) {
+            finished = true;
             throw new NotFoundException(format("Process with pid %s not found", getPid()));
         }
+        // exec is running, so its exit will be detected by events of the connection obtained before inspection
+        eventsConnection = connection;
     }
 
     @Override
@@ -150,6 +183,7 @@ public class DockerProcess extends AbstractMachineProcess implements InstancePro
             Exec exec;
             try {
                 exec = docker.createExec(CreateExecParams.create(container, command).withDetach(true));
+                execs.incrementAndGet();
             } catch (IOException e) {
                 throw new MachineException(format("Error occurs while initializing command %s in docker container %s: %s",
                                                   Arrays.toString(command), container, e.getMessage()), e);
@@ -163,6 +197,26 @@ public class DockerProcess extends AbstractMachineProcess implements InstancePro
         }
     }
 
+    /** Returns id of exec that runs process or {@code null} if process isn't started. */
+    String getExecId() {
+        return execId;
+    }
+
+    /** Marks process as finished when exit of its exec is detected. */
+    void onExecDie() {
+        finished = true;
+    }
+
+    /** Returns number of execs created in container for this process. */
+    long getExecs() {
+        return execs.get();
+    }
+
+    /** Returns number of inspections of exec which were done to check whether process is alive. */
+    long getExecInspections() {
+        return execInspections.get();
+    }
+
     private String getErrorMessage() {
         final StringBuilder errorMessage = new StringBuilder("Command output read timeout is reached.");
         try {
@@ -174,6 +228,7 @@ public class DockerProcess extends AbstractMachineProcess implements InstancePro
                                                           format("if kill -0 $(cat %1$s 2>/dev/null) 2>/dev/null; then cat %1$s; fi",
                                                                  pidFilePath)})
                                     .withDetach(false));
+            execs.incrementAndGet();
             ValueHolder<String> pidHolder = new ValueHolder<>();
             docker.startExec(StartExecParams.create(checkProcessExec.getId()), message -> {
                 if (message.getType() == LogMessage.Type.STDOUT) {
@@ -10,21 +10,26 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.docker.machine;
 
+import org.eclipse.che.api.core.NotFoundException;
+import org.eclipse.che.api.core.model.machine.Command;
 import org.eclipse.che.api.core.model.machine.Machine;
 import org.eclipse.che.api.core.model.machine.MachineConfig;
 import org.eclipse.che.api.core.model.machine.MachineSource;
 import org.eclipse.che.api.core.model.machine.MachineStatus;
 import org.eclipse.che.api.core.util.LineConsumer;
 import org.eclipse.che.api.machine.server.exception.MachineException;
+import org.eclipse.che.api.machine.server.model.impl.CommandImpl;
 import org.eclipse.che.api.machine.server.model.impl.LimitsImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineConfigImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineImpl;
 import org.eclipse.che.api.machine.server.model.impl.MachineSourceImpl;
+import org.eclipse.che.api.machine.server.spi.InstanceProcess;
 import org.eclipse.che.plugin.docker.client.DockerConnector;
 import org.eclipse.che.plugin.docker.client.Exec;
 import org.eclipse.che.plugin.docker.client.LogMessage;
 import org.eclipse.che.plugin.docker.client.MessageProcessor;
 import org.eclipse.che.plugin.docker.client.ProgressMonitor;
+import org.eclipse.che.plugin.docker.client.json.ExecInfo;
 import org.eclipse.che.plugin.docker.client.params.CommitParams;
 import org.eclipse.che.plugin.docker.client.params.CreateExecParams;
 import org.eclipse.che.plugin.docker.client.params.PushParams;
@@ -37,11 +42,16 @@ import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.Collections;
 
 import static java.lang.String.format;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -81,6 +91,8 @@ public class DockerInstanceTest {
     private DockerInstanceStopDetector dockerInstanceStopDetectorMock;
     @Mock
     private LineConsumer               outputConsumer;
+    @Mock
+    private DockerMachineFactory       dockerMachineFactoryMock;
 
     private DockerInstance dockerInstance;
 
@@ -92,7 +104,10 @@ public class DockerInstanceTest {
         doAnswer(invoke -> {
             @SuppressWarnings("unchecked")
             MessageProcessor<LogMessage> msgProc = (MessageProcessor<LogMessage>)invoke.getArguments()[1];
-            msgProc.process(logMessageMock);
+            // output of detached exec isn't processed
+            if (msgProc != null) {
+                msgProc.process(logMessageMock);
+            }
             return msgProc;
         }).when(dockerConnectorMock)
           .startExec(any(StartExecParams.class), any());
@@ -136,6 +151,79 @@ public class DockerInstanceTest {
         assertEquals(res.trim(), content);
     }
 
+    @Test
+    public void shouldGetAliveProcessesWithoutCreatingExecs() throws Exception {
+        final InstanceProcess process = startDetachedProcess();
+        final ExecInfo execInfo = new ExecInfo();
+        execInfo.setRunning(true);
+        when(dockerConnectorMock.getExecInfo(EXEC_ID)).thenReturn(execInfo);
+
+        assertEquals(dockerInstance.getProcesses(), Collections.singletonList(process));
+
+        // only exec of process itself is created
+        verify(dockerConnectorMock).createExec(any(CreateExecParams.class));
+        assertEquals(dockerInstance.getStatistics().getExecs(), 1);
+        assertEquals(dockerInstance.getStatistics().getExecInspections(), 1);
+    }
+
+    @Test
+    public void shouldNotReturnProcessWhichExecIsNotRunning() throws Exception {
+        startDetachedProcess();
+        when(dockerConnectorMock.getExecInfo(EXEC_ID)).thenReturn(new ExecInfo());
+
+        assertTrue(dockerInstance.getProcesses().isEmpty());
+    }
+
+    @Test(expectedExceptions = NotFoundException.class)
+    public void shouldMarkProcessFinishedOnExecDieEvent() throws Exception {
+        final InstanceProcess process = startDetachedProcess();
+
+        dockerInstance.onExecDie(EXEC_ID);
+
+        try {
+            dockerInstance.getProcess(process.getPid());
+        } finally {
+            verify(dockerConnectorMock, never()).getExecInfo(anyString());
+            assertEquals(dockerInstance.getStatistics().getExecDieEvents(), 1);
+            assertEquals(dockerInstance.getStatistics().getProcesses(), 0);
+        }
+    }
+
+    @Test
+    public void shouldNotInspectExecWhenItsExitIsDetectedByEvents() throws Exception {
+        when(dockerInstanceStopDetectorMock.getExecEventsConnection()).thenReturn(1L);
+        final InstanceProcess process = startDetachedProcess();
+
+        assertEquals(dockerInstance.getProcesses(), Collections.singletonList(process));
+        assertEquals(dockerInstance.getProcesses(), Collections.singletonList(process));
+
+        verify(dockerConnectorMock, never()).getExecInfo(anyString());
+    }
+
+    @Test
+    public void shouldInspectExecOnceAfterReconnectionToEventsStream() throws Exception {
+        when(dockerInstanceStopDetectorMock.getExecEventsConnection()).thenReturn(1L, 2L);
+        final ExecInfo execInfo = new ExecInfo();
+        execInfo.setRunning(true);
+        when(dockerConnectorMock.getExecInfo(EXEC_ID)).thenReturn(execInfo);
+        final InstanceProcess process = startDetachedProcess();
+
+        assertEquals(dockerInstance.getProcesses(), Collections.singletonList(process));
+        assertEquals(dockerInstance.getProcesses(), Collections.singletonList(process));
+
+        verify(dockerConnectorMock).getExecInfo(EXEC_ID);
+    }
+
+    @Test
+    public void shouldCountExecsOfRemovedProcesses() throws Exception {
+        final InstanceProcess process = startDetachedProcess();
+
+        dockerInstance.removeProcess(process.getPid());
+
+        assertEquals(dockerInstance.getStatistics().getProcesses(), 0);
+        assertEquals(dockerInstance.getStatistics().getExecs(), 1);
+    }
+
     @Test
     public void shouldCreateDockerImageLocally() throws Exception {
         final String comment = format("Suspended at %1$ta %1$tb %1$td %1$tT %1$tZ %1$tY",
@@ -198,6 +286,20 @@ public class DockerInstanceTest {
         dockerInstance.saveToSnapshot(OWNER);
     }
 
+    private InstanceProcess startDetachedProcess() throws Exception {
+        when(dockerMachineFactoryMock.createProcess(any(Command.class), eq(CONTAINER), anyString(), anyString(), anyInt()))
+                .thenAnswer(invoke -> new DockerProcess(dockerConnectorMock,
+                                                        dockerInstanceStopDetectorMock,
+                                                        (Command)invoke.getArguments()[0],
+                                                        CONTAINER,
+                                                        (String)invoke.getArguments()[2],
+                                                        (String)invoke.getArguments()[3],
+                                                        (Integer)invoke.getArguments()[4]));
+        final InstanceProcess process = dockerInstance.createProcess(new CommandImpl("run", "sleep 100", "custom"), "output");
+        process.start();
+        return process;
+    }
+
     private DockerInstance getDockerInstance() {
         return getDockerInstance(getMachine(), REGISTRY, CONTAINER, IMAGE, false);
     }
@@ -210,7 +312,7 @@ public class DockerInstanceTest {
         return new DockerInstance(dockerConnectorMock,
                                   registry,
                                   USERNAME,
-                                  mock(DockerMachineFactory.class),
+                                  dockerMachineFactoryMock,
                                   machine,
                                   container,
                                   image,
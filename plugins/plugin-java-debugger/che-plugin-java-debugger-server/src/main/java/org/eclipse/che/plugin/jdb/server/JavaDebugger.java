@@ -114,6 +114,11 @@ public class JavaDebugger implements EventsHandler, Debugger {
     private ThreadReference thread;
     /** Current stack frame. Not <code>null</code> is thread suspended, e.g breakpoint reached. */
     private JdiStackFrame   stackFrame;
+    /**
+     * Variables of current stack frame resolved by their paths. Values of variables are read from the target Java VM
+     * once while thread is suspended, so this cache is cleared together with {@link #stackFrame}.
+     */
+    private final Map<List<String>, JdiVariable> resolvedVariables = new ConcurrentHashMap<>();
     /** Lock for synchronization debug processes. */
     private Lock lock = new ReentrantLock();
 
@@ -134,6 +139,14 @@ public class JavaDebugger implements EventsHandler, Debugger {
         connect();
     }
 
+    /** Create debugger for the Java VM which is already attached. Events of VM are not collected. Used in tests. */
+    JavaDebugger(VirtualMachine vm, DebuggerCallback debuggerCallback) {
+        this.host = null;
+        this.port = 0;
+        this.debuggerCallback = debuggerCallback;
+        this.vm = vm;
+    }
+
     /**
      * Attach to a JVM that is already running at specified host.
      *
@@ -444,31 +457,61 @@ public class JavaDebugger implements EventsHandler, Debugger {
         if (path.size() == 0) {
             throw new IllegalArgumentException("Path to value may not be empty. ");
         }
-        JdiVariable variable;
-        int offset;
-        if ("this".equals(path.get(0)) || "static".equals(path.get(0))) {
-            if (path.size() < 2) {
-                throw new IllegalArgumentException("Name of field required. ");
-            }
-            variable = getCurrentFrame().getFieldByName(path.get(1));
-            offset = 2;
-        } else {
+        lock.lock();
+        try {
+            JdiVariable variable;
             try {
-                variable = getCurrentFrame().getLocalVariableByName(path.get(0));
+                variable = findVariable(path);
             } catch (DebuggerAbsentInformationException e) {
                 return null;
             }
-            offset = 1;
-        }
 
-        for (int i = offset; variable != null && i < path.size(); i++) {
-            variable = variable.getValue().getVariableByName(path.get(i));
+            if (variable == null) {
+                return null;
+            }
+
+            return toSimpleValue(path, variable);
+        } finally {
+            lock.unlock();
         }
+    }
 
+    /**
+     * Finds variable by path. Resolving starts from the longest part of path that was already resolved while current
+     * thread is suspended.
+     */
+    private JdiVariable findVariable(List<String> path) throws DebuggerException {
+        JdiVariable variable = null;
+        int offset = path.size();
+        while (offset > 0 && (variable = resolvedVariables.get(path.subList(0, offset))) == null) {
+            offset--;
+        }
         if (variable == null) {
-            return null;
+            if ("this".equals(path.get(0)) || "static".equals(path.get(0))) {
+                if (path.size() < 2) {
+                    throw new IllegalArgumentException("Name of field required. ");
+                }
+                variable = getCurrentFrame().getFieldByName(path.get(1));
+                offset = 2;
+            } else {
+                variable = getCurrentFrame().getLocalVariableByName(path.get(0));
+                offset = 1;
+            }
+            if (variable != null) {
+                resolvedVariables.put(new ArrayList<>(path.subList(0, offset)), variable);
+            }
+        }
+
+        for (int i = offset; variable != null && i < path.size(); i++) {
+            variable = variable.getValue().getVariableByName(path.get(i));
+            if (variable != null) {
+                resolvedVariables.put(new ArrayList<>(path.subList(0, i + 1)), variable);
+            }
         }
+        return variable;
+    }
 
+    private SimpleValue toSimpleValue(List<String> path, JdiVariable variable) throws DebuggerException {
         List<Variable> variables = new ArrayList<>();
         for (JdiVariable ch : variable.getValue().getVariables()) {
             VariablePathDto chPath = newDto(VariablePathDto.class).withPath(new ArrayList<>(path));
@@ -504,7 +547,7 @@ public class JavaDebugger implements EventsHandler, Debugger {
     public void setValue(Variable variable) throws DebuggerException {
         StringBuilder expression = new StringBuilder();
         for (String s : variable.getVariablePath().getPath()) {
-            if ("static".equals(s)) {
+            if ("static".equals(s) || JdiArrayRange.isRange(s)) {
                 continue;
             }
             // Here we need !s.startsWith("[") condition because
@@ -696,15 +739,18 @@ public class JavaDebugger implements EventsHandler, Debugger {
 
     private void setCurrentThread(ThreadReference t) {
         stackFrame = null;
+        resolvedVariables.clear();
         thread = t;
     }
 
     private void resetCurrentFrame() {
         stackFrame = null;
+        resolvedVariables.clear();
     }
 
     private void resetCurrentThread() {
         this.stackFrame = null;
+        this.resolvedVariables.clear();
         this.thread = null;
     }
 
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.Value;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Range of elements of an array. Arrays longer than {@link #PAGE_SIZE} are not expanded element by element, their
+ * elements are grouped in ranges with names in form <i>[from..to]</i> instead. Elements of a range are read from the
+ * debuggee JVM only when the range is expanded and with a single request.
+ * <p>
+ * Elements of array may be accessed directly by name in form <i>[i]</i> through the array itself or through any
+ * range that contains element with index <i>i</i>.
+ */
+public class JdiArrayRange implements JdiVariable, JdiValue {
+    /** Max number of children of array or range. */
+    public static final int PAGE_SIZE = 100;
+
+    private static final Pattern INDEX = Pattern.compile("\\[(\\d{1,10})\\]");
+    private static final Pattern RANGE = Pattern.compile("\\[(\\d{1,10})\\.\\.(\\d{1,10})\\]");
+
+    private final ArrayReference array;
+    private final int            from;
+    private final int            to;
+    private final String         name;
+    private       JdiVariable[]  variables;
+
+    /**
+     * @param array
+     *         array
+     * @param from
+     *         index of the first element in range
+     * @param to
+     *         index of the last element in range, inclusive
+     */
+    public JdiArrayRange(ArrayReference array, int from, int to) {
+        this.array = array;
+        this.from = from;
+        this.to = to;
+        this.name = "[" + from + ".." + to + "]";
+    }
+
+    /** Checks whether specified name is name of range of array elements, e.g. <i>[100..199]</i>. */
+    public static boolean isRange(String name) {
+        return RANGE.matcher(name).matches();
+    }
+
+    /**
+     * Gets children of part of array. If part contains not more than {@link #PAGE_SIZE} elements then elements are
+     * returned, otherwise part is split in not more than {@link #PAGE_SIZE} ranges.
+     */
+    static JdiVariable[] getVariables(ArrayReference array, int from, int to) {
+        final int length = to - from + 1;
+        if (length <= 0) {
+            return new JdiVariable[0];
+        }
+        if (length <= PAGE_SIZE) {
+            List<Value> values = array.getValues(from, length);
+            JdiVariable[] elements = new JdiVariable[length];
+            for (int i = 0; i < length; i++) {
+                elements[i] = new JdiArrayElementImpl(from + i, values.get(i));
+            }
+            return elements;
+        }
+        long step = PAGE_SIZE;
+        while ((length + step - 1) / step > PAGE_SIZE) {
+            step *= PAGE_SIZE;
+        }
+        JdiVariable[] ranges = new JdiVariable[(int)((length + step - 1) / step)];
+        for (int i = 0; i < ranges.length; i++) {
+            int start = (int)(from + i * step);
+            ranges[i] = new JdiArrayRange(array, start, (int)Math.min(to, start + step - 1));
+        }
+        return ranges;
+    }
+
+    /**
+     * Gets element or range of elements of part of array by name without reading other elements from the debuggee
+     * JVM.
+     *
+     * @return element or range or <code>null</code> if name doesn't match to any element or range inside of part
+     */
+    static JdiVariable getVariableByName(ArrayReference array, int from, int to, String name) {
+        try {
+            Matcher matcher = INDEX.matcher(name);
+            if (matcher.matches()) {
+                long index = Long.parseLong(matcher.group(1));
+                if (index < from || index > to) {
+                    return null;
+                }
+                return new JdiArrayElementImpl((int)index, array.getValue((int)index));
+            }
+            matcher = RANGE.matcher(name);
+            if (matcher.matches()) {
+                long start = Long.parseLong(matcher.group(1));
+                long end = Long.parseLong(matcher.group(2));
+                if (start < from || end > to || start > end) {
+                    return null;
+                }
+                return new JdiArrayRange(array, (int)start, (int)end);
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isArray() {
+        return true;
+    }
+
+    @Override
+    public boolean isPrimitive() {
+        return false;
+    }
+
+    @Override
+    public JdiValue getValue() {
+        return this;
+    }
+
+    @Override
+    public String getTypeName() {
+        return array.type().name();
+    }
+
+    @Override
+    public String getAsString() {
+        return name;
+    }
+
+    @Override
+    public JdiVariable[] getVariables() {
+        if (variables == null) {
+            variables = getVariables(array, from, to);
+        }
+        return variables;
+    }
+
+    @Override
+    public JdiVariable getVariableByName(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Variable name may not be null. ");
+        }
+        return getVariableByName(array, from, to, name);
+    }
+}
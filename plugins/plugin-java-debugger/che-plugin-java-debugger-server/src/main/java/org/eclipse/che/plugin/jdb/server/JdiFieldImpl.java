@@ -22,6 +22,9 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
     private final Field           field;
     private final ReferenceType   type;
     private final ObjectReference object;
+    private       boolean         valueRead;
+    private       Value           value;
+    private       JdiValue        jdiValue;
 
     public JdiFieldImpl(Field field, ObjectReference object) {
         this.field = field;
@@ -35,6 +38,20 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
         this.object = null;
     }
 
+    /** Creates field with value that is already read from the debuggee JVM, e.g. together with other fields. */
+    public JdiFieldImpl(Field field, ObjectReference object, Value value) {
+        this(field, object);
+        this.value = value;
+        this.valueRead = true;
+    }
+
+    /** Creates static field with value that is already read from the debuggee JVM together with other fields. */
+    public JdiFieldImpl(Field field, ReferenceType type, Value value) {
+        this(field, type);
+        this.value = value;
+        this.valueRead = true;
+    }
+
     @Override
     public String getName() {
         return field.name();
@@ -72,11 +89,14 @@ public class JdiFieldImpl implements JdiField, Comparable<JdiFieldImpl> {
 
     @Override
     public JdiValue getValue() {
-        Value value = object == null ? type.getValue(field) : object.getValue(field);
-        if (value == null) {
-            return new JdiNullValue();
+        if (jdiValue == null) {
+            if (!valueRead) {
+                value = object == null ? type.getValue(field) : object.getValue(field);
+                valueRead = true;
+            }
+            jdiValue = value == null ? new JdiNullValue() : new JdiValueImpl(value);
         }
-        return new JdiValueImpl(value);
+        return jdiValue;
     }
 
     @Override
@@ -20,12 +20,22 @@ import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 public class JdiLocalVariableImpl implements JdiLocalVariable {
     private final LocalVariable variable;
     private final StackFrame    stackFrame;
+    private       boolean       valueRead;
+    private       Value         value;
+    private       JdiValue      jdiValue;
 
     public JdiLocalVariableImpl(StackFrame stackFrame, LocalVariable variable) {
         this.stackFrame = stackFrame;
         this.variable = variable;
     }
 
+    /** Creates local variable with value that is already read from the debuggee JVM together with other variables. */
+    public JdiLocalVariableImpl(StackFrame stackFrame, LocalVariable variable, Value value) {
+        this(stackFrame, variable);
+        this.value = value;
+        this.valueRead = true;
+    }
+
     @Override
     public String getName() {
         return variable.name();
@@ -43,11 +53,14 @@ public class JdiLocalVariableImpl implements JdiLocalVariable {
 
     @Override
     public JdiValue getValue() {
-        Value value = stackFrame.getValue(variable);
-        if (value == null) {
-            return new JdiNullValue();
+        if (jdiValue == null) {
+            if (!valueRead) {
+                value = stackFrame.getValue(variable);
+                valueRead = true;
+            }
+            jdiValue = value == null ? new JdiNullValue() : new JdiValueImpl(value);
         }
-        return new JdiValueImpl(value);
+        return jdiValue;
     }
 
     @Override
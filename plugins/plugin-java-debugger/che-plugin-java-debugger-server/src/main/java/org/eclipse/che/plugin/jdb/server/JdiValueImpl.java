@@ -21,6 +21,7 @@ import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /** @author andrew00x */
 public class JdiValueImpl implements JdiValue {
@@ -47,19 +48,17 @@ public class JdiValueImpl implements JdiValue {
             } else {
                 if (isArray()) {
                     ArrayReference array = (ArrayReference)value;
-                    int length = array.length();
-                    variables = new JdiVariable[length];
-                    for (int i = 0; i < length; i++) {
-                        variables[i] = new JdiArrayElementImpl(i, array.getValue(i));
-                    }
+                    variables = JdiArrayRange.getVariables(array, 0, array.length() - 1);
                 } else {
                     ObjectReference object = (ObjectReference)value;
                     ReferenceType type = object.referenceType();
                     List<Field> fields = type.allFields();
+                    // Read values of all fields with single request to the debuggee JVM.
+                    Map<Field, Value> values = object.getValues(fields);
                     variables = new JdiVariable[fields.size()];
                     int i = 0;
                     for (Field f : fields) {
-                        variables[i++] = new JdiFieldImpl(f, object);
+                        variables[i++] = new JdiFieldImpl(f, object, values.get(f));
                     }
                     // See JdiFieldImpl#compareTo(JdiFieldImpl).
                     Arrays.sort(variables);
@@ -74,11 +73,19 @@ public class JdiValueImpl implements JdiValue {
         if (name == null) {
             throw new IllegalArgumentException("Variable name may not be null. ");
         }
-        for (JdiVariable variable : getVariables()) {
-            if (name.equals(variable.getName())) {
-                return variable;
+        if (variables != null || !isArray()) {
+            for (JdiVariable variable : getVariables()) {
+                if (name.equals(variable.getName())) {
+                    return variable;
+                }
             }
         }
+        if (isArray()) {
+            // Element of large array may be hidden inside of range, also there is no need to read whole array
+            // if just one element or range of elements is requested.
+            ArrayReference array = (ArrayReference)value;
+            return JdiArrayRange.getVariableByName(array, 0, array.length() - 1, name);
+        }
         return null;
     }
 
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import com.sun.jdi.IntegerValue;
+import com.sun.jdi.LocalVariable;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.StackFrame;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.event.ClassPrepareEvent;
+import com.sun.jdi.event.Event;
+import com.sun.jdi.event.EventSet;
+import com.sun.jdi.request.EventRequestManager;
+import com.sun.jdi.request.StepRequest;
+
+import org.eclipse.che.api.debug.shared.model.SimpleValue;
+import org.eclipse.che.api.debug.shared.model.impl.VariableImpl;
+import org.eclipse.che.api.debug.shared.model.impl.VariablePathImpl;
+import org.eclipse.che.api.debug.shared.model.impl.action.StepOverActionImpl;
+import org.eclipse.che.api.debugger.server.Debugger.DebuggerCallback;
+import org.eclipse.che.api.debugger.server.exceptions.DebuggerException;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests that variables resolved by path in {@link JavaDebugger} are reused only while state of the suspended thread
+ * can't be changed.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class JavaDebuggerTest {
+    @Mock
+    private VirtualMachine      vm;
+    @Mock
+    private DebuggerCallback    callback;
+    @Mock
+    private ThreadReference     thread;
+    @Mock
+    private StackFrame          frame;
+    @Mock
+    private LocalVariable       variable;
+    @Mock
+    private IntegerValue        value;
+    @Mock
+    private EventRequestManager eventRequestManager;
+    @Mock
+    private StepRequest         stepRequest;
+
+    private JavaDebugger debugger;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        when(thread.frame(0)).thenReturn(frame);
+        when(frame.visibleVariables()).thenReturn(singletonList(variable));
+        when(frame.getValues(anyListOf(LocalVariable.class))).thenReturn(singletonMap(variable, value));
+        when(frame.visibleVariableByName("x")).thenReturn(variable);
+        when(variable.name()).thenReturn("x");
+        when(value.toString()).thenReturn("1");
+
+        debugger = new JavaDebugger(vm, callback);
+        suspend();
+    }
+
+    @Test
+    public void shouldReuseResolvedVariableWhileThreadIsSuspended() throws Exception {
+        assertEquals(getValueOfX().getValue(), "1");
+        assertEquals(getValueOfX().getValue(), "1");
+
+        verify(frame, times(1)).visibleVariables();
+    }
+
+    @Test
+    public void shouldResolveVariableAgainAfterEvaluation() throws Exception {
+        when(vm.mirrorOf(2)).thenReturn(value);
+        getValueOfX();
+
+        debugger.evaluate("2");
+        getValueOfX();
+
+        verify(frame, times(2)).visibleVariables();
+    }
+
+    @Test
+    public void shouldResolveVariableAgainAfterFailedEvaluation() throws Exception {
+        getValueOfX();
+
+        try {
+            debugger.evaluate("y");
+            fail("DebuggerException expected");
+        } catch (DebuggerException ignored) {
+        }
+        getValueOfX();
+
+        verify(frame, times(2)).visibleVariables();
+    }
+
+    @Test
+    public void shouldResolveVariableAgainAfterSettingValue() throws Exception {
+        IntegerValue newValue = mock(IntegerValue.class);
+        when(vm.mirrorOf(5)).thenReturn(newValue);
+        getValueOfX();
+
+        debugger.setValue(new VariableImpl("5", new VariablePathImpl("x")));
+        getValueOfX();
+
+        verify(frame).setValue(variable, newValue);
+        verify(frame, times(2)).visibleVariables();
+    }
+
+    @Test
+    public void shouldNotReuseResolvedVariableAfterStep() throws Exception {
+        when(vm.eventRequestManager()).thenReturn(eventRequestManager);
+        when(eventRequestManager.stepRequests()).thenReturn(Collections.<StepRequest>emptyList());
+        when(eventRequestManager.createStepRequest(thread, StepRequest.STEP_LINE, StepRequest.STEP_OVER)).thenReturn(stepRequest);
+        getValueOfX();
+
+        debugger.stepOver(new StepOverActionImpl());
+        verify(vm).resume();
+        try {
+            getValueOfX();
+            fail("DebuggerException expected, thread is not suspended after step");
+        } catch (DebuggerException ignored) {
+        }
+
+        suspend();
+        getValueOfX();
+
+        verify(frame, times(2)).visibleVariables();
+    }
+
+    private SimpleValue getValueOfX() throws DebuggerException {
+        return debugger.getValue(new VariablePathImpl("x"));
+    }
+
+    /** Emulates suspending of the thread by the debuggee JVM. */
+    private void suspend() throws DebuggerException {
+        ClassPrepareEvent event = mock(ClassPrepareEvent.class);
+        ReferenceType type = mock(ReferenceType.class);
+        when(event.thread()).thenReturn(thread);
+        when(event.referenceType()).thenReturn(type);
+        when(type.name()).thenReturn("Test");
+        EventSet eventSet = mock(EventSet.class);
+        when(eventSet.iterator()).thenReturn(singletonList((Event)event).iterator());
+
+        debugger.handleEvents(eventSet);
+    }
+}
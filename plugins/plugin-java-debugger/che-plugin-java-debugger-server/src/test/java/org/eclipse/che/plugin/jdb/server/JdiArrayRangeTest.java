@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.jdb.server;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.Value;
+
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests paging of array elements in {@link JdiArrayRange}.
+ */
+@Listeners(MockitoTestNGListener.class)
+public class JdiArrayRangeTest {
+    @Mock
+    private ArrayReference array;
+    @Mock
+    private Value          value;
+
+    @Test
+    public void shouldReturnElementsWithSingleRequestWhenArrayIsNotLongerThanPage() throws Exception {
+        when(array.getValues(0, 100)).thenReturn(Collections.nCopies(100, value));
+
+        JdiVariable[] variables = JdiArrayRange.getVariables(array, 0, 99);
+
+        assertEquals(variables.length, 100);
+        assertEquals(variables[0].getName(), "[0]");
+        assertEquals(variables[99].getName(), "[99]");
+        assertTrue(variables[99] instanceof JdiArrayElement);
+        verify(array).getValues(0, 100);
+    }
+
+    @Test
+    public void shouldSplitArrayInRangesWhenArrayIsLongerThanPage() throws Exception {
+        JdiVariable[] variables = JdiArrayRange.getVariables(array, 0, 100);
+
+        assertEquals(variables.length, 2);
+        assertEquals(variables[0].getName(), "[0..99]");
+        assertEquals(variables[1].getName(), "[100..100]");
+        verify(array, never()).getValues(anyInt(), anyInt());
+    }
+
+    @Test
+    public void shouldSplitArrayInPagesOfElementsWhenArrayFitsInPageOfPages() throws Exception {
+        JdiVariable[] variables = JdiArrayRange.getVariables(array, 0, 9999);
+
+        assertEquals(variables.length, 100);
+        assertEquals(variables[0].getName(), "[0..99]");
+        assertEquals(variables[99].getName(), "[9900..9999]");
+    }
+
+    @Test
+    public void shouldGrowStepOfRangesWhenArrayDoesNotFitInPageOfPages() throws Exception {
+        JdiVariable[] variables = JdiArrayRange.getVariables(array, 0, 10000);
+
+        assertEquals(variables.length, 2);
+        assertEquals(variables[0].getName(), "[0..9999]");
+        assertEquals(variables[1].getName(), "[10000..10000]");
+    }
+
+    @Test
+    public void shouldNotOverflowIndexesOfRangesOfLargestArray() throws Exception {
+        JdiVariable[] variables = JdiArrayRange.getVariables(array, 0, Integer.MAX_VALUE - 1);
+
+        assertEquals(variables.length, 22);
+        assertEquals(variables[0].getName(), "[0..99999999]");
+        assertEquals(variables[21].getName(), "[2100000000.." + (Integer.MAX_VALUE - 1) + "]");
+    }
+
+    @Test
+    public void shouldReadElementsOfRangeWithSingleRequest() throws Exception {
+        when(array.getValues(100, 100)).thenReturn(Collections.nCopies(100, value));
+        JdiArrayRange range = new JdiArrayRange(array, 100, 199);
+
+        JdiVariable[] variables = range.getVariables();
+
+        assertEquals(variables.length, 100);
+        assertEquals(variables[0].getName(), "[100]");
+        assertEquals(variables[99].getName(), "[199]");
+        verify(array).getValues(100, 100);
+    }
+
+    @Test
+    public void shouldReturnNoVariablesForEmptyArray() throws Exception {
+        assertEquals(JdiArrayRange.getVariables(array, 0, -1).length, 0);
+        verify(array, never()).getValues(anyInt(), anyInt());
+    }
+
+    @Test
+    public void shouldGetElementByNameWithoutReadingOtherElements() throws Exception {
+        when(array.getValue(150)).thenReturn(value);
+
+        JdiVariable element = new JdiArrayRange(array, 100, 199).getVariableByName("[150]");
+
+        assertEquals(element.getName(), "[150]");
+        verify(array).getValue(150);
+        verify(array, never()).getValues(anyInt(), anyInt());
+    }
+
+    @Test
+    public void shouldNotGetElementOutsideOfRange() throws Exception {
+        JdiArrayRange range = new JdiArrayRange(array, 100, 199);
+
+        assertNull(range.getVariableByName("[99]"));
+        assertNull(range.getVariableByName("[200]"));
+        assertNull(range.getVariableByName("[9999999999]"));
+        verify(array, never()).getValue(anyInt());
+    }
+
+    @Test
+    public void shouldGetNestedRangeByName() throws Exception {
+        JdiVariable range = JdiArrayRange.getVariableByName(array, 0, 10000, "[10000..10000]");
+
+        assertEquals(range.getName(), "[10000..10000]");
+        assertTrue(range instanceof JdiArrayRange);
+    }
+
+    @Test
+    public void shouldNotGetRangeOutsideOfBoundsOrWithInvertedBounds() throws Exception {
+        assertNull(JdiArrayRange.getVariableByName(array, 0, 99, "[50..100]"));
+        assertNull(JdiArrayRange.getVariableByName(array, 100, 199, "[99..150]"));
+        assertNull(JdiArrayRange.getVariableByName(array, 0, 99, "[20..10]"));
+    }
+
+    @Test
+    public void shouldNotGetVariableByUnknownName() throws Exception {
+        assertNull(JdiArrayRange.getVariableByName(array, 0, 99, "length"));
+        assertNull(JdiArrayRange.getVariableByName(array, 0, 99, "[-1]"));
+    }
+
+    @Test
+    public void shouldRecognizeNameOfRange() throws Exception {
+        assertTrue(JdiArrayRange.isRange("[100..199]"));
+        assertFalse(JdiArrayRange.isRange("[100]"));
+        assertFalse(JdiArrayRange.isRange("array"));
+    }
+}
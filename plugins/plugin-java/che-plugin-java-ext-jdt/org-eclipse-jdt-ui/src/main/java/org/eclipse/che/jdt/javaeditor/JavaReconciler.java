@@ -13,14 +13,21 @@ package org.eclipse.che.jdt.javaeditor;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
+import org.eclipse.che.commons.lang.IoUtil;
 import org.eclipse.che.dto.server.DtoFactory;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
 import org.eclipse.che.ide.ext.java.shared.dto.Problem;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaModelStatusConstants;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IProblemRequestor;
 import org.eclipse.jdt.core.IType;
@@ -33,26 +40,209 @@ import org.eclipse.jdt.internal.core.ClassFileWorkingCopy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
+ * Reconciles java files opened in editors.
+ * <p/>
+ * Working copies of files opened in editors are kept between reconcile requests, each editor has its own working copy.
+ * The number of kept working copies is bounded, least recently reconciled working copy is discarded first.
+ * Content of the working copy is either updated with changes sent by client or re-read from the file when the file
+ * is modified. Changes are numbered by client sequentially, changes which don't follow the previously applied ones
+ * are rejected, so client has to send whole content of the document. Reconcile request which is superseded
+ * by newer request for the same working copy is canceled.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
 public class JavaReconciler {
     private static final Logger LOG = LoggerFactory.getLogger(JavaReconciler.class);
 
+    private static final int DEFAULT_MAX_WORKING_COPIES = 20;
+    private static final int LATENCY_SAMPLES            = 1024;
+
+    private final Map<String, OpenedWorkingCopy> workingCopies = new LinkedHashMap<>(16, 0.75f, true);
+    private final long[]                         latencies     = new long[LATENCY_SAMPLES];
+    private       long                           reconciled;
 
     private SemanticHighlightingReconciler semanticHighlighting;
+    private int                            maxWorkingCopies = DEFAULT_MAX_WORKING_COPIES;
 
     @Inject
     public JavaReconciler(SemanticHighlightingReconciler semanticHighlighting) {
         this.semanticHighlighting = semanticHighlighting;
     }
 
+    @Inject(optional = true)
+    public void setMaxWorkingCopies(@Named("che.java.reconcile.max_working_copies") int maxWorkingCopies) {
+        if (maxWorkingCopies > 0) {
+            this.maxWorkingCopies = maxWorkingCopies;
+        }
+    }
+
     public ReconcileResult reconcile(IJavaProject javaProject, String fqn) throws JavaModelException {
+        return reconcile(javaProject, fqn, null);
+    }
+
+    /**
+     * Reconciles working copy of the type opened in the editor, content of the working copy isn't changed.
+     *
+     * @param editorId
+     *         identifier of the editor, may be {@code null}
+     * @return result of reconcile or {@code null} if the type isn't found or the request is superseded by newer one
+     */
+    public ReconcileResult reconcile(IJavaProject javaProject, String fqn, String editorId) throws JavaModelException {
+        return reconcile(javaProject, fqn, editorId, 0, null);
+    }
+
+    /**
+     * Reconciles working copy of the type opened in the editor.
+     *
+     * @param editorId
+     *         identifier of the editor, may be {@code null}
+     * @param version
+     *         sequential number of the changes, must follow the number of previously applied changes
+     *         unless the changes replace whole content
+     * @param changes
+     *         changes of the file content made since previous reconcile request, change with negative length replaces
+     *         whole content; {@code null} if the content should be taken from the file
+     * @return result of reconcile or {@code null} if the type isn't found or the request is superseded by newer one
+     * @throws WorkingCopyOutOfSyncException
+     *         if changes are sent for the file which doesn't have opened working copy or don't follow previously
+     *         applied changes
+     */
+    public ReconcileResult reconcile(IJavaProject javaProject,
+                                     String fqn,
+                                     String editorId,
+                                     long version,
+                                     List<Change> changes) throws JavaModelException {
+        long start = System.nanoTime();
+        OpenedWorkingCopy workingCopy = getWorkingCopy(javaProject, fqn, editorId, changes);
+        if (workingCopy == null) {
+            return null;
+        }
+
+        long request = workingCopy.requests.incrementAndGet();
+        List<HighlightedPosition> positions;
+        workingCopy.lock.lock();
+        try {
+            if (workingCopy.discarded) {
+                if (changes != null && !replacesContent(changes)) {
+                    throw notOpened(fqn);
+                }
+                return reconcile(javaProject, fqn, editorId, version, changes);
+            }
+            updateContent(workingCopy, fqn, version, changes);
+            if (workingCopy.requests.get() != request) {
+                return null;
+            }
+
+            ProblemRequestor requestor = workingCopy.requestor;
+            requestor.reset();
+            CompilationUnit unit = workingCopy.compilationUnit.reconcile(AST.JLS8, true, workingCopy.owner,
+                                                                         new CancelMonitor(workingCopy, request));
+            positions = semanticHighlighting.reconcileSemanticHighlight(unit);
+            if (workingCopy.compilationUnit instanceof ClassFileWorkingCopy) {
+                //we don't wont to show any errors from ".class" files
+                requestor.reset();
+            }
+
+            ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
+            result.setProblems(convertProblems(requestor.problems));
+            result.setHighlightedPositions(positions);
+            recordLatency(System.nanoTime() - start);
+            return result;
+        } catch (OperationCanceledException e) {
+            return null;
+        } catch (JavaModelException e) {
+            LOG.error("Can't reconcile class: " + fqn + " in project:" + javaProject.getPath().toOSString(), e);
+            throw e;
+        } finally {
+            workingCopy.lock.unlock();
+        }
+    }
+
+    /** Discards working copy of the type, should be called when file is closed in editor. */
+    public void closeWorkingCopy(IJavaProject javaProject, String fqn, String editorId) {
+        OpenedWorkingCopy workingCopy;
+        synchronized (workingCopies) {
+            workingCopy = workingCopies.remove(key(javaProject, fqn, editorId));
+        }
+        if (workingCopy != null) {
+            discard(workingCopy);
+        }
+    }
+
+    /** Returns statistics of latest reconcile requests. */
+    public Statistics getStatistics() {
+        long[] samples;
+        long count;
+        synchronized (latencies) {
+            count = reconciled;
+            samples = Arrays.copyOf(latencies, (int)Math.min(count, LATENCY_SAMPLES));
+        }
+        Arrays.sort(samples);
+        return new Statistics(count, percentile(samples, 50), percentile(samples, 90), percentile(samples, 99));
+    }
+
+    private OpenedWorkingCopy getWorkingCopy(IJavaProject javaProject,
+                                             String fqn,
+                                             String editorId,
+                                             List<Change> changes) throws JavaModelException {
+        String key = key(javaProject, fqn, editorId);
+        synchronized (workingCopies) {
+            OpenedWorkingCopy workingCopy = workingCopies.get(key);
+            if (workingCopy != null) {
+                return workingCopy;
+            }
+        }
+        if (changes != null && !replacesContent(changes)) {
+            throw notOpened(fqn);
+        }
+        // opening requires type lookup which may be long, so it is done without lock to not block other reconciles
+        OpenedWorkingCopy opened = openWorkingCopy(javaProject, fqn);
+        if (opened == null) {
+            return null;
+        }
+        List<OpenedWorkingCopy> evicted = new ArrayList<>();
+        OpenedWorkingCopy workingCopy;
+        synchronized (workingCopies) {
+            workingCopy = workingCopies.get(key);
+            if (workingCopy == null) {
+                workingCopy = opened;
+                workingCopies.put(key, workingCopy);
+                for (Iterator<OpenedWorkingCopy> it = workingCopies.values().iterator(); workingCopies.size() > maxWorkingCopies; ) {
+                    evicted.add(it.next());
+                    it.remove();
+                }
+            } else {
+                // the same working copy was opened by concurrent request
+                evicted.add(opened);
+            }
+        }
+        evicted.forEach(this::discard);
+        return workingCopy;
+    }
+
+    private OpenedWorkingCopy openWorkingCopy(IJavaProject javaProject, String fqn) throws JavaModelException {
+        IType type = javaProject.findType(fqn);
+        if (type == null) {
+            return null;
+        }
+        if (type.isBinary()) {
+            throw new IllegalArgumentException("Can't reconcile binary type: " + fqn);
+        }
         final ProblemRequestor requestor = new ProblemRequestor();
         WorkingCopyOwner wcOwner = new WorkingCopyOwner() {
             public IProblemRequestor getProblemRequestor(ICompilationUnit unit) {
@@ -61,50 +251,93 @@ public class JavaReconciler {
 
             @Override
             public IBuffer createBuffer(ICompilationUnit workingCopy) {
-//                return BufferManager.createBuffer(workingCopy);
-//                ?????
                 return new org.eclipse.jdt.internal.ui.javaeditor.DocumentAdapter(workingCopy, (IFile)workingCopy.getResource());
             }
         };
-        List<HighlightedPosition> positions = null;
-        ICompilationUnit compilationUnit = null;
-        try {
-            IType type = javaProject.findType(fqn);
-            if (type == null) {
-                return null;
+        OpenedWorkingCopy workingCopy = new OpenedWorkingCopy(type.getCompilationUnit().getWorkingCopy(wcOwner, null), wcOwner, requestor);
+        workingCopy.fileStamp = fileStamp(workingCopy.compilationUnit);
+        return workingCopy;
+    }
+
+    private void updateContent(OpenedWorkingCopy workingCopy,
+                               String fqn,
+                               long version,
+                               List<Change> changes) throws JavaModelException {
+        IBuffer buffer = workingCopy.compilationUnit.getBuffer();
+        if (changes != null) {
+            if (!replacesContent(changes) && version != workingCopy.version + 1) {
+                throw new WorkingCopyOutOfSyncException("Changes " + version + " of " + fqn +
+                                                        " don't follow applied changes " + workingCopy.version);
             }
-            if (type.isBinary()) {
-                throw new IllegalArgumentException("Can't reconcile binary type: " + fqn);
-            } else {
-                compilationUnit = type.getCompilationUnit().getWorkingCopy(wcOwner, null);
+            for (Change change : changes) {
+                if (change.getLength() < 0) {
+                    buffer.setContents(change.getText());
+                } else {
+                    buffer.replace(change.getOffset(), change.getLength(), change.getText());
+                }
             }
-            requestor.reset();
-            CompilationUnit unit = compilationUnit.reconcile(AST.JLS8, true, wcOwner, null);
-            positions = semanticHighlighting.reconcileSemanticHighlight(unit);
-            if (compilationUnit instanceof ClassFileWorkingCopy) {
-                //we don't wont to show any errors from ".class" files
-                requestor.reset();
+            // content is maintained by client since now, file may contain older content
+            workingCopy.editedByClient = true;
+            workingCopy.version = version;
+            return;
+        }
+
+        String fileStamp = fileStamp(workingCopy.compilationUnit);
+        if (!workingCopy.editedByClient && !fileStamp.equals(workingCopy.fileStamp)) {
+            try (InputStream inputStream = ((IFile)workingCopy.compilationUnit.getResource()).getContents()) {
+                buffer.setContents(IoUtil.readStream(inputStream));
+            } catch (IOException | CoreException e) {
+                throw new JavaModelException(e, IJavaModelStatusConstants.IO_EXCEPTION);
             }
+            workingCopy.fileStamp = fileStamp;
+        }
+    }
 
+    private void discard(OpenedWorkingCopy workingCopy) {
+        workingCopy.requests.incrementAndGet();
+        workingCopy.lock.lock();
+        try {
+            workingCopy.discarded = true;
+            //todo close buffer
+            workingCopy.compilationUnit.getBuffer().close();
+            workingCopy.compilationUnit.discardWorkingCopy();
         } catch (JavaModelException e) {
-            LOG.error("Can't reconcile class: " + fqn + " in project:" + javaProject.getPath().toOSString(), e);
-            throw e;
+            //ignore
         } finally {
-            if(compilationUnit!= null && compilationUnit.isWorkingCopy()){
-                try {
-                    //todo close buffer
-                    compilationUnit.getBuffer().close();
-                    compilationUnit.discardWorkingCopy();
-                } catch (JavaModelException e) {
-                    //ignore
-                }
-            }
+            workingCopy.lock.unlock();
         }
+    }
 
-        ReconcileResult result = DtoFactory.getInstance().createDto(ReconcileResult.class);
-        result.setProblems(convertProblems(requestor.problems));
-        result.setHighlightedPositions(positions);
-        return result;
+    private void recordLatency(long nanos) {
+        synchronized (latencies) {
+            latencies[(int)(reconciled % LATENCY_SAMPLES)] = nanos;
+            reconciled++;
+        }
+    }
+
+    private static long percentile(long[] sortedSamples, int percent) {
+        if (sortedSamples.length == 0) {
+            return 0;
+        }
+        int index = (int)Math.ceil(percent / 100.0 * sortedSamples.length) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sortedSamples[Math.max(0, index)]);
+    }
+
+    private static boolean replacesContent(List<Change> changes) {
+        return !changes.isEmpty() && changes.get(0).getLength() < 0;
+    }
+
+    private static String fileStamp(ICompilationUnit compilationUnit) {
+        File file = compilationUnit.getResource().getLocation().toFile();
+        return file.lastModified() + ":" + file.length();
+    }
+
+    private static WorkingCopyOutOfSyncException notOpened(String fqn) {
+        return new WorkingCopyOutOfSyncException("Working copy of " + fqn + " isn't opened");
+    }
+
+    private static String key(IJavaProject javaProject, String fqn, String editorId) {
+        return javaProject.getPath().toString() + ':' + fqn + ':' + editorId;
     }
 
     private List<Problem> convertProblems(List<IProblem> problems) {
@@ -159,4 +392,78 @@ public class JavaReconciler {
             problems.clear();
         }
     }
+
+    /** Statistics of reconcile requests, latencies are given in milliseconds for latest requests. */
+    public static class Statistics {
+        private final long count;
+        private final long p50;
+        private final long p90;
+        private final long p99;
+
+        Statistics(long count, long p50, long p90, long p99) {
+            this.count = count;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+        }
+
+        /** Number of completed reconcile requests. */
+        public long getCount() {
+            return count;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP90() {
+            return p90;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{count=" + count + ", p50=" + p50 + ", p90=" + p90 + ", p99=" + p99 + '}';
+        }
+    }
+
+    private static class OpenedWorkingCopy {
+        private final ICompilationUnit compilationUnit;
+        private final WorkingCopyOwner owner;
+        private final ProblemRequestor requestor;
+        /** Requests are served in order of arrival, so changes are applied in the same order as they were sent. */
+        private final ReentrantLock    lock     = new ReentrantLock(true);
+        private final AtomicLong       requests = new AtomicLong();
+
+        private String  fileStamp;
+        private boolean editedByClient;
+        private boolean discarded;
+        /** Number of the latest changes applied to the working copy. */
+        private long    version;
+
+        OpenedWorkingCopy(ICompilationUnit compilationUnit, WorkingCopyOwner owner, ProblemRequestor requestor) {
+            this.compilationUnit = compilationUnit;
+            this.owner = owner;
+            this.requestor = requestor;
+        }
+    }
+
+    /** Cancels reconcile when newer request for the same working copy comes. */
+    private static class CancelMonitor extends NullProgressMonitor {
+        private final OpenedWorkingCopy workingCopy;
+        private final long              request;
+
+        CancelMonitor(OpenedWorkingCopy workingCopy, long request) {
+            this.workingCopy = workingCopy;
+            this.request = request;
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return workingCopy.requests.get() != request;
+        }
+    }
 }
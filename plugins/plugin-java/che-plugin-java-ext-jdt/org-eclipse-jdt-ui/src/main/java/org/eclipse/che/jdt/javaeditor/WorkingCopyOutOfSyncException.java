@@ -0,0 +1,22 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.jdt.javaeditor;
+
+/**
+ * Thrown when changes are sent for the file which working copy isn't in sync with the client document,
+ * e.g. working copy was discarded because of too many opened files or previous changes were lost.
+ * Client should send whole content of the file.
+ */
+public class WorkingCopyOutOfSyncException extends IllegalStateException {
+    public WorkingCopyOutOfSyncException(String message) {
+        super(message);
+    }
+}
@@ -91,6 +91,8 @@ public class IndexManager extends JobManager implements IIndexConstants {
     private SimpleLookupTable participantsContainers = null;
     private boolean           participantUpdated     = false;
     private String indexLocation;
+    // indexes of binary libraries shared between workspace agents, may be null
+    private SharedIndexStore sharedIndexStore;
 
     public IndexManager(String indexLocation) {
         this.indexLocation = indexLocation;
@@ -217,6 +219,10 @@ public class IndexManager extends JobManager implements IIndexConstants {
         return indexLocation;
     }
 
+    public void setSharedIndexStore(SharedIndexStore sharedIndexStore) {
+        this.sharedIndexStore = sharedIndexStore;
+    }
+
     public void deleteIndexFiles() {
         if (DEBUG)
             Util.verbose("Deleting index files"); //$NON-NLS-1$
@@ -602,6 +608,12 @@ public class IndexManager extends JobManager implements IIndexConstants {
     public void indexLibrary(IPath path, IProject requestingProject, URL indexURL, final boolean updateIndex) {
         // requestingProject is no longer used to cancel jobs but leave it here just in case
         IndexLocation indexFile = null;
+        if (indexURL == null && this.sharedIndexStore != null) {
+            indexURL = this.sharedIndexStore.findIndex(path);
+            if (indexURL == null) {
+                forgetSharedIndex(path);
+            }
+        }
         if (indexURL != null) {
             if (IS_MANAGING_PRODUCT_INDEXES_PROPERTY) {
                 indexFile = computeIndexLocation(path, indexURL);
@@ -629,6 +641,25 @@ public class IndexManager extends JobManager implements IIndexConstants {
             request(request);
     }
 
+    /**
+     * Stops using shared index for the library which content was changed, so the library is indexed to own index file
+     * instead of the shared one.
+     */
+    private synchronized void forgetSharedIndex(IPath containerPath) {
+        IndexLocation location = (IndexLocation)this.indexLocations.get(containerPath);
+        if (location != null && this.sharedIndexStore.contains(location.getIndexFile())) {
+            // shared index must not be deleted, so don't use removeIndex
+            Index index = getIndex(location);
+            if (index != null) {
+                index.monitor = null;
+            }
+            location.close();
+            this.indexes.removeKey(location);
+            this.indexLocations.put(containerPath, null);
+            updateIndexState(location, null);
+        }
+    }
+
     synchronized boolean addIndex(IPath containerPath, IndexLocation indexFile) {
         getIndexStates().put(indexFile, REUSE_STATE);
         this.indexLocations.put(containerPath, indexFile);
@@ -948,6 +979,9 @@ public class IndexManager extends JobManager implements IIndexConstants {
             IndexLocation indexLocation = computeIndexLocation(containerPath);
             updateIndexState(indexLocation, SAVED_STATE);
         }
+        if (this.sharedIndexStore != null && index.getIndexFile() != null) {
+            this.sharedIndexStore.publish(new Path(index.containerPath), index.getIndexFile());
+        }
     }
 
     /**
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Store of indexes of binary libraries which is shared between workspace agents.
+ * <p/>
+ * Index of the library is kept in the file named by SHA-1 checksum of the library content, so the same jar
+ * is indexed once regardless of its location. Workspace agents use the store in read-only mode, the store is
+ * populated by the agent which is started with writable store, e.g. when image is built.
+ * <p/>
+ * Checksums of libraries are appended to the agent's own checksums file together with length and modification time
+ * of the library, so libraries that are not changed aren't read again after restart of the agent.
+ */
+public class SharedIndexStore {
+    private static final Logger LOG = LoggerFactory.getLogger(SharedIndexStore.class);
+
+    private static final String INDEX_FILE_EXTENSION     = ".index";
+    private static final int    CHECKSUMS_FORMAT_VERSION = 1;
+
+    private final File    directory;
+    private final boolean writable;
+    private final File    checksumsFile;
+
+    /** Checksums of libraries, key is the path of the library. */
+    private final Map<String, Checksum> checksums = new ConcurrentHashMap<>();
+
+    /**
+     * @param directory
+     *         directory of the store
+     * @param writable
+     *         whether indexes are copied to the store
+     * @param checksumsFile
+     *         file where checksums of libraries are kept between restarts of the agent
+     */
+    public SharedIndexStore(File directory, boolean writable, File checksumsFile) {
+        this.directory = directory;
+        this.writable = writable;
+        this.checksumsFile = checksumsFile;
+        loadChecksums();
+    }
+
+    /**
+     * Returns URL of the shared index of the library or {@code null} if the store doesn't have index
+     * of the library or the library isn't a file outside of the workspace.
+     */
+    public URL findIndex(IPath libraryPath) {
+        File library = getLibraryFile(libraryPath);
+        return library == null ? null : findIndex(library);
+    }
+
+    URL findIndex(File library) {
+        try {
+            File indexFile = new File(directory, getChecksum(library) + INDEX_FILE_EXTENSION);
+            return indexFile.isFile() ? indexFile.toURI().toURL() : null;
+        } catch (IOException e) {
+            LOG.debug("Can't find shared index of library " + library, e);
+            return null;
+        }
+    }
+
+    /** Checks whether the index file belongs to this store. */
+    public boolean contains(File indexFile) {
+        return indexFile != null && directory.equals(indexFile.getParentFile());
+    }
+
+    /** Copies index of the library to the store if the store is writable and doesn't have index of the library yet. */
+    public void publish(IPath libraryPath, File indexFile) {
+        if (!writable || contains(indexFile)) {
+            return;
+        }
+        File library = getLibraryFile(libraryPath);
+        if (library != null) {
+            publish(library, indexFile);
+        }
+    }
+
+    void publish(File library, File indexFile) {
+        if (!writable || contains(indexFile)) {
+            return;
+        }
+        try {
+            File target = new File(directory, getChecksum(library) + INDEX_FILE_EXTENSION);
+            if (target.exists()) {
+                return;
+            }
+            Files.createDirectories(directory.toPath());
+            Path tmp = Files.createTempFile(directory.toPath(), target.getName(), ".tmp");
+            try {
+                Files.copy(indexFile.toPath(), tmp, StandardCopyOption.REPLACE_EXISTING);
+                move(tmp, target.toPath());
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOG.warn("Can't publish index of library " + library + " to shared store", e);
+        }
+    }
+
+    private File getLibraryFile(IPath libraryPath) {
+        Object target = JavaModelManager.getTarget(libraryPath, true);
+        if (target instanceof File && ((File)target).isFile()) {
+            return (File)target;
+        }
+        return null;
+    }
+
+    private String getChecksum(File library) throws IOException {
+        String key = library.getAbsolutePath();
+        long lastModified = library.lastModified();
+        long length = library.length();
+        Checksum checksum = checksums.get(key);
+        if (checksum == null || checksum.lastModified != lastModified || checksum.length != length) {
+            checksum = new Checksum(lastModified, length, sha1(library));
+            checksums.put(key, checksum);
+            appendChecksum(key, checksum);
+        }
+        return checksum.sha1;
+    }
+
+    private synchronized void appendChecksum(String key, Checksum checksum) {
+        try {
+            Files.createDirectories(checksumsFile.getParentFile().toPath());
+            boolean created = !checksumsFile.exists();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(checksumsFile, true)))) {
+                if (created) {
+                    out.writeInt(CHECKSUMS_FORMAT_VERSION);
+                }
+                writeChecksum(out, key, checksum);
+            }
+        } catch (IOException e) {
+            LOG.warn("Can't save checksum of library " + key, e);
+        }
+    }
+
+    /**
+     * Reads checksums saved by previous runs. File is rewritten if it contains many outdated checksums or if its last record
+     * is truncated, e.g. because the agent was stopped while writing it.
+     */
+    private void loadChecksums() {
+        if (!checksumsFile.isFile()) {
+            return;
+        }
+        boolean rewrite;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(checksumsFile)))) {
+            if (in.readInt() != CHECKSUMS_FORMAT_VERSION) {
+                throw new IOException("Unsupported format of checksums file");
+            }
+            int records = 0;
+            while (in.available() > 0) {
+                String key = in.readUTF();
+                long lastModified = in.readLong();
+                long length = in.readLong();
+                checksums.put(key, new Checksum(lastModified, length, in.readUTF()));
+                records++;
+            }
+            rewrite = records > checksums.size() * 2;
+        } catch (IOException e) {
+            LOG.warn("Can't read all checksums of libraries from " + checksumsFile, e);
+            rewrite = true;
+        }
+        if (rewrite) {
+            compactChecksums();
+        }
+    }
+
+    private synchronized void compactChecksums() {
+        try {
+            Path tmp = Files.createTempFile(checksumsFile.getParentFile().toPath(), checksumsFile.getName(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeInt(CHECKSUMS_FORMAT_VERSION);
+                    for (Map.Entry<String, Checksum> entry : checksums.entrySet()) {
+                        writeChecksum(out, entry.getKey(), entry.getValue());
+                    }
+                }
+                move(tmp, checksumsFile.toPath());
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOG.warn("Can't rewrite checksums of libraries in " + checksumsFile, e);
+        }
+    }
+
+    private static void writeChecksum(DataOutputStream out, String key, Checksum checksum) throws IOException {
+        out.writeUTF(key);
+        out.writeLong(checksum.lastModified);
+        out.writeLong(checksum.length);
+        out.writeUTF(checksum.sha1);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String sha1(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new FileInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static class Checksum {
+        private final long   lastModified;
+        private final long   length;
+        private final String sha1;
+
+        Checksum(long lastModified, long length, String sha1) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.sha1 = sha1;
+        }
+    }
+}
@@ -24,6 +24,8 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.internal.core.JavaCorePreferenceInitializer;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jdt.internal.core.search.indexing.SharedIndexStore;
 import org.eclipse.jdt.internal.corext.format.CheCodeFormatterInitializer;
 import org.eclipse.jdt.internal.corext.template.java.AbstractJavaContextType;
 import org.eclipse.jdt.internal.corext.template.java.CodeTemplateContextType;
@@ -147,6 +149,13 @@ public class JavaPlugin {
     private final ProjectRegistry registry;
     private String                  cahPath;
 
+    @Inject(optional = true)
+    @Named("che.jdt.shared.index.dir")
+    private String  sharedIndexDir;
+    @Inject(optional = true)
+    @Named("che.jdt.shared.index.writable")
+    private boolean sharedIndexWritable;
+
     @Inject
     public JavaPlugin(@Named("che.jdt.settings.dir") String settingsDir, ResourcesPlugin resourcesPlugin, ProjectRegistry registry) {
         this.settingsDir = settingsDir;
@@ -208,6 +217,11 @@ public class JavaPlugin {
 //            }
 //        });
         new JavaCore();
+        if (sharedIndexDir != null) {
+            File checksumsFile = new File(ResourcesPlugin.getIndexPath(), "sharedIndexChecksums");
+            JavaModelManager.getIndexManager()
+                            .setSharedIndexStore(new SharedIndexStore(new File(sharedIndexDir), sharedIndexWritable, checksumsFile));
+        }
         fMembersOrderPreferenceCache = new MembersOrderPreferenceCache();
         PreferenceConstants.initializeDefaultValues(PreferenceConstants.getPreferenceStore());
         new JavaCorePreferenceInitializer().initializeDefaultPreferences();
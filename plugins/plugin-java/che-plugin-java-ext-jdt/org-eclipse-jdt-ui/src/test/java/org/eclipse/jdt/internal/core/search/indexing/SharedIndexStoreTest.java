@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+public class SharedIndexStoreTest {
+    private File root;
+    private File storeDir;
+    private File checksumsFile;
+    private File library;
+    private File indexFile;
+
+    @Before
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("shared-index").toFile();
+        storeDir = new File(root, "store");
+        checksumsFile = new File(root, "agent/checksums");
+        library = new File(root, "lib.jar");
+        Files.write(library.toPath(), new byte[]{1, 2, 3});
+        indexFile = new File(root, "lib.index");
+        Files.write(indexFile.toPath(), new byte[]{4, 5, 6});
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        IoUtil.deleteRecursive(root);
+    }
+
+    @Test
+    public void findsPublishedIndexOfLibraryWithSameContent() throws Exception {
+        new SharedIndexStore(storeDir, true, checksumsFile).publish(library, indexFile);
+        File copy = new File(root, "copy.jar");
+        Files.copy(library.toPath(), copy.toPath());
+
+        SharedIndexStore store = new SharedIndexStore(storeDir, false, new File(root, "other/checksums"));
+
+        assertThat(store.findIndex(copy)).isNotNull();
+        assertThat(store.contains(new File(store.findIndex(copy).toURI()))).isTrue();
+    }
+
+    @Test
+    public void doesNotPublishIndexToReadOnlyStore() throws Exception {
+        SharedIndexStore store = new SharedIndexStore(storeDir, false, checksumsFile);
+
+        store.publish(library, indexFile);
+
+        assertThat(store.findIndex(library)).isNull();
+        assertThat(storeDir.exists()).isFalse();
+    }
+
+    @Test
+    public void doesNotFindIndexOfChangedLibrary() throws Exception {
+        SharedIndexStore store = new SharedIndexStore(storeDir, true, checksumsFile);
+        store.publish(library, indexFile);
+
+        Files.write(library.toPath(), new byte[]{1, 2, 3, 4});
+
+        assertThat(store.findIndex(library)).isNull();
+    }
+
+    @Test
+    public void reusesChecksumsSavedByPreviousRun() throws Exception {
+        new SharedIndexStore(storeDir, true, checksumsFile).publish(library, indexFile);
+        long lastModified = library.lastModified();
+        // same length and modification time, so the library must not be read again
+        Files.write(library.toPath(), new byte[]{3, 2, 1});
+        assertThat(library.setLastModified(lastModified)).isTrue();
+
+        SharedIndexStore restarted = new SharedIndexStore(storeDir, false, checksumsFile);
+
+        assertThat(restarted.findIndex(library)).isNotNull();
+    }
+
+    @Test
+    public void ignoresTruncatedChecksumsFile() throws Exception {
+        new SharedIndexStore(storeDir, true, checksumsFile).publish(library, indexFile);
+        byte[] content = Files.readAllBytes(checksumsFile.toPath());
+        Files.write(checksumsFile.toPath(), Arrays.copyOf(content, content.length - 5));
+
+        SharedIndexStore restarted = new SharedIndexStore(storeDir, false, checksumsFile);
+
+        assertThat(restarted.findIndex(library)).isNotNull();
+        assertThat(new SharedIndexStore(storeDir, false, checksumsFile).findIndex(library)).isNotNull();
+    }
+}
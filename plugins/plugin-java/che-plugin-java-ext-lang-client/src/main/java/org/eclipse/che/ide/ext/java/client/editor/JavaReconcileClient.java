@@ -13,13 +13,20 @@ package org.eclipse.che.ide.ext.java.client.editor;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import com.google.gwt.http.client.Response;
+
 import org.eclipse.che.ide.api.app.AppContext;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.che.ide.rest.AsyncRequestCallback;
 import org.eclipse.che.ide.rest.AsyncRequestFactory;
 import org.eclipse.che.ide.rest.DtoUnmarshallerFactory;
+import org.eclipse.che.ide.util.ExceptionUtils;
 import org.eclipse.che.ide.util.loging.Log;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author Evgen Vidolob
  */
@@ -39,9 +46,8 @@ public class JavaReconcileClient {
         this.asyncRequestFactory = asyncRequestFactory;
     }
 
-    public void reconcile(String projectPath, String fqn, final ReconcileCallback callback) {
-        String url = appContext.getDevMachine().getWsAgentBaseUrl() + "/java/reconcile/?projectpath=" + projectPath + "&fqn=" + fqn;
-        asyncRequestFactory.createGetRequest(url)
+    public void reconcile(String projectPath, String fqn, String editorId, final ReconcileCallback callback) {
+        asyncRequestFactory.createGetRequest(getReconcileUrl(projectPath, fqn, editorId))
                            .send(new AsyncRequestCallback<ReconcileResult>(dtoUnmarshallerFactory.newUnmarshaller(ReconcileResult.class)) {
                                @Override
                                protected void onSuccess(ReconcileResult result) {
@@ -55,7 +61,61 @@ public class JavaReconcileClient {
                            });
     }
 
+    /**
+     * Sends changes of the file opened in the editor and reconciles it. If the server rejects the changes,
+     * e.g. working copy of the file isn't opened or previous changes were lost, the callback is notified,
+     * so whole content of the document can be sent.
+     *
+     * @param version
+     *         sequential number of the changes sent from the editor
+     */
+    public void reconcile(String projectPath,
+                          String fqn,
+                          String editorId,
+                          long version,
+                          List<Change> changes,
+                          final ChangesReconcileCallback callback) {
+        List<Object> body = new ArrayList<Object>(changes);
+        asyncRequestFactory.createPostRequest(getReconcileUrl(projectPath, fqn, editorId) + "&version=" + version, body)
+                           .send(new AsyncRequestCallback<ReconcileResult>(dtoUnmarshallerFactory.newUnmarshaller(ReconcileResult.class)) {
+                               @Override
+                               protected void onSuccess(ReconcileResult result) {
+                                   callback.onReconcile(result);
+                               }
+
+                               @Override
+                               protected void onFailure(Throwable exception) {
+                                   boolean conflict = ExceptionUtils.getStatusCode(exception) == Response.SC_CONFLICT;
+                                   if (!conflict) {
+                                       Log.error(JavaReconcileClient.class, exception);
+                                   }
+                                   callback.onChangesRejected(conflict);
+                               }
+                           });
+    }
+
+    /** Discards working copy of the file which is closed in editor. */
+    public void closeWorkingCopy(String projectPath, String fqn, String editorId) {
+        asyncRequestFactory.createDeleteRequest(getReconcileUrl(projectPath, fqn, editorId)).send();
+    }
+
+    private String getReconcileUrl(String projectPath, String fqn, String editorId) {
+        return appContext.getDevMachine().getWsAgentBaseUrl() + "/java/reconcile/?projectpath=" + projectPath + "&fqn=" + fqn +
+               "&editorid=" + editorId;
+    }
+
     public interface ReconcileCallback {
         void onReconcile(ReconcileResult result);
     }
+
+    public interface ChangesReconcileCallback extends ReconcileCallback {
+        /**
+         * Called when sent changes may be not applied to the working copy,
+         * so whole content of the document should be sent with the next request.
+         *
+         * @param conflict
+         *         {@code true} if the server rejected changes as working copy isn't in sync with the document
+         */
+        void onChangesRejected(boolean conflict);
+    }
 }
@@ -13,10 +13,14 @@ package org.eclipse.che.ide.ext.java.client.editor;
 import com.google.common.base.Optional;
 import com.google.inject.assistedinject.Assisted;
 import com.google.inject.assistedinject.AssistedInject;
+import com.google.web.bindery.event.shared.HandlerRegistration;
 
 import org.eclipse.che.ide.api.editor.EditorWithErrors;
 import org.eclipse.che.ide.api.editor.annotation.AnnotationModel;
 import org.eclipse.che.ide.api.editor.document.Document;
+import org.eclipse.che.ide.api.editor.document.DocumentHandle;
+import org.eclipse.che.ide.api.editor.events.DocumentChangeEvent;
+import org.eclipse.che.ide.api.editor.events.DocumentChangeHandler;
 import org.eclipse.che.ide.api.editor.reconciler.DirtyRegion;
 import org.eclipse.che.ide.api.editor.reconciler.ReconcilingStrategy;
 import org.eclipse.che.ide.api.editor.text.Region;
@@ -24,8 +28,10 @@ import org.eclipse.che.ide.api.editor.texteditor.TextEditorPresenter;
 import org.eclipse.che.ide.api.resources.Project;
 import org.eclipse.che.ide.api.resources.Resource;
 import org.eclipse.che.ide.api.resources.VirtualFile;
+import org.eclipse.che.ide.dto.DtoFactory;
 import org.eclipse.che.ide.ext.java.client.JavaLocalizationConstant;
 import org.eclipse.che.ide.ext.java.client.util.JavaUtil;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
 import org.eclipse.che.ide.ext.java.shared.dto.Problem;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
@@ -33,15 +39,17 @@ import org.eclipse.che.ide.project.ResolvingProjectStateHolder;
 import org.eclipse.che.ide.project.ResolvingProjectStateHolder.ResolvingProjectState;
 import org.eclipse.che.ide.project.ResolvingProjectStateHolder.ResolvingProjectStateListener;
 import org.eclipse.che.ide.project.ResolvingProjectStateHolderRegistry;
+import org.eclipse.che.ide.util.UUID;
 import org.eclipse.che.ide.util.loging.Log;
 
 import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import static org.eclipse.che.ide.project.ResolvingProjectStateHolder.ResolvingProjectState.IN_PROGRESS;
 
-public class JavaReconcilerStrategy implements ReconcilingStrategy, ResolvingProjectStateListener {
+public class JavaReconcilerStrategy implements ReconcilingStrategy, ResolvingProjectStateListener, DocumentChangeHandler {
 
     private final TextEditorPresenter<?>              editor;
     private final JavaCodeAssistProcessor             codeAssistProcessor;
@@ -50,7 +58,18 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy, ResolvingPro
     private final ResolvingProjectStateHolderRegistry resolvingProjectStateHolderRegistry;
     private final JavaLocalizationConstant            localizationConstant;
     private final JavaReconcileClient                 client;
+    private final DtoFactory                          dtoFactory;
+    /** Identifies working copy of the editor on the server. */
+    private final String                              editorId;
+    /** Changes of the document which are not sent to the server yet. */
+    private final List<Change>                        changes;
     private       ResolvingProjectStateHolder         resolvingProjectStateHolder;
+    private       Document                            document;
+    private       HandlerRegistration                 documentChangeRegistration;
+    /** Whether whole content of the document should be sent with the next reconcile request. */
+    private       boolean                             sendContent;
+    /** Number of the latest changes sent to the server. */
+    private       long                                version;
 
     @AssistedInject
     public JavaReconcilerStrategy(@Assisted @NotNull final TextEditorPresenter<?> editor,
@@ -59,7 +78,8 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy, ResolvingPro
                                   final JavaReconcileClient client,
                                   final SemanticHighlightRenderer highlighter,
                                   final ResolvingProjectStateHolderRegistry resolvingProjectStateHolderRegistry,
-                                  final JavaLocalizationConstant localizationConstant) {
+                                  final JavaLocalizationConstant localizationConstant,
+                                  final DtoFactory dtoFactory) {
         this.editor = editor;
         this.client = client;
         this.codeAssistProcessor = codeAssistProcessor;
@@ -67,11 +87,26 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy, ResolvingPro
         this.highlighter = highlighter;
         this.resolvingProjectStateHolderRegistry = resolvingProjectStateHolderRegistry;
         this.localizationConstant = localizationConstant;
+        this.dtoFactory = dtoFactory;
+        this.changes = new ArrayList<>();
+        this.editorId = UUID.uuid(16);
     }
 
     @Override
     public void setDocument(final Document document) {
         highlighter.init(editor.getHasTextMarkers(), document);
+        this.document = document;
+        if (documentChangeRegistration != null) {
+            documentChangeRegistration.removeHandler();
+            documentChangeRegistration = null;
+        }
+        DocumentHandle documentHandle = document.getDocumentHandle();
+        if (documentHandle != null) {
+            documentChangeRegistration = documentHandle.getDocEventBus().addHandler(DocumentChangeEvent.TYPE, this);
+            // server may keep working copy with content of the previous document
+            changes.clear();
+            sendContent = true;
+        }
 
         if (getFile() instanceof Resource) {
             final Optional<Project> project = ((Resource)getFile()).getRelatedProject();
@@ -107,24 +142,47 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy, ResolvingPro
             }
 
             try {
-                client.reconcile(project.get().getLocation().toString(), JavaUtil.resolveFQN(getFile()),
-                                 new JavaReconcileClient.ReconcileCallback() {
-                                     @Override
-                                     public void onReconcile(ReconcileResult result) {
-                                         if (resolvingProjectStateHolder != null && resolvingProjectStateHolder.getState() == IN_PROGRESS) {
-                                             disableReconciler(localizationConstant.codeAssistErrorMessageResolvingProject());
-                                             return;
-                                         } else {
-                                             codeAssistProcessor.enableCodeAssistant();
-                                         }
-
-                                         if (result == null) {
-                                             return;
-                                         }
-                                         doReconcile(result.getProblems());
-                                         highlighter.reconcile(result.getHighlightedPositions());
-                                     }
-                                 });
+                JavaReconcileClient.ChangesReconcileCallback callback = new JavaReconcileClient.ChangesReconcileCallback() {
+                    @Override
+                    public void onChangesRejected(boolean conflict) {
+                        // changes sent after the rejected ones can't be applied either
+                        changes.clear();
+                        sendContent = true;
+                        if (conflict) {
+                            parse();
+                        }
+                    }
+
+                    @Override
+                    public void onReconcile(ReconcileResult result) {
+                        if (resolvingProjectStateHolder != null && resolvingProjectStateHolder.getState() == IN_PROGRESS) {
+                            disableReconciler(localizationConstant.codeAssistErrorMessageResolvingProject());
+                            return;
+                        } else {
+                            codeAssistProcessor.enableCodeAssistant();
+                        }
+
+                        if (result == null) {
+                            return;
+                        }
+                        doReconcile(result.getProblems());
+                        highlighter.reconcile(result.getHighlightedPositions());
+                    }
+                };
+                String projectPath = project.get().getLocation().toString();
+                String fqn = JavaUtil.resolveFQN(getFile());
+                if (sendContent) {
+                    changes.clear();
+                    changes.add(dtoFactory.createDto(Change.class).withOffset(0).withLength(-1).withText(document.getContents()));
+                    sendContent = false;
+                }
+                if (changes.isEmpty()) {
+                    client.reconcile(projectPath, fqn, editorId, callback);
+                } else {
+                    List<Change> sentChanges = new ArrayList<>(changes);
+                    changes.clear();
+                    client.reconcile(projectPath, fqn, editorId, ++version, sentChanges, callback);
+                }
             } catch (RuntimeException e) {
                 Log.info(getClass(), e.getMessage());
             }
@@ -188,11 +246,35 @@ public class JavaReconcilerStrategy implements ReconcilingStrategy, ResolvingPro
         highlighter.reconcile(Collections.<HighlightedPosition>emptyList());
     }
 
+    @Override
+    public void onDocumentChange(DocumentChangeEvent event) {
+        changes.add(dtoFactory.createDto(Change.class)
+                              .withOffset(event.getOffset())
+                              .withLength(event.getRemoveCharCount())
+                              .withText(event.getText()));
+    }
+
     @Override
     public void closeReconciler() {
         if (resolvingProjectStateHolder != null) {
             resolvingProjectStateHolder.removeResolvingProjectStateListener(this);
         }
+        if (documentChangeRegistration != null) {
+            documentChangeRegistration.removeHandler();
+            documentChangeRegistration = null;
+        }
+        changes.clear();
+
+        if (getFile() instanceof Resource) {
+            final Optional<Project> project = ((Resource)getFile()).getRelatedProject();
+            if (project.isPresent()) {
+                try {
+                    client.closeWorkingCopy(project.get().getLocation().toString(), JavaUtil.resolveFQN(getFile()), editorId);
+                } catch (RuntimeException e) {
+                    Log.info(getClass(), e.getMessage());
+                }
+            }
+        }
     }
 
     @Override
@@ -17,12 +17,15 @@ import com.google.web.bindery.event.shared.HandlerRegistration;
 import org.eclipse.che.ide.api.editor.EditorInput;
 import org.eclipse.che.ide.api.editor.annotation.AnnotationModel;
 import org.eclipse.che.ide.api.editor.document.Document;
+import org.eclipse.che.ide.api.editor.events.DocumentChangeEvent;
 import org.eclipse.che.ide.api.editor.texteditor.TextEditorPresenter;
 import org.eclipse.che.ide.api.resources.Container;
 import org.eclipse.che.ide.api.resources.File;
 import org.eclipse.che.ide.api.resources.Project;
 import org.eclipse.che.ide.api.resources.Resource;
+import org.eclipse.che.ide.dto.DtoFactory;
 import org.eclipse.che.ide.ext.java.client.JavaLocalizationConstant;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.HighlightedPosition;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.che.ide.project.ResolvingProjectStateHolder;
@@ -43,11 +46,16 @@ import java.util.List;
 
 import static org.eclipse.che.ide.project.ResolvingProjectStateHolder.ResolvingProjectState.IN_PROGRESS;
 import static org.eclipse.che.ide.project.ResolvingProjectStateHolder.ResolvingProjectState.RESOLVED;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.anyLong;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -82,9 +90,19 @@ public class JavaReconcilerStrategyTest {
     private ResolvingProjectStateHolderRegistry resolvingProjectStateHolderRegistry;
     @Mock
     private JavaLocalizationConstant            localizationConstant;
+    @Mock
+    private DtoFactory                          dtoFactory;
+    @Mock
+    private Document                            document;
+    @Mock
+    private Change                              change;
 
     @Captor
-    private ArgumentCaptor<JavaReconcileClient.ReconcileCallback> reconcileCallbackCaptor;
+    private ArgumentCaptor<JavaReconcileClient.ReconcileCallback>        reconcileCallbackCaptor;
+    @Captor
+    private ArgumentCaptor<JavaReconcileClient.ChangesReconcileCallback> changesCallbackCaptor;
+    @Captor
+    private ArgumentCaptor<List<Change>>                                 changesCaptor;
 
 
     @InjectMocks
@@ -115,7 +133,13 @@ public class JavaReconcilerStrategyTest {
         when(resolvingProjectStateHolderRegistry.getResolvingProjectStateHolder(anyString())).thenReturn(resolvingProjectStateHolder);
         when(localizationConstant.codeAssistErrorMessageResolvingProject()).thenReturn("error");
 
-        javaReconcilerStrategy.setDocument(mock(Document.class));
+        when(dtoFactory.createDto(Change.class)).thenReturn(change);
+        when(change.withOffset(anyInt())).thenReturn(change);
+        when(change.withLength(anyInt())).thenReturn(change);
+        when(change.withText(anyString())).thenReturn(change);
+        when(document.getContents()).thenReturn("content");
+
+        javaReconcilerStrategy.setDocument(document);
     }
 
     @Test
@@ -124,7 +148,7 @@ public class JavaReconcilerStrategyTest {
 
         javaReconcilerStrategy.parse();
 
-        verify(client).reconcile(anyString(), anyString(), reconcileCallbackCaptor.capture());
+        verify(client).reconcile(anyString(), anyString(), anyString(), reconcileCallbackCaptor.capture());
         JavaReconcileClient.ReconcileCallback reconcileCallback = reconcileCallbackCaptor.getValue();
         reconcileCallback.onReconcile(reconcileResult);
 
@@ -145,7 +169,7 @@ public class JavaReconcilerStrategyTest {
 
         javaReconcilerStrategy.parse();
 
-        verify(client).reconcile(anyString(), anyString(), reconcileCallbackCaptor.capture());
+        verify(client).reconcile(anyString(), anyString(), anyString(), reconcileCallbackCaptor.capture());
         JavaReconcileClient.ReconcileCallback reconcileCallback = reconcileCallbackCaptor.getValue();
         reconcileCallback.onReconcile(reconcileResult);
 
@@ -155,4 +179,26 @@ public class JavaReconcilerStrategyTest {
         verify(codeAssistProcessor, never()).disableCodeAssistant(anyString());
         verify(highlighter).reconcile(eq(positions));
     }
+
+    @Test
+    public void shouldSendWholeContentInsteadOfPendingChangesWhenChangesAreRejected() throws Exception {
+        when(resolvingProjectStateHolder.getState()).thenReturn(RESOLVED);
+        DocumentChangeEvent event = mock(DocumentChangeEvent.class);
+        when(event.getOffset()).thenReturn(1);
+        when(event.getRemoveCharCount()).thenReturn(0);
+        when(event.getText()).thenReturn("a");
+
+        javaReconcilerStrategy.onDocumentChange(event);
+        javaReconcilerStrategy.parse();
+        verify(client).reconcile(anyString(), anyString(), anyString(), eq(1L), changesCaptor.capture(), changesCallbackCaptor.capture());
+        javaReconcilerStrategy.onDocumentChange(event);
+
+        changesCallbackCaptor.getValue().onChangesRejected(true);
+
+        verify(client).reconcile(anyString(), anyString(), anyString(), eq(2L), changesCaptor.capture(), any());
+        assertEquals(1, changesCaptor.getValue().size());
+        verify(change).withLength(-1);
+        verify(change).withText("content");
+        verify(client, times(2)).reconcile(anyString(), anyString(), anyString(), anyLong(), anyListOf(Change.class), any());
+    }
 }
@@ -13,17 +13,25 @@ package org.eclipse.che.plugin.java.server.rest;
 
 import com.google.inject.Inject;
 
+import org.eclipse.che.api.core.ConflictException;
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
 import org.eclipse.che.ide.ext.java.shared.dto.ReconcileResult;
 import org.eclipse.che.jdt.javaeditor.JavaReconciler;
+import org.eclipse.che.jdt.javaeditor.WorkingCopyOutOfSyncException;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.core.JavaModel;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import java.util.List;
 
 /**
  * @author Evgen Vidolob
@@ -38,9 +46,53 @@ public class JavaReconcileService {
 
     @GET
     @Produces("application/json")
-    public ReconcileResult reconcile(@QueryParam("projectpath") String projectPath, @QueryParam("fqn") String fqn)
-            throws JavaModelException {
+    public ReconcileResult reconcile(@QueryParam("projectpath") String projectPath,
+                                     @QueryParam("fqn") String fqn,
+                                     @QueryParam("editorid") String editorId) throws JavaModelException {
         IJavaProject javaProject = model.getJavaProject(projectPath);
-        return reconciler.reconcile(javaProject, fqn);
+        return reconciler.reconcile(javaProject, fqn, editorId);
+    }
+
+    /**
+     * Applies changes to the opened working copy and reconciles it.
+     *
+     * @param editorId
+     *         identifier of the editor which working copy is changed
+     * @param version
+     *         sequential number of the changes
+     * @param changes
+     *         changes made since previous reconcile request, change with negative length replaces whole content
+     * @throws ConflictException
+     *         if working copy isn't opened or previous changes weren't applied, client should resend whole content of the file
+     */
+    @POST
+    @Consumes("application/json")
+    @Produces("application/json")
+    public ReconcileResult reconcile(@QueryParam("projectpath") String projectPath,
+                                     @QueryParam("fqn") String fqn,
+                                     @QueryParam("editorid") String editorId,
+                                     @QueryParam("version") @DefaultValue("0") long version,
+                                     List<Change> changes) throws JavaModelException, ConflictException {
+        IJavaProject javaProject = model.getJavaProject(projectPath);
+        try {
+            return reconciler.reconcile(javaProject, fqn, editorId, version, changes);
+        } catch (WorkingCopyOutOfSyncException e) {
+            throw new ConflictException(e.getMessage());
+        }
+    }
+
+    /** Discards working copy of the file closed in editor. */
+    @DELETE
+    public void close(@QueryParam("projectpath") String projectPath,
+                      @QueryParam("fqn") String fqn,
+                      @QueryParam("editorid") String editorId) {
+        reconciler.closeWorkingCopy(model.getJavaProject(projectPath), fqn, editorId);
+    }
+
+    @GET
+    @Path("statistics")
+    @Produces("application/json")
+    public JavaReconciler.Statistics getStatistics() {
+        return reconciler.getStatistics();
     }
 }
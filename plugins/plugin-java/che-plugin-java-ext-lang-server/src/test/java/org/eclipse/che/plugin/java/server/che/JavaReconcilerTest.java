@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.java.server.che;
+
+import org.eclipse.che.ide.ext.java.shared.dto.Change;
+import org.eclipse.che.jdt.javaeditor.JavaReconciler;
+import org.eclipse.che.jdt.javaeditor.SemanticHighlightingReconciler;
+import org.eclipse.che.jdt.javaeditor.WorkingCopyOutOfSyncException;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests applying of changes sent from editors to working copies kept by {@link JavaReconciler}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class JavaReconcilerTest {
+    private static final String FQN = "p1.X";
+
+    @Mock
+    private IJavaProject                   project;
+    @Mock
+    private IType                          type;
+    @Mock
+    private ICompilationUnit               compilationUnit;
+    @Mock
+    private SemanticHighlightingReconciler semanticHighlighting;
+
+    private File           file;
+    private IBuffer        firstBuffer;
+    private IBuffer        secondBuffer;
+    private JavaReconciler reconciler;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("X", ".java");
+        firstBuffer = mock(IBuffer.class);
+        secondBuffer = mock(IBuffer.class);
+        ICompilationUnit firstWorkingCopy = mockWorkingCopy(firstBuffer);
+        ICompilationUnit secondWorkingCopy = mockWorkingCopy(secondBuffer);
+
+        when(project.getPath()).thenReturn(mock(IPath.class));
+        when(project.findType(FQN)).thenReturn(type);
+        when(type.getCompilationUnit()).thenReturn(compilationUnit);
+        when(compilationUnit.getWorkingCopy(any(WorkingCopyOwner.class), any())).thenReturn(firstWorkingCopy, secondWorkingCopy);
+
+        reconciler = new JavaReconciler(semanticHighlighting);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        file.delete();
+    }
+
+    @Test
+    public void shouldApplyChangesWhichFollowAppliedChanges() throws Exception {
+        reconciler.reconcile(project, FQN, "editor", 1, content("class X {}"));
+        reconciler.reconcile(project, FQN, "editor", 2, delta(6, 1, "Y"));
+
+        verify(firstBuffer).setContents("class X {}");
+        verify(firstBuffer).replace(6, 1, "Y");
+    }
+
+    @Test
+    public void shouldRejectChangesWhichDoNotFollowAppliedChanges() throws Exception {
+        reconciler.reconcile(project, FQN, "editor", 1, content("class X {}"));
+
+        try {
+            reconciler.reconcile(project, FQN, "editor", 3, delta(6, 1, "Y"));
+            fail("Changes sent after lost changes must be rejected");
+        } catch (WorkingCopyOutOfSyncException ignored) {
+        }
+
+        verify(firstBuffer, never()).replace(anyInt(), anyInt(), anyString());
+    }
+
+    @Test
+    public void shouldRejectChangesWhenWorkingCopyIsNotOpened() throws Exception {
+        try {
+            reconciler.reconcile(project, FQN, "editor", 1, delta(6, 1, "Y"));
+            fail("Changes can't be applied to working copy which isn't opened");
+        } catch (WorkingCopyOutOfSyncException ignored) {
+        }
+
+        verify(compilationUnit, never()).getWorkingCopy(any(WorkingCopyOwner.class), any());
+    }
+
+    @Test
+    public void shouldAcceptWholeContentAfterRejectedChanges() throws Exception {
+        reconciler.reconcile(project, FQN, "editor", 1, content("class X {}"));
+        try {
+            reconciler.reconcile(project, FQN, "editor", 3, delta(6, 1, "Y"));
+            fail("Changes sent after lost changes must be rejected");
+        } catch (WorkingCopyOutOfSyncException ignored) {
+        }
+
+        reconciler.reconcile(project, FQN, "editor", 4, content("class Y {}"));
+        reconciler.reconcile(project, FQN, "editor", 5, delta(6, 1, "Z"));
+
+        verify(firstBuffer).setContents("class Y {}");
+        verify(firstBuffer).replace(6, 1, "Z");
+    }
+
+    @Test
+    public void shouldKeepSeparateWorkingCopiesForEditors() throws Exception {
+        reconciler.reconcile(project, FQN, "first", 1, content("class X {}"));
+        reconciler.reconcile(project, FQN, "second", 1, content("class X {}"));
+
+        reconciler.reconcile(project, FQN, "first", 2, delta(6, 1, "Y"));
+        reconciler.reconcile(project, FQN, "second", 2, delta(6, 1, "Z"));
+
+        verify(firstBuffer).replace(6, 1, "Y");
+        verify(secondBuffer).replace(6, 1, "Z");
+        assertThat(reconciler.getStatistics().getCount()).isEqualTo(4);
+    }
+
+    private ICompilationUnit mockWorkingCopy(IBuffer buffer) throws Exception {
+        ICompilationUnit workingCopy = mock(ICompilationUnit.class);
+        IFile resource = mock(IFile.class);
+        IPath location = mock(IPath.class);
+        when(workingCopy.getBuffer()).thenReturn(buffer);
+        when(workingCopy.getResource()).thenReturn(resource);
+        when(resource.getLocation()).thenReturn(location);
+        when(location.toFile()).thenReturn(file);
+        return workingCopy;
+    }
+
+    private static List<Change> content(String text) {
+        return delta(0, -1, text);
+    }
+
+    private static List<Change> delta(int offset, int length, String text) {
+        Change change = mock(Change.class);
+        when(change.getOffset()).thenReturn(offset);
+        when(change.getLength()).thenReturn(length);
+        when(change.getText()).thenReturn(text);
+        return Collections.singletonList(change);
+    }
+}
@@ -415,6 +415,12 @@ public interface MachineLocalizationConstant extends Messages {
     @Key("consoles.autoScrollButton.tooltip")
     String consolesAutoScrollButtonTooltip();
 
+    @Key("consoles.loadOlderLines")
+    String consolesLoadOlderLines();
+
+    @Key("consoles.search.placeholder")
+    String consolesSearchPlaceholder();
+
 
     @Key("consoles.defaultMode.tooltip")
     String consolesDefaultModeTooltip();
@@ -20,6 +20,7 @@ import org.eclipse.che.api.machine.shared.dto.MachineProcessDto;
 import org.eclipse.che.api.machine.shared.dto.event.MachineProcessEvent;
 import org.eclipse.che.api.promises.client.Operation;
 import org.eclipse.che.api.promises.client.OperationException;
+import org.eclipse.che.api.promises.client.PromiseError;
 import org.eclipse.che.ide.api.machine.MachineServiceClient;
 import org.eclipse.che.ide.api.machine.CommandOutputMessageUnmarshaller;
 import org.eclipse.che.ide.extension.machine.client.MachineResources;
@@ -49,6 +50,9 @@ import static org.eclipse.che.ide.extension.machine.client.command.edit.EditComm
  */
 public class CommandOutputConsolePresenter implements CommandOutputConsole, OutputConsoleView.ActionDelegate {
 
+    /** Number of lines that are loaded from the process logs at once. */
+    private static final int OLDER_LINES_PAGE_SIZE = 1000;
+
     private final OutputConsoleView      view;
     private final DtoUnmarshallerFactory dtoUnmarshallerFactory;
     private final MachineServiceClient   machineServiceClient;
@@ -72,6 +76,8 @@ public class CommandOutputConsolePresenter implements CommandOutputConsole, Outp
 
     private List<ConsoleOutputListener>  outputListenes = new ArrayList<>();
 
+    private CommandOutputMessageUnmarshaller outputUnmarshaller;
+
     @Inject
     public CommandOutputConsolePresenter(final OutputConsoleView view,
                                          DtoUnmarshallerFactory dtoUnmarshallerFactory,
@@ -133,10 +139,10 @@ public class CommandOutputConsolePresenter implements CommandOutputConsole, Outp
         view.toggleScrollToEndButton(true);
 
         outputChannel = wsChannel;
-        outputHandler = new SubscriptionHandler<String>(new CommandOutputMessageUnmarshaller(machine.getConfig().getName())) {
+        outputHandler = new SubscriptionHandler<String>(getOutputUnmarshaller()) {
             @Override
             protected void onMessageReceived(String result) {
-                view.print(result, result.endsWith("\r"));
+                view.print(result, result.endsWith("\r"), getOutputUnmarshaller().getLineNumbers());
 
                 for (ConsoleOutputListener listener : outputListenes) {
                     listener.onConsoleOutput(CommandOutputConsolePresenter.this);
@@ -157,6 +163,8 @@ public class CommandOutputConsolePresenter implements CommandOutputConsole, Outp
         this.pid = process.getPid();
 
         view.showCommandLine(process.getCommandLine());
+        // lines that the console doesn't keep any more may be loaded from the process logs
+        view.enableLoadingOlderLines(true);
 
         final Unmarshallable<MachineProcessEvent> unmarshaller = dtoUnmarshallerFactory.newWSUnmarshaller(MachineProcessEvent.class);
         final String processStateChannel = "machine:process:" + machine.getId();
@@ -208,6 +216,13 @@ public class CommandOutputConsolePresenter implements CommandOutputConsole, Outp
         wsSubscribe(processStateChannel, handler);
     }
 
+    private CommandOutputMessageUnmarshaller getOutputUnmarshaller() {
+        if (outputUnmarshaller == null) {
+            outputUnmarshaller = new CommandOutputMessageUnmarshaller(machine.getConfig().getName());
+        }
+        return outputUnmarshaller;
+    }
+
     private void wsSubscribe(String wsChannel, MessageHandler handler) {
         try {
             messageBus.subscribe(wsChannel, handler);
@@ -289,4 +304,31 @@ public class CommandOutputConsolePresenter implements CommandOutputConsole, Outp
         view.toggleScrollToEndButton(bottomReached);
     }
 
+    @Override
+    public void onOlderLinesRequested(final int beforeLine) {
+        final int from = Math.max(1, beforeLine - OLDER_LINES_PAGE_SIZE);
+        if (pid == 0 || from >= beforeLine) {
+            return;
+        }
+        machineServiceClient.getProcessLogs(machine.getId(), pid, from, beforeLine - from).then(new Operation<String>() {
+            @Override
+            public void apply(String logs) throws OperationException {
+                final List<String> lines = new ArrayList<>();
+                for (String line : logs.split("\n", -1)) {
+                    lines.add(getOutputUnmarshaller().formatLine(line));
+                }
+                // logs end with new line character
+                if (!lines.isEmpty() && lines.get(lines.size() - 1).isEmpty()) {
+                    lines.remove(lines.size() - 1);
+                }
+                view.printOlderLines(lines);
+            }
+        }).catchError(new Operation<PromiseError>() {
+            @Override
+            public void apply(PromiseError error) throws OperationException {
+                Log.error(getClass(), error.getMessage());
+            }
+        });
+    }
+
 }
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.extension.machine.client.outputspanel.console;
+
+import java.util.List;
+
+/**
+ * Bounded ring buffer of console lines. When the buffer is full, appending a line drops the oldest one, so memory used by console
+ * doesn't depend on the amount of output. Each line has unique number that identifies it in the console. Lines of process output
+ * also keep their number in the process log given by the server, so the lines that were dropped or cleared may be fetched again
+ * from the process log and prepended with {@link #prepend(List)}.
+ * <p/>
+ * Prepended lines may take up to {@code capacity} lines above the capacity of buffer, in this case appending a line still drops
+ * the oldest line, so loaded history is pushed out by new output gradually.
+ */
+public class ConsoleLineBuffer {
+
+    private static final int INITIAL_LENGTH = 64;
+
+    private final int capacity;
+
+    private String[] lines;
+    private int[]    numbers;
+    private int[]    logNumbers;
+    private int      head;
+    private int      size;
+    private int      nextNumber;
+    private int      lastLogNumber;
+
+    /**
+     * @param capacity
+     *         max number of appended lines that buffer keeps
+     */
+    public ConsoleLineBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive. ");
+        }
+        this.capacity = capacity;
+        this.lines = new String[Math.min(INITIAL_LENGTH, capacity)];
+        this.numbers = new int[lines.length];
+        this.logNumbers = new int[lines.length];
+    }
+
+    /** Appends line that isn't written to the process log to the end of buffer, drops the oldest line if buffer is full. */
+    public void append(String line) {
+        append(line, 0);
+    }
+
+    /**
+     * Appends line to the end of buffer, drops the oldest line if buffer is full.
+     *
+     * @param logNumber
+     *         number of the line in the process log counting from 1, or 0 if the line isn't written to the log
+     */
+    public void append(String line, int logNumber) {
+        if (size >= capacity) {
+            removeFirst();
+        }
+        ensureLength(size + 1);
+        final int index = (head + size) % lines.length;
+        lines[index] = line;
+        numbers[index] = nextNumber++;
+        setLogNumber(index, logNumber);
+        size++;
+    }
+
+    /** Replaces the last line in buffer with line that isn't written to the process log. */
+    public void replaceLast(String line) {
+        replaceLast(line, 0);
+    }
+
+    /**
+     * Replaces the last line in buffer, e.g. when the previous line ended with carriage return.
+     *
+     * @param logNumber
+     *         number of the line in the process log counting from 1, or 0 if the line isn't written to the log
+     */
+    public void replaceLast(String line, int logNumber) {
+        if (size == 0) {
+            append(line, logNumber);
+            return;
+        }
+        final int index = (head + size - 1) % lines.length;
+        lines[index] = line;
+        numbers[index] = nextNumber++;
+        setLogNumber(index, logNumber);
+    }
+
+    /**
+     * Inserts lines that precede the first line in buffer. Lines that don't fit the buffer are dropped starting from the oldest one.
+     *
+     * @param older
+     *         lines of the process log in order they were printed, the last one immediately precedes the line
+     *         with number {@link #getFirstLogNumber()}
+     * @return number of inserted lines
+     */
+    public int prepend(List<String> older) {
+        final int first = getFirstNumber();
+        final int firstLog = getFirstLogNumber();
+        final int count = Math.min(Math.min(older.size(), firstLog - 1), capacity * 2 - size);
+        if (count <= 0) {
+            return 0;
+        }
+        ensureLength(size + count);
+        for (int i = 0; i < count; i++) {
+            head = (head - 1 + lines.length) % lines.length;
+            lines[head] = older.get(older.size() - 1 - i);
+            numbers[head] = first - 1 - i;
+            logNumbers[head] = firstLog - 1 - i;
+            size++;
+        }
+        return count;
+    }
+
+    /** Removes all lines from buffer. Numbering of lines is continued, so removed lines of the log may be fetched again. */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            lines[(head + i) % lines.length] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /** Returns line by its index in buffer. */
+    public String get(int index) {
+        return lines[toArrayIndex(index)];
+    }
+
+    /** Returns number of line in the output by its index in buffer. */
+    public int getNumber(int index) {
+        return numbers[toArrayIndex(index)];
+    }
+
+    /** Returns index of line with specified number or {@code -1} if buffer doesn't contain such line. */
+    public int indexOf(int number) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int middleNumber = getNumber(middle);
+            if (middleNumber < number) {
+                low = middle + 1;
+            } else if (middleNumber > number) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /** Returns number of the first line in buffer, or number of the next line if buffer is empty. */
+    public int getFirstNumber() {
+        return size == 0 ? nextNumber : numbers[head];
+    }
+
+    /**
+     * Returns number in the process log of the first line in buffer that is written to the log, or number of the next line
+     * of the log if buffer doesn't contain such lines. Lines of the log with smaller numbers were dropped or cleared.
+     */
+    public int getFirstLogNumber() {
+        for (int i = 0; i < size; i++) {
+            final int logNumber = logNumbers[(head + i) % lines.length];
+            if (logNumber > 0) {
+                return logNumber;
+            }
+        }
+        return lastLogNumber + 1;
+    }
+
+    /** Returns number of lines in buffer. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns max number of appended lines that buffer keeps. */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Finds line that contains specified text ignoring case.
+     *
+     * @param text
+     *         text to find
+     * @param from
+     *         index of line to start search from, search wraps around the beginning or the end of buffer
+     * @param forward
+     *         search direction
+     * @return index of found line or {@code -1} if no line contains text
+     */
+    public int find(String text, int from, boolean forward) {
+        if (size == 0 || text.isEmpty()) {
+            return -1;
+        }
+        final String query = text.toLowerCase();
+        final int start = ((from % size) + size) % size;
+        for (int i = 0; i < size; i++) {
+            final int index = forward ? (start + i) % size : (start - i + size) % size;
+            if (get(index).toLowerCase().contains(query)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void setLogNumber(int index, int logNumber) {
+        logNumbers[index] = logNumber;
+        if (logNumber > lastLogNumber) {
+            lastLogNumber = logNumber;
+        }
+    }
+
+    private void removeFirst() {
+        lines[head] = null;
+        head = (head + 1) % lines.length;
+        size--;
+    }
+
+    private int toArrayIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return (head + index) % lines.length;
+    }
+
+    /** Grows arrays if they are shorter than specified length keeping order of lines. */
+    private void ensureLength(int length) {
+        if (length <= lines.length) {
+            return;
+        }
+        final int newLength = Math.min(Math.max(length, lines.length * 2), capacity * 2);
+        final String[] newLines = new String[newLength];
+        final int[] newNumbers = new int[newLength];
+        final int[] newLogNumbers = new int[newLength];
+        for (int i = 0; i < size; i++) {
+            newLines[i] = lines[(head + i) % lines.length];
+            newNumbers[i] = numbers[(head + i) % lines.length];
+            newLogNumbers[i] = logNumbers[(head + i) % lines.length];
+        }
+        lines = newLines;
+        numbers = newNumbers;
+        logNumbers = newLogNumbers;
+        head = 0;
+    }
+}
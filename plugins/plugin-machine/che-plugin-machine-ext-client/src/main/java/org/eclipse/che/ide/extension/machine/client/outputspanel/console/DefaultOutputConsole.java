@@ -164,4 +164,9 @@ public class DefaultOutputConsole implements OutputConsole, OutputConsoleView.Ac
         view.toggleScrollToEndButton(bottomReached);
     }
 
+    @Override
+    public void onOlderLinesRequested(int beforeLine) {
+        // loading of older lines isn't enabled for this console
+    }
+
 }
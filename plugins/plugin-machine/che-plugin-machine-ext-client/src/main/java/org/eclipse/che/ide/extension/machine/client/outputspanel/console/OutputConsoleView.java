@@ -12,6 +12,8 @@ package org.eclipse.che.ide.extension.machine.client.outputspanel.console;
 
 import org.eclipse.che.ide.api.mvp.View;
 
+import java.util.List;
+
 /**
  * View for output console.
  *
@@ -46,6 +48,36 @@ public interface OutputConsoleView extends View<OutputConsoleView.ActionDelegate
      */
     void print(String text, boolean cr);
 
+    /**
+     * Prints lines of process output.
+     *
+     * @param text
+     *         lines to print separated by new line character
+     * @param cr
+     *         if {@code true} - next message should replace the last line,
+     *         if {@code false} - next message will be printed in a new line
+     * @param logNumbers
+     *         numbers of printed lines in the process log counting from 1, 0 for lines that are not written to the log
+     */
+    void print(String text, boolean cr, List<Integer> logNumbers);
+
+    /**
+     * Prints lines that precede the first line kept by the console, e.g. lines that were dropped from the console
+     * and loaded from the process logs.
+     *
+     * @param lines
+     *         lines in order they were printed
+     */
+    void printOlderLines(List<String> lines);
+
+    /**
+     * Enables the link that requests lines which were dropped from the console or printed before it was cleared.
+     *
+     * @param enable
+     *         use <code>true</code> to show the link when there are such lines
+     */
+    void enableLoadingOlderLines(boolean enable);
+
     /**
      * Hides command title and command label.
      */
@@ -135,6 +167,14 @@ public interface OutputConsoleView extends View<OutputConsoleView.ActionDelegate
         /** Handle scrolling the output. */
         void onOutputScrolled(boolean bottomReached);
 
+        /**
+         * Handle request of lines that precede the first line kept by the console.
+         *
+         * @param beforeLine
+         *         number in the process log of the first line kept by the console, lines are counted from 1
+         */
+        void onOlderLinesRequested(int beforeLine);
+
     }
 
 }
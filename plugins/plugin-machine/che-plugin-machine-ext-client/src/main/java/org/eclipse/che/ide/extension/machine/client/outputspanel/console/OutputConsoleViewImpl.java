@@ -11,12 +11,20 @@
 package org.eclipse.che.ide.extension.machine.client.outputspanel.console;
 
 import com.google.common.base.Strings;
+import com.google.gwt.animation.client.AnimationScheduler;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.dom.client.Element;
 import com.google.gwt.dom.client.Node;
 import com.google.gwt.dom.client.PreElement;
+import com.google.gwt.dom.client.Style;
 import com.google.gwt.event.dom.client.ClickEvent;
 import com.google.gwt.event.dom.client.ClickHandler;
+import com.google.gwt.event.dom.client.KeyCodes;
+import com.google.gwt.event.dom.client.KeyDownEvent;
+import com.google.gwt.event.dom.client.KeyDownHandler;
+import com.google.gwt.event.dom.client.KeyUpEvent;
+import com.google.gwt.event.dom.client.KeyUpHandler;
 import com.google.gwt.event.dom.client.ScrollEvent;
 import com.google.gwt.event.dom.client.ScrollHandler;
 import com.google.gwt.uibinder.client.UiBinder;
@@ -28,6 +36,7 @@ import com.google.gwt.user.client.ui.DockLayoutPanel;
 import com.google.gwt.user.client.ui.FlowPanel;
 import com.google.gwt.user.client.ui.Label;
 import com.google.gwt.user.client.ui.ScrollPanel;
+import com.google.gwt.user.client.ui.TextBox;
 import com.google.gwt.user.client.ui.Widget;
 import com.google.inject.Inject;
 import org.eclipse.che.ide.extension.machine.client.MachineLocalizationConstant;
@@ -37,8 +46,18 @@ import static org.eclipse.che.ide.ui.menu.PositionController.HorizontalAlign.MID
 import static org.eclipse.che.ide.ui.menu.PositionController.VerticalAlign.BOTTOM;
 import org.vectomatic.dom.svg.ui.SVGImage;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
 /**
  * View representation of output console.
+ * <p/>
+ * Printed lines are kept in {@link ConsoleLineBuffer}, so the oldest lines are dropped when console keeps too many of them.
+ * Only the lines in the visible area are rendered, the rest of the output is represented by paddings of lines container,
+ * so each line is expected to take one row of {@link #lineHeight}. Printed lines are rendered once per animation frame.
  *
  * @author Artem Zatsarynnyi
  * @author Vitaliy Guliy
@@ -50,6 +69,15 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
 
     private static final OutputConsoleViewUiBinder UI_BINDER   = GWT.create(OutputConsoleViewUiBinder.class);
 
+    /** Max number of printed lines that are kept by console. */
+    private static final int MAX_LINES             = 10000;
+    /** Number of lines that are rendered above and below the visible area to make scrolling smooth. */
+    private static final int RENDERED_LINES_MARGIN = 20;
+    /** Height of line that is defined by {@code consoleLineHeight} of IDE style, it is measured when the first line is rendered. */
+    private static final int DEFAULT_LINE_HEIGHT   = 13;
+    /** Value of {@link #foundLine} when nothing is found, numbers of lines loaded from the log may be negative. */
+    private static final int NO_LINE               = Integer.MIN_VALUE;
+
     private ActionDelegate delegate;
 
     @UiField
@@ -73,6 +101,12 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
     @UiField
     FlowPanel       consoleLines;
 
+    @UiField
+    Label           olderLinesLink;
+
+    @UiField
+    TextBox         searchBox;
+
     @UiField
     Anchor          previewUrlLabel;
 
@@ -91,14 +125,35 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
     @UiField
     FlowPanel       scrollToBottomButton;
 
+    private final ConsoleLineBuffer buffer = new ConsoleLineBuffer(MAX_LINES);
+
+    /** Rendered lines by their numbers. */
+    private Map<Integer, Element> renderedLines = new HashMap<>();
+
     /** If true - next printed line should replace the previous one. */
     private boolean carriageReturn;
 
     /** Follow the output. Scroll to the bottom automatically when <b>true</b>. */
     private boolean followOutput = true;
 
-    /** Scroll to the bottom immediately when view become visible. */
-    private boolean followScheduled = false;
+    /** Render lines when view become visible. */
+    private boolean renderWhenVisibleScheduled = false;
+
+    /** Render lines in the next animation frame. */
+    private boolean renderScheduled = false;
+
+    private int     lineHeight = DEFAULT_LINE_HEIGHT;
+    private boolean lineHeightMeasured;
+    private boolean wrapText;
+
+    private boolean loadingOlderLinesEnabled;
+
+    /** Number in the log of the first line when older lines were requested, or -1 if there is no pending request. */
+    private int olderLinesRequestedBefore = -1;
+
+    /** Number of the line that contains searched text, or {@link #NO_LINE} if nothing is found. */
+    private int    foundLine   = NO_LINE;
+    private String searchQuery = "";
 
     @Inject
     public OutputConsoleViewImpl(MachineResources resources,
@@ -114,6 +169,51 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
 
         scrollPanel.addDomHandler(this, ScrollEvent.getType());
 
+        // make output focusable to handle 'Find' shortcut
+        scrollPanel.getElement().setTabIndex(0);
+        scrollPanel.addDomHandler(new KeyDownHandler() {
+            @Override
+            public void onKeyDown(KeyDownEvent event) {
+                if ((event.isControlKeyDown() || event.isMetaKeyDown()) && event.getNativeKeyCode() == 'F') {
+                    event.preventDefault();
+                    showSearchBox();
+                }
+            }
+        }, KeyDownEvent.getType());
+
+        searchBox.getElement().setAttribute("placeholder", localization.consolesSearchPlaceholder());
+        searchBox.addKeyDownHandler(new KeyDownHandler() {
+            @Override
+            public void onKeyDown(KeyDownEvent event) {
+                switch (event.getNativeKeyCode()) {
+                    case KeyCodes.KEY_ENTER:
+                        event.preventDefault();
+                        find(event.isShiftKeyDown() ? -1 : 1);
+                        break;
+                    case KeyCodes.KEY_ESCAPE:
+                        event.preventDefault();
+                        hideSearchBox();
+                        break;
+                }
+            }
+        });
+        searchBox.addKeyUpHandler(new KeyUpHandler() {
+            @Override
+            public void onKeyUp(KeyUpEvent event) {
+                if (!searchQuery.equals(searchBox.getValue())) {
+                    searchQuery = searchBox.getValue();
+                    find(0);
+                }
+            }
+        });
+
+        olderLinesLink.addClickHandler(new ClickHandler() {
+            @Override
+            public void onClick(ClickEvent event) {
+                requestOlderLines();
+            }
+        });
+
         reRunProcessButton.addDomHandler(new ClickHandler() {
             @Override
             public void onClick(ClickEvent event) {
@@ -202,6 +302,7 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
 
     @Override
     public void wrapText(boolean wrap) {
+        wrapText = wrap;
         if (wrap) {
             consoleLines.getElement().setAttribute("wrap", "");
         } else {
@@ -212,12 +313,17 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
     @Override
     public void enableAutoScroll(boolean enable) {
         followOutput = enable;
-        followOutput();
+        scheduleRender();
     }
 
     @Override
     public void clearConsole() {
+        buffer.clear();
+        renderedLines.clear();
         consoleLines.getElement().setInnerHTML("");
+        carriageReturn = false;
+        foundLine = NO_LINE;
+        scheduleRender();
     }
 
     @Override
@@ -275,20 +381,54 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
 
     @Override
     public void print(String text, boolean cr) {
-        if (carriageReturn) {
-            Node lastChild = consoleLines.getElement().getLastChild();
-            if (lastChild != null) {
-                lastChild.removeFromParent();
+        print(text, cr, Collections.<Integer>emptyList());
+    }
+
+    @Override
+    public void print(String text, boolean cr, List<Integer> logNumbers) {
+        // message may contain batch of lines
+        final String[] lines = text.split("\n", -1);
+        final int count = lines.length > 1 && lines[lines.length - 1].isEmpty() ? lines.length - 1 : lines.length;
+        for (int i = 0; i < count; i++) {
+            final String line = lines[i];
+            final int logNumber = i < logNumbers.size() ? logNumbers.get(i) : 0;
+            if (carriageReturn && buffer.size() > 0) {
+                removeRenderedLine(buffer.getNumber(buffer.size() - 1));
+                buffer.replaceLast(line, logNumber);
+            } else {
+                buffer.append(line, logNumber);
             }
+            carriageReturn = false;
         }
 
         carriageReturn = cr;
 
-        PreElement pre = DOM.createElement("pre").cast();
-        pre.setInnerText(text.isEmpty() ? " " : text);
-        consoleLines.getElement().appendChild(pre);
+        scheduleRender();
+    }
+
+    @Override
+    public void printOlderLines(List<String> lines) {
+        final int requestedBefore = olderLinesRequestedBefore;
+        olderLinesRequestedBefore = -1;
+        // lines don't precede the first line any more if it was dropped while they were loading
+        if (requestedBefore != buffer.getFirstLogNumber()) {
+            return;
+        }
+
+        final int inserted = buffer.prepend(lines);
+        if (inserted > 0) {
+            followOutput = false;
+            if (delegate != null) {
+                delegate.onOutputScrolled(false);
+            }
+            renderLines(scrollPanel.getElement().getScrollTop() + inserted * lineHeight);
+        }
+    }
 
-        followOutput();
+    @Override
+    public void enableLoadingOlderLines(boolean enable) {
+        loadingOlderLinesEnabled = enable;
+        scheduleRender();
     }
 
     @Override
@@ -312,45 +452,198 @@ public class OutputConsoleViewImpl extends Composite implements OutputConsoleVie
         if (delegate != null) {
             delegate.onOutputScrolled(followOutput);
         }
+
+        scheduleRender();
+    }
+
+    /** Renders lines in the next animation frame, so lines that are printed during the frame are rendered at once. */
+    private void scheduleRender() {
+        if (renderScheduled) {
+            return;
+        }
+        renderScheduled = true;
+
+        AnimationScheduler.get().requestAnimationFrame(new AnimationScheduler.AnimationCallback() {
+            @Override
+            public void execute(double timestamp) {
+                renderScheduled = false;
+                renderLines(scrollPanel.getElement().getScrollTop());
+            }
+        }, scrollPanel.getElement());
+    }
+
+    /** Checks the visibility periodically and renders lines when view is visible. */
+    private void renderWhenVisible() {
+        if (renderWhenVisibleScheduled) {
+            return;
+        }
+        renderWhenVisibleScheduled = true;
+
+        Scheduler.get().scheduleFixedPeriod(new Scheduler.RepeatingCommand() {
+            @Override
+            public boolean execute() {
+                if (scrollPanel.getElement().getClientHeight() > 0) {
+                    renderWhenVisibleScheduled = false;
+                    scheduleRender();
+                    return false;
+                }
+
+                return true;
+            }
+        }, 500);
     }
 
     /**
-     * Scrolls to the bottom if following the output is enabled.
+     * Renders lines which are visible when output is scrolled to the specified position, or the last lines if following
+     * the output is enabled. Rendered lines that aren't visible any more are removed.
      */
-    private void followOutput() {
-        if (!followOutput) {
+    private void renderLines(int scrollTop) {
+        final Element scroll = scrollPanel.getElement();
+        final int viewportHeight = scroll.getClientHeight();
+        if (viewportHeight == 0) {
+            renderWhenVisible();
             return;
         }
 
-        /** Scroll bottom immediately if view is visible */
-        if (scrollPanel.getElement().getOffsetParent() != null) {
+        final Element lines = consoleLines.getElement();
+        final int size = buffer.size();
+        final int visibleLines = viewportHeight / lineHeight + 1;
+
+        final int first;
+        final int last;
+        if (followOutput) {
+            last = size;
+            first = Math.max(0, size - visibleLines - RENDERED_LINES_MARGIN);
+        } else {
+            final int firstVisible = Math.max(0, scrollTop - lines.getOffsetTop()) / lineHeight;
+            last = Math.min(size, firstVisible + visibleLines + RENDERED_LINES_MARGIN);
+            first = Math.max(0, Math.min(firstVisible, last - visibleLines) - RENDERED_LINES_MARGIN);
+        }
+
+        // remove lines that are out of the rendered range
+        final int firstNumber = first < last ? buffer.getNumber(first) : Integer.MAX_VALUE;
+        final int lastNumber = first < last ? buffer.getNumber(last - 1) : Integer.MIN_VALUE;
+        for (Iterator<Map.Entry<Integer, Element>> iterator = renderedLines.entrySet().iterator(); iterator.hasNext(); ) {
+            final Map.Entry<Integer, Element> entry = iterator.next();
+            if (entry.getKey() < firstNumber || entry.getKey() > lastNumber) {
+                entry.getValue().removeFromParent();
+                iterator.remove();
+            }
+        }
+
+        // insert missing lines keeping the order, rendered lines are kept in place
+        Node cursor = lines.getFirstChild();
+        for (int i = first; i < last; i++) {
+            final int number = buffer.getNumber(i);
+            Element line = renderedLines.get(number);
+            if (line == null) {
+                line = createLine(buffer.get(i), number);
+                renderedLines.put(number, line);
+            }
+            if (line == cursor) {
+                cursor = cursor.getNextSibling();
+            } else {
+                lines.insertBefore(line, cursor);
+            }
+        }
+
+        lines.getStyle().setPaddingTop(first * lineHeight, Style.Unit.PX);
+        lines.getStyle().setPaddingBottom((size - last) * lineHeight, Style.Unit.PX);
+
+        olderLinesLink.setVisible(loadingOlderLinesEnabled
+                                  && buffer.size() < buffer.getCapacity() * 2
+                                  && buffer.getFirstLogNumber() > 1);
+
+        if (!lineHeightMeasured && !wrapText && first < last) {
+            final int height = renderedLines.get(buffer.getNumber(first)).getOffsetHeight();
+            if (height > 0) {
+                lineHeightMeasured = true;
+                if (height != lineHeight) {
+                    lineHeight = height;
+                    scheduleRender();
+                }
+            }
+        }
+
+        if (followOutput) {
             scrollPanel.scrollToBottom();
             scrollPanel.scrollToLeft();
+        } else if (scroll.getScrollTop() != scrollTop) {
+            scroll.setScrollTop(scrollTop);
+        }
+    }
+
+    private Element createLine(String text, int number) {
+        final PreElement pre = DOM.createElement("pre").cast();
+        pre.setInnerText(text.isEmpty() ? " " : text);
+        if (number == foundLine) {
+            pre.setAttribute("found", "");
+        }
+        return pre;
+    }
+
+    private void removeRenderedLine(int number) {
+        final Element line = renderedLines.remove(number);
+        if (line != null) {
+            line.removeFromParent();
+        }
+    }
+
+    private void requestOlderLines() {
+        if (olderLinesRequestedBefore != -1 || delegate == null) {
             return;
         }
+        olderLinesRequestedBefore = buffer.getFirstLogNumber();
+        delegate.onOlderLinesRequested(olderLinesRequestedBefore);
+    }
 
-        /** Otherwise, check the visibility periodically and scroll the view when it's visible */
-        if (!followScheduled) {
-            followScheduled = true;
-
-            Scheduler.get().scheduleFixedPeriod(new Scheduler.RepeatingCommand() {
-                @Override
-                public boolean execute() {
-                    if (!followOutput) {
-                        followScheduled = false;
-                        return false;
-                    }
-
-                    if (scrollPanel.getElement().getOffsetParent() != null) {
-                        scrollPanel.scrollToBottom();
-                        scrollPanel.scrollToLeft();
-                        followScheduled = false;
-                        return false;
-                    }
-
-                    return true;
-                }
-            }, 500);
+    private void showSearchBox() {
+        searchBox.setVisible(true);
+        searchBox.setFocus(true);
+        searchBox.selectAll();
+    }
+
+    private void hideSearchBox() {
+        searchBox.setVisible(false);
+        setFoundLine(NO_LINE);
+        scrollPanel.getElement().focus();
+    }
+
+    /**
+     * Finds the line that contains searched text and scrolls to it.
+     *
+     * @param direction
+     *         {@code 1} to find the next line, {@code -1} to find the previous one, {@code 0} to check the current found line first
+     */
+    private void find(int direction) {
+        final String text = searchBox.getValue();
+        final int current = foundLine == NO_LINE ? -1 : buffer.indexOf(foundLine);
+        final int from = current == -1 ? (direction < 0 ? buffer.size() - 1 : 0) : current + direction;
+        final int index = buffer.find(text, from, direction >= 0);
+        if (index == -1) {
+            setFoundLine(NO_LINE);
+            return;
+        }
+
+        setFoundLine(buffer.getNumber(index));
+
+        followOutput = false;
+        if (delegate != null) {
+            delegate.onOutputScrolled(false);
+        }
+        final int viewportHeight = scrollPanel.getElement().getClientHeight();
+        renderLines(Math.max(0, consoleLines.getElement().getOffsetTop() + index * lineHeight - viewportHeight / 2));
+    }
+
+    private void setFoundLine(int number) {
+        final Element previous = renderedLines.get(foundLine);
+        if (previous != null) {
+            previous.removeAttribute("found");
+        }
+        foundLine = number;
+        final Element found = renderedLines.get(number);
+        if (found != null) {
+            found.setAttribute("found", "");
         }
     }
 
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.ide.extension.machine.client.outputspanel.console;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class ConsoleLineBufferTest {
+
+    @Test
+    public void dropsOldestLinesWhenFull() {
+        ConsoleLineBuffer buffer = new ConsoleLineBuffer(3);
+
+        for (int i = 0; i < 5; i++) {
+            buffer.append("line" + i);
+        }
+
+        assertEquals(3, buffer.size());
+        assertEquals("line2", buffer.get(0));
+        assertEquals("line4", buffer.get(2));
+        assertEquals(2, buffer.getFirstNumber());
+    }
+
+    @Test
+    public void replacesLastLineWithNextNumber() {
+        ConsoleLineBuffer buffer = new ConsoleLineBuffer(3);
+        buffer.append("progress 10%");
+
+        buffer.replaceLast("progress 20%");
+
+        assertEquals(1, buffer.size());
+        assertEquals("progress 20%", buffer.get(0));
+        assertEquals(1, buffer.getNumber(0));
+    }
+
+    @Test
+    public void prependsDroppedLines() {
+        ConsoleLineBuffer buffer = new ConsoleLineBuffer(2);
+        for (int i = 0; i < 5; i++) {
+            buffer.append("line" + i, i + 1);
+        }
+
+        int inserted = buffer.prepend(Arrays.asList("line1", "line2"));
+
+        assertEquals(2, inserted);
+        assertEquals(4, buffer.size());
+        assertEquals("line1", buffer.get(0));
+        assertEquals(1, buffer.getNumber(0));
+        assertEquals(2, buffer.getFirstLogNumber());
+        assertEquals("line4", buffer.get(3));
+    }
+
+    @Test
+    public void doesNotPrependMoreLinesThanLogContainsBeforeFirstLine() {
+        ConsoleLineBuffer buffer = new ConsoleLineBuffer(10);
+        buffer.append("line0", 1);
+        buffer.append("line1", 2);
+        buffer.clear();
+        buffer.append("line2", 3);
+
+        int inserted = buffer.prepend(Arrays.asList("x", "line0", "line1"));
+
+        assertEquals(2, inserted);
+        assertEquals("line0", buffer.get(0));
+        assertEquals(1, buffer.getFirstLogNumber());
+    }
+
+    @Test
+    public void takesFirstLogNumberFromLinesWrittenToLog() {
+        ConsoleLineBuffer buffer = new ConsoleLineBuffer(10);
+        buffer.append("[2 lines skipped]");
+        buffer.append("progress 10%", 7);
+        buffer.replaceLast("progress 20%", 9);
+
+        assertEquals(9, buffer.getFirstLogNumber());
+
+        buffer.clear();
+        buffer.append("process died");
+
+        assertEquals(10, buffer.getFirstLogNumber());
+    }
+
+    @Test
+    public void prependsLinesPrintedBeforeConsoleWasOpened() {
+        ConsoleLineBuffer buffer = new ConsoleLineBuffer(10);
+        buffer.append("line100", 100);
+
+        int inserted = buffer.prepend(Arrays.asList("line97", "line98", "line99"));
+
+        assertEquals(3, inserted);
+        assertEquals("line97", buffer.get(0));
+        assertEquals(97, buffer.getFirstLogNumber());
+        assertEquals(0, buffer.indexOf(buffer.getNumber(0)));
+        assertEquals(3, buffer.indexOf(buffer.getNumber(3)));
+    }
+
+    @Test
+    public void findsIndexOfLineByNumber() {
+        ConsoleLineBuffer buffer = new ConsoleLineBuffer(3);
+        buffer.append("line0");
+        buffer.append("line1");
+        buffer.replaceLast("line2");
+        buffer.append("line3");
+
+        assertEquals(0, buffer.indexOf(0));
+        assertEquals(-1, buffer.indexOf(1));
+        assertEquals(1, buffer.indexOf(2));
+        assertEquals(2, buffer.indexOf(3));
+        assertEquals(-1, buffer.indexOf(4));
+    }
+
+    @Test
+    public void findsLinesInBothDirectionsWithWrapAround() {
+        ConsoleLineBuffer buffer = new ConsoleLineBuffer(3);
+        buffer.append("BUILD started");
+        buffer.append("compiling");
+        buffer.append("build SUCCESS");
+        buffer.append("done");
+
+        assertEquals(1, buffer.find("Build", 0, true));
+        assertEquals(1, buffer.find("build", 2, true));
+        assertEquals(1, buffer.find("build", 0, false));
+        assertEquals(-1, buffer.find("started", 0, true));
+    }
+}
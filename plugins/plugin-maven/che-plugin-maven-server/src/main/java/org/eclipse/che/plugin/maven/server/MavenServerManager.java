@@ -39,6 +39,7 @@ import java.rmi.RemoteException;
 import java.rmi.server.UnicastRemoteObject;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Evgen Vidolob
@@ -56,6 +57,9 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
     private String  mavenServerPath;
     private File    localRepository;
 
+    private final AtomicLong roundTrips       = new AtomicLong();
+    private final AtomicLong bytesTransferred = new AtomicLong();
+
     @Inject
     public MavenServerManager(@Named("che.maven.server.path") String mavenServerPath) {
         this.mavenServerPath = mavenServerPath;
@@ -104,9 +108,24 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
                 }
                 return MavenServerManager.this.getOrCreateWrappedObject().createServer(mavenSettings);
             }
+
+            @Override
+            protected void onRemoteCall() {
+                roundTrips.incrementAndGet();
+            }
+
+            @Override
+            protected void onDataReceived(long bytes) {
+                bytesTransferred.addAndGet(bytes);
+            }
         };
     }
 
+    /** Gets statistics of calls to maven server processes created by this manager. */
+    public Statistics getStatistics() {
+        return new Statistics(roundTrips.get(), bytesTransferred.get());
+    }
+
     /**
      * For test use only. Sets the path to local maven repository
      *
@@ -251,4 +270,30 @@ public class MavenServerManager extends RmiObjectWrapper<MavenRemoteServer> {
             //todo notify browser about that
         }
     }
+
+    /** Statistics of calls to maven server processes. */
+    public static class Statistics {
+        private final long roundTrips;
+        private final long bytesTransferred;
+
+        Statistics(long roundTrips, long bytesTransferred) {
+            this.roundTrips = roundTrips;
+            this.bytesTransferred = bytesTransferred;
+        }
+
+        /** Number of completed calls to maven servers. */
+        public long getRoundTrips() {
+            return roundTrips;
+        }
+
+        /** Number of compressed bytes received as results of batch calls. */
+        public long getBytesTransferred() {
+            return bytesTransferred;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{roundTrips=" + roundTrips + ", bytesTransferred=" + bytesTransferred + '}';
+        }
+    }
 }
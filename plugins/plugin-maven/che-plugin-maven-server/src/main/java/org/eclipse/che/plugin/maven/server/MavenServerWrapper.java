@@ -16,6 +16,7 @@ import org.eclipse.che.maven.data.MavenArtifact;
 import org.eclipse.che.maven.data.MavenArtifactKey;
 import org.eclipse.che.maven.data.MavenRemoteRepository;
 import org.eclipse.che.maven.data.MavenWorkspaceCache;
+import org.eclipse.che.maven.server.CompressedList;
 import org.eclipse.che.maven.server.MavenServer;
 import org.eclipse.che.maven.server.MavenServerProgressNotifier;
 import org.eclipse.che.maven.server.MavenServerResult;
@@ -24,6 +25,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.Serializable;
 import java.rmi.NoSuchObjectException;
 import java.rmi.RemoteException;
 import java.rmi.server.UnicastRemoteObject;
@@ -102,6 +104,15 @@ public abstract class MavenServerWrapper extends RmiObjectWrapper<MavenServer> {
         return perform(() -> getOrCreateWrappedObject().resolveProject(pom, activeProfiles, inactiveProfile));
     }
 
+    /**
+     * Resolves several projects with the same profiles in one remote call.
+     *
+     * @return resolve results in the same order as {@code poms}
+     */
+    public List<MavenServerResult> resolveProjects(List<File> poms, List<String> activeProfiles, List<String> inactiveProfile) {
+        return perform(() -> received(getOrCreateWrappedObject().resolveProjects(poms, activeProfiles, inactiveProfile)));
+    }
+
     public String getEffectivePom(File pom, List<String> activeProfiles, List<String> inactiveProfile) {
         return perform(() -> getOrCreateWrappedObject().getEffectivePom(pom, activeProfiles, inactiveProfile));
     }
@@ -110,15 +121,44 @@ public abstract class MavenServerWrapper extends RmiObjectWrapper<MavenServer> {
         return perform(() -> getOrCreateWrappedObject().resolveArtifact(artifactKey, repositories));
     }
 
+    /**
+     * Resolves several artifacts in one remote call.
+     *
+     * @return resolved artifacts in the same order as {@code artifactKeys}
+     */
+    public List<MavenArtifact> resolveArtifacts(List<MavenArtifactKey> artifactKeys, List<MavenRemoteRepository> repositories) {
+        return perform(() -> received(getOrCreateWrappedObject().resolveArtifacts(artifactKeys, repositories)));
+    }
+
     public File getLocalRepository() {
         return perform(() -> getOrCreateWrappedObject().getLocalRepository());
     }
 
+    /** Called after each successful call to the maven server process. */
+    protected void onRemoteCall() {
+    }
+
+    /**
+     * Called when compressed batch result is received from the maven server process.
+     *
+     * @param bytes
+     *         size of the compressed payload
+     */
+    protected void onDataReceived(long bytes) {
+    }
+
+    private <T extends Serializable> List<T> received(CompressedList<T> list) {
+        onDataReceived(list.getCompressedSize());
+        return list.getElements();
+    }
+
     private <T> T perform(RunnableRemoteWithResult<T> runnable) {
         RemoteException exception = null;
         for (int i = 0; i < 2; i++) {
             try {
-                return runnable.perform();
+                T result = runnable.perform();
+                onRemoteCall();
+                return result;
             } catch (RemoteException e) {
                 exception = e;
                 onError();
@@ -133,6 +173,7 @@ public abstract class MavenServerWrapper extends RmiObjectWrapper<MavenServer> {
         for (int i = 0; i < 2; i++) {
             try {
                 runnable.perform();
+                onRemoteCall();
                 return;
             } catch (RemoteException e) {
                 exception = e;
@@ -10,34 +10,95 @@
  *******************************************************************************/
 package org.eclipse.che.plugin.maven.server;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  *
  * Manages and cache MavenServerWrapper instances
+ * <p/>
+ * If cached server is in use, additional servers are created. Up to {@code che.maven.server.pool_size} servers of each type
+ * are kept after release, so concurrent tasks don't create new server each time. Additional servers which weren't used during
+ * {@code che.maven.server.idle_timeout_sec} seconds are disposed.
  *
  * @author Evgen Vidolob
  */
 @Singleton
 public class MavenWrapperManager {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenWrapperManager.class);
 
+    /** Default number of maven servers of each type that may be used concurrently. */
+    public static final int  DEFAULT_POOL_SIZE        = Math.min(4, Runtime.getRuntime().availableProcessors());
+    /** Default number of seconds after which additional maven server that isn't used is disposed. */
+    public static final long DEFAULT_IDLE_TIMEOUT_SEC = 300;
 
     private final MavenServerManager    serverManager;
     private final Map<ServerType, MavenServerWrapper> cache = new HashMap<>();
     private final Set<MavenServerWrapper> usedServers = new HashSet<>();
+    private final Map<MavenServerWrapper, ServerType>        pooledServers = new HashMap<>();
+    private final Map<ServerType, Deque<MavenServerWrapper>> idleServers   = new EnumMap<>(ServerType.class);
+    private final Map<MavenServerWrapper, Long>              idleSince     = new HashMap<>();
+
+    @Inject(optional = true)
+    @Named("che.maven.server.pool_size")
+    private int poolSize = DEFAULT_POOL_SIZE;
 
+    @Inject(optional = true)
+    @Named("che.maven.server.idle_timeout_sec")
+    private long idleTimeoutSec = DEFAULT_IDLE_TIMEOUT_SEC;
+
+    private ScheduledExecutorService evictor;
 
     @Inject
     public MavenWrapperManager(MavenServerManager serverManager) {
         this.serverManager = serverManager;
     }
 
+    MavenWrapperManager(MavenServerManager serverManager, int poolSize, long idleTimeoutSec) {
+        this.serverManager = serverManager;
+        this.poolSize = poolSize;
+        this.idleTimeoutSec = idleTimeoutSec;
+    }
+
+    @PostConstruct
+    void start() {
+        if (idleTimeoutSec > 0) {
+            evictor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("MavenServerEvictor")
+                                                                                           .setDaemon(true)
+                                                                                           .build());
+            long period = Math.max(1, idleTimeoutSec / 2);
+            evictor.scheduleWithFixedDelay(() -> disposeIdleServers(System.currentTimeMillis()), period, period, SECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+    }
+
     public synchronized MavenServerWrapper getMavenServer(ServerType type) {
         MavenServerWrapper wrapper = cache.get(type);
         if (wrapper == null) {
@@ -46,23 +107,76 @@ public class MavenWrapperManager {
         }
 
         if (usedServers.contains(wrapper)) {
-            //need to warn here
-            return serverManager.createMavenServer();
+            wrapper = getPooledServer(type);
+            if (wrapper == null) {
+                //need to warn here
+                return serverManager.createMavenServer();
+            }
         }
 
         usedServers.add(wrapper);
         return wrapper;
     }
 
+    private MavenServerWrapper getPooledServer(ServerType type) {
+        Deque<MavenServerWrapper> idle = idleServers.get(type);
+        if (idle != null && !idle.isEmpty()) {
+            MavenServerWrapper wrapper = idle.pop();
+            idleSince.remove(wrapper);
+            return wrapper;
+        }
+        // cached server is a part of the pool too
+        long pooled = pooledServers.values().stream().filter(type::equals).count() + 1;
+        if (pooled >= poolSize) {
+            return null;
+        }
+        MavenServerWrapper wrapper = serverManager.createMavenServer();
+        pooledServers.put(wrapper, type);
+        return wrapper;
+    }
+
     public synchronized void release(MavenServerWrapper wrapper) {
         if (usedServers.contains(wrapper)) {
             wrapper.reset();
             usedServers.remove(wrapper);
+            ServerType type = pooledServers.get(wrapper);
+            if (type != null) {
+                idleServers.computeIfAbsent(type, t -> new ArrayDeque<>()).push(wrapper);
+                idleSince.put(wrapper, System.currentTimeMillis());
+            }
         } else {
             wrapper.dispose();
         }
     }
 
+    /**
+     * Disposes additional servers which weren't used during idle timeout.
+     *
+     * @param now
+     *         current time in milliseconds
+     */
+    void disposeIdleServers(long now) {
+        List<MavenServerWrapper> expired = new ArrayList<>();
+        synchronized (this) {
+            for (Deque<MavenServerWrapper> idle : idleServers.values()) {
+                // servers are pushed to the head of the queue on release, so the longest idle ones are at its tail
+                while (!idle.isEmpty() && now - idleSince.get(idle.peekLast()) >= SECONDS.toMillis(idleTimeoutSec)) {
+                    MavenServerWrapper wrapper = idle.removeLast();
+                    idleSince.remove(wrapper);
+                    pooledServers.remove(wrapper);
+                    expired.add(wrapper);
+                }
+            }
+        }
+        for (MavenServerWrapper wrapper : expired) {
+            try {
+                wrapper.dispose();
+            } catch (RuntimeException e) {
+                LOG.warn("Can't dispose idle maven server", e);
+            }
+        }
+    }
+
     public enum ServerType {
         RESOLVE, DOWNLOAD
     }
@@ -11,18 +11,24 @@
 package org.eclipse.che.plugin.maven.server.core;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 
+import org.eclipse.che.plugin.maven.server.MavenWrapperManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.PreDestroy;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
+ * Executes maven tasks. Number of threads is the same as number of maven servers that may be used concurrently,
+ * see {@link MavenWrapperManager}.
+ *
  * @author Evgen Vidolob
  */
 @Singleton
@@ -30,11 +36,35 @@ public class MavenExecutorService {
 
     private static final Logger LOG = LoggerFactory.getLogger(MavenExecutorService.class);
 
-    private final ExecutorService service;
+    private final ThreadPoolExecutor service;
 
     public MavenExecutorService() {
         ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat("Maven Executor - %d").build();
-        service = Executors.newFixedThreadPool(1, threadFactory);
+        service = new ThreadPoolExecutor(MavenWrapperManager.DEFAULT_POOL_SIZE,
+                                         MavenWrapperManager.DEFAULT_POOL_SIZE,
+                                         0L,
+                                         TimeUnit.MILLISECONDS,
+                                         new LinkedBlockingQueue<>(),
+                                         threadFactory);
+    }
+
+    @Inject(optional = true)
+    public void setPoolSize(@Named("che.maven.server.pool_size") int poolSize) {
+        if (poolSize <= 0) {
+            return;
+        }
+        // core pool size can't be greater than maximum pool size
+        if (poolSize > service.getMaximumPoolSize()) {
+            service.setMaximumPoolSize(poolSize);
+            service.setCorePoolSize(poolSize);
+        } else {
+            service.setCorePoolSize(poolSize);
+            service.setMaximumPoolSize(poolSize);
+        }
+    }
+
+    public int getPoolSize() {
+        return service.getCorePoolSize();
     }
 
     public void submit(Runnable task) {
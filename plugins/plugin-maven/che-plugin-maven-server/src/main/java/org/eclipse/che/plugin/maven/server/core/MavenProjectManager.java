@@ -17,6 +17,7 @@ import com.google.inject.Singleton;
 import org.eclipse.che.maven.data.MavenArtifact;
 import org.eclipse.che.maven.data.MavenKey;
 import org.eclipse.che.maven.data.MavenWorkspaceCache;
+import org.eclipse.che.maven.server.MavenServerResult;
 import org.eclipse.che.maven.server.MavenTerminal;
 import org.eclipse.che.plugin.maven.server.MavenServerManager;
 import org.eclipse.che.plugin.maven.server.MavenServerWrapper;
@@ -25,13 +26,19 @@ import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProjectModifications;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +56,7 @@ import java.util.stream.Collectors;
  */
 @Singleton
 public class MavenProjectManager {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenProjectManager.class);
 
     private final MavenWorkspaceCache                   mavenWorkspaceCache;
     private final Map<MavenKey, MavenProject>           keyToProjectMap;
@@ -66,6 +74,7 @@ public class MavenProjectManager {
     private final MavenTerminal         terminal;
     private final MavenProgressNotifier mavenNotifier;
     private final Provider<IWorkspace>  workspaceProvider;
+    private final MavenResolveCache     resolveCache;
 
     private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
     private final Lock                   readLock      = readWriteLock.readLock();
@@ -78,12 +87,14 @@ public class MavenProjectManager {
                                MavenServerManager serverManager,
                                MavenTerminal terminal,
                                MavenProgressNotifier mavenNotifier,
-                               EclipseWorkspaceProvider workspaceProvider) {
+                               EclipseWorkspaceProvider workspaceProvider,
+                               MavenResolveCache resolveCache) {
         this.wrapperManager = wrapperManager;
         this.serverManager = serverManager;
         this.terminal = terminal;
         this.mavenNotifier = mavenNotifier;
         this.workspaceProvider = workspaceProvider;
+        this.resolveCache = resolveCache;
         mavenWorkspaceCache = new MavenWorkspaceCache();
         keyToProjectMap = new HashMap<>();
         projectToMavenProjectMap = new HashMap<>();
@@ -113,12 +124,26 @@ public class MavenProjectManager {
     }
 
     public void resolveMavenProject(IProject project, MavenProject mavenProject) {
+        MavenWorkspaceCache workspaceCache = copyWorkspaceCache();
+        String cacheKey = createResolveCacheKey(mavenProject, workspaceCache);
+        MavenServerResult cachedResult = cacheKey == null ? null : resolveCache.get(cacheKey);
+        if (cachedResult != null) {
+            mavenNotifier.setText("Resolving project: " + mavenProject.getName());
+            MavenProjectModifications modifications = mavenProject.resolve(project, cachedResult, serverManager);
+            dispatcher.projectResolved(mavenProject, modifications);
+            return;
+        }
+
         MavenServerWrapper mavenServer = wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE);
         try {
 
             mavenNotifier.setText("Resolving project: " + mavenProject.getName());
-            mavenServer.customize(copyWorkspaceCache(), terminal, mavenNotifier, false, true);
-            MavenProjectModifications modifications = mavenProject.resolve(project, mavenServer, serverManager);
+            mavenServer.customize(workspaceCache, terminal, mavenNotifier, false, true);
+            MavenProjectModifications modifications = mavenProject.resolve(project, mavenServer, serverManager, result -> {
+                if (cacheKey != null) {
+                    resolveCache.put(cacheKey, result);
+                }
+            });
             dispatcher.projectResolved(mavenProject, modifications);
 
         } finally {
@@ -127,6 +152,93 @@ public class MavenProjectManager {
 
     }
 
+    /**
+     * Resolves several projects using one maven server. Projects with the same profiles are resolved with one call
+     * to the maven server, if such call fails projects are resolved one by one.
+     */
+    public void resolveMavenProjects(List<MavenProject> mavenProjects) {
+        MavenWorkspaceCache workspaceCache = copyWorkspaceCache();
+        Map<MavenProject, String> projectToCacheKey = new HashMap<>();
+        Map<List<List<String>>, List<MavenProject>> profilesToProjects = new LinkedHashMap<>();
+        for (MavenProject mavenProject : mavenProjects) {
+            String cacheKey = createResolveCacheKey(mavenProject, workspaceCache);
+            MavenServerResult cachedResult = cacheKey == null ? null : resolveCache.get(cacheKey);
+            if (cachedResult != null) {
+                mavenNotifier.setText("Resolving project: " + mavenProject.getName());
+                try {
+                    MavenProjectModifications modifications = mavenProject.resolve(mavenProject.getProject(), cachedResult, serverManager);
+                    dispatcher.projectResolved(mavenProject, modifications);
+                } catch (RuntimeException e) {
+                    LOG.error("Can't resolve project " + mavenProject.getName(), e);
+                }
+                continue;
+            }
+            projectToCacheKey.put(mavenProject, cacheKey);
+            profilesToProjects.computeIfAbsent(Arrays.asList(mavenProject.getActiveProfiles(), mavenProject.getInactiveProfiles()),
+                                               profiles -> new ArrayList<>())
+                              .add(mavenProject);
+        }
+        if (profilesToProjects.isEmpty()) {
+            return;
+        }
+
+        MavenServerWrapper mavenServer = wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE);
+        try {
+            mavenServer.customize(workspaceCache, terminal, mavenNotifier, false, true);
+            for (List<MavenProject> projects : profilesToProjects.values()) {
+                List<File> poms = projects.stream().map(MavenProject::getPomFile).collect(Collectors.toList());
+                List<MavenServerResult> results = null;
+                if (projects.size() > 1) {
+                    mavenNotifier.setText("Resolving projects: " + projects.stream()
+                                                                           .map(MavenProject::getName)
+                                                                           .collect(Collectors.joining(", ")));
+                    try {
+                        results = mavenServer.resolveProjects(poms, projects.get(0).getActiveProfiles(),
+                                                              projects.get(0).getInactiveProfiles());
+                    } catch (RuntimeException e) {
+                        LOG.warn("Can't resolve projects with one call to maven server, resolving them one by one", e);
+                    }
+                }
+
+                for (int i = 0; i < projects.size(); i++) {
+                    MavenProject mavenProject = projects.get(i);
+                    String cacheKey = projectToCacheKey.get(mavenProject);
+                    // failure of one project must not prevent resolving of the others
+                    try {
+                        MavenProjectModifications modifications;
+                        if (results != null) {
+                            MavenServerResult result = results.get(i);
+                            if (cacheKey != null) {
+                                resolveCache.put(cacheKey, result);
+                            }
+                            modifications = mavenProject.resolve(mavenProject.getProject(), result, serverManager);
+                        } else {
+                            mavenNotifier.setText("Resolving project: " + mavenProject.getName());
+                            modifications = mavenProject.resolve(mavenProject.getProject(), mavenServer, serverManager, result -> {
+                                if (cacheKey != null) {
+                                    resolveCache.put(cacheKey, result);
+                                }
+                            });
+                        }
+                        dispatcher.projectResolved(mavenProject, modifications);
+                    } catch (RuntimeException e) {
+                        LOG.error("Can't resolve project " + mavenProject.getName(), e);
+                    }
+                }
+            }
+        } finally {
+            wrapperManager.release(mavenServer);
+        }
+    }
+
+    private String createResolveCacheKey(MavenProject mavenProject, MavenWorkspaceCache workspaceCache) {
+        return resolveCache.createKey(mavenProject.getPomFile(),
+                                      findParentPoms(mavenProject),
+                                      mavenProject.getActiveProfiles(),
+                                      mavenProject.getInactiveProfiles(),
+                                      workspaceCache);
+    }
+
 
     public void update(List<IProject> projects, boolean recursive) {
         if (projects.isEmpty()) {
@@ -148,6 +260,23 @@ public class MavenProjectManager {
 
     }
 
+    /** Returns pom files of the project parents which are placed in the workspace, starting from the nearest parent. */
+    private List<File> findParentPoms(MavenProject mavenProject) {
+        readLock.lock();
+        try {
+            List<File> result = new ArrayList<>();
+            Set<MavenProject> visited = new HashSet<>();
+            MavenProject parent = keyToProjectMap.get(mavenProject.getParentKey());
+            while (parent != null && visited.add(parent)) {
+                result.add(parent.getPomFile());
+                parent = keyToProjectMap.get(parent.getParentKey());
+            }
+            return result;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
     public MavenProject findParentProject(MavenProject mavenProject) {
         readLock.lock();
         try {
@@ -458,6 +587,39 @@ public class MavenProjectManager {
         }
     }
 
+    /**
+     * Builds dependency graph of given projects.
+     *
+     * @param projects
+     *         projects to build graph for
+     * @return map of each given project to the given projects which it depends on, either as on parent or as on dependency
+     */
+    public Map<MavenProject, Set<MavenProject>> buildDependencyGraph(Collection<MavenProject> projects) {
+        readLock.lock();
+        try {
+            Set<MavenProject> scheduled = new HashSet<>(projects);
+            Map<MavenProject, Set<MavenProject>> graph = new HashMap<>();
+            for (MavenProject project : projects) {
+                Set<MavenProject> dependencies = new HashSet<>();
+                if (project.getParentKey() != null) {
+                    dependencies.add(keyToProjectMap.get(project.getParentKey()));
+                }
+                if (project.getDependencies() != null) {
+                    for (MavenArtifact artifact : project.getDependencies()) {
+                        MavenKey key = new MavenKey(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion());
+                        dependencies.add(keyToProjectMap.get(key));
+                    }
+                }
+                dependencies.retainAll(scheduled);
+                dependencies.remove(project);
+                graph.put(project, dependencies);
+            }
+            return graph;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
     private boolean contains(Set<MavenKey> mavenKeys, String artifactId, String groupId, String version) {
         return mavenKeys.stream().filter(key -> Objects.equals(key.getArtifactId(), artifactId)
                                                 && Objects.equals(key.getGroupId(), groupId)
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Executor for {@link MavenProjectResolveTask}. Uses {@link MavenExecutorService} as executor service.
+ * <p/>
+ * Projects are resolved in dependency order: project is resolved after its parent and dependencies that are scheduled
+ * for resolving too, independent projects are resolved concurrently. Project that is already waiting for resolving
+ * isn't added twice, project that is submitted while it is resolving is resolved again after current resolving ends.
+ * When there are more ready projects than executor threads, they are split into batches, each batch is resolved
+ * with one call to maven server, see {@link MavenProjectManager#resolveMavenProjects(List)}.
+ */
+public class MavenProjectResolveScheduler {
+    private static final Logger LOG            = LoggerFactory.getLogger(MavenProjectResolveScheduler.class);
+    private static final int    MAX_BATCH_SIZE = 8;
+
+    private final MavenExecutorService  service;
+    private final MavenProjectManager   projectManager;
+    private final MavenProgressNotifier notifier;
+
+    private final Object lock = new Object();
+
+    /** Tasks which wait for resolving, in order of submission. */
+    private final Map<MavenProject, MavenProjectResolveTask> pending      = new LinkedHashMap<>();
+    /** Pending projects mapped to scheduled projects which they wait for. */
+    private final Map<MavenProject, Set<MavenProject>>       dependencies = new HashMap<>();
+    private final Set<MavenProject>                          running      = new HashSet<>();
+    private int resolved;
+
+    public MavenProjectResolveScheduler(MavenExecutorService service, MavenProjectManager projectManager, MavenProgressNotifier notifier) {
+        this.service = service;
+        this.projectManager = projectManager;
+        this.notifier = notifier;
+    }
+
+    public void submitTasks(Collection<MavenProjectResolveTask> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            if (pending.isEmpty() && running.isEmpty()) {
+                notifier.start();
+            }
+            for (MavenProjectResolveTask task : tasks) {
+                // the latest task replaces the waiting one, project keeps its place in the queue
+                pending.put(task.getMavenProject(), task);
+            }
+
+            Set<MavenProject> scheduled = new HashSet<>(pending.keySet());
+            scheduled.addAll(running);
+            Map<MavenProject, Set<MavenProject>> graph = projectManager.buildDependencyGraph(scheduled);
+            dependencies.clear();
+            for (MavenProject project : pending.keySet()) {
+                Set<MavenProject> waitFor = graph.get(project);
+                if (running.contains(project)) {
+                    waitFor.add(project);
+                }
+                dependencies.put(project, waitFor);
+            }
+            scheduleReadyTasks();
+        }
+    }
+
+    public void stop() {
+        synchronized (lock) {
+            boolean hasPending = !pending.isEmpty();
+            pending.clear();
+            dependencies.clear();
+            if (hasPending && running.isEmpty()) {
+                finish();
+            }
+        }
+    }
+
+    /** Must be called under lock. */
+    private void scheduleReadyTasks() {
+        List<MavenProjectResolveTask> ready = new ArrayList<>();
+        for (Iterator<Map.Entry<MavenProject, MavenProjectResolveTask>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<MavenProject, MavenProjectResolveTask> entry = it.next();
+            if (dependencies.get(entry.getKey()).isEmpty()) {
+                it.remove();
+                ready.add(entry.getValue());
+            }
+        }
+
+        if (!ready.isEmpty()) {
+            int poolSize = Math.max(1, service.getPoolSize());
+            int batchSize = Math.min(MAX_BATCH_SIZE, (ready.size() + poolSize - 1) / poolSize);
+            for (int i = 0; i < ready.size(); i += batchSize) {
+                schedule(new ArrayList<>(ready.subList(i, Math.min(i + batchSize, ready.size()))));
+            }
+        } else if (running.isEmpty() && !pending.isEmpty()) {
+            // there is a cycle in dependencies, resolve the first project regardless of its dependencies
+            Iterator<MavenProjectResolveTask> it = pending.values().iterator();
+            MavenProjectResolveTask task = it.next();
+            it.remove();
+            LOG.debug("Cyclic dependencies detected, resolving project {} before its dependencies", task.getMavenProject().getName());
+            schedule(Collections.singletonList(task));
+        }
+    }
+
+    /** Must be called under lock. */
+    private void schedule(List<MavenProjectResolveTask> tasks) {
+        for (MavenProjectResolveTask task : tasks) {
+            MavenProject project = task.getMavenProject();
+            dependencies.remove(project);
+            running.add(project);
+        }
+        service.submit(() -> runTasks(tasks));
+    }
+
+    private void runTasks(List<MavenProjectResolveTask> tasks) {
+        long start = System.currentTimeMillis();
+        try {
+            if (tasks.size() == 1) {
+                tasks.get(0).perform();
+            } else {
+                performBatch(tasks);
+            }
+        } catch (Throwable throwable) {
+            LOG.error(throwable.getMessage(), throwable);
+        }
+        long time = System.currentTimeMillis() - start;
+
+        synchronized (lock) {
+            for (MavenProjectResolveTask task : tasks) {
+                MavenProject project = task.getMavenProject();
+                LOG.debug("Project {} resolved in {} ms", project.getName(), time);
+                running.remove(project);
+                resolved++;
+                boolean pendingAgain = pending.containsKey(project);
+                for (Map.Entry<MavenProject, Set<MavenProject>> entry : dependencies.entrySet()) {
+                    if (!pendingAgain || entry.getKey().equals(project)) {
+                        entry.getValue().remove(project);
+                    }
+                }
+                notifier.setText(format("Resolved project: %s (%d ms)", project.getName(), time));
+            }
+            notifier.setPercent((double)resolved / (resolved + pending.size() + running.size()));
+
+            scheduleReadyTasks();
+            if (pending.isEmpty() && running.isEmpty()) {
+                finish();
+            }
+        }
+    }
+
+    private void performBatch(List<MavenProjectResolveTask> tasks) {
+        List<MavenProjectResolveTask> existing = tasks.stream()
+                                                      .filter(task -> task.getMavenProject().getProject().exists())
+                                                      .collect(Collectors.toList());
+        if (existing.isEmpty()) {
+            return;
+        }
+        try {
+            projectManager.resolveMavenProjects(existing.stream()
+                                                        .map(MavenProjectResolveTask::getMavenProject)
+                                                        .collect(Collectors.toList()));
+        } finally {
+            for (MavenProjectResolveTask task : existing) {
+                try {
+                    task.runAfterTask();
+                } catch (RuntimeException e) {
+                    LOG.error(e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /** Must be called under lock. */
+    private void finish() {
+        resolved = 0;
+        notifier.stop();
+        lock.notifyAll();
+    }
+
+    public void waitForEndAllTasks() {
+        synchronized (lock) {
+            try {
+                while (!pending.isEmpty() || !running.isEmpty()) {
+                    lock.wait(TimeUnit.SECONDS.toMillis(1));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.debug(e.getMessage(), e);
+            }
+        }
+    }
+}
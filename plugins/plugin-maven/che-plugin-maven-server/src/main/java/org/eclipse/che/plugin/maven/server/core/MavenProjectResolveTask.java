@@ -28,6 +28,10 @@ public class MavenProjectResolveTask implements MavenProjectTask {
         this.afterTask = afterTask;
     }
 
+    public MavenProject getMavenProject() {
+        return mavenProject;
+    }
+
     @Override
     public void perform() {
         IProject project = mavenProject.getProject();
@@ -35,9 +39,13 @@ public class MavenProjectResolveTask implements MavenProjectTask {
             return;
         }
         projectManager.resolveMavenProject(project, mavenProject);
+        runAfterTask();
+    }
+
+    /** Runs action which follows resolving, used when project is resolved together with other projects. */
+    public void runAfterTask() {
         if (afterTask != null) {
             afterTask.run();
         }
-
     }
 }
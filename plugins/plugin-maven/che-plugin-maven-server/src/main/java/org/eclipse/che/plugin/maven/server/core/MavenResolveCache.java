@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+
+import org.eclipse.che.maven.data.MavenArtifact;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.maven.data.MavenWorkspaceCache;
+import org.eclipse.che.maven.server.MavenProjectInfo;
+import org.eclipse.che.maven.server.MavenServerResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * On-disk cache of maven server resolve results, so projects that were not changed since the previous start
+ * are not resolved again.
+ * <p/>
+ * Result is stored under key which is hash of the pom and its parents content, active and inactive profiles, maven settings
+ * and state of all poms in the workspace. Only successful results are stored, cached result isn't used if any of resolved
+ * dependencies is missed in local repository.
+ */
+@Singleton
+public class MavenResolveCache {
+    private static final Logger LOG = LoggerFactory.getLogger(MavenResolveCache.class);
+
+    /** Must be changed if format of stored results is changed. */
+    private static final int    VERSION              = 1;
+    private static final String ENTRY_EXTENSION      = ".ser";
+    private static final long   MAX_ENTRY_AGE_MILLIS = TimeUnit.DAYS.toMillis(30);
+
+    private final File cacheDir;
+
+    @Inject
+    public MavenResolveCache(@Named("che.maven.resolve_cache.dir") String cacheDir) {
+        this.cacheDir = new File(cacheDir);
+    }
+
+    /** Removes entries that were not used for a long time. */
+    @PostConstruct
+    public void removeStaleEntries() {
+        File[] entries = cacheDir.listFiles((dir, name) -> name.endsWith(ENTRY_EXTENSION));
+        if (entries == null) {
+            return;
+        }
+        long expired = System.currentTimeMillis() - MAX_ENTRY_AGE_MILLIS;
+        for (File entry : entries) {
+            if (entry.lastModified() < expired && !entry.delete()) {
+                LOG.warn("Can't remove stale maven resolve cache entry {}", entry);
+            }
+        }
+    }
+
+    /**
+     * Computes cache key of the resolve result.
+     *
+     * @param pom
+     *         pom file of the project to resolve
+     * @param parentPoms
+     *         pom files of the project parents which are placed in the workspace
+     * @param activeProfiles
+     *         active profiles
+     * @param inactiveProfiles
+     *         inactive profiles
+     * @param workspaceCache
+     *         maven projects of the workspace
+     * @return key or {@code null} if any of poms can't be read
+     */
+    public String createKey(File pom,
+                            List<File> parentPoms,
+                            List<String> activeProfiles,
+                            List<String> inactiveProfiles,
+                            MavenWorkspaceCache workspaceCache) {
+        if (pom == null) {
+            return null;
+        }
+        Hasher hasher = Hashing.sha1().newHasher();
+        hasher.putInt(VERSION);
+        try {
+            putContent(hasher, pom);
+            for (File parentPom : parentPoms) {
+                putContent(hasher, parentPom);
+            }
+            putProfiles(hasher, activeProfiles);
+            putProfiles(hasher, inactiveProfiles);
+
+            String mavenHome = System.getenv("M2_HOME");
+            if (mavenHome != null) {
+                hasher.putString(mavenHome, StandardCharsets.UTF_8).putByte((byte)0);
+                putContentIfExists(hasher, new File(mavenHome, "conf/settings.xml"));
+            }
+            putContentIfExists(hasher, new File(System.getProperty("user.home"), ".m2/settings.xml"));
+        } catch (IOException e) {
+            LOG.debug(e.getMessage(), e);
+            return null;
+        }
+
+        // other workspace projects may be dependencies of the project, so any change of them invalidates cached result
+        TreeMap<String, File> workspacePoms = new TreeMap<>();
+        for (MavenKey key : workspaceCache.getAllKeys()) {
+            File file = workspaceCache.findEntry(key).getFile("pom");
+            workspacePoms.put(file.getPath(), file);
+        }
+        for (File workspacePom : workspacePoms.values()) {
+            hasher.putString(workspacePom.getPath(), StandardCharsets.UTF_8)
+                  .putByte((byte)0)
+                  .putLong(workspacePom.lastModified())
+                  .putLong(workspacePom.length());
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Returns cached resolve result.
+     *
+     * @param key
+     *         key of the result, see {@link #createKey(File, List, List, List, MavenWorkspaceCache)}
+     * @return cached result or {@code null} if there is no valid result for given key
+     */
+    public MavenServerResult get(String key) {
+        File entry = getEntryFile(key);
+        if (!entry.isFile()) {
+            return null;
+        }
+        MavenServerResult result;
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(entry.toPath())))) {
+            result = (MavenServerResult)in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOG.debug("Can't read maven resolve cache entry " + entry, e);
+            entry.delete();
+            return null;
+        }
+
+        for (MavenArtifact dependency : result.getProjectInfo().getMavenModel().getDependencies()) {
+            if (!dependency.isResolved()) {
+                // artifact was removed from local repository, project must be resolved again
+                entry.delete();
+                return null;
+            }
+        }
+        entry.setLastModified(System.currentTimeMillis());
+        return result;
+    }
+
+    /**
+     * Stores resolve result. Result is stored only if project was resolved without problems.
+     *
+     * @param key
+     *         key of the result, see {@link #createKey(File, List, List, List, MavenWorkspaceCache)}
+     * @param result
+     *         resolve result
+     */
+    public void put(String key, MavenServerResult result) {
+        MavenProjectInfo projectInfo = result.getProjectInfo();
+        if (projectInfo == null || !result.getProblems().isEmpty() || !result.getUnresolvedArtifacts().isEmpty()) {
+            return;
+        }
+        Path entry = getEntryFile(key).toPath();
+        try {
+            Files.createDirectories(cacheDir.toPath());
+            Path tmp = Files.createTempFile(cacheDir.toPath(), key, ".tmp");
+            try {
+                try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                    out.writeObject(result);
+                }
+                try {
+                    Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOG.warn("Can't store maven resolve cache entry " + entry, e);
+        }
+    }
+
+    private File getEntryFile(String key) {
+        return new File(cacheDir, key + ENTRY_EXTENSION);
+    }
+
+    private static void putContent(Hasher hasher, File file) throws IOException {
+        hasher.putString(file.getPath(), StandardCharsets.UTF_8).putByte((byte)0).putBytes(Files.readAllBytes(file.toPath()));
+    }
+
+    private static void putContentIfExists(Hasher hasher, File file) throws IOException {
+        if (file.isFile()) {
+            putContent(hasher, file);
+        }
+    }
+
+    private static void putProfiles(Hasher hasher, List<String> profiles) {
+        if (profiles != null) {
+            hasher.putInt(profiles.size());
+            profiles.forEach(profile -> hasher.putString(profile, StandardCharsets.UTF_8).putByte((byte)0));
+        } else {
+            hasher.putInt(-1);
+        }
+    }
+}
@@ -65,8 +65,8 @@ public class MavenWorkspace {
     private final MavenCommunication        communication;
     private final ClasspathManager          classpathManager;
 
-    private MavenTaskExecutor resolveExecutor;
-    private MavenTaskExecutor classPathExecutor;
+    private MavenProjectResolveScheduler resolveExecutor;
+    private MavenTaskExecutor            classPathExecutor;
 
     private Set<MavenProject> projectsToResolve = new CopyOnWriteArraySet<>();
 
@@ -84,7 +84,7 @@ public class MavenWorkspace {
         this.communication = communication;
         this.classpathManager = classpathManager;
         this.manager = manager;
-        resolveExecutor = new MavenTaskExecutor(executorService, notifier);
+        resolveExecutor = new MavenProjectResolveScheduler(executorService, manager, notifier);
         eventService.subscribe(new EventSubscriber<ProjectDeletedEvent>() {
             @Override
             public void onEvent(ProjectDeletedEvent event) {
@@ -154,14 +154,14 @@ public class MavenWorkspace {
         Set<MavenProject> needResolve = new HashSet<>(projectsToResolve);
         projectsToResolve.clear();
 
+        List<MavenProjectResolveTask> tasks = new ArrayList<>(needResolve.size());
         for (MavenProject mavenProject : needResolve) {
-
-            resolveExecutor.submitTask(new MavenProjectResolveTask(mavenProject, manager, () -> {
+            tasks.add(new MavenProjectResolveTask(mavenProject, manager, () -> {
                 addSourcesFromBuildHelperPlugin(mavenProject);
                 classpathManager.updateClasspath(mavenProject);
             }));
         }
-
+        resolveExecutor.submitTasks(tasks);
     }
 
     private void updateJavaProject(MavenProject project) {
@@ -40,6 +40,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -55,7 +56,9 @@ public class ClasspathManager {
     public static final String PACKAGING_ATTRIBUTE   = "maven.packaging";
     public static final String SCOPE_ATTRIBUTE       = "maven.scope";
 
-    private static final String SOURCES = "sources";
+    private static final String SOURCES                  = "sources";
+    /** Max number of source artifacts that are downloaded with one call to maven server. */
+    private static final int    MAX_SOURCES_PER_DOWNLOAD = 32;
 
     private static final Logger LOG = LoggerFactory.getLogger(ClasspathManager.class);
     private final String                workspacePath;
@@ -189,15 +192,25 @@ public class ClasspathManager {
             try {
                 mavenServer.customize(projectManager.copyWorkspaceCache(), terminal, notifier, false, false);
 
-                MavenArtifactKey sourceKey =
-                        new MavenArtifactKey(artifactKey.getGroupId(), artifactKey.getArtifactId(), artifactKey.getVersion(),
-                                             artifactKey.getPackaging(),
-                                             SOURCES);
-                MavenArtifact mavenArtifact = mavenServer.resolveArtifact(sourceKey, Collections.emptyList());
-                if (mavenArtifact.isResolved()) {
+                // sources of other libraries of the project are downloaded with the same call to maven server
+                List<MavenArtifactKey> sourceKeys = new ArrayList<>();
+                sourceKeys.add(toSourceKey(artifactKey));
+                for (IPackageFragmentRoot root : fragmentRoot.getJavaProject().getPackageFragmentRoots()) {
+                    if (sourceKeys.size() >= MAX_SOURCES_PER_DOWNLOAD) {
+                        break;
+                    }
+                    if (root.getKind() == IPackageFragmentRoot.K_BINARY && root.getSourceAttachmentPath() == null) {
+                        MavenArtifactKey libraryKey = getArtifactKey(root.getResolvedClasspathEntry());
+                        if (libraryKey != null && !sourceKeys.contains(toSourceKey(libraryKey))) {
+                            sourceKeys.add(toSourceKey(libraryKey));
+                        }
+                    }
+                }
+                List<MavenArtifact> mavenArtifacts = mavenServer.resolveArtifacts(sourceKeys, Collections.emptyList());
+                if (mavenArtifacts.stream().anyMatch(MavenArtifact::isResolved)) {
                     updateClasspath(projectManager.findMavenProject(fragmentRoot.getJavaProject().getProject()));
                 }
-                return mavenArtifact.isResolved();
+                return mavenArtifacts.get(0).isResolved();
             } finally {
                wrapperManager.release(mavenServer);
             }
@@ -205,6 +218,12 @@ public class ClasspathManager {
         return false;
     }
 
+    private MavenArtifactKey toSourceKey(MavenArtifactKey artifactKey) {
+        return new MavenArtifactKey(artifactKey.getGroupId(), artifactKey.getArtifactId(), artifactKey.getVersion(),
+                                    artifactKey.getPackaging(),
+                                    SOURCES);
+    }
+
     private MavenArtifactKey getArtifactKey(IClasspathEntry classpathEntry) {
         IClasspathAttribute[] attributes = classpathEntry.getExtraAttributes();
         String groupId = null;
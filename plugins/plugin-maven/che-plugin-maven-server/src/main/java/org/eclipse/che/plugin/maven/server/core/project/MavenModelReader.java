@@ -38,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.eclipse.che.plugin.maven.shared.MavenAttributes.DEFAULT_RESOURCES_FOLDER;
@@ -53,22 +54,24 @@ public class MavenModelReader {
 
     public MavenModelReaderResult resolveMavenProject(File pom, MavenServerWrapper mavenServer, List<String> activeProfiles,
                                                       List<String> inactiveProfiles, MavenServerManager serverManager) {
+        return resolveMavenProject(pom, mavenServer, activeProfiles, inactiveProfiles, serverManager, null);
+    }
+
+    /**
+     * Resolves project with maven server.
+     *
+     * @param resultConsumer
+     *         receives result of maven server invocation, may be {@code null}
+     */
+    public MavenModelReaderResult resolveMavenProject(File pom, MavenServerWrapper mavenServer, List<String> activeProfiles,
+                                                      List<String> inactiveProfiles, MavenServerManager serverManager,
+                                                      Consumer<MavenServerResult> resultConsumer) {
         try {
             MavenServerResult resolveProject = mavenServer.resolveProject(pom, activeProfiles, inactiveProfiles);
-            MavenProjectInfo projectInfo = resolveProject.getProjectInfo();
-            if (projectInfo != null) {
-                return new MavenModelReaderResult(projectInfo.getMavenModel(),
-                                                  projectInfo.getActiveProfiles(),
-                                                  Collections.emptyList(),
-                                                  resolveProject.getProblems(),
-                                                  resolveProject.getUnresolvedArtifacts());
-            } else {
-                MavenModelReaderResult readMavenProject = readMavenProject(pom, serverManager);
-                readMavenProject.getProblems().addAll(resolveProject.getProblems());
-                readMavenProject.getUnresolvedArtifacts().addAll(resolveProject.getUnresolvedArtifacts());
-                return readMavenProject;
+            if (resultConsumer != null) {
+                resultConsumer.accept(resolveProject);
             }
-
+            return resolveMavenProject(pom, resolveProject, serverManager);
         } catch (Throwable t) {
             String message = t.getMessage();
             LOG.info(message, t);
@@ -82,6 +85,23 @@ public class MavenModelReader {
         }
     }
 
+    /** Builds model from the result of previous maven server invocation. */
+    public MavenModelReaderResult resolveMavenProject(File pom, MavenServerResult resolveProject, MavenServerManager serverManager) {
+        MavenProjectInfo projectInfo = resolveProject.getProjectInfo();
+        if (projectInfo != null) {
+            return new MavenModelReaderResult(projectInfo.getMavenModel(),
+                                              projectInfo.getActiveProfiles(),
+                                              Collections.emptyList(),
+                                              resolveProject.getProblems(),
+                                              resolveProject.getUnresolvedArtifacts());
+        } else {
+            MavenModelReaderResult readMavenProject = readMavenProject(pom, serverManager);
+            readMavenProject.getProblems().addAll(resolveProject.getProblems());
+            readMavenProject.getUnresolvedArtifacts().addAll(resolveProject.getUnresolvedArtifacts());
+            return readMavenProject;
+        }
+    }
+
     public MavenModelReaderResult readMavenProject(File pom, MavenServerManager serverManager) {
         Pair<ModelReadingResult, Pair<List<String>, List<String>>> readResult = readModel(pom);
         MavenModel model = readResult.first.model;
@@ -21,6 +21,7 @@ import org.eclipse.che.maven.data.MavenProblemType;
 import org.eclipse.che.maven.data.MavenProjectProblem;
 import org.eclipse.che.maven.data.MavenRemoteRepository;
 import org.eclipse.che.maven.data.MavenResource;
+import org.eclipse.che.maven.server.MavenServerResult;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspace;
@@ -37,6 +38,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -158,14 +160,51 @@ public class MavenProject {
      * @return the modification types that applied to this project
      */
     public MavenProjectModifications resolve(IProject project, MavenServerWrapper mavenServer, MavenServerManager serverManager) {
+        return resolve(project, mavenServer, serverManager, null);
+    }
+
+    /**
+     * Invoke maven to build project model.
+     * @param project to resolve
+     * @param mavenServer the maven server
+     * @param resultConsumer receives result of maven server invocation, may be {@code null}
+     * @return the modification types that applied to this project
+     */
+    public MavenProjectModifications resolve(IProject project,
+                                             MavenServerWrapper mavenServer,
+                                             MavenServerManager serverManager,
+                                             Consumer<MavenServerResult> resultConsumer) {
         MavenModelReader reader = new MavenModelReader();
 
         MavenModelReaderResult modelReaderResult =
-                reader.resolveMavenProject(getPom(project), mavenServer, info.activeProfiles, info.inactiveProfiles, serverManager);
+                reader.resolveMavenProject(getPom(project), mavenServer, info.activeProfiles, info.inactiveProfiles, serverManager,
+                                           resultConsumer);
+
+        return setModel(modelReaderResult, modelReaderResult.getProblems().isEmpty(), false);
+    }
+
+    /**
+     * Build project model from result of previous maven invocation.
+     * @param project to resolve
+     * @param resolveResult the result of maven server invocation
+     * @return the modification types that applied to this project
+     */
+    public MavenProjectModifications resolve(IProject project, MavenServerResult resolveResult, MavenServerManager serverManager) {
+        MavenModelReader reader = new MavenModelReader();
+
+        MavenModelReaderResult modelReaderResult = reader.resolveMavenProject(getPom(project), resolveResult, serverManager);
 
         return setModel(modelReaderResult, modelReaderResult.getProblems().isEmpty(), false);
     }
 
+    public List<String> getActiveProfiles() {
+        return info.activeProfiles;
+    }
+
+    public List<String> getInactiveProfiles() {
+        return info.inactiveProfiles;
+    }
+
     public MavenProjectModifications read(MavenServerManager manager) {
         return read(project, manager);
     }
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server;
+
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Listeners(value = {MockitoTestNGListener.class})
+public class MavenWrapperManagerTest {
+    private static final long IDLE_TIMEOUT_SEC = 60;
+
+    @Mock
+    private MavenServerManager serverManager;
+
+    private MavenWrapperManager wrapperManager;
+
+    @BeforeMethod
+    public void setUp() {
+        when(serverManager.createMavenServer()).thenAnswer(invocation -> mock(MavenServerWrapper.class));
+        wrapperManager = new MavenWrapperManager(serverManager, 2, IDLE_TIMEOUT_SEC);
+    }
+
+    @Test
+    public void shouldDisposePooledServerWhichIsIdleLongerThanTimeout() throws Exception {
+        MavenServerWrapper cached = wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE);
+        MavenServerWrapper pooled = wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE);
+        wrapperManager.release(pooled);
+        wrapperManager.release(cached);
+
+        wrapperManager.disposeIdleServers(System.currentTimeMillis() + SECONDS.toMillis(IDLE_TIMEOUT_SEC));
+
+        verify(pooled).dispose();
+        verify(cached, never()).dispose();
+        wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE);
+        assertThat(wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE)).isNotSameAs(pooled);
+    }
+
+    @Test
+    public void shouldNotDisposePooledServerBeforeTimeout() throws Exception {
+        wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE);
+        MavenServerWrapper pooled = wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE);
+        wrapperManager.release(pooled);
+
+        wrapperManager.disposeIdleServers(System.currentTimeMillis());
+
+        verify(pooled, never()).dispose();
+        assertThat(wrapperManager.getMavenServer(MavenWrapperManager.ServerType.RESOLVE)).isSameAs(pooled);
+    }
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import com.google.common.collect.ImmutableMap;
+
+import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
+import org.eclipse.core.resources.IProject;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Listeners(value = {MockitoTestNGListener.class})
+public class MavenProjectResolveSchedulerTest {
+
+    @Mock
+    private MavenProjectManager   projectManager;
+    @Mock
+    private MavenProgressNotifier notifier;
+    @Mock
+    private MavenProject          parent;
+    @Mock
+    private MavenProject          module;
+    @Mock
+    private MavenProject          independent;
+
+    private MavenExecutorService         executorService;
+    private MavenProjectResolveScheduler scheduler;
+    private List<String>                 events;
+
+    @BeforeMethod
+    public void setUp() {
+        executorService = new MavenExecutorService();
+        executorService.setPoolSize(4);
+        scheduler = new MavenProjectResolveScheduler(executorService, projectManager, notifier);
+        events = new CopyOnWriteArrayList<>();
+        when(parent.getName()).thenReturn("parent");
+        when(module.getName()).thenReturn("module");
+        when(independent.getName()).thenReturn("independent");
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        executorService.shutdown();
+    }
+
+    @Test
+    public void shouldResolveDependenciesFirst() throws Exception {
+        when(projectManager.buildDependencyGraph(anyCollection())).thenReturn(ImmutableMap.of(parent, newSet(),
+                                                                                             module, newSet(parent),
+                                                                                             independent, newSet()));
+
+        scheduler.submitTasks(Arrays.asList(createTask(module), createTask(parent), createTask(independent)));
+        scheduler.waitForEndAllTasks();
+
+        assertThat(events).hasSize(6);
+        assertThat(events.indexOf("end module")).isEqualTo(events.size() - 1);
+        assertThat(events.indexOf("start module")).isGreaterThan(events.indexOf("end parent"));
+        verify(notifier).start();
+        verify(notifier).stop();
+    }
+
+    @Test
+    public void shouldNotResolveProjectTwiceWhenItIsSubmittedTwiceBeforeResolving() throws Exception {
+        when(projectManager.buildDependencyGraph(anyCollection())).thenReturn(ImmutableMap.of(parent, newSet(),
+                                                                                             module, newSet(parent)));
+        MavenProjectResolveTask moduleTask = createTask(module);
+
+        scheduler.submitTasks(Arrays.asList(createTask(parent), moduleTask, createTask(module)));
+        scheduler.waitForEndAllTasks();
+
+        assertThat(events).containsOnly("start parent", "end parent", "start module", "end module");
+        verify(moduleTask, times(0)).perform();
+    }
+
+    @Test
+    public void shouldResolveProjectsWithCyclicDependencies() throws Exception {
+        when(projectManager.buildDependencyGraph(anyCollection())).thenReturn(ImmutableMap.of(parent, newSet(module),
+                                                                                             module, newSet(parent)));
+
+        scheduler.submitTasks(Arrays.asList(createTask(parent), createTask(module)));
+        scheduler.waitForEndAllTasks();
+
+        assertThat(events).containsOnly("start parent", "end parent", "start module", "end module");
+    }
+
+    @Test
+    public void shouldResolveReadyProjectsInBatchWhenThereAreMoreProjectsThanThreads() throws Exception {
+        executorService.setPoolSize(1);
+        when(projectManager.buildDependencyGraph(anyCollection())).thenReturn(ImmutableMap.of(parent, newSet(),
+                                                                                             module, newSet(),
+                                                                                             independent, newSet()));
+        IProject project = mock(IProject.class);
+        when(project.exists()).thenReturn(true);
+        when(parent.getProject()).thenReturn(project);
+        when(module.getProject()).thenReturn(project);
+        when(independent.getProject()).thenReturn(project);
+        MavenProjectResolveTask parentTask = createTask(parent);
+        MavenProjectResolveTask moduleTask = createTask(module);
+        MavenProjectResolveTask independentTask = createTask(independent);
+
+        scheduler.submitTasks(Arrays.asList(parentTask, moduleTask, independentTask));
+        scheduler.waitForEndAllTasks();
+
+        verify(projectManager).resolveMavenProjects(Arrays.asList(parent, module, independent));
+        verify(parentTask, times(0)).perform();
+        verify(parentTask).runAfterTask();
+        verify(moduleTask).runAfterTask();
+        verify(independentTask).runAfterTask();
+    }
+
+    @Test
+    public void shouldRunAfterTasksOfBatchWhenResolvingFails() throws Exception {
+        executorService.setPoolSize(1);
+        when(projectManager.buildDependencyGraph(anyCollection())).thenReturn(ImmutableMap.of(parent, newSet(),
+                                                                                             module, newSet()));
+        IProject project = mock(IProject.class);
+        when(project.exists()).thenReturn(true);
+        when(parent.getProject()).thenReturn(project);
+        when(module.getProject()).thenReturn(project);
+        doThrow(new RuntimeException("resolve failed")).when(projectManager).resolveMavenProjects(anyListOf(MavenProject.class));
+        MavenProjectResolveTask parentTask = createTask(parent);
+        MavenProjectResolveTask moduleTask = createTask(module);
+        doThrow(new RuntimeException("after task failed")).when(parentTask).runAfterTask();
+
+        scheduler.submitTasks(Arrays.asList(parentTask, moduleTask));
+        scheduler.waitForEndAllTasks();
+
+        verify(parentTask).runAfterTask();
+        verify(moduleTask).runAfterTask();
+        verify(notifier).stop();
+    }
+
+    private MavenProjectResolveTask createTask(MavenProject project) {
+        MavenProjectResolveTask task = mock(MavenProjectResolveTask.class);
+        when(task.getMavenProject()).thenReturn(project);
+        doAnswer(invocation -> {
+            events.add("start " + project.getName());
+            Thread.sleep(50);
+            events.add("end " + project.getName());
+            return null;
+        }).when(task).perform();
+        return task;
+    }
+
+    private static Set<MavenProject> newSet(MavenProject... projects) {
+        return new HashSet<>(Arrays.asList(projects));
+    }
+}
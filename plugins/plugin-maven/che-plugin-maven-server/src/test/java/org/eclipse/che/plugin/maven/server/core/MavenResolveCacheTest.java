@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.plugin.maven.server.core;
+
+import com.google.common.io.Files;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.maven.data.MavenKey;
+import org.eclipse.che.maven.data.MavenModel;
+import org.eclipse.che.maven.data.MavenProjectProblem;
+import org.eclipse.che.maven.data.MavenWorkspaceCache;
+import org.eclipse.che.maven.server.MavenProjectInfo;
+import org.eclipse.che.maven.server.MavenServerResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+public class MavenResolveCacheTest {
+
+    private File              root;
+    private File              pom;
+    private MavenResolveCache cache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        root = Files.createTempDir();
+        pom = new File(root, "pom.xml");
+        Files.write("<project/>", pom, StandardCharsets.UTF_8);
+        cache = new MavenResolveCache(new File(root, "cache").getAbsolutePath());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        IoUtil.deleteRecursive(root);
+    }
+
+    @Test
+    public void shouldReturnStoredResult() throws Exception {
+        String key = createKey();
+
+        cache.put(key, createResult());
+        MavenServerResult result = cache.get(key);
+
+        assertNotNull(result);
+        assertEquals(result.getProjectInfo().getMavenModel().getMavenKey(), new MavenKey("group", "artifact", "1.0"));
+    }
+
+    @Test
+    public void shouldChangeKeyWhenPomIsChanged() throws Exception {
+        String key = createKey();
+
+        Files.write("<project><modelVersion>4.0.0</modelVersion></project>", pom, StandardCharsets.UTF_8);
+
+        assertNotEquals(createKey(), key);
+    }
+
+    @Test
+    public void shouldChangeKeyWhenProfilesAreChanged() throws Exception {
+        String key = createKey();
+
+        String newKey = cache.createKey(pom, Collections.emptyList(), Collections.singletonList("profile"), Collections.emptyList(),
+                                        new MavenWorkspaceCache());
+
+        assertNotEquals(newKey, key);
+    }
+
+    @Test
+    public void shouldNotStoreResultWithProblems() throws Exception {
+        String key = createKey();
+        MavenServerResult result = new MavenServerResult(createResult().getProjectInfo(),
+                                                         Collections.singletonList(
+                                                                 MavenProjectProblem.newStructureProblem(pom.getPath(), "error")),
+                                                         Collections.emptySet());
+
+        cache.put(key, result);
+
+        assertNull(cache.get(key));
+    }
+
+    private String createKey() {
+        return cache.createKey(pom, Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), new MavenWorkspaceCache());
+    }
+
+    private MavenServerResult createResult() {
+        MavenModel model = new MavenModel();
+        model.setMavenKey(new MavenKey("group", "artifact", "1.0"));
+        return new MavenServerResult(new MavenProjectInfo(model, Collections.emptyMap(), Collections.emptyList()),
+                                     Collections.emptyList(),
+                                     Collections.emptySet());
+    }
+}
@@ -15,6 +15,7 @@ import org.eclipse.che.plugin.maven.server.MavenWrapperManager;
 import org.eclipse.che.plugin.maven.server.core.EclipseWorkspaceProvider;
 import org.eclipse.che.plugin.maven.server.core.MavenProjectListener;
 import org.eclipse.che.plugin.maven.server.core.MavenProjectManager;
+import org.eclipse.che.plugin.maven.server.core.MavenResolveCache;
 import org.eclipse.che.plugin.maven.server.core.MavenTerminalImpl;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProject;
 import org.eclipse.che.plugin.maven.server.core.project.MavenProjectModifications;
@@ -81,7 +82,8 @@ public class MavenProjectManagerTest {
     public void setUp() throws Exception {
         MavenWrapperManager wrapperManager = new MavenWrapperManager(manager);
         projectManager = new MavenProjectManager(wrapperManager, manager, new MavenTerminalImpl(),
-                                                 new MavenServerManagerTest.MyMavenServerProgressNotifier(), workspaceProvider);
+                                                 new MavenServerManagerTest.MyMavenServerProgressNotifier(), workspaceProvider,
+                                                 mock(MavenResolveCache.class));
         when(workspaceProvider.get()).thenReturn(workspace);
         when(workspace.getRoot()).thenReturn(workspaceRoot);
     }
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.maven.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * List that is transferred between maven server and its client as single compressed block.
+ * <p/>
+ * All elements are serialized with one object stream, so class descriptors and shared objects are written once,
+ * then result is compressed. Maven models contain a lot of repeated group ids, versions and paths, so compressed
+ * block is much smaller than elements serialized one by one.
+ */
+public class CompressedList<T extends Serializable> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private transient List<T> elements;
+    private transient int     compressedSize;
+
+    public CompressedList(List<T> elements) {
+        this.elements = elements;
+    }
+
+    public List<T> getElements() {
+        return elements;
+    }
+
+    /** Returns number of bytes which were transferred, 0 if this list wasn't deserialized. */
+    public int getCompressedSize() {
+        return compressedSize;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream elementsOut = new ObjectOutputStream(new GZIPOutputStream(bytes))) {
+            elementsOut.writeObject(new ArrayList<>(elements));
+        }
+        out.writeInt(bytes.size());
+        bytes.writeTo(out);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        compressedSize = in.readInt();
+        byte[] bytes = new byte[compressedSize];
+        in.readFully(bytes);
+        try (ObjectInputStream elementsIn = new ObjectInputStream(new GZIPInputStream(new ByteArrayInputStream(bytes)))) {
+            elements = (List<T>)elementsIn.readObject();
+        }
+    }
+}
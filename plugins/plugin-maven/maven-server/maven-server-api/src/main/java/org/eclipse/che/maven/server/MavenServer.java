@@ -36,6 +36,22 @@ public interface MavenServer extends Remote {
 
     MavenArtifact resolveArtifact(MavenArtifactKey artifactKey, List<MavenRemoteRepository> remoteRepositories) throws RemoteException;
 
+    /**
+     * Resolves several projects with the same profiles in one call.
+     *
+     * @return results in the same order as {@code poms}
+     */
+    CompressedList<MavenServerResult> resolveProjects(List<File> poms, List<String> activeProfiles, List<String> inactiveProfiles)
+            throws RemoteException;
+
+    /**
+     * Resolves several artifacts in one call.
+     *
+     * @return resolved artifacts in the same order as {@code artifactKeys}
+     */
+    CompressedList<MavenArtifact> resolveArtifacts(List<MavenArtifactKey> artifactKeys, List<MavenRemoteRepository> remoteRepositories)
+            throws RemoteException;
+
     void reset() throws RemoteException;
 
     void dispose() throws RemoteException;
@@ -378,12 +378,29 @@ public class MavenServerImpl extends MavenRmiObject implements MavenServer {
         return createResult(pom, mavenResult);
     }
 
+    @Override
+    public CompressedList<MavenServerResult> resolveProjects(List<File> poms, List<String> activeProfiles, List<String> inactiveProfiles)
+            throws RemoteException {
+        List<MavenServerResult> results = new ArrayList<>(poms.size());
+        for (File pom : poms) {
+            results.add(resolveProject(pom, activeProfiles, inactiveProfiles));
+        }
+        return new CompressedList<>(results);
+    }
+
     @Override
     public MavenArtifact resolveArtifact(MavenArtifactKey artifactKey, List<MavenRemoteRepository> repositories) throws RemoteException {
-        Artifact artifact = getMavenComponent(ArtifactFactory.class)
-                .createArtifactWithClassifier(artifactKey.getGroupId(), artifactKey.getArtifactId(), artifactKey.getVersion(),
-                                              artifactKey.getPackaging(), artifactKey.getClassifier());
+        return doResolveArtifacts(Collections.singletonList(artifactKey), repositories).get(0);
+    }
 
+    @Override
+    public CompressedList<MavenArtifact> resolveArtifacts(List<MavenArtifactKey> artifactKeys, List<MavenRemoteRepository> repositories)
+            throws RemoteException {
+        return new CompressedList<>(doResolveArtifacts(artifactKeys, repositories));
+    }
+
+    /** Resolves artifacts within one repository session. */
+    private List<MavenArtifact> doResolveArtifacts(List<MavenArtifactKey> artifactKeys, List<MavenRemoteRepository> repositories) {
         List<ArtifactRepository> repos = new ArrayList<>();
         ArtifactRepositoryFactory factory = getMavenComponent(ArtifactRepositoryFactory.class);
         for (MavenRemoteRepository repository : repositories) {
@@ -417,15 +434,25 @@ public class MavenServerImpl extends MavenRmiObject implements MavenServer {
         List<RemoteRepository> remoteRepositories = RepositoryUtils.toRepos(request.getRemoteRepositories());
         remoteRepositories = repositorySystem.newResolutionRepositories(repositorySystemSession, remoteRepositories);
 
-        try {
-            ArtifactResult artifactResult = repositorySystem.resolveArtifact(repositorySystemSession,
-                                                                             new ArtifactRequest(RepositoryUtils.toArtifact(artifact),
-                                                                                                 remoteRepositories, null));
-        return MavenModelUtil.convertArtifact(RepositoryUtils.toArtifact(artifactResult.getArtifact()), localRepository);
-        } catch (ArtifactResolutionException e) {
-            MavenServerContext.getLogger().info(e);
+        ArtifactFactory artifactFactory = getMavenComponent(ArtifactFactory.class);
+        List<MavenArtifact> result = new ArrayList<>(artifactKeys.size());
+        for (MavenArtifactKey artifactKey : artifactKeys) {
+            Artifact artifact = artifactFactory.createArtifactWithClassifier(artifactKey.getGroupId(),
+                                                                             artifactKey.getArtifactId(),
+                                                                             artifactKey.getVersion(),
+                                                                             artifactKey.getPackaging(),
+                                                                             artifactKey.getClassifier());
+            try {
+                ArtifactResult artifactResult = repositorySystem.resolveArtifact(repositorySystemSession,
+                                                                                 new ArtifactRequest(RepositoryUtils.toArtifact(artifact),
+                                                                                                     remoteRepositories, null));
+                result.add(MavenModelUtil.convertArtifact(RepositoryUtils.toArtifact(artifactResult.getArtifact()), localRepository));
+            } catch (ArtifactResolutionException e) {
+                MavenServerContext.getLogger().info(e);
+                result.add(MavenModelUtil.convertArtifact(artifact, localRepository));
+            }
         }
-        return MavenModelUtil.convertArtifact(artifact, localRepository);
+        return result;
     }
 
     @Override
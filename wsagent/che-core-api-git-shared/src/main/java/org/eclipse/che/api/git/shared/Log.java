@@ -20,4 +20,7 @@ import java.util.List;
 @DTO
 public interface Log {
     List<Revision> getCommits();
+
+    /** @return cursor to get the next page of revisions or {@code null} if there are no more revisions */
+    String getNextCursor();
 }
\ No newline at end of file
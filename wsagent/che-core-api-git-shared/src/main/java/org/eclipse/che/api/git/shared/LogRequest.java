@@ -35,6 +35,28 @@ public interface LogRequest extends GitRequest {
     
     void setRevisionRangeSince(String revisionRangeSince);
     void setRevisionRangeUntil(String revisionRangeUntil);	
+
+    /** Max number of revisions in response. Zero or negative value means no limit. */
+    int getMaxCount();
+
+    void setMaxCount(int maxCount);
+
+    LogRequest withMaxCount(int maxCount);
+
+    /** @return cursor from the previous response to get the next page of revisions */
+    String getCursor();
+
+    void setCursor(String cursor);
+
+    LogRequest withCursor(String cursor);
+
+    /** Filter revisions list by author, value is compared with name and email of author. */
+    String getAuthor();
+
+    void setAuthor(String author);
+
+    LogRequest withAuthor(String author);
+
     // private List<String> fileFilter;
     // private boolean noRenames = true;
     // private int renameLimit;
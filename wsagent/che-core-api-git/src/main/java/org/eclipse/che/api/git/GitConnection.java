@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.git;
 
+import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.UnauthorizedException;
 import org.eclipse.che.api.core.util.LineConsumerFactory;
@@ -255,11 +256,13 @@ public interface GitConnection extends Closeable {
      * @param request
      *         log request
      * @return log page. Logs can be serialized to stream by using method {@link DiffPage#writeTo(java.io.OutputStream)}
+     * @throws BadRequestException
+     *         if revision of the requested range can't be resolved
      * @throws GitException
      *         if any error occurs
      * @see LogRequest
      */
-    LogPage log(LogRequest request) throws GitException;
+    LogPage log(LogRequest request) throws GitException, BadRequestException;
 
     /**
      * List references in a remote repository.
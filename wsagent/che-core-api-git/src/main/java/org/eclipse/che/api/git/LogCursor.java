@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.git;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static java.lang.String.format;
+
+/**
+ * Position in git log which is used for paging revisions.
+ * <p/>
+ * Cursor contains the commit from which the walk was started for the first page, so new commits don't shift the following pages,
+ * and the number of revisions that were already returned. String representation is {@code <commit id>:<skip>}.
+ */
+public class LogCursor {
+    private final String tip;
+    private final int    skip;
+
+    public LogCursor(String tip, int skip) {
+        this.tip = tip;
+        this.skip = skip;
+    }
+
+    /**
+     * Parses cursor from its string representation.
+     *
+     * @param cursor
+     *         cursor from the previous log page, may be {@code null}
+     * @return parsed cursor or {@code null} if {@code cursor} is {@code null} or empty
+     * @throws GitException
+     *         if cursor has invalid format
+     */
+    public static LogCursor parse(String cursor) throws GitException {
+        if (isNullOrEmpty(cursor)) {
+            return null;
+        }
+        final int separator = cursor.indexOf(':');
+        if (separator > 0) {
+            final String tip = cursor.substring(0, separator);
+            try {
+                final int skip = Integer.parseInt(cursor.substring(separator + 1));
+                if (skip >= 0 && tip.matches("[0-9a-fA-F]{40}")) {
+                    return new LogCursor(tip, skip);
+                }
+            } catch (NumberFormatException ignored) {
+            }
+        }
+        throw new GitException(format("Invalid log cursor: '%s'", cursor));
+    }
+
+    /** Id of the commit from which log walk is started. */
+    public String getTip() {
+        return tip;
+    }
+
+    /** Number of revisions that should be skipped. */
+    public int getSkip() {
+        return skip;
+    }
+
+    @Override
+    public String toString() {
+        return tip + ':' + skip;
+    }
+}
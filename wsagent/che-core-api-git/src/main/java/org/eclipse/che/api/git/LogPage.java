@@ -34,6 +34,7 @@ public class LogPage implements Log, InfoPage {
     private static final DateFormat dateFormat;
     
     protected List<Revision> commits;
+    protected String         nextCursor;
     
     static {
         dateFormat = new SimpleDateFormat(DATE_FORMAT, Locale.US);
@@ -42,7 +43,12 @@ public class LogPage implements Log, InfoPage {
     }
 
     public LogPage(List<Revision> commits) {
+        this(commits, null);
+    }
+
+    public LogPage(List<Revision> commits, String nextCursor) {
         this.commits = commits;
+        this.nextCursor = nextCursor;
     }
 
     /** @see InfoPage#writeTo(java.io.OutputStream) */
@@ -81,4 +87,10 @@ public class LogPage implements Log, InfoPage {
     public List<Revision> getCommits() {
         return commits;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getNextCursor() {
+        return nextCursor;
+    }
 }
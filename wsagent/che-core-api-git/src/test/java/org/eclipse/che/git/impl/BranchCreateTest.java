@@ -75,7 +75,7 @@ public class BranchCreateTest {
     }
 
     @Test(dataProvider = "GitConnectionFactory", dataProviderClass = org.eclipse.che.git.impl.GitConnectionFactoryProvider.class)
-    public void testBranchCreateWithStartPoint(GitConnectionFactory connectionFactory) throws GitException, IOException {
+    public void testBranchCreateWithStartPoint(GitConnectionFactory connectionFactory) throws Exception {
         //given
         GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
         addFile(connection, "newfile1", "file 1 content");
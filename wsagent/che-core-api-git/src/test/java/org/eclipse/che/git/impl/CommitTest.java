@@ -90,7 +90,7 @@ public class CommitTest {
     }
 
     @Test(dataProvider = "GitConnectionFactory", dataProviderClass = org.eclipse.che.git.impl.GitConnectionFactoryProvider.class)
-    public void testAmendCommit(GitConnectionFactory connectionFactory) throws GitException, IOException {
+    public void testAmendCommit(GitConnectionFactory connectionFactory) throws Exception {
         //given
         GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
         addFile(connection, "README.txt", CONTENT);
@@ -112,7 +112,7 @@ public class CommitTest {
     }
 
     @Test(dataProvider = "GitConnectionFactory", dataProviderClass = org.eclipse.che.git.impl.GitConnectionFactoryProvider.class)
-    public void testChangeMessageOfLastCommit(GitConnectionFactory connectionFactory) throws GitException, IOException {
+    public void testChangeMessageOfLastCommit(GitConnectionFactory connectionFactory) throws Exception {
         //given
         GitConnection connection = connectToGitRepositoryWithContent(connectionFactory, repository);
         addFile(connection, "NewFile.txt", CONTENT);
@@ -90,8 +90,7 @@ public class FetchTest {
     }
 
     @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class)
-    public void testFetchBranch(GitConnectionFactory connectionFactory)
-            throws ServerException, IOException, UnauthorizedException, URISyntaxException {
+    public void testFetchBranch(GitConnectionFactory connectionFactory) throws Exception {
 
         //given
         GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
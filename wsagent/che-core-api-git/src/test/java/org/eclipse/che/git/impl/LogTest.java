@@ -13,11 +13,13 @@ package org.eclipse.che.git.impl;
 import com.google.common.collect.ImmutableList;
 import com.google.common.io.Files;
 
+import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.git.GitConnection;
 import org.eclipse.che.api.git.GitConnectionFactory;
 import org.eclipse.che.api.git.GitException;
 import org.eclipse.che.api.git.shared.AddRequest;
 import org.eclipse.che.api.git.shared.CommitRequest;
+import org.eclipse.che.api.git.shared.Log;
 import org.eclipse.che.api.git.shared.LogRequest;
 import org.eclipse.che.api.git.shared.Revision;
 import org.testng.annotations.AfterMethod;
@@ -25,7 +27,6 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -35,6 +36,7 @@ import static org.eclipse.che.git.impl.GitTestUtil.addFile;
 import static org.eclipse.che.git.impl.GitTestUtil.cleanupTestRepo;
 import static org.eclipse.che.git.impl.GitTestUtil.connectToInitializedGitRepository;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 
 /**
  * @author Igor Vinokur
@@ -53,7 +55,7 @@ public class LogTest {
     }
 
     @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class)
-    public void testSimpleLog(GitConnectionFactory connectionFactory) throws GitException, IOException {
+    public void testSimpleLog(GitConnectionFactory connectionFactory) throws Exception {
         //given
         GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
         addFile(connection, "README.txt", "someChanges");
@@ -78,7 +80,7 @@ public class LogTest {
     }
 
     @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class)
-    public void testLogWithFileFilter(GitConnectionFactory connectionFactory) throws GitException, IOException {
+    public void testLogWithFileFilter(GitConnectionFactory connectionFactory) throws Exception {
         //given
         GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
         addFile(connection, "README.txt", "someChanges");
@@ -114,4 +116,66 @@ public class LogTest {
         assertEquals(1, newFileCommitCount);
         assertEquals(4, allFilesCommitCount);
     }
+
+    @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class)
+    public void testLogPagingWithCursor(GitConnectionFactory connectionFactory) throws Exception {
+        //given
+        GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
+        for (int i = 0; i < 5; i++) {
+            addFile(connection, "README.txt", "changes" + i);
+            connection.add(newDto(AddRequest.class).withFilepattern(ImmutableList.of("README.txt")));
+            connection.commit(newDto(CommitRequest.class).withMessage("Commit " + i));
+        }
+
+        //when
+        Log firstPage = connection.log(newDto(LogRequest.class).withMaxCount(2));
+        // new commit must not shift the following pages
+        addFile(connection, "README.txt", "newChanges");
+        connection.add(newDto(AddRequest.class).withFilepattern(ImmutableList.of("README.txt")));
+        connection.commit(newDto(CommitRequest.class).withMessage("New commit"));
+        Log secondPage = connection.log(newDto(LogRequest.class).withMaxCount(2).withCursor(firstPage.getNextCursor()));
+        Log lastPage = connection.log(newDto(LogRequest.class).withMaxCount(2).withCursor(secondPage.getNextCursor()));
+
+        //then
+        assertEquals(firstPage.getCommits().size(), 2);
+        assertEquals(firstPage.getCommits().get(0).getMessage(), "Commit 4");
+        assertEquals(firstPage.getCommits().get(1).getMessage(), "Commit 3");
+        assertEquals(secondPage.getCommits().size(), 2);
+        assertEquals(secondPage.getCommits().get(0).getMessage(), "Commit 2");
+        assertEquals(secondPage.getCommits().get(1).getMessage(), "Commit 1");
+        assertEquals(lastPage.getCommits().size(), 1);
+        assertEquals(lastPage.getCommits().get(0).getMessage(), "Commit 0");
+        assertNull(lastPage.getNextCursor());
+    }
+
+    @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class,
+          expectedExceptions = GitException.class)
+    public void shouldThrowExceptionWhenLogCursorIsInvalid(GitConnectionFactory connectionFactory) throws Exception {
+        //given
+        GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
+        addFile(connection, "README.txt", "someChanges");
+        connection.add(newDto(AddRequest.class).withFilepattern(ImmutableList.of("README.txt")));
+        connection.commit(newDto(CommitRequest.class).withMessage("Initial add"));
+
+        //when
+        connection.log(newDto(LogRequest.class).withCursor("invalid"));
+    }
+
+    @Test(dataProvider = "GitConnectionFactory", dataProviderClass = GitConnectionFactoryProvider.class,
+          expectedExceptions = BadRequestException.class)
+    public void shouldThrowBadRequestExceptionWhenRevisionRangeCannotBeResolved(GitConnectionFactory connectionFactory)
+            throws Exception {
+        //given
+        GitConnection connection = connectToInitializedGitRepository(connectionFactory, repository);
+        addFile(connection, "README.txt", "someChanges");
+        connection.add(newDto(AddRequest.class).withFilepattern(ImmutableList.of("README.txt")));
+        connection.commit(newDto(CommitRequest.class).withMessage("Initial add"));
+
+        LogRequest request = newDto(LogRequest.class);
+        request.setRevisionRangeSince("unknown");
+        request.setRevisionRangeUntil("HEAD");
+
+        //when
+        connection.log(request);
+    }
 }
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.shared.dto;
+
+import org.eclipse.che.dto.shared.DTO;
+
+/**
+ * Single item of project tree that is streamed line by line. Unlike {@link TreeElement} doesn't contain children, children of folder
+ * follow the folder in the stream.
+ */
+@DTO
+public interface TreeItem {
+    ItemReference getNode();
+
+    void setNode(ItemReference node);
+
+    TreeItem withNode(ItemReference node);
+
+    /** Get depth of item relatively to the root of requested tree, children of requested folder have depth 1. */
+    int getDepth();
+
+    void setDepth(int depth);
+
+    TreeItem withDepth(int depth);
+
+    /**
+     * Get token that may be used to get the rest of children of folder if number of its children exceeds limit of items per folder.
+     * Returns {@code null} if all children of folder are present in the stream or item isn't a folder.
+     */
+    String getContinuation();
+
+    void setContinuation(String continuation);
+
+    TreeItem withContinuation(String continuation);
+}
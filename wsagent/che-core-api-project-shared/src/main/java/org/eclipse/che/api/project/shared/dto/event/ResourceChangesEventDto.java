@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.shared.dto.event;
+
+import com.google.common.annotations.Beta;
+
+import org.eclipse.che.dto.shared.DTO;
+
+import java.util.List;
+
+/**
+ * To transfer changes of workspace resources which occurred during one event segment. Change sets are numbered
+ * sequentially, so client is able to detect lost change set and to fall back to full synchronization.
+ *
+ * @since 4.6.0
+ */
+@Beta
+@DTO
+public interface ResourceChangesEventDto {
+
+    String RESOURCE_CHANGES_CHANNEL = "resource-changes-channel";
+
+    /** Sequence number of change set, next change set has number which is greater by one. */
+    long getSequenceNumber();
+
+    ResourceChangesEventDto withSequenceNumber(long sequenceNumber);
+
+    /** Changes of files and folders, at most one change per item. */
+    List<VfsWatchEvent> getChanges();
+
+    void setChanges(List<VfsWatchEvent> changes);
+
+    ResourceChangesEventDto withChanges(List<VfsWatchEvent> changes);
+}
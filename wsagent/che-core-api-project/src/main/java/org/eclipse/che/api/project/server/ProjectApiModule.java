@@ -33,6 +33,7 @@ import org.eclipse.che.api.vfs.impl.file.event.HiEventService;
 import org.eclipse.che.api.vfs.impl.file.event.LoEventListener;
 import org.eclipse.che.api.vfs.impl.file.event.LoEventService;
 import org.eclipse.che.api.vfs.impl.file.event.PomModifiedHiEventDetector;
+import org.eclipse.che.api.vfs.impl.file.event.ResourceChangesHiEventDetector;
 import org.eclipse.che.api.vfs.search.MediaTypeFilter;
 import org.eclipse.che.api.vfs.search.SearcherProvider;
 import org.eclipse.che.api.vfs.search.impl.FSLuceneSearcherProvider;
@@ -89,5 +90,6 @@ public class ProjectApiModule extends AbstractModule {
                 });
         highLevelVfsEventDetectorMultibinder.addBinding().to(PomModifiedHiEventDetector.class);
         highLevelVfsEventDetectorMultibinder.addBinding().to(GitCheckoutHiEventDetector.class);
+        highLevelVfsEventDetectorMultibinder.addBinding().to(ResourceChangesHiEventDetector.class);
     }
 }
@@ -38,7 +38,9 @@ import org.eclipse.che.api.project.shared.dto.ItemReference;
 import org.eclipse.che.api.project.shared.dto.MoveOptions;
 import org.eclipse.che.api.project.shared.dto.SourceEstimation;
 import org.eclipse.che.api.project.shared.dto.TreeElement;
+import org.eclipse.che.api.project.shared.dto.TreeItem;
 import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
 import org.eclipse.che.api.vfs.search.QueryExpression;
 import org.eclipse.che.api.vfs.search.SearchResult;
 import org.eclipse.che.api.vfs.search.SearchResultEntry;
@@ -71,6 +73,9 @@ import javax.ws.rs.core.UriBuilder;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.FileSystems;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -80,6 +85,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static com.google.common.base.Strings.isNullOrEmpty;
 import static javax.ws.rs.HttpMethod.DELETE;
 import static javax.ws.rs.HttpMethod.GET;
 import static javax.ws.rs.HttpMethod.PUT;
@@ -782,6 +788,63 @@ public class ProjectService extends Service {
                                         .withChildren(getTree(folder, depth, includeFiles));
     }
 
+    @GET
+    @Path("/stream/tree/{parent:.*}")
+    @Produces(ExtMediaType.APPLICATION_X_NDJSON)
+    @ApiOperation(value = "Stream project tree",
+                  notes = "Get project tree as stream of tree items, one JSON object per line. Requested folder is the first item in " +
+                          "the stream, each folder is followed by its children",
+                  response = TreeItem.class,
+                  responseContainer = "List")
+    @ApiResponses({@ApiResponse(code = 200, message = "OK"),
+                   @ApiResponse(code = 400, message = "Invalid continuation token"),
+                   @ApiResponse(code = 403, message = "User not authorized to call this operation"),
+                   @ApiResponse(code = 404, message = "Not found"),
+                   @ApiResponse(code = 500, message = "Internal Server Error")})
+    public Response streamTree(@ApiParam(value = "Path to resource. Can be project or its folders", required = true)
+                               @PathParam("parent") String path,
+                               @ApiParam(value = "Tree depth. If not specified ?depth=1 is used by default. Depth is limited on server side")
+                               @DefaultValue("1") @QueryParam("depth") int depth,
+                               @ApiParam(value = "Include children files (in addition to children folders). If not specified " +
+                                                 "?includeFiles=false is used by default")
+                               @DefaultValue("false") @QueryParam("includeFiles") boolean includeFiles,
+                               @ApiParam(value = "Max number of children of each folder. If not specified or exceeds limit on server side " +
+                                                 "then limit on server side is used")
+                               @DefaultValue("-1") @QueryParam("maxItems") int maxItems,
+                               @ApiParam(value = "Continuation token that was returned for requested folder in previous response")
+                               @QueryParam("continuation") String continuation,
+                               @ApiParam(value = "Include links in items. If not specified ?links=true is used by default")
+                               @DefaultValue("true") @QueryParam("links") boolean links,
+                               @ApiParam(value = "Glob pattern for names of files, e.g. *.java")
+                               @QueryParam("name") String name,
+                               @ApiParam(value = "Media type of files, e.g. text/plain or text/*")
+                               @QueryParam("mediaType") String mediaType) throws NotFoundException,
+                                                                                 ForbiddenException,
+                                                                                 BadRequestException,
+                                                                                 ServerException {
+        final FolderEntry folder = projectManager.asFolder(path);
+
+        if (folder == null) {
+            throw new NotFoundException("Folder not found " + path);
+        }
+
+        final UriBuilder uriBuilder = links ? getServiceContext().getServiceUriBuilder() : null;
+        final ProjectTreeWriter treeWriter;
+        try {
+            treeWriter = new ProjectTreeWriter(folder,
+                                               depth,
+                                               maxItems,
+                                               continuation,
+                                               createTreeFilter(includeFiles, name, mediaType),
+                                               links ? item -> injectFileLinks(item, uriBuilder) : null,
+                                               links ? item -> injectFolderLinks(item, uriBuilder) : null);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+
+        return Response.ok(treeWriter, ExtMediaType.APPLICATION_X_NDJSON).build();
+    }
+
     @GET
     @Path("/item/{path:.*}")
     @Produces(MediaType.APPLICATION_JSON)
@@ -925,6 +988,27 @@ public class ProjectService extends Service {
         return nodes;
     }
 
+    /** Creates filter for tree. Folders are always accepted, files are accepted if they match name and media type filters. */
+    private static VirtualFileFilter createTreeFilter(boolean includeFiles, String name, String mediaType) {
+        if (!includeFiles) {
+            return VirtualFile::isFolder;
+        }
+        final PathMatcher nameMatcher = isNullOrEmpty(name) ? null : FileSystems.getDefault().getPathMatcher("glob:" + name);
+        final MediaType mediaTypeFilter = isNullOrEmpty(mediaType) ? null : MediaType.valueOf(mediaType);
+        return file -> {
+            if (file.isFolder()) {
+                return true;
+            }
+            if (!file.isFile()) {
+                return false;
+            }
+            if (nameMatcher != null && !nameMatcher.matches(Paths.get(file.getName()))) {
+                return false;
+            }
+            return mediaTypeFilter == null || mediaTypeFilter.isCompatible(MediaType.valueOf(TIKA.detect(file.getName())));
+        };
+    }
+
     /* --------------------------------------------------------------------------- */
     /* TODO check "upload" methods below, they were copied from old VFS as is      */
     /* --------------------------------------------------------------------------- */
@@ -1025,7 +1109,10 @@ public class ProjectService extends Service {
     }
 
     private ItemReference injectFileLinks(ItemReference itemReference) {
-        final UriBuilder uriBuilder = getServiceContext().getServiceUriBuilder();
+        return injectFileLinks(itemReference, getServiceContext().getServiceUriBuilder());
+    }
+
+    private ItemReference injectFileLinks(ItemReference itemReference, UriBuilder uriBuilder) {
         final List<Link> links = new ArrayList<>();
         final String relPath = itemReference.getPath().substring(1);
 
@@ -1055,7 +1142,10 @@ public class ProjectService extends Service {
     }
 
     private ItemReference injectFolderLinks(ItemReference itemReference) {
-        final UriBuilder uriBuilder = getServiceContext().getServiceUriBuilder();
+        return injectFolderLinks(itemReference, getServiceContext().getServiceUriBuilder());
+    }
+
+    private ItemReference injectFolderLinks(ItemReference itemReference, UriBuilder uriBuilder) {
         final List<Link> links = new ArrayList<>();
         final String relPath = itemReference.getPath().substring(1);
 
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.project.server;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.project.shared.dto.ItemReference;
+import org.eclipse.che.api.project.shared.dto.TreeItem;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
+import org.eclipse.che.dto.server.DtoFactory;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.che.api.project.server.DtoConverter.asDto;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * Writes project tree as stream of {@link TreeItem}s, one JSON object per line. Folders are walked depth-first and each item is
+ * written as soon as it is visited, so memory usage doesn't depend on size of tree. Folder is always followed by its children.
+ * Requested folder itself is written first with depth 0.
+ * <p/>
+ * If number of children of folder exceeds limit of items per folder only first children are written and folder gets continuation
+ * token that may be passed back to get the rest of its children.
+ */
+class ProjectTreeWriter implements StreamingOutput {
+    /** Max depth of tree that may be requested at once. */
+    static final int MAX_DEPTH            = 16;
+    /** Max number of children of each folder that may be requested at once. */
+    static final int MAX_ITEMS_PER_FOLDER = 1000;
+
+    private final FolderEntry                  folder;
+    private final int                          depth;
+    private final int                          maxItems;
+    private final int                          skipCount;
+    private final VirtualFileFilter            filter;
+    private final UnaryOperator<ItemReference> fileLinks;
+    private final UnaryOperator<ItemReference> folderLinks;
+
+    /**
+     * @param folder
+     *         root of tree
+     * @param depth
+     *         depth of tree, limited with {@link #MAX_DEPTH}
+     * @param maxItems
+     *         max number of children of each folder, limited with {@link #MAX_ITEMS_PER_FOLDER}, zero or negative value means max
+     *         allowed number
+     * @param continuation
+     *         continuation token that was returned for {@code folder} in previous response, may be {@code null}
+     * @param filter
+     *         filter that is applied to children of each folder while walking through the tree
+     * @param fileLinks
+     *         adds links to files, {@code null} if items shouldn't have links
+     * @param folderLinks
+     *         adds links to folders, {@code null} if items shouldn't have links
+     * @throws IllegalArgumentException
+     *         if {@code continuation} is invalid
+     */
+    ProjectTreeWriter(FolderEntry folder,
+                      int depth,
+                      int maxItems,
+                      String continuation,
+                      VirtualFileFilter filter,
+                      UnaryOperator<ItemReference> fileLinks,
+                      UnaryOperator<ItemReference> folderLinks) {
+        this.folder = folder;
+        this.depth = Math.min(Math.max(depth, 0), MAX_DEPTH);
+        this.maxItems = maxItems <= 0 ? MAX_ITEMS_PER_FOLDER : Math.min(maxItems, MAX_ITEMS_PER_FOLDER);
+        this.skipCount = parseContinuation(continuation);
+        this.filter = filter;
+        this.fileLinks = fileLinks == null ? UnaryOperator.identity() : fileLinks;
+        this.folderLinks = folderLinks == null ? UnaryOperator.identity() : folderLinks;
+    }
+
+    private static int parseContinuation(String continuation) {
+        if (continuation == null || continuation.isEmpty()) {
+            return 0;
+        }
+        try {
+            final int skipCount = Integer.parseInt(continuation);
+            if (skipCount >= 0) {
+                return skipCount;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException(String.format("Invalid continuation token: '%s'", continuation));
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(output, UTF_8));
+        try {
+            final List<VirtualFileEntry> children = depth > 0 ? folder.getChildren(filter) : null;
+            writeItem(writer, folderLinks.apply(asDto(folder)), 0, continuation(children, skipCount));
+            if (children != null) {
+                writeChildren(writer, children, skipCount, 1);
+            }
+        } catch (ServerException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        writer.flush();
+    }
+
+    private void writeChildren(Writer writer, List<VirtualFileEntry> children, int offset, int level) throws IOException,
+                                                                                                         ServerException {
+        final int end = (int)Math.min(children.size(), (long)offset + maxItems);
+        for (int i = offset; i < end; i++) {
+            final VirtualFileEntry child = children.get(i);
+            if (child.isFile()) {
+                writeItem(writer, fileLinks.apply(asDto((FileEntry)child)), level, null);
+            } else {
+                final FolderEntry childFolder = (FolderEntry)child;
+                final List<VirtualFileEntry> grandchildren = level < depth ? childFolder.getChildren(filter) : null;
+                writeItem(writer, folderLinks.apply(asDto(childFolder)), level, continuation(grandchildren, 0));
+                if (grandchildren != null) {
+                    writeChildren(writer, grandchildren, 0, level + 1);
+                }
+            }
+        }
+    }
+
+    private String continuation(List<VirtualFileEntry> children, int offset) {
+        if (children != null && children.size() - offset > maxItems) {
+            return Integer.toString(offset + maxItems);
+        }
+        return null;
+    }
+
+    private void writeItem(Writer writer, ItemReference node, int level, String continuation) throws IOException {
+        // DtoFactory#toJson(Object, Writer) flushes writer after each DTO, serialize to string to keep output buffered
+        writer.write(DtoFactory.getInstance().toJson(newDto(TreeItem.class).withNode(node)
+                                                                           .withDepth(level)
+                                                                           .withContinuation(continuation)));
+        writer.write('\n');
+    }
+}
@@ -21,6 +21,9 @@ import org.eclipse.che.commons.lang.Pair;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.hash.Funnels.asOutputStream;
@@ -28,17 +31,24 @@ import static com.google.common.hash.Funnels.asOutputStream;
 /**
  * Traverses recursively all files in folder given in constructor and calculates hash sum for each file.
  * Algorithm specified by {@code hashFunction} is used for calculating hash sum.
+ * Sub-folders are traversed and files are hashed in parallel with {@code ForkJoinPool}.
  */
-public class HashSumsCounter implements VirtualFileVisitor {
-    private final VirtualFile                folder;
-    private final HashFunction               hashFunction;
-    private final List<Pair<String, String>> hashSums;
+public class HashSumsCounter {
+    /** Max number of files that are hashed sequentially in single task. */
+    private static final int FILES_PER_TASK = 16;
 
+    private final VirtualFile  folder;
+    private final HashFunction hashFunction;
+    private final ForkJoinPool pool;
 
     public HashSumsCounter(VirtualFile folder, HashFunction hashFunction) {
+        this(folder, hashFunction, ForkJoinPool.commonPool());
+    }
+
+    public HashSumsCounter(VirtualFile folder, HashFunction hashFunction, ForkJoinPool pool) {
         this.folder = folder;
         this.hashFunction = hashFunction;
-        hashSums = newArrayList();
+        this.pool = pool;
     }
 
     /**
@@ -50,27 +60,111 @@ public class HashSumsCounter implements VirtualFileVisitor {
      * </pre>
      */
     public List<Pair<String, String>> countHashSums() throws ServerException {
-        folder.accept(this);
-        return hashSums;
+        try {
+            return pool.invoke(new FolderTask(folder));
+        } catch (RuntimeException e) {
+            // ForkJoinPool may re-create exception thrown in worker thread, original exception is available as cause
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof UncheckedServerException) {
+                    throw ((UncheckedServerException)cause).getCause();
+                }
+            }
+            throw e;
+        }
+    }
+
+    protected HashFunction getHashFunction() {
+        return hashFunction;
+    }
+
+    /**
+     * Calculates hash sum of single file. Method may be called concurrently for different files.
+     *
+     * @return hash-sum of file represented as HEX String
+     */
+    protected String countHashSum(VirtualFile file) throws ServerException {
+        try (InputStream in = file.getContent()) {
+            final Hasher hasher = hashFunction.newHasher();
+            ByteStreams.copy(in, asOutputStream(hasher));
+            return hasher.hash().toString();
+        } catch (IOException e) {
+            throw new ServerException(e);
+        } catch (ForbiddenException e) {
+            throw new ServerException(e.getServiceError());
+        }
     }
 
-    @Override
-    public void visit(VirtualFile virtualFile) throws ServerException {
-        if (virtualFile.isFile()) {
-            try (InputStream in = virtualFile.getContent()) {
-                final Hasher hasher = hashFunction.newHasher();
-                ByteStreams.copy(in, asOutputStream(hasher));
-                final String hexHash = hasher.hash().toString();
-                hashSums.add(Pair.of(hexHash, virtualFile.getPath().subPath(folder.getPath()).toString()));
-            } catch (IOException e) {
-                throw new ServerException(e);
-            } catch (ForbiddenException e) {
-                throw new ServerException(e.getServiceError());
+    private class FolderTask extends RecursiveTask<List<Pair<String, String>>> {
+        private final VirtualFile virtualFolder;
+
+        FolderTask(VirtualFile virtualFolder) {
+            this.virtualFolder = virtualFolder;
+        }
+
+        @Override
+        protected List<Pair<String, String>> compute() {
+            final List<VirtualFile> files = newArrayList();
+            final List<ForkJoinTask<List<Pair<String, String>>>> subTasks = newArrayList();
+            try {
+                for (VirtualFile child : virtualFolder.getChildren()) {
+                    if (child.isFile()) {
+                        files.add(child);
+                    } else {
+                        subTasks.add(new FolderTask(child).fork());
+                    }
+                }
+            } catch (ServerException e) {
+                throw new UncheckedServerException(e);
             }
-        } else {
-            for (VirtualFile child : virtualFile.getChildren()) {
-                child.accept(this);
+            final List<Pair<String, String>> hashSums = new FilesTask(files, 0, files.size()).compute();
+            for (ForkJoinTask<List<Pair<String, String>>> subTask : subTasks) {
+                hashSums.addAll(subTask.join());
             }
+            return hashSums;
+        }
+    }
+
+    private class FilesTask extends RecursiveTask<List<Pair<String, String>>> {
+        private final List<VirtualFile> files;
+        private final int               from;
+        private final int               to;
+
+        FilesTask(List<VirtualFile> files, int from, int to) {
+            this.files = files;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Pair<String, String>> compute() {
+            if (to - from > FILES_PER_TASK) {
+                final int middle = (from + to) >>> 1;
+                final FilesTask tail = new FilesTask(files, middle, to);
+                tail.fork();
+                final List<Pair<String, String>> hashSums = new FilesTask(files, from, middle).compute();
+                hashSums.addAll(tail.join());
+                return hashSums;
+            }
+            final List<Pair<String, String>> hashSums = newArrayList();
+            try {
+                for (VirtualFile file : files.subList(from, to)) {
+                    hashSums.add(Pair.of(countHashSum(file), file.getPath().subPath(folder.getPath()).toString()));
+                }
+            } catch (ServerException e) {
+                throw new UncheckedServerException(e);
+            }
+            return hashSums;
+        }
+    }
+
+    private static class UncheckedServerException extends RuntimeException {
+        UncheckedServerException(ServerException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized ServerException getCause() {
+            return (ServerException)super.getCause();
         }
     }
 }
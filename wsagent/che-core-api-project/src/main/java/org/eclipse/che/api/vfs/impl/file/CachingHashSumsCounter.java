@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.io.ByteStreams;
+
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.HashSumsCounter;
+import org.eclipse.che.api.vfs.VirtualFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.google.common.hash.Funnels.asOutputStream;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Calculates hash sums of files of local filesystem. Large files are read through memory mapping. Hash sums of files that were not
+ * changed since previous calculation are taken from {@link FileHashSumsCache}.
+ */
+class CachingHashSumsCounter extends HashSumsCounter {
+    /** Files that are larger than this value are mapped to memory instead of reading them through stream. */
+    static final long MAPPING_THRESHOLD = 1024 * 1024;
+
+    /**
+     * Files modified recently are not cached since they may be changed again without changing of length and modification time
+     * within resolution of file modification time.
+     */
+    private static final long RECENTLY_MODIFIED_INTERVAL = 2000;
+
+    private static final long MAPPING_WINDOW = 64 * 1024 * 1024;
+    private static final int  COPY_BUFFER    = 64 * 1024;
+
+    private final FileHashSumsCache cache;
+
+    CachingHashSumsCounter(LocalVirtualFile folder, HashFunction hashFunction, ForkJoinPool pool, FileHashSumsCache cache) {
+        super(folder, hashFunction, pool);
+        this.cache = cache;
+    }
+
+    @Override
+    protected String countHashSum(VirtualFile file) throws ServerException {
+        if (!(file instanceof LocalVirtualFile)) {
+            return super.countHashSum(file);
+        }
+        final File ioFile = ((LocalVirtualFile)file).toIoFile();
+        final String path = file.getPath().toString();
+        final long length = ioFile.length();
+        final long lastModified = ioFile.lastModified();
+        String hashSum = cache.get(path, length, lastModified);
+        if (hashSum == null) {
+            try {
+                hashSum = countHashSum(ioFile);
+            } catch (IOException e) {
+                throw new ServerException(e);
+            }
+            if (System.currentTimeMillis() - lastModified > RECENTLY_MODIFIED_INTERVAL) {
+                cache.put(path, length, lastModified, hashSum);
+            }
+        }
+        return hashSum;
+    }
+
+    private String countHashSum(File ioFile) throws IOException {
+        final Hasher hasher = getHashFunction().newHasher();
+        try (FileChannel channel = FileChannel.open(ioFile.toPath(), READ)) {
+            final long size = channel.size();
+            if (size <= MAPPING_THRESHOLD) {
+                ByteStreams.copy(Channels.newInputStream(channel), asOutputStream(hasher));
+            } else {
+                final byte[] buffer = new byte[COPY_BUFFER];
+                for (long position = 0; position < size; position += MAPPING_WINDOW) {
+                    final MappedByteBuffer mapped = channel.map(READ_ONLY, position, Math.min(MAPPING_WINDOW, size - position));
+                    while (mapped.hasRemaining()) {
+                        final int length = Math.min(buffer.length, mapped.remaining());
+                        mapped.get(buffer, 0, length);
+                        hasher.putBytes(buffer, 0, length);
+                    }
+                }
+            }
+        }
+        return hasher.hash().toString();
+    }
+}
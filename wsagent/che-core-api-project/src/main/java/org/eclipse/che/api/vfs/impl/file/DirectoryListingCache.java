@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.che.api.vfs.Path;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * Cache of directory listings. Names of children together with their attributes are read in single pass over directory stream.
+ * <p/>
+ * Cached listing is used only while modification time of directory is the same as at the moment of reading of listing. Listings of
+ * directories modified recently are not cached since directory may be changed again within resolution of modification time. Listings
+ * are also dropped on file watcher events.
+ * <p/>
+ * Cache doesn't need any external synchronization.
+ */
+class DirectoryListingCache {
+    /** Child of directory with its attributes. */
+    static class DirectoryEntry {
+        final String              name;
+        final BasicFileAttributes attributes;
+
+        DirectoryEntry(String name, BasicFileAttributes attributes) {
+            this.name = name;
+            this.attributes = attributes;
+        }
+    }
+
+    private static class DirectoryListing {
+        final FileTime             lastModified;
+        final List<DirectoryEntry> entries;
+
+        DirectoryListing(FileTime lastModified, List<DirectoryEntry> entries) {
+            this.lastModified = lastModified;
+            this.entries = entries;
+        }
+    }
+
+    /** Listings of directories that were modified less than this number of milliseconds ago are not cached. */
+    private static final long RECENTLY_MODIFIED_INTERVAL = 2000;
+
+    private final Cache<Path, DirectoryListing> listings;
+    private final Predicate<String>             nameFilter;
+
+    /**
+     * @param maxSize
+     *         max number of cached listings
+     * @param nameFilter
+     *         filter for names of children, children that aren't accepted by filter are not included in listing
+     */
+    DirectoryListingCache(int maxSize, Predicate<String> nameFilter) {
+        this.nameFilter = nameFilter;
+        listings = CacheBuilder.newBuilder()
+                               .concurrencyLevel(16)
+                               .maximumSize(maxSize)
+                               .expireAfterAccess(10, MINUTES)
+                               .build();
+    }
+
+    /**
+     * Gets children of directory sorted in the same order as {@link LocalVirtualFile#compareTo(org.eclipse.che.api.vfs.VirtualFile)}
+     * does: directories go first, then files, items of the same type are sorted by name.
+     *
+     * @param path
+     *         virtual filesystem path of directory
+     * @param ioDirectory
+     *         directory on the local filesystem
+     * @return unmodifiable list of children or {@code null} if {@code ioDirectory} doesn't exist or isn't a directory
+     * @throws IOException
+     *         if an i/o error occurs while reading directory
+     */
+    List<DirectoryEntry> getChildren(Path path, java.nio.file.Path ioDirectory) throws IOException {
+        final BasicFileAttributes directoryAttributes;
+        try {
+            directoryAttributes = Files.readAttributes(ioDirectory, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (!directoryAttributes.isDirectory()) {
+            return null;
+        }
+
+        final FileTime lastModified = directoryAttributes.lastModifiedTime();
+        final DirectoryListing cached = listings.getIfPresent(path);
+        if (cached != null && cached.lastModified.equals(lastModified)) {
+            return cached.entries;
+        }
+
+        final List<DirectoryEntry> entries;
+        try {
+            entries = readDirectory(ioDirectory);
+        } catch (NoSuchFileException | NotDirectoryException e) {
+            return null;
+        }
+        if (System.currentTimeMillis() - lastModified.toMillis() > RECENTLY_MODIFIED_INTERVAL) {
+            listings.put(path, new DirectoryListing(lastModified, entries));
+        } else {
+            listings.invalidate(path);
+        }
+        return entries;
+    }
+
+    /**
+     * Drops cached listings that might be affected by change of item with specified path: listing of item itself, its parent and all
+     * its descendants.
+     */
+    void invalidate(Path path) {
+        final Path parent = path.isRoot() ? null : path.getParent();
+        listings.asMap().keySet().removeIf(cached -> cached.equals(path) || cached.equals(parent) || cached.isChild(path));
+    }
+
+    void invalidateAll() {
+        listings.invalidateAll();
+    }
+
+    private List<DirectoryEntry> readDirectory(java.nio.file.Path ioDirectory) throws IOException {
+        final List<DirectoryEntry> entries = new ArrayList<>();
+        try (DirectoryStream<java.nio.file.Path> stream = Files.newDirectoryStream(ioDirectory)) {
+            for (java.nio.file.Path child : stream) {
+                final String name = child.getFileName().toString();
+                if (nameFilter.test(name)) {
+                    try {
+                        entries.add(new DirectoryEntry(name, readAttributes(child)));
+                    } catch (NoSuchFileException e) {
+                        // removed after reading of its name
+                    }
+                }
+            }
+        }
+        entries.sort((one, two) -> {
+            final boolean oneIsDirectory = one.attributes.isDirectory();
+            if (oneIsDirectory != two.attributes.isDirectory()) {
+                return oneIsDirectory ? -1 : 1;
+            }
+            return one.name.compareTo(two.name);
+        });
+        return Collections.unmodifiableList(entries);
+    }
+
+    private BasicFileAttributes readAttributes(java.nio.file.Path ioFile) throws IOException {
+        try {
+            return Files.readAttributes(ioFile, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            // broken symbolic link is still listed as child of directory
+            return Files.readAttributes(ioFile, BasicFileAttributes.class, NOFOLLOW_LINKS);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * Persistent cache of hash sums of files. Cached hash sum is used only while length and modification time of file are the same as
+ * at the moment of calculating the hash sum. Entries are also dropped on file watcher events to avoid using of stale hash sum if file
+ * is updated without changing its length within resolution of file modification time.
+ * <p/>
+ * Cache is read from storage file on first access and is written back with {@link #save()}, or with {@link #saveIfDue()} not more often
+ * than once per save period.
+ */
+class FileHashSumsCache {
+    private static final Logger LOG = LoggerFactory.getLogger(FileHashSumsCache.class);
+
+    private static final int  FORMAT_VERSION     = 1;
+    private static final long SAVE_PERIOD_MILLIS = MINUTES.toMillis(1);
+
+    private final File                                          storage;
+    private final long                                          savePeriodMillis;
+    private final ConcurrentNavigableMap<String, HashSumRecord> records;
+
+    private volatile boolean loaded;
+    private volatile boolean modified;
+    private volatile long    lastSaveTime;
+
+    FileHashSumsCache(File storage) {
+        this(storage, SAVE_PERIOD_MILLIS);
+    }
+
+    FileHashSumsCache(File storage, long savePeriodMillis) {
+        this.storage = storage;
+        this.savePeriodMillis = savePeriodMillis;
+        this.records = new ConcurrentSkipListMap<>();
+    }
+
+    /** Returns cached hash sum of file or {@code null} if there is no valid hash sum for file with specified length and modification time. */
+    String get(String path, long length, long lastModified) {
+        ensureLoaded();
+        final HashSumRecord record = records.get(path);
+        if (record != null && record.length == length && record.lastModified == lastModified) {
+            return record.hashSum;
+        }
+        return null;
+    }
+
+    void put(String path, long length, long lastModified, String hashSum) {
+        ensureLoaded();
+        records.put(path, new HashSumRecord(length, lastModified, hashSum));
+        modified = true;
+    }
+
+    /** Drops cached hash sum of file with specified path or hash sums of all files in folder with specified path. */
+    void invalidate(String path) {
+        ensureLoaded();
+        final String folderPrefix = path.endsWith("/") ? path : path + '/';
+        final Map<String, HashSumRecord> descendants = records.subMap(folderPrefix, folderPrefix + '\uffff');
+        if (records.remove(path) != null | !descendants.isEmpty()) {
+            descendants.clear();
+            modified = true;
+        }
+    }
+
+    void clear() {
+        ensureLoaded();
+        records.clear();
+        modified = true;
+    }
+
+    /** Writes cache to storage file if it was modified and the last save was done more than save period ago. */
+    void saveIfDue() {
+        if (modified && System.currentTimeMillis() - lastSaveTime >= savePeriodMillis) {
+            save();
+        }
+    }
+
+    /** Writes cache to storage file if it was modified after loading or the last save. */
+    synchronized void save() {
+        if (!modified) {
+            return;
+        }
+        modified = false;
+        lastSaveTime = System.currentTimeMillis();
+        try {
+            Files.createDirectories(storage.getParentFile().toPath());
+            final File tmp = new File(storage.getParentFile(), storage.getName() + ".tmp");
+            try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                dos.writeInt(FORMAT_VERSION);
+                for (Map.Entry<String, HashSumRecord> entry : records.entrySet()) {
+                    final HashSumRecord record = entry.getValue();
+                    dos.writeBoolean(true);
+                    dos.writeUTF(entry.getKey());
+                    dos.writeLong(record.length);
+                    dos.writeLong(record.lastModified);
+                    dos.writeUTF(record.hashSum);
+                }
+                dos.writeBoolean(false);
+            }
+            Files.move(tmp.toPath(), storage.toPath(), REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            modified = true;
+            LOG.warn("Unable save hash sums to {}: {}", storage, e.getMessage());
+        }
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    load();
+                    loaded = true;
+                }
+            }
+        }
+    }
+
+    private void load() {
+        if (!storage.exists()) {
+            return;
+        }
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(storage)))) {
+            if (dis.readInt() != FORMAT_VERSION) {
+                return;
+            }
+            while (dis.readBoolean()) {
+                final String path = dis.readUTF();
+                final long length = dis.readLong();
+                final long lastModified = dis.readLong();
+                records.put(path, new HashSumRecord(length, lastModified, dis.readUTF()));
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable read hash sums from {}: {}", storage, e.getMessage());
+            records.clear();
+        }
+    }
+
+    private static class HashSumRecord {
+        final long   length;
+        final long   lastModified;
+        final String hashSum;
+
+        HashSumRecord(long length, long lastModified, String hashSum) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.hashSum = hashSum;
+        }
+    }
+}
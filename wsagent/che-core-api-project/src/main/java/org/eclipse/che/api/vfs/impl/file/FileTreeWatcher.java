@@ -26,6 +26,8 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.SimpleFileVisitor;
@@ -33,45 +35,74 @@ import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
-import static com.google.common.collect.Lists.newArrayList;
-import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newLinkedHashMap;
 import static com.google.common.collect.Sets.newLinkedHashSet;
 import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
 import static java.nio.file.Files.getLastModifiedTime;
 import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
 import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
 import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
 import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
 import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
 
+/**
+ * Watches file tree and notifies {@link FileWatcherNotificationHandler} about created, modified and deleted items.
+ * <p/>
+ * Directories that match exclude patterns are not registered in watch service together with all their descendants. Only root of the
+ * tree is registered in {@link #startup()}, the rest of directories are registered incrementally by the thread that processes watch
+ * events. Content of directory is remembered when it is added in registration queue and compared with actual content once directory
+ * is registered, so changes made while directory waits for registration are reported as well. Changes are not processed immediately
+ * but after a short period of silence (or after {@link #MAX_EVENT_DELAY_MILLIS} in case of continuous stream of changes), so burst of
+ * changes, e.g. checkout of a git branch, is delivered as single batch in which events for the same item are coalesced.
+ */
 @Singleton
 public class FileTreeWatcher {
     private static final Logger LOG = LoggerFactory.getLogger(FileTreeWatcher.class);
 
     private static final long EVENT_PROCESS_TIMEOUT_SEC = 2;
+    /** Max delay of processing of changes when file tree is being changed continuously. */
+    private static final long MAX_EVENT_DELAY_MILLIS    = 10000;
+    /** Max number of directories that are registered in watch service at once between processing of watch events. */
+    private static final int  REGISTRATION_BATCH_SIZE   = 256;
 
     private final File                           watchRoot;
     private final Path                           watchRootPath;
     private final Map<Path, WatchedDirectory>    watchedDirectories;
+    private final Deque<WatchedDirectory>        registrationQueue;
     private final List<PathMatcher>              excludePatterns;
     private final FileWatcherNotificationHandler fileWatcherNotificationHandler;
     private final ExecutorService                executor;
     private final AtomicBoolean                  running;
+    private final AtomicInteger                  queuedDirectories;
+    private final AtomicLong                     overflows;
+    private final AtomicLong                     deliveredEvents;
+    private final AtomicLong                     deliveredBatches;
+    private final AtomicLong                     lastBatchLatency;
+    private final AtomicLong                     maxBatchLatency;
     private       WatchService                   watchService;
     private       WatchEvent.Modifier[]          watchEventModifiers;
 
@@ -82,13 +113,20 @@ public class FileTreeWatcher {
         watchEventModifiers = new WatchEvent.Modifier[0];
         this.watchRoot = toCanonicalFile(watchRoot);
         this.watchRootPath = this.watchRoot.toPath();
-        this.excludePatterns = newArrayList(excludePatterns);
+        this.excludePatterns = new CopyOnWriteArrayList<>(excludePatterns);
         this.fileWatcherNotificationHandler = fileWatcherNotificationHandler;
 
         ThreadFactory threadFactory = new ThreadFactoryBuilder().setDaemon(true).setNameFormat("FileTreeWatcher-%d").build();
         executor = Executors.newSingleThreadExecutor(threadFactory);
         running = new AtomicBoolean();
-        watchedDirectories = newHashMap();
+        watchedDirectories = new ConcurrentHashMap<>();
+        registrationQueue = new ArrayDeque<>();
+        queuedDirectories = new AtomicInteger();
+        overflows = new AtomicLong();
+        deliveredEvents = new AtomicLong();
+        deliveredBatches = new AtomicLong();
+        lastBatchLatency = new AtomicLong();
+        maxBatchLatency = new AtomicLong();
     }
 
     private static File toCanonicalFile(File file) {
@@ -105,7 +143,8 @@ public class FileTreeWatcher {
             watchEventModifiers = new WatchEvent.Modifier[]{createSensitivityWatchEventModifier()};
         }
         running.set(true);
-        walkTreeAndSetupWatches(watchRootPath);
+        // Root is registered immediately, its descendants are registered by watcher thread.
+        setupDirectoryWatcher(watchRootPath);
         executor.execute(new WatchEventTask());
         fileWatcherNotificationHandler.started(watchRoot);
     }
@@ -140,11 +179,10 @@ public class FileTreeWatcher {
             executor.shutdownNow();
         }
 
-        try {
-            walkTreeAndRemoveWatches(watchRootPath);
-        } catch (IOException e) {
-            LOG.warn(e.getMessage());
+        for (WatchedDirectory watchedDirectory : watchedDirectories.values()) {
+            watchedDirectory.getWatchKey().cancel();
         }
+        watchedDirectories.clear();
 
         try {
             watchService.close();
@@ -165,17 +203,15 @@ public class FileTreeWatcher {
         this.excludePatterns.remove(exclude);
     }
 
-    private void walkTreeAndSetupWatches(Path root) throws IOException {
-        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
-            @Override
-            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-                Path relativePath = watchRootPath.relativize(dir);
-                if (shouldNotify(relativePath)) {
-                    setupDirectoryWatcher(dir);
-                }
-                return CONTINUE;
-            }
-        });
+    /** Gets statistics of this watcher. */
+    public Statistics getStatistics() {
+        return new Statistics(watchedDirectories.size(),
+                              queuedDirectories.get(),
+                              overflows.get(),
+                              deliveredEvents.get(),
+                              deliveredBatches.get(),
+                              lastBatchLatency.get(),
+                              maxBatchLatency.get());
     }
 
     private boolean shouldNotify(Path subPath) {
@@ -187,79 +223,187 @@ public class FileTreeWatcher {
         return true;
     }
 
-    private void walkTreeAndRemoveWatches(Path root) throws IOException {
-        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
-            @Override
-            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-                cancelDirectoryWatcher(dir);
-                return CONTINUE;
+    private boolean isExcludedDirectory(Path directory) {
+        return !directory.equals(watchRootPath) && !shouldNotify(watchRootPath.relativize(directory));
+    }
+
+    /**
+     * Registers directories from registration queue and reports changes made in them since they were queued. Must be called by watcher
+     * thread only.
+     */
+    private void registerQueuedDirectories() {
+        final long startTime = System.nanoTime();
+        final Map<Path, FileWatcherEvent> events = newLinkedHashMap();
+        for (int i = 0; i < REGISTRATION_BATCH_SIZE && !registrationQueue.isEmpty(); i++) {
+            final WatchedDirectory queued = registrationQueue.poll();
+            queuedDirectories.decrementAndGet();
+            final Path directory = queued.getPath();
+            if (watchedDirectories.get(directory) != null) {
+                // re-created and registered together with its new parent tree
+                continue;
             }
-        });
+            try {
+                queued.setWatchKey(registerDirectory(directory));
+                watchedDirectories.put(directory, queued);
+                compareWithSnapshot(queued, events);
+            } catch (NoSuchFileException | NotDirectoryException ignored) {
+                // removed before we got a chance to register it
+                cancelDirectoryWatcher(directory);
+                continue;
+            } catch (IOException e) {
+                LOG.warn("Unable watch directory {}: {}", directory, e.getMessage());
+                cancelDirectoryWatcher(directory);
+                continue;
+            }
+            queueChildren(queued);
+        }
+        deliverEvents(events.values(), startTime);
+    }
+
+    /** Remembers content of directory and adds it in registration queue. Must be called by watcher thread only. */
+    private void queueDirectory(Path directory) {
+        final WatchedDirectory snapshot = new WatchedDirectory(directory);
+        try {
+            readItems(snapshot);
+        } catch (NoSuchFileException | NotDirectoryException ignored) {
+            return;
+        } catch (IOException e) {
+            LOG.warn("Unable watch directory {}: {}", directory, e.getMessage());
+            return;
+        }
+        registrationQueue.add(snapshot);
+        queuedDirectories.incrementAndGet();
     }
 
-    private void walkTreeAndFireCreatedEvents(Path root) throws IOException {
+    private void queueChildren(WatchedDirectory watchedDirectory) {
+        for (DirectoryItem item : watchedDirectory.getItems()) {
+            if (item.isDirectory()) {
+                final Path child = watchedDirectory.getPath().resolve(item.getName());
+                if (!isExcludedDirectory(child) && watchedDirectories.get(child) == null) {
+                    queueDirectory(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Walks through new directory tree, registers all its directories and collects events about created items.
+     * Must be called by watcher thread only.
+     */
+    private void walkTreeAndSetupWatches(Path root, Map<Path, FileWatcherEvent> events) throws IOException {
         Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
             @Override
             public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (isExcludedDirectory(dir)) {
+                    return SKIP_SUBTREE;
+                }
                 if (!dir.equals(root)) {
-                    fireWatchEvent(CREATED, dir, true);
+                    addEvent(events, CREATED, dir, true);
                 }
+                setupDirectoryWatcher(dir, false);
                 return CONTINUE;
             }
 
             @Override
             public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-                fireWatchEvent(CREATED, file, false);
+                addEvent(events, CREATED, file, false);
                 return CONTINUE;
             }
         });
     }
 
     private void setupDirectoryWatcher(Path directory) throws IOException {
+        setupDirectoryWatcher(directory, true);
+    }
+
+    /**
+     * Registers directory in watch service and remembers its content.
+     *
+     * @param queueChildren
+     *         if {@code true} child directories are added in registration queue
+     */
+    private void setupDirectoryWatcher(Path directory, boolean queueChildren) throws IOException {
         if (watchedDirectories.get(directory) == null) {
-            WatchKey watchKey = directory.register(watchService,
-                                                   new WatchEvent.Kind[]{ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY, OVERFLOW},
-                                                   watchEventModifiers);
+            WatchKey watchKey = registerDirectory(directory);
             WatchedDirectory watchedDirectory = new WatchedDirectory(directory, watchKey);
-            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
-                for (Path entry : entries) {
-                    watchedDirectory
-                            .addItem(new DirectoryItem(entry.getFileName(), Files.isDirectory(entry), getLastModifiedInMillis(entry)));
-                }
+            try {
+                readItems(watchedDirectory);
+            } catch (IOException e) {
+                watchKey.cancel();
+                throw e;
             }
             watchedDirectories.put(directory, watchedDirectory);
+            if (queueChildren) {
+                queueChildren(watchedDirectory);
+            }
+        }
+    }
+
+    private WatchKey registerDirectory(Path directory) throws IOException {
+        return directory.register(watchService,
+                                  new WatchEvent.Kind[]{ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY, OVERFLOW},
+                                  watchEventModifiers);
+    }
+
+    private void readItems(WatchedDirectory watchedDirectory) throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(watchedDirectory.getPath())) {
+            for (Path entry : entries) {
+                try {
+                    final boolean isDirectory = Files.isDirectory(entry);
+                    watchedDirectory.addItem(new DirectoryItem(entry.getFileName(), isDirectory, getLastModifiedInMillis(entry)));
+                } catch (NoSuchFileException ignored) {
+                }
+            }
         }
     }
 
     private void cancelDirectoryWatcher(Path path) {
         WatchedDirectory watchedDirectory = watchedDirectories.remove(path);
-        if (watchedDirectory != null) {
+        if (watchedDirectory != null && watchedDirectory.getWatchKey() != null) {
             watchedDirectory.getWatchKey().cancel();
         }
     }
 
     private class WatchEventTask implements Runnable {
         final Set<PendingEvent> pendingEvents = newLinkedHashSet();
+        long firstPendingEventTime;
+        long lastPendingEventTime;
 
         @Override
         public void run() {
             while (running.get()) {
                 try {
+                    if (!registrationQueue.isEmpty()) {
+                        registerQueuedDirectories();
+                    }
                     WatchKey watchKey;
-                    if (pendingEvents.isEmpty()) {
+                    if (!registrationQueue.isEmpty()) {
+                        // do not block while there are directories that are not registered yet
+                        watchKey = watchService.poll();
+                    } else if (pendingEvents.isEmpty()) {
                         watchKey = watchService.take();
                     } else {
-                        watchKey = watchService.poll(EVENT_PROCESS_TIMEOUT_SEC, SECONDS);
-                        if (watchKey == null) {
-                            processPendingEvents(pendingEvents);
-                            pendingEvents.clear();
-                        }
+                        watchKey = watchService.poll(nanosToProcessing(), NANOSECONDS);
                     }
                     if (watchKey != null) {
+                        final long now = System.nanoTime();
+                        if (pendingEvents.isEmpty()) {
+                            firstPendingEventTime = now;
+                        }
+                        lastPendingEventTime = now;
                         pendingEvents.add(new PendingEvent((Path)watchKey.watchable()));
-                        watchKey.pollEvents();
+                        for (WatchEvent<?> event : watchKey.pollEvents()) {
+                            if (event.kind() == OVERFLOW) {
+                                // content of directory is compared with its snapshot, so nothing is lost
+                                overflows.incrementAndGet();
+                            }
+                        }
                         watchKey.reset();
                     }
+                    if (!pendingEvents.isEmpty() && nanosToProcessing() <= 0) {
+                        processPendingEvents(pendingEvents, firstPendingEventTime);
+                        pendingEvents.clear();
+                    }
                 } catch (InterruptedException | ClosedWatchServiceException e) {
                     running.set(false);
                 } catch (Throwable e) {
@@ -268,58 +412,139 @@ public class FileTreeWatcher {
                 }
             }
         }
+
+        private long nanosToProcessing() {
+            final long now = System.nanoTime();
+            return Math.min(lastPendingEventTime + SECONDS.toNanos(EVENT_PROCESS_TIMEOUT_SEC) - now,
+                            firstPendingEventTime + MILLISECONDS.toNanos(MAX_EVENT_DELAY_MILLIS) - now);
+        }
     }
 
-    private void processPendingEvents(Collection<PendingEvent> pendingEvents) throws IOException {
+    private void processPendingEvents(Collection<PendingEvent> pendingEvents, long firstPendingEventTime) throws IOException {
+        final Map<Path, FileWatcherEvent> events = newLinkedHashMap();
         for (PendingEvent pendingEvent : pendingEvents) {
             Path eventDirectoryPath = pendingEvent.getPath();
             WatchedDirectory watchedDirectory = watchedDirectories.get(eventDirectoryPath);
+            if (watchedDirectory == null) {
+                // parent directory was removed and all its watched sub-directories are removed as well
+                continue;
+            }
             if (Files.exists(eventDirectoryPath)) {
-                final int hitCounter = watchedDirectory.incrementHitCounter();
-                try (DirectoryStream<Path> entries = Files.newDirectoryStream(eventDirectoryPath)) {
-                    for (Path fsItem : entries) {
-                        DirectoryItem directoryItem = watchedDirectory.getItem(fsItem.getFileName());
-                        if (directoryItem == null) {
-                            try {
-                                boolean directory = Files.isDirectory(fsItem);
-                                directoryItem = new DirectoryItem(fsItem.getFileName(), directory, getLastModifiedInMillis(fsItem));
-                                watchedDirectory.addItem(directoryItem);
-                                fireWatchEvent(CREATED, fsItem, directoryItem.isDirectory());
-                                if (directory) {
-                                    walkTreeAndFireCreatedEvents(fsItem);
-                                    setupDirectoryWatcher(fsItem);
-                                }
-                            } catch (IOException ignored) {
-                            }
-                        } else {
-                            long lastModified;
-                            try {
-                                lastModified = getLastModifiedInMillis(fsItem);
-                            } catch (IOException ignored) {
-                                continue;
-                            }
-                            if (lastModified != directoryItem.getLastModified() && Files.isRegularFile(fsItem)) {
-                                fireWatchEvent(MODIFIED, fsItem, false);
-                            }
-                            directoryItem.touch(lastModified);
-                            directoryItem.updateHitCounter(hitCounter);
+                compareWithSnapshot(watchedDirectory, events);
+            } else {
+                for (DirectoryItem directoryItem : watchedDirectory.getItems()) {
+                    addEvent(events, DELETED, eventDirectoryPath.resolve(directoryItem.getName()), directoryItem.isDirectory());
+                }
+                cancelDirectoryWatcher(eventDirectoryPath);
+            }
+        }
+        deliverEvents(events.values(), firstPendingEventTime);
+    }
+
+    /** Compares content of directory with its snapshot, collects events about differences and updates snapshot. */
+    private void compareWithSnapshot(WatchedDirectory watchedDirectory, Map<Path, FileWatcherEvent> events) throws IOException {
+        final Path directoryPath = watchedDirectory.getPath();
+        final int hitCounter = watchedDirectory.incrementHitCounter();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directoryPath)) {
+            for (Path fsItem : entries) {
+                DirectoryItem directoryItem = watchedDirectory.getItem(fsItem.getFileName());
+                if (directoryItem == null) {
+                    try {
+                        boolean directory = Files.isDirectory(fsItem);
+                        directoryItem = new DirectoryItem(fsItem.getFileName(), directory, getLastModifiedInMillis(fsItem));
+                        watchedDirectory.addItem(directoryItem);
+                        addEvent(events, CREATED, fsItem, directoryItem.isDirectory());
+                        if (directory && !isExcludedDirectory(fsItem)) {
+                            walkTreeAndSetupWatches(fsItem, events);
                         }
+                    } catch (IOException ignored) {
+                    }
+                } else {
+                    long lastModified;
+                    try {
+                        lastModified = getLastModifiedInMillis(fsItem);
+                    } catch (IOException ignored) {
+                        continue;
                     }
+                    if (lastModified != directoryItem.getLastModified() && Files.isRegularFile(fsItem)) {
+                        addEvent(events, MODIFIED, fsItem, false);
+                    }
+                    directoryItem.touch(lastModified);
+                    directoryItem.updateHitCounter(hitCounter);
                 }
+            }
+        }
 
-                for (Iterator<DirectoryItem> iterator = watchedDirectory.getItems().iterator(); iterator.hasNext(); ) {
-                    DirectoryItem directoryItem = iterator.next();
-                    if (hitCounter != directoryItem.getHitCount()) {
-                        iterator.remove();
-                        fireWatchEvent(DELETED, eventDirectoryPath.resolve(directoryItem.getName()), directoryItem.isDirectory());
+        for (Iterator<DirectoryItem> iterator = watchedDirectory.getItems().iterator(); iterator.hasNext(); ) {
+            DirectoryItem directoryItem = iterator.next();
+            if (hitCounter != directoryItem.getHitCount()) {
+                iterator.remove();
+                Path removed = directoryPath.resolve(directoryItem.getName());
+                addEvent(events, DELETED, removed, directoryItem.isDirectory());
+                if (directoryItem.isDirectory()) {
+                    cancelDirectoryWatchers(removed);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops watching directory and all its sub-directories. Sub-directories are found in snapshots of their parents, so only removed
+     * part of the tree is visited.
+     */
+    private void cancelDirectoryWatchers(Path directory) {
+        final Deque<Path> directories = new ArrayDeque<>();
+        directories.add(directory);
+        while (!directories.isEmpty()) {
+            final Path path = directories.poll();
+            final WatchedDirectory watchedDirectory = watchedDirectories.get(path);
+            if (watchedDirectory != null) {
+                for (DirectoryItem item : watchedDirectory.getItems()) {
+                    if (item.isDirectory()) {
+                        directories.add(path.resolve(item.getName()));
                     }
                 }
+                cancelDirectoryWatcher(path);
+            }
+        }
+    }
+
+    /**
+     * Adds event in batch. If batch already contains event for the same item events are coalesced: creation followed by modification
+     * is reported as creation, deletion followed by creation is reported as modification, creation followed by deletion cancels both.
+     */
+    private void addEvent(Map<Path, FileWatcherEvent> events, FileWatcherEventType eventType, Path eventPath, boolean isDirectory) {
+        final FileWatcherEvent previous = events.get(eventPath);
+        if (previous == null) {
+            events.put(eventPath, new FileWatcherEvent(eventType, eventPath, isDirectory));
+        } else if (previous.type == CREATED && eventType == DELETED) {
+            events.remove(eventPath);
+        } else if (previous.type == DELETED && eventType == CREATED) {
+            if (previous.directory == isDirectory && !isDirectory) {
+                events.put(eventPath, new FileWatcherEvent(MODIFIED, eventPath, false));
             } else {
-                for (DirectoryItem directoryItem : watchedDirectory.getItems()) {
-                    fireWatchEvent(DELETED, eventDirectoryPath.resolve(directoryItem.getName()), directoryItem.isDirectory());
-                }
-                watchedDirectories.remove(eventDirectoryPath);
+                events.remove(eventPath);
+                events.put(eventPath, new FileWatcherEvent(eventType, eventPath, isDirectory));
             }
+        } else if (previous.type == MODIFIED && eventType == DELETED) {
+            events.put(eventPath, new FileWatcherEvent(DELETED, eventPath, isDirectory));
+        }
+        // CREATED + MODIFIED or MODIFIED + MODIFIED, keep previous event
+    }
+
+    private void deliverEvents(Collection<FileWatcherEvent> events, long firstPendingEventTime) {
+        if (events.isEmpty()) {
+            return;
+        }
+        for (FileWatcherEvent event : events) {
+            fireWatchEvent(event.type, event.path, event.directory);
+        }
+        deliveredEvents.addAndGet(events.size());
+        deliveredBatches.incrementAndGet();
+        final long latency = NANOSECONDS.toMillis(System.nanoTime() - firstPendingEventTime);
+        lastBatchLatency.set(latency);
+        if (latency > maxBatchLatency.get()) {
+            maxBatchLatency.set(latency);
         }
     }
 
@@ -334,6 +559,93 @@ public class FileTreeWatcher {
         return getLastModifiedTime(path, NOFOLLOW_LINKS).toMillis();
     }
 
+    /** Statistics of file tree watcher. */
+    public static class Statistics {
+        private final int  watchedDirectories;
+        private final int  queuedDirectories;
+        private final long overflows;
+        private final long deliveredEvents;
+        private final long deliveredBatches;
+        private final long lastBatchLatencyMillis;
+        private final long maxBatchLatencyMillis;
+
+        Statistics(int watchedDirectories,
+                   int queuedDirectories,
+                   long overflows,
+                   long deliveredEvents,
+                   long deliveredBatches,
+                   long lastBatchLatencyMillis,
+                   long maxBatchLatencyMillis) {
+            this.watchedDirectories = watchedDirectories;
+            this.queuedDirectories = queuedDirectories;
+            this.overflows = overflows;
+            this.deliveredEvents = deliveredEvents;
+            this.deliveredBatches = deliveredBatches;
+            this.lastBatchLatencyMillis = lastBatchLatencyMillis;
+            this.maxBatchLatencyMillis = maxBatchLatencyMillis;
+        }
+
+        /** Number of directories registered in watch service. */
+        public int getWatchedDirectories() {
+            return watchedDirectories;
+        }
+
+        /** Number of directories that are waiting for registration in watch service. */
+        public int getQueuedDirectories() {
+            return queuedDirectories;
+        }
+
+        /** Number of times watch service reported that events were lost. */
+        public long getOverflows() {
+            return overflows;
+        }
+
+        /** Number of delivered events. */
+        public long getDeliveredEvents() {
+            return deliveredEvents;
+        }
+
+        /** Number of delivered batches of events. */
+        public long getDeliveredBatches() {
+            return deliveredBatches;
+        }
+
+        /** Time between the first change of the last batch and the moment when all events of the batch were delivered. */
+        public long getLastBatchLatencyMillis() {
+            return lastBatchLatencyMillis;
+        }
+
+        /** Max time between the first change of batch and the moment when all events of the batch were delivered. */
+        public long getMaxBatchLatencyMillis() {
+            return maxBatchLatencyMillis;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{" +
+                   "watchedDirectories=" + watchedDirectories +
+                   ", queuedDirectories=" + queuedDirectories +
+                   ", overflows=" + overflows +
+                   ", deliveredEvents=" + deliveredEvents +
+                   ", deliveredBatches=" + deliveredBatches +
+                   ", lastBatchLatencyMillis=" + lastBatchLatencyMillis +
+                   ", maxBatchLatencyMillis=" + maxBatchLatencyMillis +
+                   '}';
+        }
+    }
+
+    static class FileWatcherEvent {
+        final FileWatcherEventType type;
+        final Path                 path;
+        final boolean              directory;
+
+        FileWatcherEvent(FileWatcherEventType type, Path path, boolean directory) {
+            this.type = type;
+            this.path = path;
+            this.directory = directory;
+        }
+    }
+
     static class PendingEvent {
         final Path path;
 
@@ -364,41 +676,45 @@ public class FileTreeWatcher {
     }
 
     static class WatchedDirectory {
-        final Path                path;
-        final WatchKey            watchKey;
-        final List<DirectoryItem> items;
-        int hitCounter;
+        final Path                     path;
+        final Map<Path, DirectoryItem> items;
+        WatchKey watchKey;
+        int      hitCounter;
+
+        /** Creates snapshot of directory that isn't registered in watch service yet. */
+        WatchedDirectory(Path path) {
+            this(path, null);
+        }
 
         WatchedDirectory(Path path, WatchKey watchKey) {
             this.path = path;
             this.watchKey = watchKey;
-            items = newArrayList();
+            items = newLinkedHashMap();
         }
 
         WatchKey getWatchKey() {
             return watchKey;
         }
 
+        void setWatchKey(WatchKey watchKey) {
+            this.watchKey = watchKey;
+        }
+
         Path getPath() {
             return path;
         }
 
         DirectoryItem getItem(Path name) {
-            for (DirectoryItem item : items) {
-                if (item.getName().equals(name)) {
-                    return item;
-                }
-            }
-            return null;
+            return items.get(name);
         }
 
         void addItem(DirectoryItem item) {
             item.updateHitCounter(this.hitCounter);
-            items.add(item);
+            items.put(item.getName(), item);
         }
 
-        List<DirectoryItem> getItems() {
-            return items;
+        Collection<DirectoryItem> getItems() {
+            return items.values();
         }
 
         int incrementHitCounter() {
@@ -25,7 +25,6 @@ import org.eclipse.che.api.core.util.FileCleaner;
 import org.eclipse.che.api.vfs.AbstractVirtualFileSystemProvider;
 import org.eclipse.che.api.vfs.Archiver;
 import org.eclipse.che.api.vfs.ArchiverFactory;
-import org.eclipse.che.api.vfs.HashSumsCounter;
 import org.eclipse.che.api.vfs.LockedFileFinder;
 import org.eclipse.che.api.vfs.Path;
 import org.eclipse.che.api.vfs.PathLockFactory;
@@ -52,11 +51,11 @@ import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static com.google.common.collect.Lists.newArrayList;
@@ -82,14 +81,15 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     private static final long WAIT_FOR_FILE_LOCK_TIMEOUT = 60000; // 60 seconds
     private static final int  FILE_LOCK_MAX_THREADS      = 1024;
 
+    private static final int DIRECTORY_LISTING_CACHE_SIZE = 1024;
+
     private static final String   VFS_SERVICE_DIR        = ".vfs";
     private static final String   FILE_LOCKS_DIR         = VFS_SERVICE_DIR + File.separatorChar + "locks";
     private static final String   LOCK_FILE_SUFFIX       = "_lock";
     private static final FileLock NO_LOCK                = new FileLock("no_lock", 0);
     private static final String   FILE_PROPERTIES_DIR    = VFS_SERVICE_DIR + File.separatorChar + "props";
     private static final String   PROPERTIES_FILE_SUFFIX = "_props";
-
-    private static final FilenameFilter DOT_VFS_DIR_FILTER = (dir, name) -> !(VFS_SERVICE_DIR.equals(name));
+    private static final String   MD5_SUMS_FILE          = VFS_SERVICE_DIR + File.separatorChar + "hashsums" + File.separatorChar + "md5";
 
     private static final FilenameFilter VFS_LOCK_FILTER =
             (dir, name) -> !(dir.getAbsolutePath().endsWith(FILE_LOCKS_DIR) || name.endsWith(LOCK_FILE_SUFFIX));
@@ -136,6 +136,11 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     private final FileMetadataSerializer                  metadataSerializer;
     private final LoadingCache<Path, Map<String, String>> metadataCache;
 
+    private final FileHashSumsCache md5SumsCache;
+    private final ForkJoinPool      hashSumsPool;
+
+    private final DirectoryListingCache listingCache;
+
     @SuppressWarnings("unchecked")
     public LocalVirtualFileSystem(File ioRoot,
                                   ArchiverFactory archiverFactory,
@@ -162,6 +167,11 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
                                     .maximumSize(256)
                                     .expireAfterAccess(10, MINUTES)
                                     .build(new FilePropertiesCacheLoader());
+
+        md5SumsCache = new FileHashSumsCache(new File(ioRoot, MD5_SUMS_FILE));
+        hashSumsPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+        listingCache = new DirectoryListingCache(DIRECTORY_LISTING_CACHE_SIZE, name -> !(VFS_SERVICE_DIR.equals(name)));
     }
 
     @Override
@@ -177,6 +187,9 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
     @Override
     public void close() throws ServerException {
         cleanUpCaches();
+        listingCache.invalidateAll();
+        md5SumsCache.save();
+        hashSumsPool.shutdown();
         if (searcherProvider != null) {
             Searcher searcher = searcherProvider.getSearcher(this, false);
             if (searcher != null) {
@@ -243,40 +256,30 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         return newArrayList(path.elements()).contains(".vfs");
     }
 
-    synchronized List<VirtualFile> getChildren(LocalVirtualFile parent, VirtualFileFilter filter) throws ServerException {
-        if (parent.isFolder()) {
-            final List<VirtualFile> children = doGetChildren(parent, DOT_VFS_DIR_FILTER, filter);
-            Collections.sort(children);
-            return children;
-        }
-        return emptyList();
-    }
-
-
-    private List<VirtualFile> doGetChildren(LocalVirtualFile parent, FilenameFilter ioFileFilter, VirtualFileFilter vfsFilter)
-            throws ServerException {
-        if (ioFileFilter == null) {
-            ioFileFilter = IoUtil.ANY_FILTER;
-        }
-
-        final String[] names = parent.toIoFile().list(ioFileFilter);
-        if (names == null) {
+    List<VirtualFile> getChildren(LocalVirtualFile parent, VirtualFileFilter filter) throws ServerException {
+        final List<DirectoryListingCache.DirectoryEntry> entries;
+        try {
+            entries = listingCache.getChildren(parent.getPath(), parent.toIoFile().toPath());
+        } catch (IOException e) {
             throw new ServerException(String.format("Unable get children of '%s'", parent.getPath()));
         }
+        if (entries == null) {
+            return emptyList();
+        }
 
-        if (vfsFilter == null) {
-            vfsFilter = VirtualFileFilter.ACCEPT_ALL;
+        if (filter == null) {
+            filter = VirtualFileFilter.ACCEPT_ALL;
         }
 
-        final List<VirtualFile> children = newArrayListWithCapacity(names.length);
-        for (String name : names) {
-            final Path childPath = parent.getPath().newPath(name);
+        // entries are already sorted in the same order as LocalVirtualFile#compareTo does
+        final List<VirtualFile> children = newArrayListWithCapacity(entries.size());
+        for (DirectoryListingCache.DirectoryEntry entry : entries) {
+            final Path childPath = parent.getPath().newPath(entry.name);
             final LocalVirtualFile child = new LocalVirtualFile(new File(ioRoot, toIoPath(childPath)), childPath, this);
-            if (vfsFilter.accept(child)) {
+            if (filter.accept(child)) {
                 children.add(child);
             }
         }
-
         return children;
     }
 
@@ -908,7 +911,19 @@ public class LocalVirtualFileSystem implements VirtualFileSystem {
         if (virtualFile.isFile()) {
             return emptyList();
         }
-        return new HashSumsCounter(virtualFile, Hashing.md5()).countHashSums();
+        final List<Pair<String, String>> md5Sums =
+                new CachingHashSumsCounter(virtualFile, Hashing.md5(), hashSumsPool, md5SumsCache).countHashSums();
+        md5SumsCache.saveIfDue();
+        return md5Sums;
+    }
+
+    /**
+     * Drops cached data that might be affected by change of item with specified path, e.g. hash sums of files and listings of
+     * directories. If item is folder cached data of all its descendants are dropped.
+     */
+    void invalidateCaches(Path path) {
+        md5SumsCache.invalidate(path.toString());
+        listingCache.invalidate(path);
     }
 
 
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file.event;
+
+import com.google.common.annotations.Beta;
+
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.project.shared.dto.event.ResourceChangesEventDto;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
+
+import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Optional.empty;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
+import static org.eclipse.che.api.project.shared.dto.event.ResourceChangesEventDto.RESOURCE_CHANGES_CHANNEL;
+import static org.eclipse.che.api.vfs.impl.file.event.HiEvent.Category.UNDEFINED;
+import static org.eclipse.che.dto.server.DtoFactory.newDto;
+
+/**
+ * Collects all changes of files and folders which occurred during previous event segment into one change set,
+ * so client is able to update already loaded resources incrementally instead of reloading of the whole tree.
+ * <p>
+ *     Each item is reported at most once: item that was created and then modified is reported as created,
+ *     modifications of folders are not reported at all, and changes inside of created or deleted folder
+ *     are covered by the change of the folder itself.
+ * </p>
+ * <p>
+ *     Change sets are numbered sequentially, a client that sees a gap in numbering has lost some
+ *     changes and should synchronize its resources completely.
+ * </p>
+ *
+ * @since 4.6.0
+ */
+@Beta
+public class ResourceChangesHiEventDetector implements HiEventDetector<ResourceChangesEventDto> {
+    private static final int PRIORITY = 100;
+
+    private final HiEventBroadcaster broadcaster;
+    private final AtomicLong         sequenceNumber;
+
+    @Inject
+    public ResourceChangesHiEventDetector(HiEventClientBroadcaster hiEventClientBroadcaster) {
+        this.broadcaster = hiEventClientBroadcaster;
+        this.sequenceNumber = new AtomicLong();
+    }
+
+    @Override
+    public Optional<HiEvent<ResourceChangesEventDto>> detect(EventTreeNode eventTreeNode) {
+        if (!eventTreeNode.isRoot() || eventTreeNode.getChildren().isEmpty()) {
+            return empty();
+        }
+
+        final List<VfsWatchEvent> changes = new ArrayList<>();
+        collectChanges(eventTreeNode, changes);
+
+        if (changes.isEmpty()) {
+            return empty();
+        }
+
+        final ResourceChangesEventDto dto = newDto(ResourceChangesEventDto.class).withSequenceNumber(sequenceNumber.incrementAndGet())
+                                                                                 .withChanges(changes);
+
+        return Optional.of(HiEvent.newInstance(ResourceChangesEventDto.class)
+                                  .withCategory(UNDEFINED.withPriority(PRIORITY))
+                                  .withBroadcaster(broadcaster)
+                                  .withChannel(RESOURCE_CHANGES_CHANNEL)
+                                  .withDto(dto));
+    }
+
+    private void collectChanges(EventTreeNode node, List<VfsWatchEvent> changes) {
+        for (EventTreeNode child : node.getChildren()) {
+            if (child.modificationOccurred()) {
+                final FileWatcherEventType type = getChangeType(child);
+
+                if (type != MODIFIED) {
+                    changes.add(newChange(child, type));
+                    continue;
+                }
+
+                if (child.isFile()) {
+                    changes.add(newChange(child, type));
+                }
+            }
+
+            collectChanges(child, changes);
+        }
+    }
+
+    private FileWatcherEventType getChangeType(EventTreeNode node) {
+        final FileWatcherEventType lastEventType = node.getLastEventType();
+
+        if (lastEventType != DELETED && node.getEvents().containsValue(CREATED)) {
+            return CREATED;
+        }
+
+        return lastEventType;
+    }
+
+    private VfsWatchEvent newChange(EventTreeNode node, FileWatcherEventType type) {
+        return newDto(VfsWatchEvent.class).withPath(node.getPath())
+                                          .withType(type)
+                                          .withFile(node.isFile());
+    }
+}
@@ -12,11 +12,13 @@ package org.eclipse.che.api.vfs.search;
 
 /** Container for parameters of query that executed by Searcher.*/
 public class QueryExpression {
-    private String name;
-    private String path;
-    private String text;
-    private int    skipCount;
-    private int    maxItems;
+    private String  name;
+    private String  path;
+    private String  text;
+    private int     skipCount;
+    private int     maxItems;
+    private String  searchAfter;
+    private boolean includeOccurrences;
 
     /** Optional file path parameter. Only file with the specified path or children are included in result. */
     public String getPath() {
@@ -68,6 +70,31 @@ public class QueryExpression {
         return this;
     }
 
+    /**
+     * Opaque position of the last item of previous page. It is set by Searcher in query expression for the next page of result and
+     * lets to continue searching without walking through the skipped items. Position is best-effort: searcher falls back to
+     * {@link #getSkipCount()} if the position is not valid anymore, e.g. index was changed long enough ago after retrieving the previous
+     * page.
+     */
+    public String getSearchAfter() {
+        return searchAfter;
+    }
+
+    public QueryExpression setSearchAfter(String searchAfter) {
+        this.searchAfter = searchAfter;
+        return this;
+    }
+
+    /** If {@code true} search result includes line numbers and fragments of text that matches the text of query. */
+    public boolean isIncludeOccurrences() {
+        return includeOccurrences;
+    }
+
+    public QueryExpression setIncludeOccurrences(boolean includeOccurrences) {
+        this.includeOccurrences = includeOccurrences;
+        return this;
+    }
+
     @Override
     public String toString() {
         return "QueryExpression{" +
@@ -76,6 +103,8 @@ public class QueryExpression {
                ", path='" + path + '\'' +
                ", skipCount=" + skipCount +
                ", maxItems=" + maxItems +
+               ", searchAfter='" + searchAfter + '\'' +
+               ", includeOccurrences=" + includeOccurrences +
                '}';
     }
 }
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.search;
+
+/**
+ * Single match of the text query inside of file.
+ */
+public class SearchOccurrence {
+    private final int    lineNumber;
+    private final String fragment;
+    private final int    highlightStart;
+    private final int    highlightEnd;
+    private final int    startOffset;
+    private final int    endOffset;
+
+    public SearchOccurrence(int lineNumber, String fragment, int highlightStart, int highlightEnd, int startOffset, int endOffset) {
+        this.lineNumber = lineNumber;
+        this.fragment = fragment;
+        this.highlightStart = highlightStart;
+        this.highlightEnd = highlightEnd;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+    }
+
+    /** Number of line that contains the match, the first line of file has number 1. */
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    /** Part of the line around the match. */
+    public String getFragment() {
+        return fragment;
+    }
+
+    /** Start of the matched text in {@link #getFragment() fragment}. */
+    public int getHighlightStart() {
+        return highlightStart;
+    }
+
+    /** End (exclusive) of the matched text in {@link #getFragment() fragment}. */
+    public int getHighlightEnd() {
+        return highlightEnd;
+    }
+
+    /** Start offset of the matched text in file content. */
+    public int getStartOffset() {
+        return startOffset;
+    }
+
+    /** End offset (exclusive) of the matched text in file content. */
+    public int getEndOffset() {
+        return endOffset;
+    }
+
+    /** Matched text. */
+    public String getPhrase() {
+        return fragment.substring(highlightStart, highlightEnd);
+    }
+
+    @Override
+    public String toString() {
+        return "SearchOccurrence{" +
+               "lineNumber=" + lineNumber +
+               ", fragment='" + fragment + '\'' +
+               ", highlightStart=" + highlightStart +
+               ", highlightEnd=" + highlightEnd +
+               ", startOffset=" + startOffset +
+               ", endOffset=" + endOffset +
+               '}';
+    }
+}
@@ -17,33 +17,47 @@ import org.apache.lucene.analysis.core.LowerCaseFilter;
 import org.apache.lucene.analysis.core.WhitespaceTokenizer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MultiTermQuery;
+import org.apache.lucene.search.PhraseQuery;
 import org.apache.lucene.search.PrefixQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherLifetimeManager;
 import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.WildcardQuery;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.IOUtils;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.vfs.Path;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.VirtualFileFilter;
 import org.eclipse.che.api.vfs.VirtualFileFilters;
 import org.eclipse.che.api.vfs.VirtualFileSystem;
 import org.eclipse.che.api.vfs.search.MediaTypeFilter;
 import org.eclipse.che.api.vfs.search.QueryExpression;
+import org.eclipse.che.api.vfs.search.SearchOccurrence;
 import org.eclipse.che.api.vfs.search.SearchResult;
 import org.eclipse.che.api.vfs.search.SearchResultEntry;
 import org.eclipse.che.api.vfs.search.Searcher;
@@ -54,12 +68,17 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparingInt;
 
 /**
  * Lucene based searcher.
@@ -71,11 +90,31 @@ public abstract class LuceneSearcher implements Searcher {
 
     private static final int RESULT_LIMIT = 1000;
 
+    /** Max number of text occurrences that are reported for single file. */
+    private static final int OCCURRENCES_LIMIT = 100;
+    /** Max number of characters around matched text that are included in fragment of line. */
+    private static final int FRAGMENT_CONTEXT  = 80;
+    /** Searchers that are referenced by cursors of result pages are kept for this time after index is changed. */
+    private static final double CURSOR_MAX_AGE_SEC = 600;
+
+    /** Content of files isn't stored in index but term vectors with offsets let find matched text without re-parsing of file. */
+    private static final FieldType TEXT_FIELD_TYPE = new FieldType(TextField.TYPE_NOT_STORED);
+
+    static {
+        TEXT_FIELD_TYPE.setStoreTermVectors(true);
+        TEXT_FIELD_TYPE.setStoreTermVectorPositions(true);
+        TEXT_FIELD_TYPE.setStoreTermVectorOffsets(true);
+        TEXT_FIELD_TYPE.freeze();
+    }
+
     private final List<VirtualFileFilter>                      indexFilters;
     private final AbstractLuceneSearcherProvider.CloseCallback closeCallback;
 
-    private IndexWriter     luceneIndexWriter;
-    private SearcherManager searcherManager;
+    private IndexWriter             luceneIndexWriter;
+    private SearcherManager         searcherManager;
+    private SearcherLifetimeManager searcherLifetimeManager;
+
+    private volatile VirtualFileSystem virtualFileSystem;
 
     private boolean closed = true;
 
@@ -130,11 +169,13 @@ public abstract class LuceneSearcher implements Searcher {
      *         if any virtual filesystem error occurs
      */
     public void init(VirtualFileSystem virtualFileSystem) throws ServerException {
+        this.virtualFileSystem = virtualFileSystem;
         doInit();
         addTree(virtualFileSystem.getRoot());
     }
 
     public void initAsynchronously(ExecutorService executor, VirtualFileSystem virtualFileSystem) throws ServerException {
+        this.virtualFileSystem = virtualFileSystem;
         doInit();
         if (!executor.isShutdown()) {
             executor.execute(() -> {
@@ -151,6 +192,7 @@ public abstract class LuceneSearcher implements Searcher {
         try {
             luceneIndexWriter = new IndexWriter(makeDirectory(), new IndexWriterConfig(makeAnalyzer()));
             searcherManager = new SearcherManager(luceneIndexWriter, true, new SearcherFactory());
+            searcherLifetimeManager = new SearcherLifetimeManager();
             closed = false;
         } catch (IOException e) {
             throw new ServerException(e);
@@ -160,7 +202,7 @@ public abstract class LuceneSearcher implements Searcher {
     public final synchronized void close() {
         if (!closed) {
             try {
-                IOUtils.close(getIndexWriter(), getIndexWriter().getDirectory(), searcherManager);
+                IOUtils.close(getIndexWriter(), getIndexWriter().getDirectory(), searcherLifetimeManager, searcherManager);
                 afterClose();
             } catch (IOException e) {
                 LOG.error(e.getMessage(), e);
@@ -189,14 +231,26 @@ public abstract class LuceneSearcher implements Searcher {
         IndexSearcher luceneSearcher = null;
         try {
             final long startTime = System.currentTimeMillis();
-            searcherManager.maybeRefresh();
-            luceneSearcher = searcherManager.acquire();
+            searcherLifetimeManager.prune(new SearcherLifetimeManager.PruneByAge(CURSOR_MAX_AGE_SEC));
+            // next page is searched with the same searcher as previous one while the searcher is kept by lifetime manager
+            ScoreDoc after = null;
+            final Cursor cursor = decodeSearchAfter(query.getSearchAfter());
+            if (cursor != null) {
+                luceneSearcher = searcherLifetimeManager.acquire(cursor.searcherVersion);
+                if (luceneSearcher != null) {
+                    after = cursor.after;
+                }
+            }
+            if (luceneSearcher == null) {
+                searcherManager.maybeRefresh();
+                luceneSearcher = searcherManager.acquire();
+            }
 
-            Query luceneQuery = createLuceneQuery(query);
+            final Query textQuery = createTextQuery(query.getText());
+            final Query luceneQuery = createLuceneQuery(query, textQuery);
 
-            ScoreDoc after = null;
             final int numSkipDocs = Math.max(0, query.getSkipCount());
-            if (numSkipDocs > 0) {
+            if (after == null && numSkipDocs > 0) {
                 after = skipScoreDocs(luceneSearcher, luceneQuery, numSkipDocs);
             }
 
@@ -208,15 +262,23 @@ public abstract class LuceneSearcher implements Searcher {
             for (int i = 0; i < topDocs.scoreDocs.length; i++) {
                 ScoreDoc scoreDoc = topDocs.scoreDocs[i];
                 String filePath = luceneSearcher.doc(scoreDoc.doc).getField("path").stringValue();
-                results.add(new SearchResultEntry(filePath));
+                if (query.isIncludeOccurrences() && textQuery != null) {
+                    results.add(new SearchResultEntry(filePath,
+                                                      findOccurrences(luceneSearcher.getIndexReader(), scoreDoc.doc, textQuery, filePath)));
+                } else {
+                    results.add(new SearchResultEntry(filePath));
+                }
             }
 
             final long elapsedTimeMillis = System.currentTimeMillis() - startTime;
 
-            boolean hasMoreToRetrieve = numSkipDocs + topDocs.scoreDocs.length + 1 < totalHitsNum;
+            boolean hasMoreToRetrieve = numSkipDocs + topDocs.scoreDocs.length < totalHitsNum;
             QueryExpression nextPageQueryExpression = null;
-            if (hasMoreToRetrieve) {
-                nextPageQueryExpression = createNextPageQuery(query, numSkipDocs + topDocs.scoreDocs.length);
+            if (hasMoreToRetrieve && topDocs.scoreDocs.length > 0) {
+                ScoreDoc last = topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+                nextPageQueryExpression = createNextPageQuery(query,
+                                                              numSkipDocs + topDocs.scoreDocs.length,
+                                                              encodeSearchAfter(last, searcherLifetimeManager.record(luceneSearcher)));
             }
 
             return SearchResult.aSearchResult()
@@ -229,6 +291,7 @@ public abstract class LuceneSearcher implements Searcher {
             throw new ServerException(e.getMessage(), e);
         } finally {
             try {
+                // searcher acquired from any of managers is released by decreasing reference count of its reader
                 searcherManager.release(luceneSearcher);
             } catch (IOException e) {
                 LOG.error(e.getMessage());
@@ -236,24 +299,30 @@ public abstract class LuceneSearcher implements Searcher {
         }
     }
 
-    private Query createLuceneQuery(QueryExpression query) throws ServerException {
+    private Query createTextQuery(String text) throws ServerException {
+        if (text == null) {
+            return null;
+        }
+        QueryParser qParser = new QueryParser("text", makeAnalyzer());
+        try {
+            return qParser.parse(text);
+        } catch (ParseException e) {
+            throw new ServerException(e.getMessage());
+        }
+    }
+
+    private Query createLuceneQuery(QueryExpression query, Query textQuery) {
         final BooleanQuery luceneQuery = new BooleanQuery();
         final String name = query.getName();
         final String path = query.getPath();
-        final String text = query.getText();
         if (path != null) {
             luceneQuery.add(new PrefixQuery(new Term("path", path)), BooleanClause.Occur.MUST);
         }
         if (name != null) {
             luceneQuery.add(new WildcardQuery(new Term("name", name)), BooleanClause.Occur.MUST);
         }
-        if (text != null) {
-            QueryParser qParser = new QueryParser("text", makeAnalyzer());
-            try {
-                luceneQuery.add(qParser.parse(text), BooleanClause.Occur.MUST);
-            } catch (ParseException e) {
-                throw new ServerException(e.getMessage());
-            }
+        if (textQuery != null) {
+            luceneQuery.add(textQuery, BooleanClause.Occur.MUST);
         }
         return luceneQuery;
     }
@@ -279,12 +348,164 @@ public abstract class LuceneSearcher implements Searcher {
         return scoreDoc;
     }
 
-    private QueryExpression createNextPageQuery(QueryExpression originalQuery, int newSkipCount) {
+    private QueryExpression createNextPageQuery(QueryExpression originalQuery, int newSkipCount, String searchAfter) {
         return new QueryExpression().setText(originalQuery.getText())
                                     .setName(originalQuery.getName())
                                     .setPath(originalQuery.getPath())
                                     .setSkipCount(newSkipCount)
-                                    .setMaxItems(originalQuery.getMaxItems());
+                                    .setSearchAfter(searchAfter)
+                                    .setMaxItems(originalQuery.getMaxItems())
+                                    .setIncludeOccurrences(originalQuery.isIncludeOccurrences());
+    }
+
+    /**
+     * Lucene document numbers are stable only within the same version of index, so cursor remembers version of searcher which is
+     * kept by {@link SearcherLifetimeManager}. Cursor is best-effort: once the searcher is pruned, {@link #CURSOR_MAX_AGE_SEC} after
+     * index was changed, the next page is found by skip count in the current version of index.
+     */
+    private String encodeSearchAfter(ScoreDoc scoreDoc, long searcherVersion) {
+        return Long.toHexString(searcherVersion) + '.' + Integer.toHexString(scoreDoc.doc) + '.'
+               + Integer.toHexString(Float.floatToIntBits(scoreDoc.score));
+    }
+
+    private Cursor decodeSearchAfter(String searchAfter) {
+        if (searchAfter == null) {
+            return null;
+        }
+        final String[] parts = searchAfter.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new Cursor(Long.parseUnsignedLong(parts[0], 16),
+                              new ScoreDoc(Integer.parseUnsignedInt(parts[1], 16),
+                                           Float.intBitsToFloat(Integer.parseUnsignedInt(parts[2], 16))));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private List<SearchOccurrence> findOccurrences(IndexReader indexReader, int doc, Query textQuery, String filePath)
+            throws IOException, ServerException {
+        final Terms termVector = indexReader.getTermVector(doc, "text");
+        final VirtualFileSystem vfs = virtualFileSystem;
+        if (termVector == null || vfs == null) {
+            return emptyList();
+        }
+        final Set<BytesRef> matchedTerms = new HashSet<>();
+        collectMatchedTerms(textQuery, termVector, matchedTerms);
+        if (matchedTerms.isEmpty()) {
+            return emptyList();
+        }
+
+        final List<int[]> offsets = new ArrayList<>();
+        final TermsEnum termsEnum = termVector.iterator(null);
+        PostingsEnum postings = null;
+        for (BytesRef term : matchedTerms) {
+            if (termsEnum.seekExact(term)) {
+                postings = termsEnum.postings(null, postings, PostingsEnum.OFFSETS);
+                if (postings.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+                    for (int i = 0, freq = postings.freq(); i < freq; i++) {
+                        postings.nextPosition();
+                        if (postings.startOffset() >= 0) {
+                            offsets.add(new int[]{postings.startOffset(), postings.endOffset()});
+                        }
+                    }
+                }
+            }
+        }
+        if (offsets.isEmpty()) {
+            return emptyList();
+        }
+        offsets.sort(comparingInt(offset -> offset[0]));
+
+        if (offsets.size() > OCCURRENCES_LIMIT) {
+            offsets.subList(OCCURRENCES_LIMIT, offsets.size()).clear();
+        }
+        return readOccurrences(vfs, filePath, offsets);
+    }
+
+    /**
+     * Reads lines of file that contain occurrences with specified character offsets. File is read only up to the line of the last
+     * occurrence and only one line is kept in memory at once.
+     */
+    private List<SearchOccurrence> readOccurrences(VirtualFileSystem vfs, String filePath, List<int[]> offsets) throws ServerException {
+        final VirtualFile file = vfs.getRoot().getChild(Path.of(filePath));
+        if (file == null || !file.isFile()) {
+            return emptyList();
+        }
+        final List<SearchOccurrence> occurrences = new ArrayList<>();
+        // read content in the same way as for indexing to get the same character offsets
+        try (Reader reader = new BufferedReader(new InputStreamReader(file.getContent()))) {
+            final StringBuilder line = new StringBuilder();
+            int lineNumber = 1;
+            int lineStart = 0;
+            int next = 0;
+            boolean eof = false;
+            while (next < offsets.size() && !eof) {
+                line.setLength(0);
+                int c;
+                while ((c = reader.read()) != -1 && c != '\n') {
+                    line.append((char)c);
+                }
+                eof = c == -1;
+                // offset of line separator belongs to the line as well
+                final int nextLineStart = lineStart + line.length() + 1;
+                int lineEnd = lineStart + line.length();
+                if (lineEnd > lineStart && line.charAt(line.length() - 1) == '\r') {
+                    lineEnd--;
+                }
+                // file might be changed after indexing, so occurrences beyond the end of file are ignored
+                for (; next < offsets.size() && offsets.get(next)[0] < (eof ? lineStart + line.length() : nextLineStart); next++) {
+                    final int start = offsets.get(next)[0];
+                    final int end = Math.max(start, Math.min(offsets.get(next)[1], lineEnd));
+                    final int fragmentStart = Math.max(lineStart, start - FRAGMENT_CONTEXT);
+                    final int fragmentEnd = Math.max(end, Math.min(lineEnd, end + FRAGMENT_CONTEXT));
+                    occurrences.add(new SearchOccurrence(lineNumber,
+                                                         line.substring(fragmentStart - lineStart, fragmentEnd - lineStart),
+                                                         start - fragmentStart,
+                                                         end - fragmentStart,
+                                                         start,
+                                                         end));
+                }
+                lineNumber++;
+                lineStart = nextLineStart;
+            }
+        } catch (IOException e) {
+            throw new ServerException(e.getMessage(), e);
+        } catch (ForbiddenException e) {
+            throw new ServerException(e.getServiceError());
+        }
+        return occurrences;
+    }
+
+    /** Collects terms of the text query that are present in term vector of single document. */
+    private void collectMatchedTerms(Query query, Terms termVector, Set<BytesRef> matchedTerms) throws IOException {
+        if (query instanceof BooleanQuery) {
+            for (BooleanClause clause : ((BooleanQuery)query).clauses()) {
+                if (!clause.isProhibited()) {
+                    collectMatchedTerms(clause.getQuery(), termVector, matchedTerms);
+                }
+            }
+        } else if (query instanceof TermQuery) {
+            addMatchedTerm(((TermQuery)query).getTerm(), matchedTerms);
+        } else if (query instanceof PhraseQuery) {
+            for (Term term : ((PhraseQuery)query).getTerms()) {
+                addMatchedTerm(term, matchedTerms);
+            }
+        } else if (query instanceof MultiTermQuery && "text".equals(((MultiTermQuery)query).getField())) {
+            final TermsEnum termsEnum = ((MultiTermQuery)query).getTermsEnum(termVector);
+            BytesRef term;
+            while ((term = termsEnum.next()) != null) {
+                matchedTerms.add(BytesRef.deepCopyOf(term));
+            }
+        }
+    }
+
+    private void addMatchedTerm(Term term, Set<BytesRef> matchedTerms) {
+        if ("text".equals(term.field())) {
+            matchedTerms.add(term.bytes());
+        }
     }
 
     @Override
@@ -383,7 +604,7 @@ public abstract class LuceneSearcher implements Searcher {
         doc.add(new StringField("path", virtualFile.getPath().toString(), Field.Store.YES));
         doc.add(new StringField("name", virtualFile.getName(), Field.Store.YES));
         if (reader != null) {
-            doc.add(new TextField("text", reader));
+            doc.add(new Field("text", reader, TEXT_FIELD_TYPE));
         }
         return doc;
     }
@@ -396,4 +617,14 @@ public abstract class LuceneSearcher implements Searcher {
         }
         return true;
     }
+
+    private static class Cursor {
+        final long     searcherVersion;
+        final ScoreDoc after;
+
+        Cursor(long searcherVersion, ScoreDoc after) {
+            this.searcherVersion = searcherVersion;
+            this.after = after;
+        }
+    }
 }
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.che.api.project.server;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.ForbiddenException;
 import org.eclipse.che.api.core.NotFoundException;
@@ -39,6 +42,7 @@ import org.eclipse.che.api.project.shared.dto.ItemReference;
 import org.eclipse.che.api.project.shared.dto.MoveOptions;
 import org.eclipse.che.api.project.shared.dto.SourceEstimation;
 import org.eclipse.che.api.project.shared.dto.TreeElement;
+import org.eclipse.che.api.project.shared.dto.TreeItem;
 import org.eclipse.che.api.user.server.spi.UserDao;
 import org.eclipse.che.api.vfs.VirtualFile;
 import org.eclipse.che.api.vfs.impl.file.DefaultFileWatcherNotificationHandler;
@@ -119,6 +123,7 @@ import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertEqualsNoOrder;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
 
 /**
  * @author andrew00x
@@ -1572,6 +1577,88 @@ public class ProjectServiceTest {
         Assert.assertTrue(names.contains("x/y"));
     }
 
+    @Test
+    public void testStreamTree() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        FolderEntry a = myProject.getBaseFolder().createFolder("a");
+        a.createFolder("b/c");
+        a.createFolder("x").createFile("test.txt", "test".getBytes());
+        a.createFile("test.txt", "test".getBytes());
+        a.createFile("test.xml", "<test/>".getBytes());
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/stream/tree/my_project/a?depth=2&includeFiles=true" +
+                                                      "&name=*.txt",
+                                                      "http://localhost:8080/api", null, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        List<TreeItem> items = readTreeItems(writer);
+        Map<String, Integer> depths = new LinkedHashMap<>();
+        for (TreeItem item : items) {
+            depths.put(item.getNode().getPath(), item.getDepth());
+            assertNull(item.getContinuation());
+        }
+        assertEquals(items.get(0).getNode().getPath(), "/my_project/a");
+        validateFolderLinks(items.get(0).getNode());
+        assertEquals(depths, ImmutableMap.of("/my_project/a", 0,
+                                             "/my_project/a/b", 1,
+                                             "/my_project/a/b/c", 2,
+                                             "/my_project/a/x", 1,
+                                             "/my_project/a/x/test.txt", 2,
+                                             "/my_project/a/test.txt", 1));
+    }
+
+    @Test
+    public void testStreamTreeWithContinuationAndWithoutLinks() throws Exception {
+        RegisteredProject myProject = pm.getProject("my_project");
+        FolderEntry a = myProject.getBaseFolder().createFolder("a");
+        for (int i = 0; i < 5; i++) {
+            a.createFile("file" + i, "test".getBytes());
+        }
+        ByteArrayContainerResponseWriter writer = new ByteArrayContainerResponseWriter();
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/stream/tree/my_project/a?includeFiles=true" +
+                                                      "&maxItems=3&links=false",
+                                                      "http://localhost:8080/api", null, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        List<TreeItem> items = readTreeItems(writer);
+        assertEquals(items.size(), 4);
+        String continuation = items.get(0).getContinuation();
+        assertNotNull(continuation);
+        assertTrue(items.stream().allMatch(item -> item.getNode().getLinks().isEmpty()));
+
+        writer = new ByteArrayContainerResponseWriter();
+        response = launcher.service(GET,
+                                    "http://localhost:8080/api/project/stream/tree/my_project/a?includeFiles=true" +
+                                    "&maxItems=3&links=false&continuation=" + continuation,
+                                    "http://localhost:8080/api", null, null, writer, null);
+        assertEquals(response.getStatus(), 200, "Error: " + response.getEntity());
+        List<TreeItem> rest = readTreeItems(writer);
+        assertEquals(rest.size(), 3);
+        assertNull(rest.get(0).getContinuation());
+
+        Set<String> names = new HashSet<>();
+        items.subList(1, items.size()).forEach(item -> names.add(item.getNode().getName()));
+        rest.subList(1, rest.size()).forEach(item -> names.add(item.getNode().getName()));
+        assertEquals(names, ImmutableSet.of("file0", "file1", "file2", "file3", "file4"));
+    }
+
+    @Test
+    public void testStreamTreeWithInvalidContinuation() throws Exception {
+        pm.getProject("my_project").getBaseFolder().createFolder("a");
+        ContainerResponse response = launcher.service(GET,
+                                                      "http://localhost:8080/api/project/stream/tree/my_project/a?continuation=abc",
+                                                      "http://localhost:8080/api", null, null, null);
+        assertEquals(response.getStatus(), 400, "Error: " + response.getEntity());
+    }
+
+    private List<TreeItem> readTreeItems(ByteArrayContainerResponseWriter writer) {
+        List<TreeItem> items = new ArrayList<>();
+        for (String line : new String(writer.getBody()).split("\n")) {
+            items.add(DtoFactory.getInstance().createDtoFromJson(line, TreeItem.class));
+        }
+        return items;
+    }
+
     @Test
     public void testGetTreeWithDepthAndIncludeFiles() throws Exception {
         RegisteredProject myProject = pm.getProject("my_project");
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file;
+
+import org.eclipse.che.api.vfs.Path;
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.commons.lang.NameGenerator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DirectoryListingCacheTest {
+    private File                  testDirectory;
+    private DirectoryListingCache listingCache;
+
+    @Before
+    public void setUp() throws Exception {
+        File targetDir = new File(Thread.currentThread().getContextClassLoader().getResource(".").getPath()).getParentFile();
+        testDirectory = new File(targetDir, NameGenerator.generate("listing-", 4));
+        assertTrue(testDirectory.mkdir());
+        listingCache = new DirectoryListingCache(16, name -> !".vfs".equals(name));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        IoUtil.deleteRecursive(testDirectory);
+    }
+
+    @Test
+    public void listsChildrenFoldersFirstAndSortedByName() throws Exception {
+        assertTrue(new File(testDirectory, "b").createNewFile());
+        assertTrue(new File(testDirectory, "a").createNewFile());
+        assertTrue(new File(testDirectory, "d").mkdir());
+        assertTrue(new File(testDirectory, "c").mkdir());
+        assertTrue(new File(testDirectory, ".vfs").mkdir());
+
+        List<DirectoryListingCache.DirectoryEntry> children = listingCache.getChildren(Path.ROOT, testDirectory.toPath());
+
+        assertEquals(newArrayList("c", "d", "a", "b"), children.stream().map(entry -> entry.name).collect(toList()));
+        assertTrue(children.get(0).attributes.isDirectory());
+        assertTrue(children.get(2).attributes.isRegularFile());
+    }
+
+    @Test
+    public void returnsNullWhenDirectoryDoesNotExist() throws Exception {
+        assertNull(listingCache.getChildren(Path.of("/x"), new File(testDirectory, "x").toPath()));
+    }
+
+    @Test
+    public void returnsNullWhenItemIsNotDirectory() throws Exception {
+        File file = new File(testDirectory, "a");
+        assertTrue(file.createNewFile());
+
+        assertNull(listingCache.getChildren(Path.of("/a"), file.toPath()));
+    }
+
+    @Test
+    public void reusesListingOfUnmodifiedDirectory() throws Exception {
+        assertTrue(new File(testDirectory, "a").createNewFile());
+        setLastModified(testDirectory, System.currentTimeMillis() - 60000);
+
+        List<DirectoryListingCache.DirectoryEntry> first = listingCache.getChildren(Path.ROOT, testDirectory.toPath());
+        List<DirectoryListingCache.DirectoryEntry> second = listingCache.getChildren(Path.ROOT, testDirectory.toPath());
+
+        assertSame(first, second);
+    }
+
+    @Test
+    public void doesNotCacheListingOfRecentlyModifiedDirectory() throws Exception {
+        assertTrue(new File(testDirectory, "a").createNewFile());
+
+        List<DirectoryListingCache.DirectoryEntry> first = listingCache.getChildren(Path.ROOT, testDirectory.toPath());
+        List<DirectoryListingCache.DirectoryEntry> second = listingCache.getChildren(Path.ROOT, testDirectory.toPath());
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void rereadsListingWhenDirectoryIsModified() throws Exception {
+        assertTrue(new File(testDirectory, "a").createNewFile());
+        setLastModified(testDirectory, System.currentTimeMillis() - 60000);
+        assertEquals(1, listingCache.getChildren(Path.ROOT, testDirectory.toPath()).size());
+
+        assertTrue(new File(testDirectory, "b").createNewFile());
+
+        assertEquals(2, listingCache.getChildren(Path.ROOT, testDirectory.toPath()).size());
+    }
+
+    @Test
+    public void dropsListingsOfItemParentAndDescendants() throws Exception {
+        File folder = new File(testDirectory, "a");
+        File subFolder = new File(folder, "b");
+        assertTrue(subFolder.mkdirs());
+        long lastModified = System.currentTimeMillis() - 60000;
+        setLastModified(testDirectory, lastModified);
+        setLastModified(folder, lastModified);
+        setLastModified(subFolder, lastModified);
+
+        List<DirectoryListingCache.DirectoryEntry> root = listingCache.getChildren(Path.ROOT, testDirectory.toPath());
+        List<DirectoryListingCache.DirectoryEntry> a = listingCache.getChildren(Path.of("/a"), folder.toPath());
+        List<DirectoryListingCache.DirectoryEntry> b = listingCache.getChildren(Path.of("/a/b"), subFolder.toPath());
+
+        listingCache.invalidate(Path.of("/a"));
+
+        assertNotSame(root, listingCache.getChildren(Path.ROOT, testDirectory.toPath()));
+        assertNotSame(a, listingCache.getChildren(Path.of("/a"), folder.toPath()));
+        assertNotSame(b, listingCache.getChildren(Path.of("/a/b"), subFolder.toPath()));
+    }
+
+    private void setLastModified(File file, long lastModified) throws Exception {
+        Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(lastModified));
+    }
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.che.commons.lang.NameGenerator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FileHashSumsCacheTest {
+    private File              testDirectory;
+    private File              storage;
+    private FileHashSumsCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        File targetDir = new File(Thread.currentThread().getContextClassLoader().getResource(".").getPath()).getParentFile();
+        testDirectory = new File(targetDir, NameGenerator.generate("hashsums-", 4));
+        storage = new File(testDirectory, "md5");
+        cache = new FileHashSumsCache(storage);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        IoUtil.deleteRecursive(testDirectory);
+    }
+
+    @Test
+    public void returnsHashSumWhenLengthAndModificationTimeAreNotChanged() throws Exception {
+        cache.put("/a/file", 10, 1000, "hash");
+
+        assertEquals("hash", cache.get("/a/file", 10, 1000));
+    }
+
+    @Test
+    public void doesNotReturnHashSumWhenLengthOrModificationTimeIsChanged() throws Exception {
+        cache.put("/a/file", 10, 1000, "hash");
+
+        assertNull(cache.get("/a/file", 11, 1000));
+        assertNull(cache.get("/a/file", 10, 1001));
+    }
+
+    @Test
+    public void invalidatesHashSumOfFile() throws Exception {
+        cache.put("/a/file", 10, 1000, "hash");
+        cache.put("/a/file2", 10, 1000, "hash");
+
+        cache.invalidate("/a/file");
+
+        assertNull(cache.get("/a/file", 10, 1000));
+        assertEquals("hash", cache.get("/a/file2", 10, 1000));
+    }
+
+    @Test
+    public void invalidatesHashSumsOfAllFilesInFolder() throws Exception {
+        cache.put("/a/b/file", 10, 1000, "hash");
+        cache.put("/a/b/c/file", 10, 1000, "hash");
+        cache.put("/a/bb/file", 10, 1000, "hash");
+
+        cache.invalidate("/a/b");
+
+        assertNull(cache.get("/a/b/file", 10, 1000));
+        assertNull(cache.get("/a/b/c/file", 10, 1000));
+        assertEquals("hash", cache.get("/a/bb/file", 10, 1000));
+    }
+
+    @Test
+    public void restoresSavedHashSums() throws Exception {
+        cache.put("/a/file", 10, 1000, "hash1");
+        cache.put("/a/b/file", 20, 2000, "hash2");
+        cache.save();
+
+        FileHashSumsCache restored = new FileHashSumsCache(storage);
+
+        assertEquals("hash1", restored.get("/a/file", 10, 1000));
+        assertEquals("hash2", restored.get("/a/b/file", 20, 2000));
+    }
+
+    @Test
+    public void doesNotWriteStorageFileWhenCacheIsNotModified() throws Exception {
+        cache.get("/a/file", 10, 1000);
+        cache.save();
+
+        assertFalse(storage.exists());
+
+        cache.put("/a/file", 10, 1000, "hash");
+        cache.save();
+
+        assertTrue(storage.exists());
+    }
+
+    @Test
+    public void doesNotWriteStorageFileMoreOftenThanOncePerSavePeriod() throws Exception {
+        FileHashSumsCache periodic = new FileHashSumsCache(storage, 60000);
+        periodic.put("/a/file", 10, 1000, "hash1");
+        periodic.saveIfDue();
+        periodic.put("/a/b/file", 20, 2000, "hash2");
+        periodic.saveIfDue();
+
+        FileHashSumsCache restored = new FileHashSumsCache(storage);
+
+        assertEquals("hash1", restored.get("/a/file", 10, 1000));
+        assertNull(restored.get("/a/b/file", 20, 2000));
+    }
+
+    @Test
+    public void ignoresCorruptedStorageFile() throws Exception {
+        assertTrue(testDirectory.mkdirs());
+        Files.write(storage.toPath(), new byte[]{0, 0, 0, 1, 1, 0});
+
+        assertNull(new FileHashSumsCache(storage).get("/a/file", 10, 1000));
+    }
+}
@@ -241,6 +241,95 @@ public class FileTreeWatcherTest {
         assertEquals(newHashSet(created), newHashSet(createdEvents.getAllValues()));
     }
 
+    @Test
+    public void watchesDirectoriesNestedInNewlyCreatedDirectory() throws Exception {
+        FileWatcherNotificationHandler notificationHandler = aNotificationHandler();
+        fileWatcher = new FileTreeWatcher(testDirectory, newHashSet(), notificationHandler);
+        fileWatcher.startup();
+
+        Thread.sleep(500);
+
+        String directory = fileWatcherTestTree.createDirectory("");
+        String nestedDirectory = fileWatcherTestTree.createDirectory(directory);
+
+        Thread.sleep(5000);
+
+        String file = fileWatcherTestTree.createFile(nestedDirectory);
+
+        Thread.sleep(5000);
+
+        verify(notificationHandler, never()).errorOccurred(eq(testDirectory), any(Throwable.class));
+        verify(notificationHandler, never()).handleFileWatcherEvent(eq(DELETED), eq(testDirectory), anyString(), anyBoolean());
+        verify(notificationHandler, never()).handleFileWatcherEvent(eq(MODIFIED), eq(testDirectory), anyString(), anyBoolean());
+
+        ArgumentCaptor<String> createdEvents = ArgumentCaptor.forClass(String.class);
+        verify(notificationHandler, times(3)).handleFileWatcherEvent(eq(CREATED), eq(testDirectory), createdEvents.capture(), anyBoolean());
+        assertEquals(newHashSet(directory, nestedDirectory, file), newHashSet(createdEvents.getAllValues()));
+    }
+
+    @Test
+    public void doesNotNotifyAboutFileThatWasCreatedAndDeletedInTheSameBatch() throws Exception {
+        FileWatcherNotificationHandler notificationHandler = aNotificationHandler();
+        fileWatcher = new FileTreeWatcher(testDirectory, newHashSet(), notificationHandler);
+        fileWatcher.startup();
+
+        Thread.sleep(500);
+
+        String file = fileWatcherTestTree.createFile("");
+        fileWatcherTestTree.delete(file);
+
+        Thread.sleep(5000);
+
+        verify(notificationHandler, never()).errorOccurred(eq(testDirectory), any(Throwable.class));
+        verify(notificationHandler, never()).handleFileWatcherEvent(any(), eq(testDirectory), anyString(), anyBoolean());
+    }
+
+    @Test
+    public void doesNotRegisterExcludedDirectoriesInWatchService() throws Exception {
+        fileWatcherTestTree.createDirectory("", "excluded");
+        fileWatcherTestTree.createDirectory("excluded", "inner");
+        fileWatcherTestTree.createDirectory("", "watched");
+
+        PathMatcher excludeMatcher = FileSystems.getDefault().getPathMatcher("glob:excluded");
+        FileWatcherNotificationHandler notificationHandler = aNotificationHandler();
+        fileWatcher = new FileTreeWatcher(testDirectory, newHashSet(excludeMatcher), notificationHandler);
+        fileWatcher.startup();
+
+        Thread.sleep(500);
+
+        String file = fileWatcherTestTree.createFile("watched");
+
+        Thread.sleep(5000);
+
+        FileTreeWatcher.Statistics statistics = fileWatcher.getStatistics();
+        assertEquals(2, statistics.getWatchedDirectories());
+        assertEquals(0, statistics.getQueuedDirectories());
+        assertEquals(1, statistics.getDeliveredEvents());
+        assertEquals(1, statistics.getDeliveredBatches());
+        verify(notificationHandler).handleFileWatcherEvent(eq(CREATED), eq(testDirectory), eq(file), eq(false));
+    }
+
+    @Test
+    public void stopsWatchingAllDirectoriesOfDeletedTree() throws Exception {
+        fileWatcherTestTree.createDirectory("", "watched");
+        fileWatcherTestTree.createDirectory("", "deleted");
+        fileWatcherTestTree.createTree("deleted", 4, 2);
+
+        FileWatcherNotificationHandler notificationHandler = aNotificationHandler();
+        fileWatcher = new FileTreeWatcher(testDirectory, newHashSet(), notificationHandler);
+        fileWatcher.startup();
+
+        Thread.sleep(500);
+
+        assertEquals(9, fileWatcher.getStatistics().getWatchedDirectories());
+        fileWatcherTestTree.delete("deleted");
+
+        Thread.sleep(5000);
+
+        verify(notificationHandler, never()).errorOccurred(eq(testDirectory), any(Throwable.class));
+        assertEquals(2, fileWatcher.getStatistics().getWatchedDirectories());
+    }
+
     @Test
     public void notifiesNotificationListenerWhenStarted() throws Exception {
         FileWatcherNotificationHandler notificationHandler = aNotificationHandler();
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file;
+
+import org.eclipse.che.api.vfs.ArchiverFactory;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.commons.lang.IoUtil;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures throughput of {@link LocalVirtualFileSystem#getChildren(LocalVirtualFile, org.eclipse.che.api.vfs.VirtualFileFilter)} with
+ * 1, 8 and 32 concurrent threads. It isn't executed as part of build, run it manually with:
+ * <pre>
+ *     java -cp ... org.eclipse.che.api.vfs.impl.file.LocalVirtualFileSystemListingBenchmark [folders] [filesPerFolder] [seconds]
+ * </pre>
+ */
+public class LocalVirtualFileSystemListingBenchmark {
+    private static final int[] THREADS = {1, 8, 32};
+
+    public static void main(String[] args) throws Exception {
+        final int folders = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        final int filesPerFolder = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        final int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        final File root = Files.createTempDirectory("vfs-listing-").toFile();
+        try {
+            final LocalVirtualFileSystem fileSystem = new LocalVirtualFileSystem(root, new ArchiverFactory(), null, null);
+            final List<VirtualFile> listedFolders = createTree(fileSystem, root, folders, filesPerFolder);
+            for (int threads : THREADS) {
+                // warm up
+                run(listedFolders, threads, 1);
+                final long operations = run(listedFolders, threads, seconds);
+                System.out.printf("threads: %2d, listings per second: %d%n", threads, operations / seconds);
+            }
+        } finally {
+            IoUtil.deleteRecursive(root);
+        }
+    }
+
+    private static List<VirtualFile> createTree(LocalVirtualFileSystem fileSystem, File root, int folders, int filesPerFolder)
+            throws Exception {
+        final List<VirtualFile> listedFolders = new ArrayList<>(folders);
+        for (int i = 0; i < folders; i++) {
+            final VirtualFile folder = fileSystem.getRoot().createFolder("folder" + i);
+            for (int j = 0; j < filesPerFolder; j++) {
+                if (j % 10 == 0) {
+                    folder.createFolder("sub" + j);
+                } else {
+                    folder.createFile("file" + j, "content");
+                }
+            }
+            listedFolders.add(folder);
+        }
+        // listings of recently modified directories are not cached
+        final FileTime lastModified = FileTime.fromMillis(System.currentTimeMillis() - 60000);
+        Files.setLastModifiedTime(root.toPath(), lastModified);
+        for (VirtualFile folder : listedFolders) {
+            Files.setLastModifiedTime(((LocalVirtualFile)folder).toIoFile().toPath(), lastModified);
+        }
+        return listedFolders;
+    }
+
+    private static long run(List<VirtualFile> folders, int threads, int seconds) throws Exception {
+        final AtomicLong operations = new AtomicLong();
+        final CountDownLatch done = new CountDownLatch(threads);
+        final long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        for (int i = 0; i < threads; i++) {
+            new Thread(() -> {
+                try {
+                    long count = 0;
+                    while (System.nanoTime() < deadline) {
+                        folders.get(ThreadLocalRandom.current().nextInt(folders.size())).getChildren();
+                        count++;
+                    }
+                    operations.addAndGet(count);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        done.await();
+        return operations.get();
+    }
+}
@@ -49,6 +49,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import static com.google.common.collect.Lists.newArrayList;
@@ -305,6 +306,38 @@ public class LocalVirtualFileTest {
         assertEquals(expected, newHashSet(folder.countMd5Sums()));
     }
 
+    @Test
+    public void countsMd5SumsOfLargeFiles() throws Exception {
+        VirtualFile root = getRoot();
+        VirtualFile folder = root.createFolder(generateFolderName());
+        byte[] content = new byte[3 * 1024 * 1024 + 17];
+        new Random().nextBytes(content);
+        VirtualFile file = folder.createFile(generateFileName(), content);
+        Set<Pair<String, String>> expected = newHashSet(Pair.of(countMd5Sum(file), file.getPath().subPath(folder.getPath()).toString()));
+
+        assertEquals(expected, newHashSet(folder.countMd5Sums()));
+    }
+
+    @Test
+    public void recountsMd5SumsOfFilesModifiedAfterPreviousCounting() throws Exception {
+        VirtualFile root = getRoot();
+        VirtualFile folder = root.createFolder(generateFolderName());
+        VirtualFile file1 = folder.createFile(generateFileName(), DEFAULT_CONTENT);
+        VirtualFile file2 = folder.createFile(generateFileName(), "xxx");
+        File ioFile1 = ((LocalVirtualFile)file1).toIoFile();
+        File ioFile2 = ((LocalVirtualFile)file2).toIoFile();
+        long lastModified = System.currentTimeMillis() - 60000;
+        assertTrue(ioFile1.setLastModified(lastModified));
+        assertTrue(ioFile2.setLastModified(lastModified));
+        folder.countMd5Sums();
+
+        file2.updateContent("yyyy");
+        Set<Pair<String, String>> expected = newHashSet(Pair.of(countMd5Sum(file1), file1.getPath().subPath(folder.getPath()).toString()),
+                                                        Pair.of(countMd5Sum(file2), file2.getPath().subPath(folder.getPath()).toString()));
+
+        assertEquals(expected, newHashSet(folder.countMd5Sums()));
+    }
+
     @Test
     public void returnsEmptyListWhenCountMd5SumsOnFile() throws Exception {
         VirtualFile root = getRoot();
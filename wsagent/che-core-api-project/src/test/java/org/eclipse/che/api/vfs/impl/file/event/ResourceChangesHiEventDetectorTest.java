@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.vfs.impl.file.event;
+
+import org.eclipse.che.api.project.shared.dto.event.ResourceChangesEventDto;
+import org.eclipse.che.api.project.shared.dto.event.VfsWatchEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.List;
+import java.util.Optional;
+
+import static java.io.File.separator;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.CREATED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.DELETED;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
+import static org.eclipse.che.api.project.shared.dto.event.ResourceChangesEventDto.RESOURCE_CHANGES_CHANNEL;
+import static org.eclipse.che.api.vfs.impl.file.event.HiEvent.Category.UNDEFINED;
+import static org.eclipse.che.api.vfs.impl.file.event.LoEvent.ItemType.DIR;
+import static org.eclipse.che.api.vfs.impl.file.event.LoEvent.ItemType.FILE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test for {@link ResourceChangesHiEventDetector}
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ResourceChangesHiEventDetectorTest extends HiVfsEventDetectorTestHelper {
+
+    private static final String CHE_PATH = separator + "che" + separator;
+    private static final String FOLDER_1 = CHE_PATH + "folder1";
+    private static final String FOLDER_2 = CHE_PATH + "folder2";
+    private static final String TEST     = "test";
+
+    @Mock
+    private HiEventClientBroadcaster hiEventClientBroadcaster;
+
+    private ResourceChangesHiEventDetector resourceChangesHiEventDetector;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        resourceChangesHiEventDetector = new ResourceChangesHiEventDetector(hiEventClientBroadcaster);
+    }
+
+    @Test
+    public void shouldReturnEmptyEventBecauseNoChangesFound() {
+        assertFalse(resourceChangesHiEventDetector.detect(root).isPresent());
+    }
+
+    @Test
+    public void shouldReturnEmptyEventBecauseOnlyFolderIsModified() {
+        addEvent("folder1", FOLDER_1, MODIFIED, DIR);
+
+        assertFalse(resourceChangesHiEventDetector.detect(root).isPresent());
+    }
+
+    @Test
+    public void shouldReturnChangeOfEachModifiedItem() {
+        addEvent(TEST, FOLDER_1 + separator + TEST, MODIFIED, FILE);
+        addEvent(TEST, FOLDER_2 + separator + TEST, CREATED, FILE);
+
+        final Optional<HiEvent<ResourceChangesEventDto>> eventOptional = resourceChangesHiEventDetector.detect(root);
+        assertTrue(eventOptional.isPresent());
+
+        final HiEvent<ResourceChangesEventDto> hiEvent = eventOptional.get();
+        assertEquals(UNDEFINED, hiEvent.getCategory());
+        assertEquals(RESOURCE_CHANGES_CHANNEL, hiEvent.getChannel());
+
+        final List<VfsWatchEvent> changes = hiEvent.getDto().getChanges();
+        assertEquals(2, changes.size());
+        assertEquals(FOLDER_1 + separator + TEST, changes.get(0).getPath());
+        assertEquals(MODIFIED, changes.get(0).getType());
+        assertTrue(changes.get(0).isFile());
+        assertEquals(FOLDER_2 + separator + TEST, changes.get(1).getPath());
+        assertEquals(CREATED, changes.get(1).getType());
+    }
+
+    @Test
+    public void shouldNotReturnChangesInsideOfDeletedFolder() {
+        addEvent("folder1", FOLDER_1, DELETED, DIR);
+        addEvent(TEST, FOLDER_1 + separator + TEST, DELETED, FILE);
+
+        final List<VfsWatchEvent> changes = resourceChangesHiEventDetector.detect(root).get().getDto().getChanges();
+
+        assertEquals(1, changes.size());
+        assertEquals(FOLDER_1, changes.get(0).getPath());
+        assertEquals(DELETED, changes.get(0).getType());
+        assertFalse(changes.get(0).isFile());
+    }
+
+    @Test
+    public void shouldNumberChangeSetsSequentially() throws Exception {
+        addEvent(TEST, FOLDER_1 + separator + TEST, MODIFIED, FILE);
+        final long first = resourceChangesHiEventDetector.detect(root).get().getDto().getSequenceNumber();
+
+        setUp();
+        addEvent(TEST, FOLDER_2 + separator + TEST, MODIFIED, FILE);
+        final long second = resourceChangesHiEventDetector.detect(root).get().getDto().getSequenceNumber();
+
+        assertEquals(first + 1, second);
+    }
+}
@@ -18,6 +18,7 @@ import org.eclipse.che.api.vfs.VirtualFileFilter;
 import org.eclipse.che.api.vfs.VirtualFileSystem;
 import org.eclipse.che.api.vfs.impl.memory.MemoryVirtualFileSystem;
 import org.eclipse.che.api.vfs.search.QueryExpression;
+import org.eclipse.che.api.vfs.search.SearchOccurrence;
 import org.eclipse.che.api.vfs.search.SearchResult;
 import org.eclipse.che.commons.lang.IoUtil;
 import org.eclipse.che.commons.lang.NameGenerator;
@@ -31,8 +32,10 @@ import java.util.Collections;
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.argThat;
@@ -294,6 +297,82 @@ public class FSLuceneSearcherTest {
         assertTrue(Collections.disjoint(firstPage.getFilePaths(), lastPage.getFilePaths()));
     }
 
+    @Test
+    public void continuesSearchFromPositionOfLastItemOfPreviousPage() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        for (int i = 0; i < 100; i++) {
+            virtualFileSystem.getRoot().createFile(String.format("file%02d", i), TEST_CONTENT[i % TEST_CONTENT.length]);
+        }
+        searcher.init(virtualFileSystem);
+
+        List<String> paths = newArrayList();
+        QueryExpression query = new QueryExpression().setText("spaceflight").setMaxItems(10);
+        SearchResult page;
+        do {
+            page = searcher.search(query);
+            paths.addAll(page.getFilePaths());
+            if (page.getNextPageQueryExpression().isPresent()) {
+                query = page.getNextPageQueryExpression().get();
+                assertNotNull(query.getSearchAfter());
+            }
+        } while (page.getNextPageQueryExpression().isPresent());
+
+        assertEquals(25, paths.size());
+        assertEquals(25, newHashSet(paths).size());
+    }
+
+    @Test
+    public void fallsBackToSkipCountWhenIndexChangedAfterRetrievingPreviousPage() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        for (int i = 0; i < 100; i++) {
+            virtualFileSystem.getRoot().createFile(String.format("file%02d", i), TEST_CONTENT[i % TEST_CONTENT.length]);
+        }
+        searcher.init(virtualFileSystem);
+
+        SearchResult firstPage = searcher.search(new QueryExpression().setText("spaceflight").setMaxItems(8));
+        searcher.add(virtualFileSystem.getRoot().createFile("zzz", TEST_CONTENT[1]));
+
+        QueryExpression nextPageQueryExpression = firstPage.getNextPageQueryExpression().get().setMaxItems(100);
+        SearchResult lastPage = searcher.search(nextPageQueryExpression);
+
+        assertEquals(17, lastPage.getFilePaths().size());
+        assertTrue(Collections.disjoint(firstPage.getFilePaths(), lastPage.getFilePaths()));
+    }
+
+    @Test
+    public void includesLineNumbersAndFragmentsOfMatchedText() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        virtualFileSystem.getRoot().createFolder("folder").createFile("xxx.txt", TEST_CONTENT[1] + "\n" + TEST_CONTENT[2] + "\r\nBe quiet");
+        searcher.init(virtualFileSystem);
+
+        SearchResult result = searcher.search(new QueryExpression().setText("be").setIncludeOccurrences(true));
+
+        assertEquals(1, result.getResults().size());
+        List<SearchOccurrence> occurrences = result.getResults().get(0).getOccurrences();
+        assertEquals(3, occurrences.size());
+        assertEquals(2, occurrences.get(0).getLineNumber());
+        assertEquals(TEST_CONTENT[2], occurrences.get(0).getFragment());
+        assertEquals(3, occurrences.get(0).getHighlightStart());
+        assertEquals(5, occurrences.get(0).getHighlightEnd());
+        assertEquals(2, occurrences.get(1).getLineNumber());
+        assertEquals("be", occurrences.get(1).getPhrase());
+        assertEquals(3, occurrences.get(2).getLineNumber());
+        assertEquals("Be quiet", occurrences.get(2).getFragment());
+        assertEquals("Be", occurrences.get(2).getPhrase());
+    }
+
+    @Test
+    public void doesNotIncludeOccurrencesUnlessRequested() throws Exception {
+        VirtualFileSystem virtualFileSystem = virtualFileSystem();
+        virtualFileSystem.getRoot().createFolder("folder").createFile("xxx.txt", TEST_CONTENT[2]);
+        searcher.init(virtualFileSystem);
+
+        SearchResult result = searcher.search(new QueryExpression().setText("be"));
+
+        assertEquals(1, result.getResults().size());
+        assertTrue(result.getResults().get(0).getOccurrences().isEmpty());
+    }
+
     private VirtualFileSystem virtualFileSystem() throws Exception {
         return new MemoryVirtualFileSystem(mock(ArchiverFactory.class), null);
     }
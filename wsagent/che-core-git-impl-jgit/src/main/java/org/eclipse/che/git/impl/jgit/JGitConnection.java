@@ -20,6 +20,7 @@ import com.jcraft.jsch.Session;
 import org.apache.commons.io.filefilter.DirectoryFileFilter;
 import org.apache.commons.io.filefilter.IOFileFilter;
 import org.apache.commons.io.filefilter.TrueFileFilter;
+import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ErrorCodes;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.UnauthorizedException;
@@ -32,6 +33,7 @@ import org.eclipse.che.api.git.GitConnection;
 import org.eclipse.che.api.git.GitException;
 import org.eclipse.che.api.git.GitUrlUtils;
 import org.eclipse.che.api.git.GitUserResolver;
+import org.eclipse.che.api.git.LogCursor;
 import org.eclipse.che.api.git.LogPage;
 import org.eclipse.che.api.git.UserCredential;
 import org.eclipse.che.api.git.shared.AddRequest;
@@ -123,6 +125,7 @@ import org.eclipse.jgit.revwalk.RevObject;
 import org.eclipse.jgit.revwalk.RevTag;
 import org.eclipse.jgit.revwalk.RevTree;
 import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.revwalk.filter.AuthorRevFilter;
 import org.eclipse.jgit.transport.FetchResult;
 import org.eclipse.jgit.transport.JschConfigSessionFactory;
 import org.eclipse.jgit.transport.OpenSshConfig;
@@ -137,7 +140,10 @@ import org.eclipse.jgit.transport.Transport;
 import org.eclipse.jgit.transport.URIish;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
 import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
 import org.eclipse.jgit.util.FS;
 import org.eclipse.jgit.util.FileUtils;
 import org.slf4j.Logger;
@@ -157,7 +163,6 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -222,6 +227,7 @@ class JGitConnection implements GitConnection {
     private static final String ERROR_BRANCH_LIST_UNSUPPORTED_LIST_MODE = "Unsupported list mode '%s'. Must be either 'a' or 'r'.";
     private static final String ERROR_TAG_DELETE                        = "Could not delete the tag %1$s. An error occurred: %2$s.";
     private static final String ERROR_LOG_NO_HEAD_EXISTS                = "No HEAD exists and no explicit starting revision was specified";
+    private static final String ERROR_LOG_REVISION_NOT_FOUND            = "Revision '%s' not found";
     private static final String ERROR_INIT_FOLDER_MISSING               = "The working folder %s does not exist.";
     private static final String ERROR_NO_REMOTE_REPOSITORY              = "No remote repository specified.  Please, specify either a " +
                                                                           "URL or a remote name from which new revisions should be " +
@@ -240,14 +246,18 @@ class JGitConnection implements GitConnection {
     private final SshKeyProvider    sshKeyProvider;
     private final GitUserResolver   userResolver;
     private final Repository        repository;
+    private final JGitStatusCache   statusCache;
+    private final JGitLogCache      logCache;
 
     @Inject
     JGitConnection(Repository repository, CredentialsLoader credentialsLoader, SshKeyProvider sshKeyProvider,
-                   GitUserResolver userResolver) {
+                   GitUserResolver userResolver, JGitStatusCache statusCache, JGitLogCache logCache) {
         this.repository = repository;
         this.credentialsLoader = credentialsLoader;
         this.sshKeyProvider = sshKeyProvider;
         this.userResolver = userResolver;
+        this.statusCache = statusCache;
+        this.logCache = logCache;
     }
 
     @Override
@@ -711,49 +721,105 @@ class JGitConnection implements GitConnection {
     }
 
     @Override
-    public LogPage log(LogRequest request) throws GitException {
-        LogCommand logCommand = getGit().log();
+    public LogPage log(LogRequest request) throws GitException, BadRequestException {
+        final LogCursor cursor = LogCursor.parse(request.getCursor());
+        // continue the walk that was paused after the last commit of the previous page
+        final JGitLogCache.PausedWalk paused = cursor == null ? null : logCache.take(repository, request.getCursor(), request);
+        RevWalk revWalk = null;
+        boolean walkPaused = false;
         try {
-            setRevisionRange(logCommand, request);
-
-            request.getFileFilter().forEach(logCommand::addPath);
-
-            Iterator<RevCommit> revIterator = logCommand.call().iterator();
-            List<Revision> commits = new ArrayList<>();
-
-            while (revIterator.hasNext()) {
-                RevCommit commit = revIterator.next();
-                PersonIdent committerIdentity = commit.getCommitterIdent();
+            final ObjectId tip;
+            RevCommit next;
+            if (paused != null) {
+                revWalk = paused.getWalk();
+                tip = ObjectId.fromString(cursor.getTip());
+                next = paused.getNext();
+            } else {
+                revWalk = new RevWalk(repository);
+                tip = startLogWalk(revWalk, cursor, request);
+                final int skip = cursor == null ? 0 : cursor.getSkip();
+                for (int i = 0; i < skip && revWalk.next() != null; i++) {
+                    // skip revisions that were returned in previous pages, cursor's walk is not available any more
+                }
+                next = revWalk.next();
+            }
 
-                GitUser gitUser = newDto(GitUser.class).withName(committerIdentity.getName())
-                                                       .withEmail(committerIdentity.getEmailAddress());
+            final int maxCount = request.getMaxCount() > 0 ? request.getMaxCount() : Integer.MAX_VALUE;
+            final List<Revision> commits = new ArrayList<>(Math.min(maxCount, 256));
+            while (commits.size() < maxCount && next != null) {
+                commits.add(toRevision(next));
+                next = revWalk.next();
+            }
 
-                Revision revision = newDto(Revision.class).withId(commit.getId().getName())
-                                                          .withMessage(commit.getFullMessage())
-                                                          .withCommitTime(MILLISECONDS.convert(commit.getCommitTime(), SECONDS))
-                                                          .withCommitter(gitUser);
-                commits.add(revision);
+            String nextCursor = null;
+            if (next != null) {
+                nextCursor = new LogCursor(tip.getName(), (cursor == null ? 0 : cursor.getSkip()) + commits.size()).toString();
+                logCache.put(repository, nextCursor, request, new JGitLogCache.PausedWalk(repository, revWalk, next));
+                walkPaused = true;
             }
-            return new LogPage(commits);
-        } catch (GitAPIException | IOException exception) {
-            String errorMessage = exception.getMessage();
-            if (ERROR_LOG_NO_HEAD_EXISTS.equals(errorMessage)) {
-                throw new GitException(errorMessage, ErrorCodes.INIT_COMMIT_WAS_NOT_PERFORMED);
+            return new LogPage(commits, nextCursor);
+        } catch (IOException | IllegalArgumentException exception) {
+            throw new GitException(exception.getMessage(), exception);
+        } finally {
+            if (paused != null && walkPaused) {
+                // walk is paused again and holds new reference to the repository
+                repository.close();
+            } else if (paused != null) {
+                paused.release();
+            } else if (revWalk != null && !walkPaused) {
+                revWalk.close();
             }
-            throw new GitException(errorMessage, exception);
         }
     }
 
-    private void setRevisionRange(LogCommand logCommand, LogRequest request) throws IOException {
-        if (request != null) {
-            String revisionRangeSince = request.getRevisionRangeSince();
-            String revisionRangeUntil = request.getRevisionRangeUntil();
-            if (revisionRangeSince != null && revisionRangeUntil != null) {
-                ObjectId since = repository.resolve(revisionRangeSince);
-                ObjectId until = repository.resolve(revisionRangeUntil);
-                logCommand.addRange(since, until);
+    /** Marks start and uninteresting commits of the {@code request} and sets its filters, returns commit from which walk is started. */
+    private ObjectId startLogWalk(RevWalk revWalk, LogCursor cursor, LogRequest request) throws IOException, GitException,
+                                                                                                BadRequestException {
+        final String since = request.getRevisionRangeSince();
+        final String until = request.getRevisionRangeUntil();
+        final ObjectId tip;
+        if (cursor != null) {
+            tip = ObjectId.fromString(cursor.getTip());
+        } else if (since != null && until != null) {
+            tip = repository.resolve(until);
+            if (tip == null) {
+                throw new BadRequestException(format(ERROR_LOG_REVISION_NOT_FOUND, until));
+            }
+        } else {
+            tip = repository.resolve(Constants.HEAD);
+        }
+        if (tip == null) {
+            throw new GitException(ERROR_LOG_NO_HEAD_EXISTS, ErrorCodes.INIT_COMMIT_WAS_NOT_PERFORMED);
+        }
+        revWalk.markStart(revWalk.parseCommit(tip));
+        if (since != null && until != null) {
+            final ObjectId sinceId = repository.resolve(since);
+            if (sinceId == null) {
+                throw new BadRequestException(format(ERROR_LOG_REVISION_NOT_FOUND, since));
             }
+            revWalk.markUninteresting(revWalk.parseCommit(sinceId));
         }
+        // filters are evaluated during the walk
+        if (!request.getFileFilter().isEmpty()) {
+            revWalk.setTreeFilter(AndTreeFilter.create(PathFilterGroup.createFromStrings(request.getFileFilter()),
+                                                       TreeFilter.ANY_DIFF));
+        }
+        if (!isNullOrEmpty(request.getAuthor())) {
+            revWalk.setRevFilter(AuthorRevFilter.create(request.getAuthor()));
+        }
+        return tip;
+    }
+
+    private Revision toRevision(RevCommit commit) {
+        PersonIdent committerIdentity = commit.getCommitterIdent();
+
+        GitUser gitUser = newDto(GitUser.class).withName(committerIdentity.getName())
+                                               .withEmail(committerIdentity.getEmailAddress());
+
+        return newDto(Revision.class).withId(commit.getId().getName())
+                                     .withMessage(commit.getFullMessage())
+                                     .withCommitTime(MILLISECONDS.convert(commit.getCommitTime(), SECONDS))
+                                     .withCommitter(gitUser);
     }
 
     @Override
@@ -1368,7 +1434,7 @@ class JGitConnection implements GitConnection {
             throw new GitException("Not a git repository");
         }
         String branchName = getCurrentBranch();
-        return new JGitStatusImpl(branchName, getGit().status(), format);
+        return new JGitStatusImpl(branchName, statusCache.getStatus(repository), format);
     }
 
     @Override
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+
+import org.eclipse.che.api.git.shared.LogRequest;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * Keeps walks of git log that were paused after the last commit of the returned page, so the next page continues the walk from
+ * that commit instead of walking again from the tip and skipping all revisions of the previous pages.
+ * <p/>
+ * Walk is bound to the cursor of the next page and to filters of the request, and can be taken only once. Walk holds reference to
+ * its repository, both are released when walk isn't requested during {@link #EXPIRE_AFTER_MINUTES} minutes or when cache is full.
+ */
+@Singleton
+public class JGitLogCache {
+    private static final int  MAX_WALKS            = 16;
+    private static final long EXPIRE_AFTER_MINUTES = 5;
+
+    private final Cache<String, PausedWalk> walks;
+
+    public JGitLogCache() {
+        walks = CacheBuilder.newBuilder()
+                            .maximumSize(MAX_WALKS)
+                            .expireAfterWrite(EXPIRE_AFTER_MINUTES, MINUTES)
+                            .removalListener((RemovalListener<String, PausedWalk>)notification -> {
+                                // walk that is taken from the cache is released by the caller
+                                if (notification.getCause() != RemovalCause.EXPLICIT) {
+                                    notification.getValue().release();
+                                }
+                            })
+                            .build();
+    }
+
+    /**
+     * Takes walk that was paused when the page with {@code cursor} of the {@code request} was returned.
+     *
+     * @return paused walk or {@code null} if there is no paused walk for this cursor and filters in the {@code repository}.
+     * Caller must {@link PausedWalk#release()} the walk or put it back with {@link #put(Repository, String, LogRequest, PausedWalk)}
+     */
+    public PausedWalk take(Repository repository, String cursor, LogRequest request) {
+        final PausedWalk walk = walks.asMap().remove(key(repository, cursor, request));
+        if (walk != null && walk.repository != repository) {
+            // repository was re-opened, objects of the old one must not be mixed with the new one
+            walk.release();
+            return null;
+        }
+        return walk;
+    }
+
+    /** Keeps walk until the page with {@code cursor} is requested. */
+    public void put(Repository repository, String cursor, LogRequest request, PausedWalk walk) {
+        walks.put(key(repository, cursor, request), walk);
+    }
+
+    @PreDestroy
+    void stop() {
+        final List<PausedWalk> paused = new ArrayList<>(walks.asMap().values());
+        walks.invalidateAll();
+        for (PausedWalk walk : paused) {
+            walk.release();
+        }
+    }
+
+    private static String key(Repository repository, String cursor, LogRequest request) {
+        return repository.getDirectory().getAbsolutePath() + '\n' + cursor
+               + '\n' + request.getFileFilter()
+               + '\n' + request.getAuthor()
+               + '\n' + request.getRevisionRangeSince()
+               + '\n' + request.getRevisionRangeUntil();
+    }
+
+    /** Walk which was stopped before {@link #getNext()} commit was returned. */
+    public static class PausedWalk {
+        private final Repository repository;
+        private final RevWalk    walk;
+        private final RevCommit  next;
+
+        public PausedWalk(Repository repository, RevWalk walk, RevCommit next) {
+            this.repository = repository;
+            this.walk = walk;
+            this.next = next;
+            repository.incrementOpen();
+        }
+
+        public RevWalk getWalk() {
+            return walk;
+        }
+
+        /** First commit of the next page, it is already taken from the walk. */
+        public RevCommit getNext() {
+            return next;
+        }
+
+        /** Releases walk and its reference to the repository. Walk returned by {@link #getWalk()} is closed too. */
+        public void release() {
+            walk.close();
+            repository.close();
+        }
+    }
+}
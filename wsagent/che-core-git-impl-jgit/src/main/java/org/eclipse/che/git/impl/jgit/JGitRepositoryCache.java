@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+import org.eclipse.che.api.git.GitException;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationHandler;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationListener;
+import org.eclipse.jgit.internal.storage.file.FileRepository;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType.MODIFIED;
+
+/**
+ * Keeps opened JGit repositories to avoid re-reading of config, refs and pack indexes on each request.
+ * <p/>
+ * Repository is shared between connections with JGit reference counting: each {@link #acquire(File)} increments counter of users of
+ * the repository and {@link Repository#close()} that is called when connection is closed decrements it. Cache holds own reference
+ * which is released when repository is evicted, so repository is actually closed only when it is evicted and isn't used by any
+ * connection. Repositories that weren't used during {@code git.repository_cache.idle_timeout_sec} seconds are evicted.
+ * <p/>
+ * JGit re-reads modified config, refs and packs of opened repository itself, so cached repository is invalidated only when {@code
+ * .git} directory is created or removed.
+ */
+@Singleton
+public class JGitRepositoryCache {
+    private static final Logger LOG = LoggerFactory.getLogger(JGitRepositoryCache.class);
+
+    private static final long DEFAULT_IDLE_TIMEOUT_SEC = 300;
+
+    @Inject(optional = true)
+    @Named("git.repository_cache.idle_timeout_sec")
+    private long idleTimeoutSec;
+
+    @Inject(optional = true)
+    private FileWatcherNotificationHandler fileWatcherNotificationHandler;
+
+    private final Map<File, CachedRepository>     repositories;
+    private final AtomicLong                      hits;
+    private final AtomicLong                      misses;
+    private final AtomicLong                      evictions;
+    private final AtomicLong                      invalidations;
+    private final FileWatcherNotificationListener gitDirectoryListener;
+    private       ScheduledExecutorService        evictor;
+
+    public JGitRepositoryCache() {
+        this(DEFAULT_IDLE_TIMEOUT_SEC);
+    }
+
+    JGitRepositoryCache(long idleTimeoutSec) {
+        this.idleTimeoutSec = idleTimeoutSec;
+        repositories = new ConcurrentHashMap<>();
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+        evictions = new AtomicLong();
+        invalidations = new AtomicLong();
+        gitDirectoryListener = new FileWatcherNotificationListener(file -> Constants.DOT_GIT.equals(file.getName())) {
+            @Override
+            public void onFileWatcherEvent(VirtualFile virtualFile, FileWatcherEventType eventType) {
+                if (eventType != MODIFIED) {
+                    invalidate(Paths.get(virtualFile.getPath().toString().substring(1)));
+                }
+            }
+        };
+    }
+
+    @PostConstruct
+    void start() {
+        if (fileWatcherNotificationHandler != null) {
+            fileWatcherNotificationHandler.addNotificationListener(gitDirectoryListener);
+        }
+        evictor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("JGitRepositoryCacheEvictor")
+                                                                                       .setDaemon(true)
+                                                                                       .build());
+        final long period = Math.max(1, idleTimeoutSec / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, SECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (fileWatcherNotificationHandler != null) {
+            fileWatcherNotificationHandler.removeNotificationListener(gitDirectoryListener);
+        }
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+        invalidateAll();
+    }
+
+    /**
+     * Gets repository for specified working directory. Caller must call {@link Repository#close()} when repository isn't needed any
+     * more. Repositories that don't exist yet, e.g. repository that is going to be initialized or cloned, aren't cached.
+     *
+     * @throws GitException
+     *         if repository can't be opened
+     */
+    public Repository acquire(File workDir) throws GitException {
+        final File gitDir = new File(workDir, Constants.DOT_GIT).getAbsoluteFile();
+        if (!gitDir.isDirectory()) {
+            invalidate(gitDir);
+            return openRepository(gitDir);
+        }
+        final CachedRepository cached = repositories.get(gitDir);
+        if (cached != null && cached.acquire()) {
+            hits.incrementAndGet();
+            return cached.repository;
+        }
+        misses.incrementAndGet();
+        final CachedRepository created = new CachedRepository(openRepository(gitDir));
+        created.acquire();
+        final CachedRepository previous = repositories.put(gitDir, created);
+        if (previous != null) {
+            previous.release();
+        }
+        return created.repository;
+    }
+
+    /** Closes cached repository with specified {@code .git} directory or working directory. */
+    public void invalidate(File directory) {
+        final File gitDir = Constants.DOT_GIT.equals(directory.getName()) ? directory : new File(directory, Constants.DOT_GIT);
+        final CachedRepository removed = repositories.remove(gitDir.getAbsoluteFile());
+        if (removed != null) {
+            invalidations.incrementAndGet();
+            removed.release();
+        }
+    }
+
+    /** Closes all cached repositories. */
+    public void invalidateAll() {
+        for (Iterator<CachedRepository> iterator = repositories.values().iterator(); iterator.hasNext(); ) {
+            final CachedRepository removed = iterator.next();
+            iterator.remove();
+            removed.release();
+        }
+    }
+
+    /** Gets statistics of this cache. */
+    public Statistics getStatistics() {
+        return new Statistics(repositories.size(), hits.get(), misses.get(), evictions.get(), invalidations.get());
+    }
+
+    /** Invalidates all cached repositories which {@code .git} directory ends with specified relative path. */
+    private void invalidate(Path relativeGitDir) {
+        for (File gitDir : repositories.keySet()) {
+            if (gitDir.toPath().endsWith(relativeGitDir)) {
+                invalidate(gitDir);
+            }
+        }
+    }
+
+    void evictIdle() {
+        final long idleSince = System.currentTimeMillis() - SECONDS.toMillis(idleTimeoutSec);
+        for (Map.Entry<File, CachedRepository> entry : repositories.entrySet()) {
+            final CachedRepository cached = entry.getValue();
+            if (cached.lastAccess < idleSince && repositories.remove(entry.getKey(), cached)) {
+                evictions.incrementAndGet();
+                cached.release();
+            }
+        }
+    }
+
+    private static Repository openRepository(File gitDir) throws GitException {
+        try {
+            return new FileRepository(gitDir);
+        } catch (IOException e) {
+            throw new GitException(e.getMessage(), e);
+        }
+    }
+
+    private static class CachedRepository {
+        final Repository repository;
+        boolean released;
+        volatile long lastAccess;
+
+        CachedRepository(Repository repository) {
+            this.repository = repository;
+        }
+
+        /** Increments counter of users of repository. Returns {@code false} if repository is already released by cache. */
+        synchronized boolean acquire() {
+            if (released) {
+                return false;
+            }
+            repository.incrementOpen();
+            lastAccess = System.currentTimeMillis();
+            return true;
+        }
+
+        /** Releases reference that is held by cache. Repository is closed when it isn't used by any connection. */
+        synchronized void release() {
+            if (!released) {
+                released = true;
+                try {
+                    repository.close();
+                } catch (RuntimeException e) {
+                    LOG.warn("Unable close repository {}: {}", repository.getDirectory(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /** Statistics of repository cache. */
+    public static class Statistics {
+        private final int  size;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long invalidations;
+
+        Statistics(int size, long hits, long misses, long evictions, long invalidations) {
+            this.size = size;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.invalidations = invalidations;
+        }
+
+        /** Number of cached repositories. */
+        public int getSize() {
+            return size;
+        }
+
+        /** Number of requests that were served with cached repository. */
+        public long getHits() {
+            return hits;
+        }
+
+        /** Number of requests that caused opening of repository. */
+        public long getMisses() {
+            return misses;
+        }
+
+        /** Number of repositories that were closed because they weren't used for a long time. */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /** Number of repositories that were closed because their {@code .git} directory was created or removed. */
+        public long getInvalidations() {
+            return invalidations;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{" +
+                   "size=" + size +
+                   ", hits=" + hits +
+                   ", misses=" + misses +
+                   ", evictions=" + evictions +
+                   ", invalidations=" + invalidations +
+                   '}';
+        }
+    }
+}
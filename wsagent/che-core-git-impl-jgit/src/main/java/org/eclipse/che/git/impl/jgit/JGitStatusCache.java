@@ -0,0 +1,509 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+
+import org.eclipse.che.api.core.notification.EventService;
+import org.eclipse.che.api.core.notification.EventSubscriber;
+import org.eclipse.che.api.git.GitException;
+import org.eclipse.che.api.project.server.notification.ProjectItemModifiedEvent;
+import org.eclipse.che.api.project.shared.dto.event.FileWatcherEventType;
+import org.eclipse.che.api.vfs.VirtualFile;
+import org.eclipse.che.api.vfs.VirtualFileFilter;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationHandler;
+import org.eclipse.che.api.vfs.impl.file.FileWatcherNotificationListener;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.StatusCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Keeps the last computed status of working trees and updates it incrementally.
+ * <p/>
+ * Paths that are changed in working tree are collected from file watcher events and from {@link ProjectItemModifiedEvent}s. On the
+ * next request only these paths are re-checked. Full walk through the working tree is done when index, HEAD or exclude file of
+ * repository is changed, when too many paths are changed, when {@code .gitignore} file is changed or when changed path may affect
+ * list of untracked folders. Events of file watcher are delivered with a delay and folders aren't watched until they are registered in
+ * file watcher, so before each request last modification time and size of tracked files, their parent folders and parent folders of
+ * untracked files are compared with ones recorded when status was computed and paths that differ are re-checked too. Files and folders
+ * that were modified shortly before they were recorded are re-checked on the next request, since their later modification may keep the
+ * same time. Cached status is not used at all if file watcher isn't available.
+ */
+@Singleton
+public class JGitStatusCache {
+    /** Max number of changed paths that are re-checked incrementally, full walk is done if more paths are changed. */
+    private static final int  MAX_DIRTY_PATHS       = 512;
+    /** Max age of status that is updated incrementally, full walk is done for older status. */
+    private static final long MAX_STATUS_AGE_MILLIS = SECONDS.toMillis(300);
+    /** Files and folders modified within this time before they are recorded are always re-checked on the next request. */
+    private static final long RACY_MILLIS           = SECONDS.toMillis(2);
+
+    @Inject(optional = true)
+    private FileWatcherNotificationHandler fileWatcherNotificationHandler;
+
+    @Inject(optional = true)
+    private EventService eventService;
+
+    @Inject(optional = true)
+    @Named("che.user.workspaces.storage")
+    private File workspaceRoot;
+
+    private final Map<File, CachedStatus>                    statuses;
+    private final FileWatcherNotificationListener            fileWatcherListener;
+    private final EventSubscriber<ProjectItemModifiedEvent> projectItemListener;
+    private volatile boolean                                 enabled;
+
+    public JGitStatusCache() {
+        statuses = new ConcurrentHashMap<>();
+        fileWatcherListener = new FileWatcherNotificationListener(VirtualFileFilter.ACCEPT_ALL) {
+            @Override
+            public void onFileWatcherEvent(VirtualFile virtualFile, FileWatcherEventType eventType) {
+                pathChanged(virtualFile.toIoFile());
+            }
+        };
+        projectItemListener = event -> {
+            if (workspaceRoot != null) {
+                pathChanged(new File(workspaceRoot, event.getPath()));
+                if (event.getOldPath() != null) {
+                    pathChanged(new File(workspaceRoot, event.getOldPath()));
+                }
+            }
+        };
+    }
+
+    @PostConstruct
+    void start() {
+        if (fileWatcherNotificationHandler != null) {
+            fileWatcherNotificationHandler.addNotificationListener(fileWatcherListener);
+            if (eventService != null) {
+                eventService.subscribe(projectItemListener, ProjectItemModifiedEvent.class);
+            }
+            enabled = true;
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        enabled = false;
+        if (fileWatcherNotificationHandler != null) {
+            fileWatcherNotificationHandler.removeNotificationListener(fileWatcherListener);
+        }
+        if (eventService != null) {
+            eventService.unsubscribe(projectItemListener);
+        }
+        statuses.clear();
+    }
+
+    /** Enables incremental status. Should be used only when changes of working trees are reported with {@link #pathChanged(File)}. */
+    void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Gets status of working tree of specified repository.
+     *
+     * @throws GitException
+     *         if status can't be computed
+     */
+    StatusSnapshot getStatus(Repository repository) throws GitException {
+        if (!enabled || repository.isBare()) {
+            return computeStatus(repository, null);
+        }
+        final File workTree = repository.getWorkTree().getAbsoluteFile();
+        final CachedStatus cached = statuses.computeIfAbsent(workTree, CachedStatus::new);
+        try {
+            return cached.getStatus(repository);
+        } catch (GitException | RuntimeException e) {
+            statuses.remove(workTree, cached);
+            throw e;
+        }
+    }
+
+    /** Notifies that file or folder was created, modified or removed. */
+    void pathChanged(File file) {
+        final Path path = file.toPath().toAbsolutePath().normalize();
+        for (CachedStatus cached : statuses.values()) {
+            final Path workTree = cached.workTree.toPath();
+            if (path.startsWith(workTree) && !path.equals(workTree)) {
+                final Path relative = workTree.relativize(path);
+                if (!Constants.DOT_GIT.equals(relative.getName(0).toString())) {
+                    // changes of index and HEAD are detected by comparing of repository state
+                    cached.markDirty(toGitPath(relative));
+                }
+            }
+        }
+    }
+
+    private static String toGitPath(Path relative) {
+        final StringBuilder gitPath = new StringBuilder();
+        for (Path element : relative) {
+            if (gitPath.length() > 0) {
+                gitPath.append('/');
+            }
+            gitPath.append(element.toString());
+        }
+        return gitPath.toString();
+    }
+
+    private static StatusSnapshot computeStatus(Repository repository, Collection<String> paths) throws GitException {
+        final StatusCommand statusCommand = Git.wrap(repository).status();
+        if (paths != null) {
+            paths.forEach(statusCommand::addPath);
+        }
+        try {
+            return new StatusSnapshot(statusCommand.call());
+        } catch (GitAPIException e) {
+            throw new GitException(e.getMessage(), e);
+        }
+    }
+
+    private static class CachedStatus {
+        final File             workTree;
+        final Set<String>      dirtyPaths;
+        boolean                fullWalkRequired;
+        StatusSnapshot         status;
+        RepositoryState        repositoryState;
+        long                   computedAt;
+        /** Stamps of tracked files and folders that may contain changes, root of working tree is recorded with empty path. */
+        Map<String, FileStamp> stamps;
+
+        CachedStatus(File workTree) {
+            this.workTree = workTree;
+            dirtyPaths = new TreeSet<>();
+        }
+
+        synchronized void markDirty(String path) {
+            if (status == null || fullWalkRequired) {
+                return;
+            }
+            if (path.equals(Constants.DOT_GIT_IGNORE) || path.endsWith('/' + Constants.DOT_GIT_IGNORE)
+                || dirtyPaths.size() >= MAX_DIRTY_PATHS) {
+                fullWalkRequired = true;
+                dirtyPaths.clear();
+            } else {
+                dirtyPaths.add(path);
+            }
+        }
+
+        synchronized StatusSnapshot getStatus(Repository repository) throws GitException {
+            final RepositoryState currentState = new RepositoryState(repository);
+            final long startedAt = System.currentTimeMillis();
+            if (status != null && !fullWalkRequired && currentState.equals(repositoryState)) {
+                revalidate(startedAt);
+            }
+            if (status == null
+                || fullWalkRequired
+                || !currentState.equals(repositoryState)
+                || startedAt - computedAt > MAX_STATUS_AGE_MILLIS
+                || affectsUntrackedFolders(dirtyPaths)) {
+                return fullWalk(repository, currentState);
+            }
+            if (!dirtyPaths.isEmpty()) {
+                final StatusSnapshot partial = computeStatus(repository, dirtyPaths);
+                if (!partial.untrackedFolders.isEmpty()) {
+                    return fullWalk(repository, currentState);
+                }
+                status.replace(dirtyPaths, partial);
+                for (String untracked : partial.untracked) {
+                    recordParents(stamps, untracked, startedAt);
+                }
+                dirtyPaths.clear();
+            }
+            return status.copy();
+        }
+
+        private StatusSnapshot fullWalk(Repository repository, RepositoryState currentState) throws GitException {
+            final long startedAt = System.currentTimeMillis();
+            dirtyPaths.clear();
+            fullWalkRequired = false;
+            final Map<String, FileStamp> newStamps = new HashMap<>();
+            newStamps.put("", FileStamp.record(workTree.toPath(), startedAt));
+            try {
+                final DirCache index = repository.readDirCache();
+                for (int i = 0; i < index.getEntryCount(); i++) {
+                    final String path = index.getEntry(i).getPathString();
+                    newStamps.put(path, FileStamp.record(workTree.toPath().resolve(path), startedAt));
+                    recordParents(newStamps, path, startedAt);
+                }
+            } catch (IOException e) {
+                throw new GitException(e.getMessage(), e);
+            }
+            status = computeStatus(repository, null);
+            for (String untracked : status.untracked) {
+                recordParents(newStamps, untracked, startedAt);
+            }
+            stamps = newStamps;
+            repositoryState = currentState;
+            computedAt = startedAt;
+            return status.copy();
+        }
+
+        /** Marks dirty files and folders which stamps differ from recorded ones. */
+        private void revalidate(long startedAt) {
+            for (Map.Entry<String, FileStamp> entry : stamps.entrySet()) {
+                if (fullWalkRequired) {
+                    return;
+                }
+                final String path = entry.getKey();
+                final FileStamp current = FileStamp.read(workTree.toPath().resolve(path));
+                if (!current.equals(entry.getValue())) {
+                    entry.setValue(current.racy(startedAt) ? FileStamp.RACY : current);
+                    if (path.isEmpty()) {
+                        fullWalkRequired = true;
+                    } else {
+                        markDirty(path);
+                    }
+                }
+            }
+        }
+
+        private void recordParents(Map<String, FileStamp> stamps, String path, long startedAt) {
+            for (int i = path.lastIndexOf('/'); i > 0; i = path.lastIndexOf('/', i - 1)) {
+                final String parent = path.substring(0, i);
+                if (stamps.containsKey(parent)) {
+                    return;
+                }
+                stamps.put(parent, FileStamp.record(workTree.toPath().resolve(parent), startedAt));
+            }
+        }
+
+        private boolean affectsUntrackedFolders(Set<String> paths) {
+            for (String folder : status.untrackedFolders) {
+                for (String path : paths) {
+                    if (isSameOrDescendant(path, folder) || isSameOrDescendant(folder, path)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    private static boolean isSameOrDescendant(String path, String parent) {
+        return path.equals(parent) || (path.startsWith(parent) && path.charAt(parent.length()) == '/');
+    }
+
+    /** Last modification time and size of file or folder. */
+    private static class FileStamp {
+        /** Stamp of file that was modified shortly before it was recorded, it never equals to stamp of existing file. */
+        static final FileStamp RACY    = new FileStamp(-1, -1);
+        static final FileStamp MISSING = new FileStamp(0, -1);
+
+        final long lastModified;
+        final long size;
+
+        FileStamp(long lastModified, long size) {
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+
+        static FileStamp read(Path path) {
+            try {
+                final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                return new FileStamp(attributes.lastModifiedTime().toMillis(), attributes.size());
+            } catch (IOException e) {
+                return MISSING;
+            }
+        }
+
+        static FileStamp record(Path path, long startedAt) {
+            final FileStamp stamp = read(path);
+            return stamp.racy(startedAt) ? RACY : stamp;
+        }
+
+        /** Tests whether file was modified so shortly before {@code startedAt} that its next modification may keep the same time. */
+        boolean racy(long startedAt) {
+            return this != MISSING && lastModified + RACY_MILLIS >= startedAt;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FileStamp)) {
+                return false;
+            }
+            final FileStamp other = (FileStamp)o;
+            return lastModified == other.lastModified && size == other.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModified, size);
+        }
+    }
+
+    /** State of repository that affects status of all files: index, HEAD and exclude file. */
+    private static class RepositoryState {
+        final long     indexLastModified;
+        final long     indexLength;
+        final String   head;
+        final ObjectId headId;
+        final long     excludeLastModified;
+
+        RepositoryState(Repository repository) throws GitException {
+            final File indexFile = new File(repository.getDirectory(), "index");
+            indexLastModified = indexFile.lastModified();
+            indexLength = indexFile.length();
+            excludeLastModified = new File(repository.getDirectory(), Constants.INFO_EXCLUDE).lastModified();
+            try {
+                final Ref headRef = repository.exactRef(Constants.HEAD);
+                head = headRef == null ? null : headRef.getLeaf().getName();
+                headId = headRef == null ? null : headRef.getObjectId();
+            } catch (IOException e) {
+                throw new GitException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RepositoryState)) {
+                return false;
+            }
+            final RepositoryState other = (RepositoryState)o;
+            return indexLastModified == other.indexLastModified
+                   && indexLength == other.indexLength
+                   && excludeLastModified == other.excludeLastModified
+                   && Objects.equals(head, other.head)
+                   && Objects.equals(headId, other.headId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(indexLastModified, indexLength, head, headId, excludeLastModified);
+        }
+    }
+
+    /** Copy of JGit status that may be updated with status of some paths. */
+    static class StatusSnapshot {
+        final Set<String> added;
+        final Set<String> changed;
+        final Set<String> removed;
+        final Set<String> missing;
+        final Set<String> modified;
+        final Set<String> untracked;
+        final Set<String> untrackedFolders;
+        final Set<String> conflicting;
+
+        StatusSnapshot(org.eclipse.jgit.api.Status status) {
+            this(status.getAdded(),
+                 status.getChanged(),
+                 status.getRemoved(),
+                 status.getMissing(),
+                 status.getModified(),
+                 status.getUntracked(),
+                 status.getUntrackedFolders(),
+                 status.getConflicting());
+        }
+
+        private StatusSnapshot(Set<String> added,
+                               Set<String> changed,
+                               Set<String> removed,
+                               Set<String> missing,
+                               Set<String> modified,
+                               Set<String> untracked,
+                               Set<String> untrackedFolders,
+                               Set<String> conflicting) {
+            this.added = new TreeSet<>(added);
+            this.changed = new TreeSet<>(changed);
+            this.removed = new TreeSet<>(removed);
+            this.missing = new TreeSet<>(missing);
+            this.modified = new TreeSet<>(modified);
+            this.untracked = new TreeSet<>(untracked);
+            this.untrackedFolders = new TreeSet<>(untrackedFolders);
+            this.conflicting = new TreeSet<>(conflicting);
+        }
+
+        boolean isClean() {
+            return added.isEmpty()
+                   && changed.isEmpty()
+                   && removed.isEmpty()
+                   && missing.isEmpty()
+                   && modified.isEmpty()
+                   && untracked.isEmpty()
+                   && conflicting.isEmpty();
+        }
+
+        StatusSnapshot copy() {
+            return new StatusSnapshot(added, changed, removed, missing, modified, untracked, untrackedFolders, conflicting);
+        }
+
+        /** Replaces status of specified paths and their descendants with status from {@code partial}. */
+        void replace(Collection<String> paths, StatusSnapshot partial) {
+            for (Set<String> category : categories()) {
+                removeAll(category, paths);
+            }
+            added.addAll(partial.added);
+            changed.addAll(partial.changed);
+            removed.addAll(partial.removed);
+            missing.addAll(partial.missing);
+            modified.addAll(partial.modified);
+            untracked.addAll(partial.untracked);
+            conflicting.addAll(partial.conflicting);
+        }
+
+        private List<Set<String>> categories() {
+            final List<Set<String>> categories = new ArrayList<>(7);
+            categories.add(added);
+            categories.add(changed);
+            categories.add(removed);
+            categories.add(missing);
+            categories.add(modified);
+            categories.add(untracked);
+            categories.add(conflicting);
+            return categories;
+        }
+
+        private static void removeAll(Set<String> category, Collection<String> paths) {
+            for (Iterator<String> iterator = category.iterator(); iterator.hasNext(); ) {
+                final String item = iterator.next();
+                for (String path : paths) {
+                    if (isSameOrDescendant(item, path)) {
+                        iterator.remove();
+                        break;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -56,25 +56,38 @@ public class JGitStatusImpl implements Status, InfoPage {
      *         when any error occurs
      */
     public JGitStatusImpl(String branchName, StatusCommand statusCommand, StatusFormat format) throws GitException {
+        this(branchName, new JGitStatusCache.StatusSnapshot(call(statusCommand)), format);
+    }
+
+    /**
+     * @param branchName
+     *         current repository branch name
+     * @param status
+     *         status of working tree
+     * @param format
+     *         the output format for the status
+     */
+    JGitStatusImpl(String branchName, JGitStatusCache.StatusSnapshot status, StatusFormat format) {
         this.branchName = branchName;
         this.format = format;
 
-        org.eclipse.jgit.api.Status gitStatus;
+        clean = status.isClean();
+        added = new ArrayList<>(status.added);
+        changed = new ArrayList<>(status.changed);
+        removed = new ArrayList<>(status.removed);
+        missing = new ArrayList<>(status.missing);
+        modified = new ArrayList<>(status.modified);
+        untracked = new ArrayList<>(status.untracked);
+        untrackedFolders = new ArrayList<>(status.untrackedFolders);
+        conflicting = new ArrayList<>(status.conflicting);
+    }
+
+    private static org.eclipse.jgit.api.Status call(StatusCommand statusCommand) throws GitException {
         try {
-            gitStatus = statusCommand.call();
+            return statusCommand.call();
         } catch (GitAPIException exception) {
             throw new GitException(exception.getMessage(), exception);
         }
-
-        clean = gitStatus.isClean();
-        added = new ArrayList<>(gitStatus.getAdded());
-        changed = new ArrayList<>(gitStatus.getChanged());
-        removed = new ArrayList<>(gitStatus.getRemoved());
-        missing = new ArrayList<>(gitStatus.getMissing());
-        modified = new ArrayList<>(gitStatus.getModified());
-        untracked = new ArrayList<>(gitStatus.getUntracked());
-        untrackedFolders = new ArrayList<>(gitStatus.getUntrackedFolders());
-        conflicting = new ArrayList<>(gitStatus.getConflicting());
     }
 
     @Override
@@ -16,6 +16,9 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.git.CredentialsLoader;
 import org.eclipse.che.api.git.GitUserResolver;
 import org.eclipse.che.git.impl.jgit.JGitConnectionFactory;
+import org.eclipse.che.git.impl.jgit.JGitLogCache;
+import org.eclipse.che.git.impl.jgit.JGitRepositoryCache;
+import org.eclipse.che.git.impl.jgit.JGitStatusCache;
 import org.eclipse.che.plugin.ssh.key.script.SshKeyProvider;
 import org.testng.annotations.DataProvider;
 
@@ -36,7 +39,10 @@ public class GitConnectionFactoryProvider {
                         new JGitConnectionFactory(
                                 mock(CredentialsLoader.class),
                                 mock(SshKeyProvider.class),
-                                resolver
+                                resolver,
+                                new JGitRepositoryCache(),
+                                new JGitStatusCache(),
+                                new JGitLogCache()
                         )
                 }
         };
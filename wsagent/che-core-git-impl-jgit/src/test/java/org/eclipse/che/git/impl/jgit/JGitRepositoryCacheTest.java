@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import com.google.common.io.Files;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.jgit.internal.storage.file.FileRepository;
+import org.eclipse.jgit.lib.Repository;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+
+public class JGitRepositoryCacheTest {
+    private File                workDir;
+    private JGitRepositoryCache repositoryCache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        workDir = Files.createTempDir();
+        try (Repository repository = new FileRepository(new File(workDir, ".git"))) {
+            repository.create();
+        }
+        repositoryCache = new JGitRepositoryCache(0);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        repositoryCache.invalidateAll();
+        IoUtil.deleteRecursive(workDir);
+    }
+
+    @Test
+    public void sharesRepositoryBetweenConnections() throws Exception {
+        Repository first = repositoryCache.acquire(workDir);
+        first.close();
+        Repository second = repositoryCache.acquire(workDir);
+        second.close();
+
+        assertSame(second, first);
+        JGitRepositoryCache.Statistics statistics = repositoryCache.getStatistics();
+        assertEquals(statistics.getSize(), 1);
+        assertEquals(statistics.getMisses(), 1);
+        assertEquals(statistics.getHits(), 1);
+    }
+
+    @Test
+    public void doesNotCacheRepositoryThatDoesNotExistYet() throws Exception {
+        File notInitialized = new File(workDir, "not-initialized");
+        notInitialized.mkdir();
+
+        Repository first = repositoryCache.acquire(notInitialized);
+        first.close();
+        Repository second = repositoryCache.acquire(notInitialized);
+        second.close();
+
+        assertNotSame(second, first);
+        assertEquals(repositoryCache.getStatistics().getSize(), 0);
+    }
+
+    @Test
+    public void reopensInvalidatedRepository() throws Exception {
+        Repository first = repositoryCache.acquire(workDir);
+        first.close();
+
+        repositoryCache.invalidate(workDir);
+        Repository second = repositoryCache.acquire(workDir);
+        second.close();
+
+        assertNotSame(second, first);
+        assertEquals(repositoryCache.getStatistics().getInvalidations(), 1);
+        assertEquals(repositoryCache.getStatistics().getMisses(), 2);
+    }
+
+    @Test
+    public void evictsIdleRepositoryButKeepsItOpenedForConnectionThatUsesIt() throws Exception {
+        Repository repository = repositoryCache.acquire(workDir);
+        Thread.sleep(10);
+
+        repositoryCache.evictIdle();
+
+        assertEquals(repositoryCache.getStatistics().getEvictions(), 1);
+        assertEquals(repositoryCache.getStatistics().getSize(), 0);
+        assertNotNull(repository.exactRef("HEAD"));
+        repository.close();
+    }
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.git.impl.jgit;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.Files;
+
+import org.eclipse.che.commons.lang.IoUtil;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class JGitStatusCacheTest {
+    private File            workDir;
+    private Git             git;
+    private Repository      repository;
+    private JGitStatusCache statusCache;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        workDir = Files.createTempDir();
+        git = Git.init().setDirectory(workDir).call();
+        repository = git.getRepository();
+        Files.write("a", new File(workDir, "a.txt"), UTF_8);
+        git.add().addFilepattern("a.txt").call();
+        git.commit().setMessage("init").setAuthor("test", "test@test.com").setCommitter("test", "test@test.com").call();
+        statusCache = new JGitStatusCache();
+        statusCache.enable();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        git.close();
+        IoUtil.deleteRecursive(workDir);
+    }
+
+    @Test
+    public void rechecksOnlyChangedPaths() throws Exception {
+        assertTrue(statusCache.getStatus(repository).isClean());
+
+        Files.write("b", new File(workDir, "a.txt"), UTF_8);
+        statusCache.pathChanged(new File(workDir, "a.txt"));
+
+        JGitStatusCache.StatusSnapshot status = statusCache.getStatus(repository);
+        assertEquals(status.modified, ImmutableSet.of("a.txt"));
+        assertFalse(status.isClean());
+    }
+
+    @Test
+    public void detectsChangesMissedByFileWatcher() throws Exception {
+        File folder = new File(workDir, "folder");
+        assertTrue(folder.mkdir());
+        Files.write("b", new File(folder, "b.txt"), UTF_8);
+        git.add().addFilepattern("folder/b.txt").call();
+        git.commit().setMessage("folder").setAuthor("test", "test@test.com").setCommitter("test", "test@test.com").call();
+        long longAgo = System.currentTimeMillis() - 60_000;
+        for (File file : new File[]{workDir, new File(workDir, "a.txt"), folder, new File(folder, "b.txt")}) {
+            assertTrue(file.setLastModified(longAgo));
+        }
+        assertTrue(statusCache.getStatus(repository).isClean());
+
+        Files.write("bb", new File(workDir, "a.txt"), UTF_8);
+        Files.write("c", new File(folder, "c.txt"), UTF_8);
+
+        JGitStatusCache.StatusSnapshot status = statusCache.getStatus(repository);
+        assertEquals(status.modified, ImmutableSet.of("a.txt"));
+        assertEquals(status.untracked, ImmutableSet.of("folder/c.txt"));
+    }
+
+    @Test
+    public void rechecksFilesModifiedShortlyBeforeStatusWasComputed() throws Exception {
+        Files.write("b", new File(workDir, "a.txt"), UTF_8);
+        assertEquals(statusCache.getStatus(repository).modified, ImmutableSet.of("a.txt"));
+
+        Files.write("a", new File(workDir, "a.txt"), UTF_8);
+
+        assertTrue(statusCache.getStatus(repository).isClean());
+    }
+
+    @Test
+    public void detectsRemovedAndUntrackedFiles() throws Exception {
+        statusCache.getStatus(repository);
+
+        assertTrue(new File(workDir, "a.txt").delete());
+        Files.write("b", new File(workDir, "b.txt"), UTF_8);
+        statusCache.pathChanged(new File(workDir, "a.txt"));
+        statusCache.pathChanged(new File(workDir, "b.txt"));
+
+        JGitStatusCache.StatusSnapshot status = statusCache.getStatus(repository);
+        assertEquals(status.missing, ImmutableSet.of("a.txt"));
+        assertEquals(status.untracked, ImmutableSet.of("b.txt"));
+    }
+
+    @Test
+    public void walksWholeWorkingTreeWhenIndexIsChanged() throws Exception {
+        statusCache.getStatus(repository);
+
+        Files.write("b", new File(workDir, "b.txt"), UTF_8);
+        git.add().addFilepattern("b.txt").call();
+
+        assertEquals(statusCache.getStatus(repository).added, ImmutableSet.of("b.txt"));
+    }
+
+    @Test
+    public void detectsUntrackedFolders() throws Exception {
+        statusCache.getStatus(repository);
+
+        File folder = new File(workDir, "folder");
+        assertTrue(folder.mkdir());
+        Files.write("c", new File(folder, "c.txt"), UTF_8);
+        statusCache.pathChanged(folder);
+        statusCache.pathChanged(new File(folder, "c.txt"));
+
+        JGitStatusCache.StatusSnapshot status = statusCache.getStatus(repository);
+        assertEquals(status.untracked, ImmutableSet.of("folder/c.txt"));
+        assertEquals(status.untrackedFolders, ImmutableSet.of("folder"));
+
+        assertTrue(new File(folder, "c.txt").delete());
+        assertTrue(folder.delete());
+        statusCache.pathChanged(new File(folder, "c.txt"));
+        statusCache.pathChanged(folder);
+
+        assertTrue(statusCache.getStatus(repository).isClean());
+    }
+
+    @Test
+    public void walksWholeWorkingTreeEachTimeWhenNotEnabled() throws Exception {
+        JGitStatusCache notEnabled = new JGitStatusCache();
+        assertTrue(notEnabled.getStatus(repository).isClean());
+
+        Files.write("b", new File(workDir, "a.txt"), UTF_8);
+
+        assertEquals(notEnabled.getStatus(repository).modified, ImmutableSet.of("a.txt"));
+    }
+}
@@ -23,6 +23,7 @@ import org.eclipse.che.api.git.DiffPage;
 import org.eclipse.che.api.git.GitConnection;
 import org.eclipse.che.api.git.GitException;
 import org.eclipse.che.api.git.GitUserResolver;
+import org.eclipse.che.api.git.LogCursor;
 import org.eclipse.che.api.git.LogPage;
 import org.eclipse.che.api.git.UserCredential;
 import org.eclipse.che.api.git.shared.AddRequest;
@@ -91,10 +92,12 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import static com.google.common.base.Strings.emptyToNull;
 import static org.eclipse.che.api.git.shared.ProviderInfo.AUTHENTICATE_URL;
 import static org.eclipse.che.api.git.shared.ProviderInfo.PROVIDER_NAME;
 import static org.eclipse.che.dto.server.DtoFactory.newDto;
@@ -414,7 +417,22 @@ public class NativeGitConnection implements GitConnection {
     @Override
     public LogPage log(LogRequest request) throws GitException {
         try {
-            return new LogPage(nativeGit.createLogCommand().setFileFilter(request.getFileFilter()).execute());
+            final LogCursor cursor = LogCursor.parse(request.getCursor());
+            final String tip = cursor != null ? cursor.getTip() : getHeadCommitId();
+            final int skip = cursor != null ? cursor.getSkip() : 0;
+            final int maxCount = request.getMaxCount();
+            // request one more revision to find out whether there is a next page
+            final List<Revision> commits = nativeGit.createLogCommand()
+                                                    .setBranch(tip)
+                                                    .setSkip(skip)
+                                                    .setCount(maxCount > 0 ? maxCount + 1 : 0)
+                                                    .setAuthor(emptyToNull(request.getAuthor()))
+                                                    .setFileFilter(request.getFileFilter())
+                                                    .execute();
+            if (maxCount > 0 && commits.size() > maxCount && tip != null) {
+                return new LogPage(new ArrayList<>(commits.subList(0, maxCount)), new LogCursor(tip, skip + maxCount).toString());
+            }
+            return new LogPage(commits);
         } catch (ServerException exception) {
             if (noInitCommitWhenLogErrorPattern.matcher(exception.getMessage()).find()) {
                 throw new GitException(exception.getMessage(), ErrorCodes.INIT_COMMIT_WAS_NOT_PERFORMED);
@@ -697,6 +715,25 @@ public class NativeGitConnection implements GitConnection {
         return command.getText();
     }
 
+    /**
+     * Gets id of the commit that HEAD points to. Pages of log are walked from this commit so new commits don't shift them.
+     *
+     * @return commit id or {@code null} if there are no commits in repository yet
+     */
+    private String getHeadCommitId() {
+        EmptyGitCommand command = nativeGit.createEmptyGitCommand()
+                                           .setNextParameter("rev-parse")
+                                           .setNextParameter("--verify")
+                                           .setNextParameter("HEAD");
+        try {
+            command.execute();
+        } catch (GitException e) {
+            // HEAD doesn't point to any commit, log command reports proper error
+            return null;
+        }
+        return command.getText();
+    }
+
     private String parseBranchName(String name) {
         int branchNameIndex = 0;
         if (name.startsWith("refs/remotes/")) {
@@ -27,7 +27,9 @@ import java.util.List;
 public class LogCommand extends GitCommand<List<Revision>> {
 
     private int          count;
+    private int          skip;
     private String       branch;
+    private String       author;
     private List<String> fileFilter;
 
     public LogCommand(File place) {
@@ -47,6 +49,12 @@ public class LogCommand extends GitCommand<List<Revision>> {
         if (count > 0) {
             commandLine.add("-" + count);
         }
+        if (skip > 0) {
+            commandLine.add("--skip=" + skip);
+        }
+        if (author != null) {
+            commandLine.add("--author=" + author);
+        }
         commandLine.add(fileFilter);
         start();
         List<Revision> list = new LinkedList<>();
@@ -80,6 +88,26 @@ public class LogCommand extends GitCommand<List<Revision>> {
         return this;
     }
 
+    /**
+     * @param skip
+     *         number of log objects to skip before starting to show output
+     * @return LogCommand with established skip
+     */
+    public LogCommand setSkip(int skip) {
+        this.skip = skip;
+        return this;
+    }
+
+    /**
+     * @param author
+     *         pattern to filter log objects by author
+     * @return LogCommand with established author
+     */
+    public LogCommand setAuthor(String author) {
+        this.author = author;
+        return this;
+    }
+
     /**
      * @param branch
      *         branch
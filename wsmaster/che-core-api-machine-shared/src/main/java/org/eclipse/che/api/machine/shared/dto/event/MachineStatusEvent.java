@@ -61,4 +61,14 @@ public interface MachineStatusEvent {
     String getMachineName();
 
     MachineStatusEvent withMachineName(String machineName);
+
+    /**
+     * Returns how long it took to start the machine in milliseconds,
+     * present only for {@link EventType#RUNNING} events.
+     */
+    long getStartDuration();
+
+    void setStartDuration(long startDuration);
+
+    MachineStatusEvent withStartDuration(long startDuration);
 }
@@ -70,6 +70,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -92,6 +93,11 @@ public class MachineManager {
     /* machine name must contain only {a-zA-Z0-9_-} characters and it's needed for validation machine names */
     private static final Pattern MACHINE_DISPLAY_NAME_PATTERN = Pattern.compile("^/?[a-zA-Z0-9_-]+$");
 
+    /* machine and process output is written to file and sent to websocket in batches, not more often than the specified rate */
+    private static final long   OUTPUT_FLUSH_PERIOD_MS         = 200;
+    private static final double OUTPUT_MAX_MESSAGES_PER_SECOND = 5;
+    private static final int    OUTPUT_FILE_FLUSH_THRESHOLD    = 64 * 1024;
+
     private final SnapshotDao              snapshotDao;
     private final File                     machineLogsDir;
     private final MachineInstanceProviders machineInstanceProviders;
@@ -100,6 +106,7 @@ public class MachineManager {
     private final int                      defaultMachineMemorySizeMB;
     private final MachineCleaner           machineCleaner;
     private final WsAgentLauncher          wsAgentLauncher;
+    private final ScheduledExecutorService outputFlusher;
 
     @VisibleForTesting
     final ExecutorService executor;
@@ -123,6 +130,9 @@ public class MachineManager {
         executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setNameFormat("MachineManager-%d")
                                                                            .setDaemon(false)
                                                                            .build());
+        outputFlusher = Executors.newScheduledThreadPool(2, new ThreadFactoryBuilder().setNameFormat("MachineOutputFlusher-%d")
+                                                                                      .setDaemon(true)
+                                                                                      .build());
         this.machineCleaner = new MachineCleaner();
     }
 
@@ -367,6 +377,7 @@ public class MachineManager {
     private void createInstance(InstanceProvider instanceProvider,
                                 Machine machine,
                                 LineConsumer machineLogger) throws MachineException, NotFoundException {
+        final long startTime = System.currentTimeMillis();
         Instance instance = null;
         try {
             eventService.publish(DtoFactory.newDto(MachineStatusEvent.class)
@@ -391,7 +402,8 @@ public class MachineManager {
                                            .withDev(machine.getConfig().isDev())
                                            .withMachineId(machine.getId())
                                            .withWorkspaceId(machine.getWorkspaceId())
-                                           .withMachineName(machine.getConfig().getName()));
+                                           .withMachineName(machine.getConfig().getName())
+                                           .withStartDuration(System.currentTimeMillis() - startTime));
 
         } catch (ServerException | InterruptedException e) {
             if (instance != null) {
@@ -902,7 +914,10 @@ public class MachineManager {
 
     private FileLineConsumer getMachineFileLogger(String machineId) throws MachineException {
         try {
-            return new FileLineConsumer(getMachineLogsFile(machineId));
+            return new FileLineConsumer(getMachineLogsFile(machineId),
+                                        OUTPUT_FILE_FLUSH_THRESHOLD,
+                                        outputFlusher,
+                                        OUTPUT_FLUSH_PERIOD_MS);
         } catch (IOException e) {
             throw new MachineException(String.format("Unable create log file for machine '%s'. %s", machineId, e.getMessage()));
         }
@@ -918,7 +933,10 @@ public class MachineManager {
 
     private FileLineConsumer getProcessFileLogger(String machineId, int pid) throws MachineException {
         try {
-            return new FileLineConsumer(getProcessLogsFile(machineId, pid));
+            return new FileLineConsumer(getProcessLogsFile(machineId, pid),
+                                        OUTPUT_FILE_FLUSH_THRESHOLD,
+                                        outputFlusher,
+                                        OUTPUT_FLUSH_PERIOD_MS);
         } catch (IOException e) {
             throw new MachineException(
                     String.format("Unable create log file for process '%s' of machine '%s'. %s", pid, machineId, e.getMessage()));
@@ -939,9 +957,16 @@ public class MachineManager {
         return getLogger(getProcessFileLogger(machineId, pid), outputChannel);
     }
 
+    /**
+     * Output is written to the file without loss and flushed in batches, while websocket channel gets it in batches
+     * from separate thread, so noisy processes cause neither system call nor websocket message per line of output.
+     */
     private LineConsumer getLogger(LineConsumer fileLogger, String outputChannel) throws MachineException {
         if (outputChannel != null) {
-            return new CompositeLineConsumer(fileLogger, new WebsocketLineConsumer(outputChannel));
+            return new CompositeLineConsumer(fileLogger, new WebsocketLineConsumer(outputChannel,
+                                                                                   OUTPUT_MAX_MESSAGES_PER_SECOND,
+                                                                                   outputFlusher,
+                                                                                   OUTPUT_FLUSH_PERIOD_MS));
         }
         return fileLogger;
     }
@@ -1068,6 +1093,8 @@ public class MachineManager {
             executor.shutdownNow();
         }
 
+        outputFlusher.shutdownNow();
+
         final java.io.File[] files = machineLogsDir.listFiles();
         if (files != null && files.length > 0) {
             for (java.io.File f : files) {
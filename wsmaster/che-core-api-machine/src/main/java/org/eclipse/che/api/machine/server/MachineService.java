@@ -49,6 +49,7 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.Writer;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -303,14 +304,33 @@ public class MachineService extends Service {
                                @ApiParam(value = "Process ID")
                                @PathParam("pid")
                                int pid,
+                               @ApiParam(value = "From line, lines are counted from 1")
+                               @QueryParam("startFrom")
+                               @DefaultValue("1")
+                               Integer startFrom,
+                               @ApiParam(value = "Number of lines, all lines starting from the specified one are returned if not set")
+                               @QueryParam("limit")
+                               Integer limit,
                                @Context
                                HttpServletResponse httpServletResponse)
             throws NotFoundException,
                    ForbiddenException,
                    ServerException,
+                   BadRequestException,
                    IOException {
 
-        addLogsToResponse(machineManager.getProcessLogReader(machineId, pid), httpServletResponse);
+        if (startFrom < 1) {
+            throw new BadRequestException("Line to start from must be positive");
+        }
+        if (limit != null && limit < 0) {
+            throw new BadRequestException("Number of lines must not be negative");
+        }
+        final Reader logsReader = machineManager.getProcessLogReader(machineId, pid);
+        if (startFrom == 1 && limit == null) {
+            addLogsToResponse(logsReader, httpServletResponse);
+        } else {
+            addLogsToResponse(logsReader, startFrom, limit, httpServletResponse);
+        }
     }
 
     /**
@@ -420,6 +440,41 @@ public class MachineService extends Service {
         httpServletResponse.getWriter().flush();
     }
 
+    /**
+     * Writes {@code limit} lines of logs starting from line {@code startFrom} or all lines till the end if limit is {@code null}.
+     * Lines are separated by line feed only, as they are numbered when written to the log, so line which is rewritten
+     * by carriage returns, e.g. progress of download, is counted once.
+     */
+    private void addLogsToResponse(Reader logsReader, int startFrom, Integer limit, HttpServletResponse httpServletResponse)
+            throws IOException {
+        httpServletResponse.setContentType("text/plain");
+        try (Reader reader = logsReader) {
+            final Writer writer = httpServletResponse.getWriter();
+            final char[] buffer = new char[8192];
+            long linesToSkip = startFrom - 1;
+            long linesToWrite = limit == null ? Long.MAX_VALUE : limit;
+            int read;
+            while (linesToWrite > 0 && (read = reader.read(buffer)) != -1) {
+                int from = 0;
+                int i = 0;
+                for (; i < read && linesToWrite > 0; i++) {
+                    if (buffer[i] == '\n') {
+                        if (linesToSkip > 0) {
+                            linesToSkip--;
+                            from = i + 1;
+                        } else {
+                            linesToWrite--;
+                        }
+                    }
+                }
+                if (linesToSkip == 0) {
+                    writer.write(buffer, from, i - from);
+                }
+            }
+            writer.flush();
+        }
+    }
+
     /**
      * Checks object reference is not {@code null}
      *
@@ -34,9 +34,11 @@ import org.eclipse.che.api.machine.server.spi.Instance;
 import org.eclipse.che.api.machine.server.spi.InstanceProcess;
 import org.eclipse.che.api.machine.server.spi.InstanceProvider;
 import org.eclipse.che.api.machine.server.wsagent.WsAgentLauncher;
+import org.eclipse.che.api.machine.shared.dto.event.MachineStatusEvent;
 import org.eclipse.che.commons.env.EnvironmentContext;
 import org.eclipse.che.commons.lang.IoUtil;
 import org.eclipse.che.commons.subject.SubjectImpl;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.testng.MockitoTestNGListener;
 import org.testng.annotations.AfterMethod;
@@ -61,10 +63,12 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 /**
  * Unit tests for {@link MachineManager}
@@ -104,12 +108,13 @@ public class MachineManagerTest {
     private LineConsumer             processLogger;
     @Mock
     private SnapshotDao              snapshotDao;
+    @Mock
+    private EventService             eventService;
 
     private MachineManager manager;
 
     @BeforeMethod
     public void setUp() throws Exception {
-        final EventService eventService = mock(EventService.class);
         final String machineLogsDir = targetDir().resolve("logs-dir").toString();
         IoUtil.deleteRecursive(new File(machineLogsDir));
         manager = spy(new MachineManager(snapshotDao,
@@ -212,6 +217,21 @@ public class MachineManagerTest {
         verify(wsAgentLauncher, never()).startWsAgent(WS_ID);
     }
 
+    @Test
+    public void shouldPublishMachineStartDurationWithRunningEvent() throws Exception {
+        final MachineConfigImpl machineConfig = createMachineConfig();
+
+        manager.createMachineSync(machineConfig, WS_ID, ENVIRONMENT_NAME);
+
+        final ArgumentCaptor<MachineStatusEvent> captor = ArgumentCaptor.forClass(MachineStatusEvent.class);
+        verify(eventService, times(2)).publish(captor.capture());
+        final MachineStatusEvent running = captor.getAllValues().get(1);
+        assertEquals(running.getEventType(), MachineStatusEvent.EventType.RUNNING);
+        assertEquals(running.getMachineName(), machineConfig.getName());
+        assertTrue(running.getStartDuration() >= 0);
+        assertEquals(captor.getAllValues().get(0).getStartDuration(), 0);
+    }
+
     @Test
     public void shouldRemoveMachineFromRegistryIfInstanceDestroyingFailsOnDestroy() throws Exception {
         final MachineConfigImpl machineConfig = createMachineConfig();
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.machine.server;
+
+import com.jayway.restassured.response.Response;
+
+import org.eclipse.che.api.core.rest.ApiExceptionMapper;
+import org.eclipse.che.api.core.rest.shared.dto.ServiceError;
+import org.eclipse.che.dto.server.DtoFactory;
+import org.everrest.assured.EverrestJetty;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.testng.MockitoTestNGListener;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.jayway.restassured.RestAssured.given;
+import static org.everrest.assured.JettyHttpServer.ADMIN_USER_NAME;
+import static org.everrest.assured.JettyHttpServer.ADMIN_USER_PASSWORD;
+import static org.everrest.assured.JettyHttpServer.SECURE_PATH;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for {@link MachineService}.
+ */
+@Listeners(value = {EverrestJetty.class, MockitoTestNGListener.class})
+public class MachineServiceTest {
+    private static final String MACHINE_ID = "machine123";
+    private static final int    PID        = 7;
+    private static final String LOGS_PATH  = SECURE_PATH + "/machine/" + MACHINE_ID + "/process/" + PID + "/logs";
+
+    @SuppressWarnings("unused")
+    static final ApiExceptionMapper MAPPER = new ApiExceptionMapper();
+
+    @Mock
+    MachineManager              machineManager;
+    @Mock
+    MachineServiceLinksInjector linksInjector;
+    @InjectMocks
+    MachineService              service;
+
+    @DataProvider(name = "processLogs")
+    public Object[][] processLogs() {
+        return new Object[][] {
+                // logs, startFrom, limit, expected response
+                {"1\n2\n3\n4\n", null, null, "1\n2\n3\n4\n"},
+                {"1\n2\n3\n4\n", 1, 2, "1\n2\n"},
+                {"1\n2\n3\n4\n", 2, 2, "2\n3\n"},
+                {"1\n2\n3\n4\n", 3, null, "3\n4\n"},
+                {"1\n2\n3\n4", 4, 1, "4"},
+                {"1\n2\n3\n4\n", 2, 0, ""},
+                {"1\n2\n3\n4\n", 5, null, ""},
+                {"1\n2\n3\n4\n", 10, 2, ""},
+                {"", 2, 1, ""},
+                {"\n\n3\n", 2, 2, "\n3\n"},
+                // line rewritten by carriage returns is a single line
+                {"10%\r20%\r30%\ndone\nexit\n", 2, 1, "done\n"},
+                {"10%\r20%\r30%\ndone\nexit\n", 1, 1, "10%\r20%\r30%\n"},
+                {"start\r\nnext\n", 2, null, "next\n"},
+        };
+    }
+
+    @Test(dataProvider = "processLogs")
+    public void shouldReturnRequestedLinesOfProcessLogs(String logs, Integer startFrom, Integer limit, String expected)
+            throws Exception {
+        when(machineManager.getProcessLogReader(MACHINE_ID, PID)).thenReturn(new StringReader(logs));
+
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .queryParameters(queryParameters(startFrom, limit))
+                                         .when()
+                                         .get(LOGS_PATH);
+
+        assertEquals(response.getStatusCode(), 200);
+        assertEquals(response.body().asString(), expected);
+    }
+
+    @Test
+    public void shouldRespondBadRequestWhenLineToStartFromIsNotPositive() throws Exception {
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .queryParameter("startFrom", 0)
+                                         .when()
+                                         .get(LOGS_PATH);
+
+        assertEquals(response.getStatusCode(), 400);
+        assertEquals(unwrapDto(response, ServiceError.class).getMessage(), "Line to start from must be positive");
+        verifyZeroInteractions(machineManager);
+    }
+
+    @Test
+    public void shouldRespondBadRequestWhenNumberOfLinesIsNegative() throws Exception {
+        final Response response = given().auth()
+                                         .basic(ADMIN_USER_NAME, ADMIN_USER_PASSWORD)
+                                         .queryParameter("startFrom", 2)
+                                         .queryParameter("limit", -1)
+                                         .when()
+                                         .get(LOGS_PATH);
+
+        assertEquals(response.getStatusCode(), 400);
+        assertEquals(unwrapDto(response, ServiceError.class).getMessage(), "Number of lines must not be negative");
+        verifyZeroInteractions(machineManager);
+    }
+
+    private static Map<String, Object> queryParameters(Integer startFrom, Integer limit) {
+        final Map<String, Object> parameters = new HashMap<>();
+        if (startFrom != null) {
+            parameters.put("startFrom", startFrom);
+        }
+        if (limit != null) {
+            parameters.put("limit", limit);
+        }
+        return parameters;
+    }
+
+    private static <T> T unwrapDto(Response response, Class<T> dtoClass) {
+        return DtoFactory.getInstance().createDtoFromJson(response.body().print(), dtoClass);
+    }
+}
@@ -12,6 +12,7 @@ package org.eclipse.che.api.workspace.server;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.Striped;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.eclipse.che.api.core.BadRequestException;
 import org.eclipse.che.api.core.ConflictException;
@@ -34,20 +35,30 @@ import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceRuntimeImpl;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent;
 import org.eclipse.che.api.workspace.shared.dto.event.WorkspaceStatusEvent.EventType;
+import org.eclipse.che.commons.lang.concurrent.ThreadLocalPropagateContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 
@@ -80,6 +91,8 @@ public class WorkspaceRuntimes {
     private static final Logger                 LOG     = LoggerFactory.getLogger(WorkspaceRuntimes.class);
     // 16 - experimental value for stripes count, it comes from default hash map size
     private static final Striped<ReadWriteLock> STRIPED = Striped.readWriteLock(16);
+    // used by the constructor which doesn't receive machine start threads configuration
+    private static final int                    DEFAULT_MACHINE_START_THREADS = 10;
 
     @VisibleForTesting
     final Map<String, RuntimeDescriptor>        descriptors;
@@ -90,17 +103,33 @@ public class WorkspaceRuntimes {
     private final EventService                        eventService;
     private final EventSubscriber<MachineStatusEvent> addMachineEventSubscriber;
     private final EventSubscriber<MachineStatusEvent> removeMachineEventSubscriber;
+    private final ThreadPoolExecutor                  machineStartExecutor;
 
     private volatile boolean isPreDestroyInvoked;
 
     @Inject
-    public WorkspaceRuntimes(MachineManager machineManager, EventService eventService) {
+    public WorkspaceRuntimes(MachineManager machineManager,
+                             EventService eventService,
+                             @Named("workspace.runtime.machine_start_threads") int machineStartThreads) {
         this.machineManager = machineManager;
         this.eventService = eventService;
         this.descriptors = new HashMap<>();
         this.startQueues = new HashMap<>();
         this.addMachineEventSubscriber = new AddMachineEventSubscriber();
         this.removeMachineEventSubscriber = new RemoveMachineEventSubscriber();
+        this.machineStartExecutor = new ThreadPoolExecutor(machineStartThreads,
+                                                           machineStartThreads,
+                                                           60L,
+                                                           TimeUnit.SECONDS,
+                                                           new LinkedBlockingQueue<>(),
+                                                           new ThreadFactoryBuilder().setNameFormat("WorkspaceRuntimes-MachineStart-%d")
+                                                                                     .setDaemon(true)
+                                                                                     .build());
+        this.machineStartExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    public WorkspaceRuntimes(MachineManager machineManager, EventService eventService) {
+        this(machineManager, eventService, DEFAULT_MACHINE_START_THREADS);
     }
 
     /**
@@ -136,7 +165,8 @@ public class WorkspaceRuntimes {
      * Starts all machines from specified workspace environment,
      * creates workspace runtime instance based on that environment.
      *
-     * <p>Dev-machine always starts before the other machines.
+     * <p>Dev-machine always starts before the other machines, as all of
+     * them depend on it, the rest of the machines are started concurrently.
      * If dev-machine start failed then method will throw appropriate
      * {@link ServerException}. During the start of the workspace its
      * runtime is visible with {@link WorkspaceStatus#STARTING} status.
@@ -361,6 +391,10 @@ public class WorkspaceRuntimes {
         for (int i = 0; i < STRIPED.size(); i++) {
             STRIPED.getAt(i).writeLock().unlock();
         }
+
+        // Machines which are currently starting are finished by the pool threads,
+        // their start will be reported as failed as pre destroy is already invoked
+        machineStartExecutor.shutdown();
     }
 
     @VisibleForTesting
@@ -442,77 +476,16 @@ public class WorkspaceRuntimes {
                                                     ConflictException {
         publishEvent(EventType.STARTING, workspaceId, null);
 
-        // Starting all the machines one by one by getting configs
-        // from the corresponding starting queue.
-        // Config will be null only if there are no machines left in the queue
-        MachineConfigImpl config = queuePeekOrFail(workspaceId);
-        while (config != null) {
-
-            // According to WorkspaceStatus specification the workspace start
-            // is failed when dev-machine start is failed, so if any error
-            // occurs during machine creation and the machine is dev-machine
-            // then start fail is reported and start resources such as queue
-            // and descriptor must be cleaned up
-            MachineImpl machine = null;
-            try {
-                machine = startMachine(config, workspaceId, envName, recover);
-            } catch (RuntimeException | ServerException | ConflictException | NotFoundException x) {
-                if (config.isDev()) {
-                    publishEvent(EventType.ERROR, workspaceId, x.getLocalizedMessage());
-                    cleanupStartResources(workspaceId);
-                    throw x;
-                }
-                LOG.error(format("Error while creating non-dev machine '%s' in workspace '%s', environment '%s'",
-                                 config.getName(),
-                                 workspaceId,
-                                 envName),
-                          x);
-            }
-
-            // Machine destroying is an expensive operation which must be
-            // performed outside of the lock, this section checks if
-            // the workspace wasn't stopped while it is starting and sets
-            // polled flag to true if the workspace wasn't stopped plus
-            // polls the proceeded machine configuration from the queue
-            boolean queuePolled = false;
-            acquireWriteLock(workspaceId);
-            try {
-                ensurePreDestroyIsNotExecuted();
-                final Queue<MachineConfigImpl> queue = startQueues.get(workspaceId);
-                if (queue != null) {
-                    queue.poll();
-                    queuePolled = true;
-                    if (machine != null) {
-                        final RuntimeDescriptor descriptor = descriptors.get(workspaceId);
-                        if (config.isDev()) {
-                            descriptor.getRuntime().setDevMachine(machine);
-                            descriptor.setRuntimeStatus(WorkspaceStatus.RUNNING);
-                        }
-                        descriptor.getRuntime().getMachines().add(machine);
-                    }
-                }
-            } finally {
-                releaseWriteLock(workspaceId);
-            }
-
-            // Event publication should be performed outside of the lock
-            // as it may take some time to notify subscribers
-            if (machine != null && config.isDev()) {
-                publishEvent(EventType.RUNNING, workspaceId, null);
-            }
-
-            // If machine config is not polled from the queue
-            // then workspace was stopped and newly created machine
-            // must be destroyed(if such exists)
-            if (!queuePolled) {
-                if (machine != null) {
-                    machineManager.destroy(machine.getId(), false);
-                }
-                throw new ConflictException(format("Workspace '%s' start interrupted. Workspace stopped before all its machines started",
-                                                   workspaceId));
-            }
-
-            config = queuePeekOrFail(workspaceId);
+        // Machines of the environment form a dependency graph with dev-machine
+        // as its root, all the other machines depend on the dev-machine but
+        // don't depend on each other. So the dev-machine which is in the queue head
+        // is started first, then the rest of the queue is started concurrently
+        // and the overall start time is close to the time of the longest machine start.
+        // Config will be null only if there are no machines in the queue
+        final MachineConfigImpl devConfig = queuePeekOrFail(workspaceId);
+        if (devConfig != null) {
+            startQueuedMachine(devConfig, workspaceId, envName, recover);
+            startConcurrently(queueSnapshotOrFail(workspaceId), workspaceId, envName, recover);
         }
 
         // All the machines tried to start which means that queue
@@ -534,6 +507,149 @@ public class WorkspaceRuntimes {
         }
     }
 
+    /**
+     * Starts each of the given machines in the machine start pool and waits
+     * until all of them are processed. If any of the machine starts was
+     * interrupted the first interruption reason is rethrown.
+     */
+    private void startConcurrently(List<MachineConfigImpl> configs,
+                                   String workspaceId,
+                                   String envName,
+                                   boolean recover) throws ServerException,
+                                                           NotFoundException,
+                                                           ConflictException {
+        final List<Future<?>> futures = new ArrayList<>(configs.size());
+        Exception failure = null;
+        try {
+            for (MachineConfigImpl config : configs) {
+                final Callable<Void> startTask = () -> {
+                    startQueuedMachine(config, workspaceId, envName, recover);
+                    return null;
+                };
+                futures.add(machineStartExecutor.submit(ThreadLocalPropagateContext.wrap(startTask)));
+            }
+        } catch (RejectedExecutionException x) {
+            failure = new ServerException("Could not perform operation because application server is stopping");
+        }
+
+        // Wait for all the submitted machines even if some of them failed,
+        // otherwise workspace start may be reported before all its machines are processed
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException x) {
+                interrupted = true;
+                if (failure == null) {
+                    failure = new ServerException(format("Interrupted while starting machines of workspace '%s'", workspaceId));
+                }
+            } catch (ExecutionException x) {
+                if (failure == null) {
+                    failure = x.getCause() instanceof Exception ? (Exception)x.getCause() : new ServerException(x.getCause());
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (failure instanceof ConflictException) {
+            throw (ConflictException)failure;
+        }
+        if (failure instanceof NotFoundException) {
+            throw (NotFoundException)failure;
+        }
+        if (failure instanceof ServerException) {
+            throw (ServerException)failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException)failure;
+        }
+        if (failure != null) {
+            throw new ServerException(failure.getLocalizedMessage(), failure);
+        }
+    }
+
+    /**
+     * Starts the machine from the given config which is in the start queue
+     * of the workspace and removes the config from the queue.
+     *
+     * <p>According to WorkspaceStatus specification the workspace start
+     * is failed when dev-machine start is failed, so if any error
+     * occurs during machine creation and the machine is dev-machine
+     * then start fail is reported, start resources such as queue
+     * and descriptor are cleaned up and the error is rethrown.
+     * Non-dev machines start errors are only logged.
+     *
+     * @throws ConflictException
+     *         when the workspace was stopped while the machine was starting
+     */
+    private void startQueuedMachine(MachineConfigImpl config,
+                                    String workspaceId,
+                                    String envName,
+                                    boolean recover) throws ServerException,
+                                                            NotFoundException,
+                                                            ConflictException {
+        MachineImpl machine = null;
+        try {
+            machine = startMachine(config, workspaceId, envName, recover);
+        } catch (RuntimeException | ServerException | ConflictException | NotFoundException x) {
+            if (config.isDev()) {
+                publishEvent(EventType.ERROR, workspaceId, x.getLocalizedMessage());
+                cleanupStartResources(workspaceId);
+                throw x;
+            }
+            LOG.error(format("Error while creating non-dev machine '%s' in workspace '%s', environment '%s'",
+                             config.getName(),
+                             workspaceId,
+                             envName),
+                      x);
+        }
+
+        // Machine destroying is an expensive operation which must be
+        // performed outside of the lock, this section checks if
+        // the workspace wasn't stopped while it is starting and sets
+        // removed flag to true if the workspace wasn't stopped plus
+        // removes the proceeded machine configuration from the queue
+        boolean removedFromQueue = false;
+        acquireWriteLock(workspaceId);
+        try {
+            ensurePreDestroyIsNotExecuted();
+            final Queue<MachineConfigImpl> queue = startQueues.get(workspaceId);
+            if (queue != null) {
+                queue.remove(config);
+                removedFromQueue = true;
+                if (machine != null) {
+                    final RuntimeDescriptor descriptor = descriptors.get(workspaceId);
+                    if (config.isDev()) {
+                        descriptor.getRuntime().setDevMachine(machine);
+                        descriptor.setRuntimeStatus(WorkspaceStatus.RUNNING);
+                    }
+                    descriptor.getRuntime().getMachines().add(machine);
+                }
+            }
+        } finally {
+            releaseWriteLock(workspaceId);
+        }
+
+        // Event publication should be performed outside of the lock
+        // as it may take some time to notify subscribers
+        if (machine != null && config.isDev()) {
+            publishEvent(EventType.RUNNING, workspaceId, null);
+        }
+
+        // If machine config is not removed from the queue
+        // then workspace was stopped and newly created machine
+        // must be destroyed(if such exists)
+        if (!removedFromQueue) {
+            if (machine != null) {
+                machineManager.destroy(machine.getId(), false);
+            }
+            throw new ConflictException(format("Workspace '%s' start interrupted. Workspace stopped before all its machines started",
+                                               workspaceId));
+        }
+    }
+
     /**
      * Gets head config from the queue associated with the given {@code workspaceId}.
      *
@@ -565,6 +681,31 @@ public class WorkspaceRuntimes {
         }
     }
 
+    /**
+     * Returns a copy of the configs which are currently in the queue associated with the given {@code workspaceId}.
+     *
+     * @throws ConflictException
+     *         when queue doesn't exist which means that {@link #stop(String)} executed
+     *         before all the machines started
+     * @throws ServerException
+     *         only if pre destroy has been invoked before configs retrieved
+     */
+    private List<MachineConfigImpl> queueSnapshotOrFail(String workspaceId) throws ConflictException, ServerException {
+        acquireReadLock(workspaceId);
+        try {
+            ensurePreDestroyIsNotExecuted();
+            final Queue<MachineConfigImpl> queue = startQueues.get(workspaceId);
+            if (queue == null) {
+                throw new ConflictException(
+                        format("Workspace '%s' start interrupted. Workspace was stopped before all its machines were started",
+                               workspaceId));
+            }
+            return new ArrayList<>(queue);
+        } finally {
+            releaseReadLock(workspaceId);
+        }
+    }
+
     /**
      * Starts the machine from the configuration, returns null if machine start failed.
      */
@@ -43,6 +43,8 @@ import org.testng.annotations.Test;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -641,6 +643,35 @@ public class WorkspaceRuntimesTest {
         verify(runtimes).removeMachine(machine.getId(), machine.getConfig().getName(), machine.getWorkspaceId());
     }
 
+    @Test
+    public void nonDevMachinesShouldBeStartedConcurrentlyAfterDevMachine() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace();
+        final EnvironmentImpl environment = workspace.getConfig().getEnvironments().get(0);
+        environment.getMachineConfigs().add(MachineConfigImpl.builder()
+                                                             .fromConfig(createConfig(false))
+                                                             .setName("non-dev2")
+                                                             .build());
+        // each of non-dev machines waits for the other one, so the start
+        // succeeds only if both of them are starting at the same time
+        final CountDownLatch nonDevStarting = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            final MachineConfig cfg = (MachineConfig)invocation.getArguments()[0];
+            if (cfg.isDev()) {
+                assertEquals(nonDevStarting.getCount(), 2, "Non-dev machine started before dev-machine");
+            } else {
+                nonDevStarting.countDown();
+                assertTrue(nonDevStarting.await(10, TimeUnit.SECONDS), "Non-dev machines are not started concurrently");
+            }
+            return createMachine(cfg);
+        }).when(machineManager).createMachineSync(any(), anyString(), anyString());
+
+        final RuntimeDescriptor descriptor = runtimes.start(workspace, workspace.getConfig().getDefaultEnv());
+
+        assertEquals(descriptor.getRuntimeStatus(), RUNNING);
+        assertEquals(descriptor.getRuntime().getMachines().size(), 3);
+        assertFalse(runtimes.startQueues.containsKey(workspace.getId()));
+    }
+
     @Test
     public void shouldReuseRunningMachineIfFailedToStart() throws Exception {
         // prepare workspace
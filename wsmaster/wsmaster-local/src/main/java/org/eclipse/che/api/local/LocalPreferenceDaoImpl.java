@@ -14,7 +14,7 @@ package org.eclipse.che.api.local;
 import com.google.common.reflect.TypeToken;
 
 import org.eclipse.che.api.core.ServerException;
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.user.server.spi.PreferenceDao;
 import org.slf4j.Logger;
@@ -25,6 +25,7 @@ import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -42,20 +43,22 @@ public class LocalPreferenceDaoImpl implements PreferenceDao {
 
     private static final Logger LOG = LoggerFactory.getLogger(LocalPreferenceDaoImpl.class);
 
-    private final Map<String, Map<String, String>> preferences;
-    private final ReadWriteLock                    lock;
-    private final LocalStorage                     preferenceStorage;
+    private final Map<String, Map<String, String>>           preferences;
+    private final ReadWriteLock                              lock;
+    private final JournaledLocalStorage<Map<String, String>> preferenceStorage;
 
     @Inject
     public LocalPreferenceDaoImpl(LocalStorageFactory localStorageFactory) throws IOException {
         preferences = new HashMap<>();
         lock = new ReentrantReadWriteLock();
-        preferenceStorage = localStorageFactory.create("preferences.json");
+        preferenceStorage = localStorageFactory.createJournaled("preferences.json",
+                                                                new TypeToken<Map<String, String>>() {},
+                                                                Collections.emptyMap());
     }
 
     @PostConstruct
     private void start() {
-        preferences.putAll(preferenceStorage.loadMap(new TypeToken<Map<String, Map<String, String>>>() {}));
+        preferences.putAll(preferenceStorage.load());
         // Add default entry if file doesn't exist or invalid or empty.
         if (preferences.isEmpty()) {
             final Map<String, String> newPreferences = new HashMap<>(4);
@@ -67,17 +70,26 @@ public class LocalPreferenceDaoImpl implements PreferenceDao {
 
     @PreDestroy
     private void stop() throws IOException {
-        preferenceStorage.store(preferences);
+        lock.writeLock().lock();
+        try {
+            preferenceStorage.compact(preferences);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public void setPreferences(String userId, Map<String, String> prefs) throws ServerException {
         lock.writeLock().lock();
         try {
-            preferences.put(userId, new HashMap<>(prefs));
-            preferenceStorage.store(preferences);
-        } catch (IOException e) {
-            LOG.warn("Impossible to store preferences");
+            final Map<String, String> newPrefs = new HashMap<>(prefs);
+            try {
+                preferenceStorage.put(userId, newPrefs);
+            } catch (IOException x) {
+                throw new ServerException(x.getLocalizedMessage(), x);
+            }
+            preferences.put(userId, newPrefs);
+            preferenceStorage.compactIfRequired(preferences);
         } finally {
             lock.writeLock().unlock();
         }
@@ -88,7 +100,7 @@ public class LocalPreferenceDaoImpl implements PreferenceDao {
         lock.readLock().lock();
         try {
             //Need read all new preferences without restarting dev-machine. It is needed for  IDEX-2180
-            preferences.putAll(preferenceStorage.loadMap(new TypeToken<Map<String, Map<String, String>>>() {}));
+            preferences.putAll(preferenceStorage.load());
             final Map<String, String> prefs = new HashMap<>();
             if (preferences.containsKey(userId)) {
                 prefs.putAll(preferences.get(userId));
@@ -124,7 +136,15 @@ public class LocalPreferenceDaoImpl implements PreferenceDao {
     public void remove(String userId) throws ServerException {
         lock.writeLock().lock();
         try {
-            preferences.remove(userId);
+            if (preferences.containsKey(userId)) {
+                try {
+                    preferenceStorage.remove(userId);
+                } catch (IOException x) {
+                    throw new ServerException(x.getLocalizedMessage(), x);
+                }
+                preferences.remove(userId);
+                preferenceStorage.compactIfRequired(preferences);
+            }
         } finally {
             lock.writeLock().unlock();
         }
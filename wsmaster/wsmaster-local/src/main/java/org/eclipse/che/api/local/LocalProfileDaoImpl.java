@@ -12,22 +12,25 @@ package org.eclipse.che.api.local;
 
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.reflect.TypeToken;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.core.model.user.Profile;
 import org.eclipse.che.api.user.server.model.impl.ProfileImpl;
 import org.eclipse.che.api.user.server.spi.ProfileDao;
 import org.eclipse.che.api.user.server.spi.UserDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -43,22 +46,24 @@ import static java.util.Objects.requireNonNull;
 @Singleton
 public class LocalProfileDaoImpl implements ProfileDao {
 
+    private static final Logger LOG = LoggerFactory.getLogger(LocalProfileDaoImpl.class);
+
     @VisibleForTesting
     final Map<String, ProfileImpl> profiles;
 
-    private final ReadWriteLock            lock;
-    private final LocalStorage             profileStorage;
+    private final ReadWriteLock                      lock;
+    private final JournaledLocalStorage<ProfileImpl> profileStorage;
 
     @Inject
     public LocalProfileDaoImpl(LocalStorageFactory storageFactory) throws IOException {
         profiles = new LinkedHashMap<>();
         lock = new ReentrantReadWriteLock();
-        profileStorage = storageFactory.create("profiles.json");
+        profileStorage = storageFactory.createJournaled("profiles.json", ProfileImpl.class, Collections.emptyMap());
     }
 
     @PostConstruct
     private void start() {
-        profiles.putAll(profileStorage.loadMap(new TypeToken<Map<String, ProfileImpl>>() {}));
+        profiles.putAll(profileStorage.load());
         // Add default entry if file doesn't exist or invalid or empty.
         if (profiles.isEmpty()) {
             final Map<String, String> attributes = new HashMap<>(2);
@@ -72,45 +77,56 @@ public class LocalProfileDaoImpl implements ProfileDao {
 
     @PreDestroy
     private void stop() throws IOException {
-        profileStorage.store(profiles);
+        lock.writeLock().lock();
+        try {
+            profileStorage.compact(profiles);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
-    public void create(ProfileImpl profile) throws ConflictException {
+    public void create(ProfileImpl profile) throws ConflictException, ServerException {
         requireNonNull(profile, "Required non-null profile");
         lock.writeLock().lock();
         try {
             if (profiles.containsKey(profile.getUserId())) {
                 throw new ConflictException(format("Profile for user '%s' already exists", profile.getUserId()));
             }
-            profiles.put(profile.getUserId(), new ProfileImpl(profile));
+            doPut(new ProfileImpl(profile));
         } finally {
             lock.writeLock().unlock();
         }
     }
 
     @Override
-    public void update(ProfileImpl profile) throws NotFoundException {
+    public void update(ProfileImpl profile) throws NotFoundException, ServerException {
         requireNonNull(profile, "Required non-null profile");
         lock.writeLock().lock();
         try {
-            final Profile myProfile = profiles.get(profile.getUserId());
-            if (myProfile == null) {
+            if (!profiles.containsKey(profile.getUserId())) {
                 throw new NotFoundException(format("Profile with id '%s' not found", profile.getUserId()));
             }
-            myProfile.getAttributes().clear();
-            myProfile.getAttributes().putAll(profile.getAttributes());
+            doPut(new ProfileImpl(profile));
         } finally {
             lock.writeLock().unlock();
         }
     }
 
     @Override
-    public void remove(String id) {
+    public void remove(String id) throws ServerException {
         requireNonNull(id, "Required non-null id");
         lock.writeLock().lock();
         try {
-           profiles.remove(id);
+            if (profiles.containsKey(id)) {
+                try {
+                    profileStorage.remove(id);
+                } catch (IOException x) {
+                    throw new ServerException(x.getLocalizedMessage(), x);
+                }
+                profiles.remove(id);
+                profileStorage.compactIfRequired(profiles);
+            }
         } finally {
             lock.writeLock().unlock();
         }
@@ -130,4 +146,16 @@ public class LocalProfileDaoImpl implements ProfileDao {
             lock.readLock().unlock();
         }
     }
+
+    /** Writes the profile to the storage journal and then puts it into the map. */
+    private void doPut(ProfileImpl profile) throws ServerException {
+        try {
+            profileStorage.put(profile.getUserId(), profile);
+        } catch (IOException x) {
+            throw new ServerException(x.getLocalizedMessage(), x);
+        }
+        profiles.put(profile.getUserId(), profile);
+        profileStorage.compactIfRequired(profiles);
+    }
+
 }
@@ -10,21 +10,23 @@
  *******************************************************************************/
 package org.eclipse.che.api.local;
 
-import com.google.common.reflect.TypeToken;
 import com.google.inject.Inject;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.machine.server.dao.RecipeDao;
 import org.eclipse.che.api.machine.server.recipe.RecipeImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Singleton;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,48 +44,57 @@ import static java.lang.String.format;
 @Singleton
 public class LocalRecipeDaoImpl implements RecipeDao {
 
-    private final Map<String, RecipeImpl> recipes;
-    private final ReadWriteLock           lock;
-    private final LocalStorage            recipeStorage;
+    private static final Logger LOG = LoggerFactory.getLogger(LocalRecipeDaoImpl.class);
+
+    private final Map<String, RecipeImpl>           recipes;
+    private final ReadWriteLock                     lock;
+    private final JournaledLocalStorage<RecipeImpl> recipeStorage;
 
     @Inject
     public LocalRecipeDaoImpl(LocalStorageFactory storageFactory) throws IOException {
-        this.recipeStorage = storageFactory.create("recipes.json");
+        this.recipeStorage = storageFactory.createJournaled("recipes.json", RecipeImpl.class, Collections.emptyMap());
         this.recipes = new HashMap<>();
         this.lock = new ReentrantReadWriteLock();
     }
 
     @PostConstruct
     public void loadRecipes() {
-        recipes.putAll(recipeStorage.loadMap(new TypeToken<Map<String, RecipeImpl>>() {}));
+        recipes.putAll(recipeStorage.load());
     }
 
     @PreDestroy
     public void saveRecipes() throws IOException {
-        recipeStorage.store(recipes);
+        lock.writeLock().lock();
+        try {
+            recipeStorage.compact(recipes);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
-    public void create(RecipeImpl recipe) throws ConflictException {
+    public void create(RecipeImpl recipe) throws ConflictException, ServerException {
         lock.writeLock().lock();
         try {
             if (recipes.containsKey(recipe.getId())) {
                 throw new ConflictException(format("Recipe with id %s already exists", recipe.getId()));
             }
-            recipes.put(recipe.getId(), recipe);
+            doPut(recipe);
         } finally {
             lock.writeLock().unlock();
         }
     }
 
     @Override
-    public RecipeImpl update(RecipeImpl update) throws NotFoundException {
+    public RecipeImpl update(RecipeImpl update) throws NotFoundException, ServerException {
         lock.writeLock().lock();
         try {
-            final RecipeImpl target = recipes.get(update.getId());
-            if (target == null) {
+            final RecipeImpl stored = recipes.get(update.getId());
+            if (stored == null) {
                 throw new NotFoundException(format("Recipe with id '%s' was not found", update.getId()));
             }
+            // the stored recipe is replaced only when the update is written to the journal
+            final RecipeImpl target = new RecipeImpl(stored);
             if (update.getType() != null) {
                 target.setType(update.getType());
             }
@@ -102,6 +113,7 @@ public class LocalRecipeDaoImpl implements RecipeDao {
             if (update.getAcl() != null && !update.getAcl().isEmpty()) {
                 target.setAcl(update.getAcl());
             }
+            doPut(target);
 
             return new RecipeImpl(target);
         } finally {
@@ -110,10 +122,18 @@ public class LocalRecipeDaoImpl implements RecipeDao {
     }
 
     @Override
-    public void remove(String id) {
+    public void remove(String id) throws ServerException {
         lock.writeLock().lock();
         try {
-            recipes.remove(id);
+            if (recipes.containsKey(id)) {
+                try {
+                    recipeStorage.remove(id);
+                } catch (IOException x) {
+                    throw new ServerException(x.getLocalizedMessage(), x);
+                }
+                recipes.remove(id);
+                recipeStorage.compactIfRequired(recipes);
+            }
         } finally {
             lock.writeLock().unlock();
         }
@@ -150,4 +170,16 @@ public class LocalRecipeDaoImpl implements RecipeDao {
             lock.readLock().unlock();
         }
     }
+
+    /** Writes the recipe to the storage journal and then puts it into the map. */
+    private void doPut(RecipeImpl recipe) throws ServerException {
+        try {
+            recipeStorage.put(recipe.getId(), recipe);
+        } catch (IOException x) {
+            throw new ServerException(x.getLocalizedMessage(), x);
+        }
+        recipes.put(recipe.getId(), recipe);
+        recipeStorage.compactIfRequired(recipes);
+    }
+
 }
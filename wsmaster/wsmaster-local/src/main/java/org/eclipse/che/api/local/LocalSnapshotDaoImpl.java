@@ -10,16 +10,16 @@
  *******************************************************************************/
 package org.eclipse.che.api.local;
 
-import com.google.common.reflect.TypeToken;
-
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.model.machine.MachineSource;
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.machine.server.dao.SnapshotDao;
 import org.eclipse.che.api.machine.server.exception.SnapshotException;
 import org.eclipse.che.api.machine.server.model.impl.SnapshotImpl;
 import org.eclipse.che.api.machine.server.model.impl.adapter.MachineSourceAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -44,13 +44,17 @@ import static java.util.stream.Collectors.toList;
 @Singleton
 public class LocalSnapshotDaoImpl implements SnapshotDao {
 
-    private final Map<String, SnapshotImpl> snapshots;
-    private final LocalStorage              snapshotStorage;
+    private static final Logger LOG = LoggerFactory.getLogger(LocalSnapshotDaoImpl.class);
+
+    private final Map<String, SnapshotImpl>           snapshots;
+    private final JournaledLocalStorage<SnapshotImpl> snapshotStorage;
 
     @Inject
     public LocalSnapshotDaoImpl(LocalStorageFactory storageFactory) throws IOException {
         snapshots = new HashMap<>();
-        snapshotStorage = storageFactory.create("snapshots.json", singletonMap(MachineSource.class, new MachineSourceAdapter()));
+        snapshotStorage = storageFactory.createJournaled("snapshots.json",
+                                                         SnapshotImpl.class,
+                                                         singletonMap(MachineSource.class, new MachineSourceAdapter()));
     }
 
     @Override
@@ -77,10 +81,17 @@ public class LocalSnapshotDaoImpl implements SnapshotDao {
     public synchronized void saveSnapshot(SnapshotImpl snapshot) throws SnapshotException {
         Objects.requireNonNull(snapshot, "Required non-null snapshot");
         final Optional<SnapshotImpl> opt = doGetSnapshot(snapshot.getWorkspaceId(), snapshot.getEnvName(), snapshot.getMachineName());
-        if (opt.isPresent()) {
-            snapshots.remove(opt.get().getId());
+        try {
+            if (opt.isPresent()) {
+                snapshotStorage.remove(opt.get().getId());
+                snapshots.remove(opt.get().getId());
+            }
+            snapshotStorage.put(snapshot.getId(), snapshot);
+        } catch (IOException x) {
+            throw new SnapshotException(x.getLocalizedMessage(), x);
         }
         snapshots.put(snapshot.getId(), snapshot);
+        snapshotStorage.compactIfRequired(snapshots);
     }
 
     @Override
@@ -93,17 +104,25 @@ public class LocalSnapshotDaoImpl implements SnapshotDao {
 
     @Override
     public synchronized void removeSnapshot(String snapshotId) throws NotFoundException, SnapshotException {
-        snapshots.remove(snapshotId);
+        if (snapshots.containsKey(snapshotId)) {
+            try {
+                snapshotStorage.remove(snapshotId);
+            } catch (IOException x) {
+                throw new SnapshotException(x.getLocalizedMessage(), x);
+            }
+            snapshots.remove(snapshotId);
+            snapshotStorage.compactIfRequired(snapshots);
+        }
     }
 
     @PostConstruct
     public synchronized void loadSnapshots() {
-        snapshots.putAll(snapshotStorage.loadMap(new TypeToken<Map<String, SnapshotImpl>>() {}));
+        snapshots.putAll(snapshotStorage.load());
     }
 
     @PreDestroy
     public synchronized void saveSnapshots() throws IOException {
-        snapshotStorage.store(snapshots);
+        snapshotStorage.compact(snapshots);
     }
 
     private Optional<SnapshotImpl> doGetSnapshot(String workspaceId, String envName, String machineName) {
@@ -17,10 +17,13 @@ import com.google.common.reflect.TypeToken;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.core.ServerException;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.ssh.server.model.impl.SshPairImpl;
 import org.eclipse.che.api.ssh.server.spi.SshDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -28,6 +31,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -39,25 +43,29 @@ import java.util.stream.Collectors;
 import static java.lang.String.format;
 
 /**
- * In-memory implementation of {@link SshDao}
+ * In-memory implementation of {@link SshDao}, the storage journal
+ * keeps the whole list of pairs of the modified owner.
  *
  * @author Sergii Leschenko
  */
 @Singleton
 public class LocalSshDaoImpl implements SshDao {
-    private final ListMultimap<String, SshPairImpl> pairs;
-    private final ReadWriteLock                     lock;
-    private final LocalStorage                      sshStorage;
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalSshDaoImpl.class);
+
+    private final ListMultimap<String, SshPairImpl>        pairs;
+    private final ReadWriteLock                            lock;
+    private final JournaledLocalStorage<List<SshPairImpl>> sshStorage;
 
     @Inject
     public LocalSshDaoImpl(LocalStorageFactory storageFactory) throws IOException {
         pairs = ArrayListMultimap.create();
         lock = new ReentrantReadWriteLock();
-        sshStorage = storageFactory.create("ssh.json");
+        sshStorage = storageFactory.createJournaled("ssh.json", new TypeToken<List<SshPairImpl>>() {}, Collections.emptyMap());
     }
 
     @Override
-    public void create(String owner, SshPairImpl usersSshPair) throws ConflictException {
+    public void create(String owner, SshPairImpl usersSshPair) throws ConflictException, ServerException {
         lock.writeLock().lock();
         try {
             final Optional<SshPairImpl> any = find(owner, usersSshPair.getService(), usersSshPair.getName());
@@ -66,7 +74,11 @@ public class LocalSshDaoImpl implements SshDao {
                                                    usersSshPair.getService(),
                                                    usersSshPair.getName()));
             }
+            final List<SshPairImpl> ownerPairs = new ArrayList<>(pairs.get(owner));
+            ownerPairs.add(usersSshPair);
+            writeOwnerPairs(owner, ownerPairs);
             pairs.put(owner, usersSshPair);
+            sshStorage.compactIfRequired(ownerToPairs());
         } finally {
             lock.writeLock().unlock();
         }
@@ -87,14 +99,18 @@ public class LocalSshDaoImpl implements SshDao {
     }
 
     @Override
-    public void remove(String owner, String service, String name) throws NotFoundException {
+    public void remove(String owner, String service, String name) throws NotFoundException, ServerException {
         lock.writeLock().lock();
         try {
             final Optional<SshPairImpl> any = find(owner, service, name);
             if (!any.isPresent()) {
                 throw new NotFoundException(format("Ssh pair with service '%s' and name '%s' was not found.", service, name));
             }
+            final List<SshPairImpl> ownerPairs = new ArrayList<>(pairs.get(owner));
+            ownerPairs.remove(any.get());
+            writeOwnerPairs(owner, ownerPairs);
             pairs.remove(owner, any.get());
+            sshStorage.compactIfRequired(ownerToPairs());
         } finally {
             lock.writeLock().unlock();
         }
@@ -126,7 +142,7 @@ public class LocalSshDaoImpl implements SshDao {
     void loadSshPairs() {
         lock.writeLock().lock();
         try {
-            final Map<String, List<SshPairImpl>> ownerToPairs = sshStorage.loadMap(new TypeToken<Map<String, List<SshPairImpl>>>() {});
+            final Map<String, List<SshPairImpl>> ownerToPairs = sshStorage.load();
             for (Map.Entry<String, List<SshPairImpl>> stringListEntry : ownerToPairs.entrySet()) {
                 for (SshPairImpl sshPair : stringListEntry.getValue()) {
                     pairs.put(stringListEntry.getKey(), sshPair);
@@ -140,16 +156,33 @@ public class LocalSshDaoImpl implements SshDao {
     @PreDestroy
     @VisibleForTesting
     void saveSshPairs() throws IOException {
-        lock.readLock().lock();
+        lock.writeLock().lock();
         try {
-            final HashMap<String, List<SshPairImpl>> ownerToPairs = new HashMap<>();
-            for (Map.Entry<String, SshPairImpl> entry : pairs.entries()) {
-                ownerToPairs.computeIfAbsent(entry.getKey(), s -> new ArrayList<>());
-                ownerToPairs.get(entry.getKey()).add(entry.getValue());
-            }
-            sshStorage.store(ownerToPairs);
+            sshStorage.compact(ownerToPairs());
         } finally {
-            lock.readLock().unlock();
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Writes the new list of the owner's pairs to the storage journal. */
+    private void writeOwnerPairs(String owner, List<SshPairImpl> ownerPairs) throws ServerException {
+        try {
+            if (ownerPairs.isEmpty()) {
+                sshStorage.remove(owner);
+            } else {
+                sshStorage.put(owner, ownerPairs);
+            }
+        } catch (IOException x) {
+            throw new ServerException(x.getLocalizedMessage(), x);
+        }
+    }
+
+    private Map<String, List<SshPairImpl>> ownerToPairs() {
+        final HashMap<String, List<SshPairImpl>> ownerToPairs = new HashMap<>();
+        for (Map.Entry<String, SshPairImpl> entry : pairs.entries()) {
+            ownerToPairs.computeIfAbsent(entry.getKey(), s -> new ArrayList<>());
+            ownerToPairs.get(entry.getKey()).add(entry.getValue());
         }
+        return ownerToPairs;
     }
 }
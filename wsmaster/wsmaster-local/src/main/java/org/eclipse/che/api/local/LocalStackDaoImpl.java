@@ -20,6 +20,8 @@ import org.eclipse.che.api.workspace.server.model.impl.stack.StackImpl;
 import org.eclipse.che.api.workspace.server.spi.StackDao;
 import org.eclipse.che.api.workspace.shared.stack.Stack;
 import org.eclipse.che.commons.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -44,6 +46,8 @@ import static java.util.stream.Collectors.toList;
 @Singleton
 public class LocalStackDaoImpl implements StackDao {
 
+    private static final Logger LOG = LoggerFactory.getLogger(LocalStackDaoImpl.class);
+
     private final StackLocalStorage      stackStorage;
     private final Map<String, StackImpl> stacks;
     private final ReadWriteLock          lock;
@@ -77,7 +81,7 @@ public class LocalStackDaoImpl implements StackDao {
             if (stacks.containsKey(stack.getId())) {
                 throw new ConflictException(format("Stack with id %s is already exist", stack.getId()));
             }
-            stacks.put(stack.getId(), stack);
+            doPut(stack);
         } finally {
             lock.writeLock().unlock();
         }
@@ -103,7 +107,15 @@ public class LocalStackDaoImpl implements StackDao {
         requireNonNull(id, "Stack id required");
         lock.writeLock().lock();
         try {
-            stacks.remove(id);
+            if (stacks.containsKey(id)) {
+                try {
+                    stackStorage.remove(id);
+                } catch (IOException x) {
+                    throw new ServerException(x.getLocalizedMessage(), x);
+                }
+                stacks.remove(id);
+                stackStorage.compactIfRequired(stacks);
+            }
         } finally {
             lock.writeLock().unlock();
         }
@@ -119,7 +131,7 @@ public class LocalStackDaoImpl implements StackDao {
             if (!stacks.containsKey(updateId)) {
                 throw new NotFoundException(format("Stack with id %s was not found", updateId));
             }
-            stacks.replace(updateId, update);
+            doPut(update);
             return new StackImpl(update);
         } finally {
             lock.writeLock().unlock();
@@ -145,4 +157,15 @@ public class LocalStackDaoImpl implements StackDao {
             lock.readLock().unlock();
         }
     }
+
+    /** Writes the stack to the storage journal and then puts it into the map. */
+    private void doPut(StackImpl stack) throws ServerException {
+        try {
+            stackStorage.put(stack);
+        } catch (IOException x) {
+            throw new ServerException(x.getLocalizedMessage(), x);
+        }
+        stacks.put(stack.getId(), stack);
+        stackStorage.compactIfRequired(stacks);
+    }
 }
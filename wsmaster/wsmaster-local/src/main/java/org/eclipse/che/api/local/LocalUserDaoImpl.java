@@ -12,17 +12,18 @@ package org.eclipse.che.api.local;
 
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.reflect.TypeToken;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
 import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.UnauthorizedException;
 import org.eclipse.che.api.core.model.user.User;
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.user.server.model.impl.UserImpl;
 import org.eclipse.che.api.user.server.spi.UserDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -52,23 +53,25 @@ import static java.util.Objects.requireNonNull;
 @Singleton
 public class LocalUserDaoImpl implements UserDao {
 
+    private static final Logger LOG = LoggerFactory.getLogger(LocalUserDaoImpl.class);
+
     @VisibleForTesting
     final Map<String, UserImpl> users;
 
-    private final ReadWriteLock rwLock;
-    private final LocalStorage  userStorage;
+    private final ReadWriteLock                   rwLock;
+    private final JournaledLocalStorage<UserImpl> userStorage;
 
     @Inject
     public LocalUserDaoImpl(LocalStorageFactory storageFactory) throws IOException {
         this.users = new HashMap<>();
         rwLock = new ReentrantReadWriteLock();
-        userStorage = storageFactory.create("users.json");
+        userStorage = storageFactory.createJournaled("users.json", UserImpl.class, Collections.emptyMap());
     }
 
     @Inject
     @PostConstruct
     public void start(@Named("codenvy.local.infrastructure.users") Set<UserImpl> defaultUsers) {
-        final Map<String, UserImpl> storedUsers = userStorage.loadMap(new TypeToken<Map<String, UserImpl>>() {});
+        final Map<String, UserImpl> storedUsers = userStorage.load();
         rwLock.writeLock().lock();
         try {
             final Collection<UserImpl> preloadedUsers = storedUsers.isEmpty() ? defaultUsers : storedUsers.values();
@@ -82,11 +85,11 @@ public class LocalUserDaoImpl implements UserDao {
 
     @PreDestroy
     public void stop() throws IOException {
-        rwLock.readLock().lock();
+        rwLock.writeLock().lock();
         try {
-            userStorage.store(new HashMap<>(users));
+            userStorage.compact(users);
         } finally {
-            rwLock.readLock().unlock();
+            rwLock.writeLock().unlock();
         }
     }
 
@@ -112,7 +115,7 @@ public class LocalUserDaoImpl implements UserDao {
     }
 
     @Override
-    public void create(UserImpl newUser) throws ConflictException {
+    public void create(UserImpl newUser) throws ConflictException, ServerException {
         requireNonNull(newUser);
         rwLock.writeLock().lock();
         try {
@@ -121,14 +124,14 @@ public class LocalUserDaoImpl implements UserDao {
                                                    newUser.getId()));
             }
             checkConflicts(newUser, "create");
-            users.put(newUser.getId(), new UserImpl(newUser));
+            doPut(new UserImpl(newUser));
         } finally {
             rwLock.writeLock().unlock();
         }
     }
 
     @Override
-    public void update(UserImpl update) throws NotFoundException, ConflictException {
+    public void update(UserImpl update) throws NotFoundException, ConflictException, ServerException {
         requireNonNull(update);
         rwLock.writeLock().lock();
         try {
@@ -137,18 +140,26 @@ public class LocalUserDaoImpl implements UserDao {
                 throw new NotFoundException(format("User with id '%s' doesn't exist", update.getId()));
             }
             checkConflicts(update, "update");
-            users.put(update.getId(), new UserImpl(update));
+            doPut(new UserImpl(update));
         } finally {
             rwLock.writeLock().unlock();
         }
     }
 
     @Override
-    public void remove(String id) {
+    public void remove(String id) throws ServerException {
         requireNonNull(id);
         rwLock.writeLock().lock();
         try {
-            users.remove(id);
+            if (users.containsKey(id)) {
+                try {
+                    userStorage.remove(id);
+                } catch (IOException x) {
+                    throw new ServerException(x.getLocalizedMessage(), x);
+                }
+                users.remove(id);
+                userStorage.compactIfRequired(users);
+            }
         } finally {
             rwLock.writeLock().unlock();
         }
@@ -202,6 +213,17 @@ public class LocalUserDaoImpl implements UserDao {
         }
     }
 
+    /** Writes the user to the storage journal and then puts it into the map. */
+    private void doPut(UserImpl user) throws ServerException {
+        try {
+            userStorage.put(user.getId(), user);
+        } catch (IOException x) {
+            throw new ServerException(x.getLocalizedMessage(), x);
+        }
+        users.put(user.getId(), user);
+        userStorage.compactIfRequired(users);
+    }
+
     private void checkConflicts(UserImpl user, String operation) throws ConflictException {
         for (UserImpl existingUser : users.values()) {
             if (!existingUser.getId().equals(user.getId())) {
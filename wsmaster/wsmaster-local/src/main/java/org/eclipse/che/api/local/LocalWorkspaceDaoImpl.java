@@ -11,7 +11,6 @@
 package org.eclipse.che.api.local;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.reflect.TypeToken;
 
 import org.eclipse.che.api.core.ConflictException;
 import org.eclipse.che.api.core.NotFoundException;
@@ -19,22 +18,23 @@ import org.eclipse.che.api.core.ServerException;
 import org.eclipse.che.api.core.model.machine.Recipe;
 import org.eclipse.che.api.core.model.project.ProjectConfig;
 import org.eclipse.che.api.core.model.workspace.WorkspaceStatus;
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.machine.server.recipe.adapters.RecipeTypeAdapter;
 import org.eclipse.che.api.workspace.server.model.impl.WorkspaceImpl;
 import org.eclipse.che.api.workspace.server.spi.WorkspaceDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
@@ -42,10 +42,12 @@ import static java.util.stream.Collectors.toList;
 /**
  * In memory based implementation of {@link WorkspaceDao}.
  *
- * <p>{@link #loadWorkspaces() Loads} & {@link #saveWorkspaces() stores} in memory workspaces
- * to/from filesystem, when component starts/stops.
+ * <p>{@link #loadWorkspaces() Loads} in memory workspaces from filesystem when component starts,
+ * modifications are journaled by {@link JournaledLocalStorage} which is
+ * {@link #saveWorkspaces() compacted} when component stops.
  *
- * @implNote it is thread-safe, guarded by <i>this</i> instance
+ * @implNote it is thread-safe, modifications are guarded by <i>this</i> instance,
+ * reads are lock-free as stored workspaces are never modified after they are put into the map
  *
  * @author Eugene Voevodin
  * @author Dmitry Shnurenko
@@ -54,28 +56,31 @@ import static java.util.stream.Collectors.toList;
 @Singleton
 public class LocalWorkspaceDaoImpl implements WorkspaceDao {
 
-    private final Map<String, WorkspaceImpl> workspaces;
-    private final LocalStorage               localStorage;
+    private static final Logger LOG = LoggerFactory.getLogger(LocalWorkspaceDaoImpl.class);
+
+    private final Map<String, WorkspaceImpl>            workspaces;
+    private final JournaledLocalStorage<WorkspaceImpl> localStorage;
 
     @Inject
     public LocalWorkspaceDaoImpl(LocalStorageFactory factory) throws IOException {
         final Map<Class<?>, Object> adapters = ImmutableMap.of(Recipe.class, new RecipeTypeAdapter(),
                                                                ProjectConfig.class, new ProjectConfigAdapter());
-        this.localStorage = factory.create("workspaces.json", adapters);
-        this.workspaces = new HashMap<>();
+        this.localStorage = factory.createJournaled("workspaces.json", WorkspaceImpl.class, adapters);
+        this.workspaces = new ConcurrentHashMap<>();
     }
 
     @PostConstruct
     public synchronized void loadWorkspaces() {
-        workspaces.putAll(localStorage.loadMap(new TypeToken<Map<String, WorkspaceImpl>>() {}));
-        for (WorkspaceImpl workspace : workspaces.values()) {
+        final Map<String, WorkspaceImpl> loaded = localStorage.load();
+        for (WorkspaceImpl workspace : loaded.values()) {
             workspace.setRuntime(null);
         }
+        workspaces.putAll(loaded);
     }
 
     @PreDestroy
     public synchronized void saveWorkspaces() throws IOException {
-        localStorage.store(workspaces);
+        localStorage.compact(workspaces);
     }
 
     @Override
@@ -90,7 +95,7 @@ public class LocalWorkspaceDaoImpl implements WorkspaceDao {
         }
         workspace.setRuntime(null);
         workspace.setStatus(WorkspaceStatus.STOPPED);
-        workspaces.put(workspace.getId(), new WorkspaceImpl(workspace));
+        doPut(new WorkspaceImpl(workspace));
         return workspace;
     }
 
@@ -102,17 +107,25 @@ public class LocalWorkspaceDaoImpl implements WorkspaceDao {
         }
         workspace.setStatus(null);
         workspace.setRuntime(null);
-        workspaces.put(workspace.getId(), new WorkspaceImpl(workspace));
+        doPut(new WorkspaceImpl(workspace));
         return workspace;
     }
 
     @Override
     public synchronized void remove(String id) throws ConflictException, ServerException {
-        workspaces.remove(id);
+        if (workspaces.containsKey(id)) {
+            try {
+                localStorage.remove(id);
+            } catch (IOException x) {
+                throw new ServerException(x.getLocalizedMessage(), x);
+            }
+            workspaces.remove(id);
+            localStorage.compactIfRequired(workspaces);
+        }
     }
 
     @Override
-    public synchronized WorkspaceImpl get(String id) throws NotFoundException, ServerException {
+    public WorkspaceImpl get(String id) throws NotFoundException, ServerException {
         final WorkspaceImpl workspace = workspaces.get(id);
         if (workspace == null) {
             throw new NotFoundException("Workspace with id " + id + " was not found");
@@ -121,7 +134,7 @@ public class LocalWorkspaceDaoImpl implements WorkspaceDao {
     }
 
     @Override
-    public synchronized WorkspaceImpl get(String name, String namespace) throws NotFoundException, ServerException {
+    public WorkspaceImpl get(String name, String namespace) throws NotFoundException, ServerException {
         final Optional<WorkspaceImpl> wsOpt = find(name, namespace);
         if (!wsOpt.isPresent()) {
             throw new NotFoundException(format("Workspace with name %s and owner %s was not found", name, namespace));
@@ -130,7 +143,7 @@ public class LocalWorkspaceDaoImpl implements WorkspaceDao {
     }
 
     @Override
-    public synchronized List<WorkspaceImpl> getByNamespace(String namespace) throws ServerException {
+    public List<WorkspaceImpl> getByNamespace(String namespace) throws ServerException {
         return workspaces.values()
                          .stream()
                          .filter(ws -> ws.getNamespace().equals(namespace))
@@ -140,7 +153,21 @@ public class LocalWorkspaceDaoImpl implements WorkspaceDao {
 
     @Override
     public List<WorkspaceImpl> getWorkspaces(String userId) throws ServerException {
-        return new ArrayList<>(workspaces.values());
+        return workspaces.values()
+                         .stream()
+                         .map(WorkspaceImpl::new)
+                         .collect(toList());
+    }
+
+    /** Writes the workspace to the storage journal and then puts it into the map. */
+    private void doPut(WorkspaceImpl workspace) throws ServerException {
+        try {
+            localStorage.put(workspace.getId(), workspace);
+        } catch (IOException x) {
+            throw new ServerException(x.getLocalizedMessage(), x);
+        }
+        workspaces.put(workspace.getId(), workspace);
+        localStorage.compactIfRequired(workspaces);
     }
 
     private Optional<WorkspaceImpl> find(String name, String owner) {
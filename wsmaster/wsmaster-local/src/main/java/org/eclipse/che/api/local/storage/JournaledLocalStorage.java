@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.local.storage;
+
+import com.google.common.reflect.TypeParameter;
+import com.google.common.reflect.TypeToken;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * File system storage for a map of model objects which doesn't rewrite
+ * the whole map on every modification.
+ *
+ * <p>The storage consists of two files:
+ * <ul>
+ * <li>snapshot - the pretty-printed json map, the same as written by {@link LocalStorage}
+ * so the files created by {@code LocalStorage} are readable by this storage</li>
+ * <li>journal - the snapshot file name + {@code .journal} suffix, each {@link #put} or {@link #remove}
+ * appends a single compact json line to it before the modification is considered done</li>
+ * </ul>
+ * When the journal becomes long enough ({@link #isCompactionRequired()}) the owner of the map
+ * {@link #compactIfRequired(Map) compacts} the storage, which atomically replaces the snapshot with the current
+ * state of the map and truncates the journal. On {@link #load()} the snapshot is read and the journal
+ * is replayed on top of it, a partially written record at the end of the journal(e.g. the process died
+ * in the middle of the append) is ignored and cut off the journal, so the following appends
+ * are not glued to it.
+ *
+ * <p>The owner of the map is expected to write each modification to the storage before applying it
+ * to the map, this way nothing is lost if the process is not stopped gracefully, and a modification
+ * which can't be written is not applied at all.
+ *
+ * <p>The storage is thread-safe, but it is expected that the owner
+ * serializes modifications of the map and corresponding storage calls.
+ *
+ * @param <V>
+ *         the type of stored values
+ */
+public class JournaledLocalStorage<V> implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JournaledLocalStorage.class);
+
+    /** Number of journal records after which the storage should be compacted, if not configured otherwise. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    static final String JOURNAL_SUFFIX = ".journal";
+
+    private static final String OP_KEY    = "op";
+    private static final String KEY_KEY   = "key";
+    private static final String VALUE_KEY = "value";
+    private static final String PUT_OP    = "put";
+    private static final String REMOVE_OP = "remove";
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final Type valueType;
+    private final Type mapType;
+    private final Gson snapshotGson;
+    private final Gson journalGson;
+    private final int  compactionThreshold;
+
+    private Writer journalWriter;
+    private int    journalRecords;
+    private long   journalValidLength;
+
+    /**
+     * Creates storage.
+     *
+     * @param rootDirPath
+     *         storage root folder, created if doesn't exist
+     * @param fileName
+     *         name of the snapshot file
+     * @param valueType
+     *         type of stored values
+     * @param typeAdapters
+     *         types and object adapters when need a special deserialization
+     * @param compactionThreshold
+     *         number of journal records after which compaction is required
+     * @throws IOException
+     *         when root folder can't be created
+     */
+    public JournaledLocalStorage(String rootDirPath,
+                                 String fileName,
+                                 Class<V> valueType,
+                                 Map<Class<?>, Object> typeAdapters,
+                                 int compactionThreshold) throws IOException {
+        this(rootDirPath, fileName, TypeToken.of(valueType), typeAdapters, compactionThreshold);
+    }
+
+    /**
+     * Creates storage for the values of generic type e.g. {@code List<SshPairImpl>}.
+     *
+     * @see #JournaledLocalStorage(String, String, Class, Map, int)
+     */
+    public JournaledLocalStorage(String rootDirPath,
+                                 String fileName,
+                                 TypeToken<V> valueType,
+                                 Map<Class<?>, Object> typeAdapters,
+                                 int compactionThreshold) throws IOException {
+        final Path rootDir = Paths.get(rootDirPath);
+        if (!Files.isDirectory(rootDir)) {
+            try {
+                Files.createDirectories(rootDir);
+            } catch (IOException x) {
+                throw new IOException("Impossible to create root folder for local storage", x);
+            }
+        }
+        this.snapshotFile = rootDir.resolve(fileName);
+        this.journalFile = rootDir.resolve(fileName + JOURNAL_SUFFIX);
+        this.valueType = valueType.getType();
+        this.mapType = mapTypeOf(valueType);
+        this.compactionThreshold = compactionThreshold;
+        final GsonBuilder builder = new GsonBuilder();
+        for (Map.Entry<Class<?>, Object> adapter : typeAdapters.entrySet()) {
+            builder.registerTypeAdapter(adapter.getKey(), adapter.getValue());
+        }
+        this.journalGson = builder.create();
+        this.snapshotGson = builder.setPrettyPrinting().create();
+    }
+
+    /**
+     * Reads the snapshot and replays the journal on top of it.
+     * If the journal ends with a partially written record the storage is compacted,
+     * or if compaction fails the journal is truncated to the last valid record.
+     *
+     * @return the map restored from the storage, or empty map if storage is empty
+     */
+    public synchronized Map<String, V> load() {
+        final Map<String, V> result = new LinkedHashMap<>();
+        if (Files.exists(snapshotFile)) {
+            try (Reader reader = Files.newBufferedReader(snapshotFile, StandardCharsets.UTF_8)) {
+                final Map<String, V> snapshot = snapshotGson.fromJson(reader, mapType);
+                if (snapshot != null) {
+                    result.putAll(snapshot);
+                }
+            } catch (JsonParseException x) {
+                LOG.warn(snapshotFile.getFileName() + " contains invalid JSON content");
+            } catch (IOException x) {
+                LOG.debug("Impossible to read from " + snapshotFile.getFileName());
+            }
+        }
+        journalRecords = replayJournal(result);
+        if (Files.exists(journalFile)) {
+            try {
+                if (Files.size(journalFile) > journalValidLength) {
+                    recoverJournal(result);
+                }
+            } catch (IOException x) {
+                LOG.error("Impossible to read size of " + journalFile.getFileName(), x);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Appends {@code key -> value} mapping to the journal.
+     *
+     * @throws IOException
+     *         when journal record can't be written
+     */
+    public synchronized void put(String key, V value) throws IOException {
+        final JsonObject record = new JsonObject();
+        record.addProperty(OP_KEY, PUT_OP);
+        record.addProperty(KEY_KEY, key);
+        record.add(VALUE_KEY, journalGson.toJsonTree(value, valueType));
+        append(record);
+    }
+
+    /**
+     * Appends removal of the {@code key} to the journal.
+     *
+     * @throws IOException
+     *         when journal record can't be written
+     */
+    public synchronized void remove(String key) throws IOException {
+        final JsonObject record = new JsonObject();
+        record.addProperty(OP_KEY, REMOVE_OP);
+        record.addProperty(KEY_KEY, key);
+        append(record);
+    }
+
+    /** Returns true when journal contains enough records to be compacted. */
+    public synchronized boolean isCompactionRequired() {
+        return journalRecords >= compactionThreshold;
+    }
+
+    /**
+     * Atomically replaces the snapshot with the given state and truncates the journal.
+     * The given state must include all the modifications written to the journal.
+     *
+     * @throws IOException
+     *         when snapshot can't be written, in this case the journal is kept untouched
+     */
+    public synchronized void compact(Map<String, ? extends V> state) throws IOException {
+        final Path tmpFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tmpFile, StandardCharsets.UTF_8)) {
+            snapshotGson.toJson(state, mapType, writer);
+        }
+        Files.move(tmpFile, snapshotFile, REPLACE_EXISTING, ATOMIC_MOVE);
+        // if the process dies at this point the journal is replayed on top of the new snapshot
+        // which is harmless as put & remove records are idempotent
+        close();
+        Files.deleteIfExists(journalFile);
+        journalRecords = 0;
+    }
+
+    /**
+     * {@link #compact(Map) Compacts} the storage if {@link #isCompactionRequired() required}.
+     * Failure of compaction is logged but not propagated, as the journal is kept untouched
+     * no modification is lost and compaction is retried on the next call.
+     */
+    public synchronized void compactIfRequired(Map<String, ? extends V> state) {
+        if (isCompactionRequired()) {
+            try {
+                compact(state);
+            } catch (IOException x) {
+                LOG.error("Impossible to compact " + snapshotFile.getFileName(), x);
+            }
+        }
+    }
+
+    /** Closes the journal, it is reopened by the next modification. */
+    @Override
+    public synchronized void close() throws IOException {
+        if (journalWriter != null) {
+            try {
+                journalWriter.close();
+            } finally {
+                journalWriter = null;
+            }
+        }
+    }
+
+    private static <V> Type mapTypeOf(TypeToken<V> valueType) {
+        return new TypeToken<Map<String, V>>() {}.where(new TypeParameter<V>() {}, valueType).getType();
+    }
+
+    private void append(JsonObject record) throws IOException {
+        if (journalWriter == null) {
+            journalWriter = Files.newBufferedWriter(journalFile, StandardCharsets.UTF_8, CREATE, APPEND);
+        }
+        journalWriter.write(journalGson.toJson(record));
+        journalWriter.write('\n');
+        journalWriter.flush();
+        journalRecords++;
+    }
+
+    private void recoverJournal(Map<String, V> state) {
+        try {
+            compact(state);
+            return;
+        } catch (IOException x) {
+            LOG.warn("Impossible to compact " + snapshotFile.getFileName() +
+                     ", journal is truncated to the last valid record", x);
+        }
+        try (FileChannel channel = FileChannel.open(journalFile, WRITE)) {
+            channel.truncate(journalValidLength);
+        } catch (IOException x) {
+            LOG.error("Impossible to truncate " + journalFile.getFileName(), x);
+        }
+    }
+
+    /**
+     * Replays the complete (newline terminated) records of the journal, stops on the first
+     * invalid record and remembers the length of the journal part which was successfully replayed.
+     */
+    private int replayJournal(Map<String, V> target) {
+        journalValidLength = 0;
+        if (!Files.exists(journalFile)) {
+            return 0;
+        }
+        final byte[] content;
+        try {
+            content = Files.readAllBytes(journalFile);
+        } catch (IOException x) {
+            LOG.error("Impossible to read from " + journalFile.getFileName(), x);
+            // journal must not be touched when it can't be read
+            journalValidLength = Long.MAX_VALUE;
+            return 0;
+        }
+        final JsonParser parser = new JsonParser();
+        int records = 0;
+        int lineStart = 0;
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] != '\n') {
+                continue;
+            }
+            final String line = new String(content, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            if (!line.isEmpty()) {
+                try {
+                    final JsonObject record = parser.parse(line).getAsJsonObject();
+                    final String key = record.get(KEY_KEY).getAsString();
+                    if (PUT_OP.equals(record.get(OP_KEY).getAsString())) {
+                        final JsonElement value = record.get(VALUE_KEY);
+                        target.put(key, journalGson.fromJson(value, valueType));
+                    } else {
+                        target.remove(key);
+                    }
+                    records++;
+                } catch (JsonParseException | IllegalStateException | NullPointerException x) {
+                    // only the last record may be broken, it is the record
+                    // which was being written when the process stopped
+                    break;
+                }
+            }
+            lineStart = i + 1;
+            journalValidLength = lineStart;
+        }
+        if (journalValidLength < content.length) {
+            LOG.warn("Journal {} contains invalid record at position {}, the rest of the journal is ignored",
+                     journalFile.getFileName(),
+                     records);
+        }
+        return records;
+    }
+}
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.che.api.local.storage;
 
+import com.google.common.reflect.TypeToken;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -17,6 +18,8 @@ import javax.inject.Singleton;
 import java.io.IOException;
 import java.util.Map;
 
+import static org.eclipse.che.api.local.storage.JournaledLocalStorage.DEFAULT_COMPACTION_THRESHOLD;
+
 /**
  * Factory for injection to LocalStorage stored file.
  *
@@ -56,4 +59,38 @@ public class LocalStorageFactory {
     public LocalStorage create(String fileName, Map<Class<?>, Object> typeAdapters) throws IOException {
         return new LocalStorage(pathToStorage, fileName, typeAdapters);
     }
-}
\ No newline at end of file
+
+    /**
+     * @param fileName
+     *         name of the snapshot file in local storage.
+     * @param valueType
+     *         type of values stored in the map.
+     * @param typeAdapters
+     *         types and object adapters when need a special deserialization.
+     * @return instance of JournaledLocalStorage.
+     * @throws IOException
+     *         occurs when cannot create root storage directory.
+     */
+    public <V> JournaledLocalStorage<V> createJournaled(String fileName,
+                                                        Class<V> valueType,
+                                                        Map<Class<?>, Object> typeAdapters) throws IOException {
+        return new JournaledLocalStorage<>(pathToStorage, fileName, valueType, typeAdapters, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param fileName
+     *         name of the snapshot file in local storage.
+     * @param valueType
+     *         generic type of values stored in the map.
+     * @param typeAdapters
+     *         types and object adapters when need a special deserialization.
+     * @return instance of JournaledLocalStorage.
+     * @throws IOException
+     *         occurs when cannot create root storage directory.
+     */
+    public <V> JournaledLocalStorage<V> createJournaled(String fileName,
+                                                        TypeToken<V> valueType,
+                                                        Map<Class<?>, Object> typeAdapters) throws IOException {
+        return new JournaledLocalStorage<>(pathToStorage, fileName, valueType, typeAdapters, DEFAULT_COMPACTION_THRESHOLD);
+    }
+}
@@ -10,11 +10,10 @@
  *******************************************************************************/
 package org.eclipse.che.api.local.storage.stack;
 
-import com.google.common.reflect.TypeToken;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
-import org.eclipse.che.api.local.storage.LocalStorage;
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.workspace.server.model.impl.stack.StackImpl;
 import org.eclipse.che.api.workspace.server.stack.image.StackIcon;
 import org.slf4j.Logger;
@@ -25,6 +24,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.Map;
 
 import static java.lang.String.format;
@@ -33,7 +33,9 @@ import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static org.apache.commons.io.FileUtils.deleteDirectory;
 
 /**
- * Local {@link StackImpl} storage for storing stacks and their {@link StackIcon}
+ * Local {@link StackImpl} storage for storing stacks and their {@link StackIcon}.
+ * Stacks are kept in the {@link JournaledLocalStorage}, icon of the stack is
+ * written when the stack is {@link #put(StackImpl) put} to the storage.
  *
  * @author Alexander Andrienko
  */
@@ -45,34 +47,73 @@ public class StackLocalStorage {
     private static final String STACK_STORAGE_FILE = "stacks.json";
     private static final String ICON_FOLDER_NAME   = "images";
 
-    private final LocalStorage localStorage;
-    private final Path         iconFolderPath;
+    private final JournaledLocalStorage<StackImpl> localStorage;
+    private final Path                             iconFolderPath;
 
     @Inject
     public StackLocalStorage(@Named("che.conf.storage") String pathToStorage) throws IOException {
-        this.localStorage = new LocalStorage(pathToStorage, STACK_STORAGE_FILE);
+        this.localStorage = new JournaledLocalStorage<>(pathToStorage,
+                                                        STACK_STORAGE_FILE,
+                                                        StackImpl.class,
+                                                        Collections.emptyMap(),
+                                                        JournaledLocalStorage.DEFAULT_COMPACTION_THRESHOLD);
         this.iconFolderPath = Paths.get(pathToStorage, ICON_FOLDER_NAME);
     }
 
     /**
-     * Store map {@code stacks} to the local stack storage
+     * Store map {@code stacks} to the local stack storage, compacts the storage journal
      *
      * @param stacks
      *         map, where key is id of the {@link StackImpl} and value is {@link StackImpl})
      * @throws IOException
      */
     public void store(Map<String, StackImpl> stacks) throws IOException {
-        localStorage.store(stacks);
+        localStorage.compact(stacks);
         deleteDirectory(iconFolderPath.toFile());
         stacks.values().forEach(this::saveIcon);
     }
 
+    /**
+     * Writes the {@code stack} to the storage journal and saves its icon.
+     *
+     * @throws IOException
+     *         when the stack can't be written
+     */
+    public void put(StackImpl stack) throws IOException {
+        localStorage.put(stack.getId(), stack);
+        if (stack.getStackIcon() == null) {
+            deleteDirectory(iconFolderPath.resolve(stack.getId()).toFile());
+        } else {
+            saveIcon(stack);
+        }
+    }
+
+    /**
+     * Writes removal of the stack with given {@code id} to the storage journal and removes its icon.
+     *
+     * @throws IOException
+     *         when the removal can't be written
+     */
+    public void remove(String id) throws IOException {
+        localStorage.remove(id);
+        deleteDirectory(iconFolderPath.resolve(id).toFile());
+    }
+
+    /**
+     * Compacts the storage journal if it is long enough, icons are not touched as they are
+     * saved by {@link #put(StackImpl)}.
+     *
+     * @see JournaledLocalStorage#compactIfRequired(Map)
+     */
+    public void compactIfRequired(Map<String, StackImpl> stacks) {
+        localStorage.compactIfRequired(stacks);
+    }
+
     /**
      * Load map(where key is id of the {@link StackImpl} and value is {@link StackImpl}) from local stack storage.
      */
     public Map<String, StackImpl> loadMap() {
-        Map<String, StackImpl> stackMap = localStorage.loadMap(new TypeToken<Map<String, StackImpl>>() {
-        });
+        Map<String, StackImpl> stackMap = localStorage.load();
         for (StackImpl stack : stackMap.values()) {
             setIconData(stack, iconFolderPath);
         }
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2012-2016 Codenvy, S.A.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Codenvy, S.A. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.che.api.local;
+
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link JournaledLocalStorage}.
+ */
+public class JournaledLocalStorageTest {
+
+    private Path storageDir;
+    private Path snapshotFile;
+    private Path journalFile;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        final URL url = Thread.currentThread().getContextClassLoader().getResource(".");
+        assertNotNull(url);
+        storageDir = Paths.get(url.toURI()).getParent().resolve("journaled_storage");
+        snapshotFile = storageDir.resolve("values.json");
+        journalFile = storageDir.resolve("values.json.journal");
+        Files.deleteIfExists(snapshotFile);
+        Files.deleteIfExists(journalFile);
+    }
+
+    @Test
+    public void shouldRestoreModificationsFromJournal() throws Exception {
+        final JournaledLocalStorage<String> storage = createStorage(100);
+        storage.put("k1", "v1");
+        storage.put("k2", "v2");
+        storage.put("k1", "v3");
+        storage.remove("k2");
+        storage.close();
+
+        final Map<String, String> loaded = createStorage(100).load();
+
+        assertEquals(loaded, Collections.singletonMap("k1", "v3"));
+        assertFalse(Files.exists(snapshotFile));
+    }
+
+    @Test
+    public void shouldReplayJournalOnTopOfSnapshot() throws Exception {
+        final JournaledLocalStorage<String> storage = createStorage(100);
+        final Map<String, String> state = new HashMap<>();
+        state.put("k1", "v1");
+        state.put("k2", "v2");
+        storage.compact(state);
+        storage.put("k3", "v3");
+        storage.remove("k1");
+        storage.close();
+
+        final Map<String, String> loaded = createStorage(100).load();
+
+        final Map<String, String> expected = new HashMap<>();
+        expected.put("k2", "v2");
+        expected.put("k3", "v3");
+        assertEquals(loaded, expected);
+    }
+
+    @Test
+    public void compactionShouldReplaceSnapshotAndTruncateJournal() throws Exception {
+        final JournaledLocalStorage<String> storage = createStorage(2);
+        storage.put("k1", "v1");
+        assertFalse(storage.isCompactionRequired());
+        storage.put("k2", "v2");
+        assertTrue(storage.isCompactionRequired());
+
+        final Map<String, String> state = new HashMap<>();
+        state.put("k1", "v1");
+        state.put("k2", "v2");
+        storage.compact(state);
+
+        assertFalse(storage.isCompactionRequired());
+        assertFalse(Files.exists(journalFile));
+        assertEquals(createStorage(2).load(), state);
+    }
+
+    @Test
+    public void shouldCompactOnlyWhenRequired() throws Exception {
+        final JournaledLocalStorage<String> storage = createStorage(2);
+        final Map<String, String> state = new HashMap<>();
+        state.put("k1", "v1");
+        storage.put("k1", "v1");
+        storage.compactIfRequired(state);
+
+        assertTrue(Files.exists(journalFile));
+        assertFalse(Files.exists(snapshotFile));
+
+        state.put("k2", "v2");
+        storage.put("k2", "v2");
+        storage.compactIfRequired(state);
+
+        assertFalse(Files.exists(journalFile));
+        assertEquals(createStorage(2).load(), state);
+    }
+
+    @Test
+    public void shouldIgnorePartiallyWrittenJournalRecord() throws Exception {
+        final JournaledLocalStorage<String> storage = createStorage(100);
+        storage.put("k1", "v1");
+        storage.close();
+        Files.write(journalFile, "{\"op\":\"put\",\"key\":\"k2\",\"val".getBytes(UTF_8), APPEND);
+
+        final Map<String, String> loaded = createStorage(100).load();
+
+        assertEquals(loaded, Collections.singletonMap("k1", "v1"));
+    }
+
+    @Test
+    public void shouldNotLoseRecordsAppendedAfterPartiallyWrittenRecord() throws Exception {
+        final JournaledLocalStorage<String> storage = createStorage(100);
+        storage.put("k1", "v1");
+        storage.close();
+        Files.write(journalFile, "{\"op\":\"put\",\"key\":\"k2\",\"val".getBytes(UTF_8), APPEND);
+
+        final JournaledLocalStorage<String> recovered = createStorage(100);
+        assertEquals(recovered.load(), Collections.singletonMap("k1", "v1"));
+        recovered.put("k3", "v3");
+        recovered.close();
+
+        final Map<String, String> expected = new HashMap<>();
+        expected.put("k1", "v1");
+        expected.put("k3", "v3");
+        assertEquals(createStorage(100).load(), expected);
+    }
+
+    @Test
+    public void shouldReadSnapshotWrittenByLocalStorage() throws Exception {
+        Files.createDirectories(storageDir);
+        Files.write(snapshotFile, "{\n  \"k1\": \"v1\"\n}".getBytes(UTF_8));
+
+        assertEquals(createStorage(100).load(), Collections.singletonMap("k1", "v1"));
+    }
+
+    private JournaledLocalStorage<String> createStorage(int compactionThreshold) throws Exception {
+        return new JournaledLocalStorage<>(storageDir.toString(),
+                                           "values.json",
+                                           String.class,
+                                           Collections.emptyMap(),
+                                           compactionThreshold);
+    }
+}
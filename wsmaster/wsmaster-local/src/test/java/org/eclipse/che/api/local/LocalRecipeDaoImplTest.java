@@ -57,6 +57,7 @@ public class LocalRecipeDaoImplTest {
         final Path targetDir = Paths.get(url.toURI()).getParent();
         final Path storageRoot = targetDir.resolve("recipes");
         recipesPath = storageRoot.resolve("recipes.json");
+        Files.deleteIfExists(storageRoot.resolve("recipes.json.journal"));
         recipeDao = new LocalRecipeDaoImpl(new LocalStorageFactory(storageRoot.toString()));
     }
 
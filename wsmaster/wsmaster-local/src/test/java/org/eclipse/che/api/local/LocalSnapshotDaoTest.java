@@ -22,6 +22,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -55,6 +56,7 @@ public class LocalSnapshotDaoTest {
         final Path targetDir = Paths.get(url.toURI()).getParent();
         final Path storageRoot = targetDir.resolve("snapshots");
         snapshotsPath = storageRoot.resolve("snapshots.json");
+        Files.deleteIfExists(storageRoot.resolve("snapshots.json.journal"));
         snapshotDao = new LocalSnapshotDaoImpl(new LocalStorageFactory(storageRoot.toString()));
     }
 
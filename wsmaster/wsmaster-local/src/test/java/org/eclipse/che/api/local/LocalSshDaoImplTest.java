@@ -49,6 +49,7 @@ public class LocalSshDaoImplTest {
         final Path targetDir = Paths.get(url.toURI()).getParent();
         final Path storageRoot = targetDir.resolve("ssh");
         sshPath = storageRoot.resolve("ssh.json");
+        Files.deleteIfExists(storageRoot.resolve("ssh.json.journal"));
         sshDao = new LocalSshDaoImpl(new LocalStorageFactory(storageRoot.toString()));
     }
 
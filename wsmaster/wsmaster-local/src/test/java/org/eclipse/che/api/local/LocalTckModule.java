@@ -13,6 +13,7 @@ package org.eclipse.che.api.local;
 import com.google.inject.TypeLiteral;
 import com.google.inject.name.Names;
 
+import org.eclipse.che.api.local.storage.JournaledLocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorage;
 import org.eclipse.che.api.local.storage.LocalStorageFactory;
 import org.eclipse.che.api.user.server.model.impl.ProfileImpl;
@@ -42,9 +43,12 @@ public class LocalTckModule extends TckModule {
         // configuring local storage to deal with mocks
         final LocalStorage storage = mock(LocalStorage.class);
         when(storage.loadMap(any())).thenReturn(Collections.emptyMap());
+        final JournaledLocalStorage journaledStorage = mock(JournaledLocalStorage.class);
+        when(journaledStorage.load()).thenReturn(Collections.emptyMap());
         final LocalStorageFactory factory = mock(LocalStorageFactory.class);
         try {
             when(factory.create(any())).thenReturn(storage);
+            when(factory.createJournaled(any(), any(Class.class), any())).thenReturn(journaledStorage);
         } catch (IOException x) {
             throw new RuntimeException(x.getMessage(), x);
         }
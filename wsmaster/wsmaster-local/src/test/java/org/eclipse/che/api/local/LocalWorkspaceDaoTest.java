@@ -88,6 +88,25 @@ public class LocalWorkspaceDaoTest {
         assertEquals(result, workspace);
     }
 
+    @Test
+    public void shouldRestoreWorkspacesWhichWereNotSaved() throws Exception {
+        final WorkspaceImpl workspace = createWorkspace();
+        final WorkspaceImpl removed = createWorkspace();
+        removed.getConfig().setName("removed-workspace-name");
+        workspaceDao.saveWorkspaces();
+        workspaceDao.create(workspace);
+        workspaceDao.create(removed);
+        workspaceDao.remove(removed.getId());
+
+        // emulates restart without invocation of pre destroy method
+        final LocalWorkspaceDaoImpl restored = new LocalWorkspaceDaoImpl(new LocalStorageFactory(workspacesPath.getParent().toString()));
+        restored.loadWorkspaces();
+
+        assertEquals(restored.get(workspace.getId()), workspace);
+        assertEquals(restored.getWorkspaces("user123").size(), 1);
+        restored.saveWorkspaces();
+    }
+
     private static WorkspaceImpl createWorkspace() {
         // environments
         final RecipeImpl recipe = new RecipeImpl();